@@ -57,15 +57,34 @@ var userMeasurementPointsStroke = L.geoJSON(null,{pointToLayer : featureToMarker
 var userMeasurementPointsFill = L.geoJSON(null,{pointToLayer : featureToMarker});
 var userMeasurementPoints = L.featureGroup([userMeasurementPointsStroke, userMeasurementPointsFill]);
 
-var allUserMeasurementPointsBounds;
 var allUserMeasurementPointsStroke = L.geoJSON(null,{pointToLayer : featureToMarkerBackground});
 var allUserMeasurementPointsFill = L.geoJSON(null,{pointToLayer : featureToMarker});
 var allUserMeasurementPoints = L.featureGroup([allUserMeasurementPointsStroke, allUserMeasurementPointsFill]);
 
-function addMeasurementPoints(GeoJSONFeatures) {
-    userMeasurementPointsStroke.addData(GeoJSONFeatures);
-    userMeasurementPointsFill.addData(GeoJSONFeatures);
-    map.fitBounds(userMeasurementPoints.getBounds())
+// Pull the GeoJSON features of a stream opened with androidContent, one page at a time.
+// The next page is read after the events of the page, so the map stays responsive.
+function readMeasurementData(streamId, onFeatures, onEnd) {
+    var features = androidContent.nextMeasurementData(streamId);
+    if (!features) {
+        onEnd();
+        return;
+    }
+    onFeatures(JSON.parse(features));
+    setTimeout(function() {
+        readMeasurementData(streamId, onFeatures, onEnd);
+    }, 0);
+}
+
+function addMeasurementPoints() {
+    readMeasurementData(androidContent.openSelectedMeasurementData(), function(features) {
+        userMeasurementPointsStroke.addData(features);
+        userMeasurementPointsFill.addData(features);
+    }, function() {
+        var bounds = userMeasurementPoints.getBounds();
+        if (bounds.isValid()) {
+            map.fitBounds(bounds);
+        }
+    });
 }
 
 userMeasurementPoints.addTo(map);
@@ -120,44 +139,14 @@ overlays[measurements_layer_name] = userMeasurementPoints;
 overlays[all_measurements_layer_name] = allUserMeasurementPoints;
 overlays[community_layer_name] = onomap;
 
-// Init supercluster
-var index;
-var ready = false;
-
-
-function addAllMeasurementPoints() {
-    index = supercluster({
-        log: true,
-        radius: 60,
-        extent: 256,
-        maxZoom: 15
-    }).load(JSON.parse(androidContent.getAllMeasurementData()));
-    ready= true;
-    // Compute bounds
-    for (var i = 0; i < index.points.length; i++) {
-        var point = index.points[i];
-        if (!point.geometry) {
-            continue;
-        }
-        var coordinates = point.geometry.coordinates;
-        if(typeof allUserMeasurementPointsBounds !== 'undefined') {
-            allUserMeasurementPointsBounds.extend(L.latLng(coordinates[1], coordinates[0]))
-        } else {
-            allUserMeasurementPointsBounds = L.latLngBounds(L.latLng(coordinates[1], coordinates[0]), L.latLng(coordinates[1], coordinates[0]));
-        }
-    }
-    if(typeof allUserMeasurementPointsBounds !== 'undefined') {
-        map.flyToBounds(allUserMeasurementPointsBounds);
-    }
-}
-
+// Display the aggregated measurements of the view
 function update() {
-    if (!ready) return;
+    if (!map.hasLayer(allUserMeasurementPoints)) return;
+    var bounds = map.getBounds();
+    var data = JSON.parse(androidContent.getMeasurementCells(bounds.getWest(), bounds.getSouth(),
+        bounds.getEast(), bounds.getNorth(), Math.round(map.getZoom())));
     allUserMeasurementPointsStroke.clearLayers();
     allUserMeasurementPointsFill.clearLayers();
-    var bounds = map.getBounds();
-    var bbox = [bounds.getWest(), bounds.getSouth(), bounds.getEast(), bounds.getNorth()]
-    var data = index.getClusters(bbox, map.getZoom())
     allUserMeasurementPointsStroke.addData(data);
     allUserMeasurementPointsFill.addData(data);
 }
@@ -189,10 +178,10 @@ map.on('overlayadd', function(eventLayer){
     if(eventLayer.name === measurements_layer_name) {
         map.fitBounds(userMeasurementPoints.getBounds())
     } else if(eventLayer.name === all_measurements_layer_name) {
-        if(!ready) {
-            addAllMeasurementPoints();
-        } else if(typeof allUserMeasurementPointsBounds !== 'undefined') {
-            map.flyToBounds(allUserMeasurementPointsBounds);
+        var bounds = JSON.parse(androidContent.getAllMeasurementBounds());
+        update();
+        if(bounds) {
+            map.flyToBounds(L.latLngBounds(L.latLng(bounds[1], bounds[0]), L.latLng(bounds[3], bounds[2])));
         }
     }
 });
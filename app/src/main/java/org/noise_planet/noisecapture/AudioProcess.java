@@ -28,21 +28,23 @@
 package org.noise_planet.noisecapture;
 
 import android.media.AudioFormat;
+import android.media.AudioManager;
 import android.media.AudioRecord;
+import android.media.AudioTrack;
 import android.media.MediaRecorder;
 import android.util.Log;
 
+import org.noise_planet.noisecapture.util.SampleRingBuffer;
 import org.orbisgis.sos.AcousticIndicators;
 import org.orbisgis.sos.FFTSignalProcessing;
-import org.orbisgis.sos.Window;
+import org.orbisgis.sos.MultiResolutionWindow;
+import org.orbisgis.sos.ProcessingTimings;
+import org.orbisgis.sos.TimingHistogram;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeSupport;
-import java.util.Arrays;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -64,18 +66,28 @@ public class AudioProcess implements Runnable {
     public static final String PROP_FAST_LEQ = "PROP_MS";
     public static final String PROP_SLOW_LEQ = "PROP_DSP";
     public static final String PROP_STATE_CHANGED = "PROP_STATE_CHANGED";
-    // 1s level evaluation for upload to server
-    private final LeqProcessingThread fastLeqProcessing;
-    private final LeqProcessingThread slowLeqProcessing;
+    // Fast levels for display and 1s level evaluation for upload to server
+    private final LeqProcessingThread leqProcessing;
     private final ProcessingThread customLeqProcessing;
+    // Audio samples shared with the processing threads
+    private final SampleRingBuffer sampleRing;
+    // Duration of audio (s) kept in sampleRing while processing threads are late
+    private static final double SAMPLE_RING_DURATION = 10;
+    private static final long CONSUMER_WAIT_TIMEOUT = 100;
 
 
     public static final int REALTIME_SAMPLE_RATE_LIMITATION = 16000;
+    // Sampling rates high enough for the third octave bands up to REALTIME_SAMPLE_RATE_LIMITATION,
+    // the native sampling rate of the device is tried first in order to avoid resampling
+    public static final int[] SUPPORTED_SAMPLE_RATES = new int[] {44100, 48000};
     public static final double[] realTimeCenterFrequency = FFTSignalProcessing.computeFFTCenterFrequency(REALTIME_SAMPLE_RATE_LIMITATION);
     private float gain = 1;
     private boolean hasGain = false;
     private boolean hannWindowFast = false;
     private boolean hannWindowOneSecond = true;
+    private boolean exactOneSecondLeq = false;
+    // Period of the metrics log line (ms), 0 to disable
+    private volatile long metricsLogPeriod = 0;
 
 
 
@@ -95,8 +107,7 @@ public class AudioProcess implements Runnable {
         this.recording = recording;
         this.canceled = canceled;
         this.customLeqProcessing = customLeqProcessing;
-        final int[] mSampleRates = new int[] {44100}; // AWeigting coefficient are based on 44100
-        // Hz sampling rate, so we do not support other samplings (22050, 16000, 11025,8000)
+        final int[] mSampleRates = getSampleRates();
         final int[] encodings = new int[] { AudioFormat.ENCODING_PCM_16BIT , AudioFormat.ENCODING_PCM_8BIT };
         final short[] audioChannels = new short[] { AudioFormat.CHANNEL_IN_MONO, AudioFormat.CHANNEL_IN_STEREO };
         for (int tryRate : mSampleRates) {
@@ -112,15 +123,12 @@ public class AudioProcess implements Runnable {
                         encoding = tryEncoding;
                         audioChannel = tryAudioChannel;
                         rate = tryRate;
-                        this.fastLeqProcessing = new LeqProcessingThread(this,
-                                AcousticIndicators.TIMEPERIOD_FAST, true,
-                                hannWindowFast ? FFTSignalProcessing.WINDOW_TYPE.TUKEY :
-                                        FFTSignalProcessing.WINDOW_TYPE.RECTANGULAR, PROP_FAST_LEQ, true);
-                        this.slowLeqProcessing = new LeqProcessingThread(this,
-                                AcousticIndicators.TIMEPERIOD_SLOW, true,
-                                hannWindowOneSecond ? FFTSignalProcessing.WINDOW_TYPE.TUKEY :
-                                        FFTSignalProcessing.WINDOW_TYPE.RECTANGULAR,
-                                PROP_SLOW_LEQ, false);
+                        sampleRing = new SampleRingBuffer(Math.max(2,
+                                (int)Math.ceil(SAMPLE_RING_DURATION * rate / bufferSize)), bufferSize);
+                        this.leqProcessing = new LeqProcessingThread(this, true);
+                        if(customLeqProcessing != null) {
+                            customLeqProcessing.setSampleConsumer(sampleRing.addConsumer());
+                        }
                         return;
                     }
                 }
@@ -132,10 +140,35 @@ public class AudioProcess implements Runnable {
         return currentState;
     }
 
+    /**
+     * @return Supported sampling rates, the native sampling rate first
+     */
+    private static int[] getSampleRates() {
+        int nativeRate = 0;
+        try {
+            nativeRate = AudioTrack.getNativeOutputSampleRate(AudioManager.STREAM_MUSIC);
+        } catch (RuntimeException ex) {
+            // Ignore, use the default order
+        }
+        int[] sampleRates = SUPPORTED_SAMPLE_RATES.clone();
+        for(int i = 1; i < sampleRates.length; i++) {
+            if(sampleRates[i] == nativeRate) {
+                System.arraycopy(sampleRates, 0, sampleRates, 1, i);
+                sampleRates[0] = nativeRate;
+                break;
+            }
+        }
+        return sampleRates;
+    }
+
+    private static FFTSignalProcessing.WINDOW_TYPE getWindowType(boolean hannWindow) {
+        return hannWindow ? FFTSignalProcessing.WINDOW_TYPE.TUKEY :
+                FFTSignalProcessing.WINDOW_TYPE.RECTANGULAR;
+    }
+
     public void setHannWindowFast(boolean hannWindowFast) {
         this.hannWindowFast = hannWindowFast;
-        fastLeqProcessing.setWindowType(hannWindowFast ? FFTSignalProcessing.WINDOW_TYPE.TUKEY :
-                FFTSignalProcessing.WINDOW_TYPE.RECTANGULAR);
+        leqProcessing.updateWindow();
     }
 
     public boolean isHannWindowFast() {
@@ -148,15 +181,26 @@ public class AudioProcess implements Runnable {
 
     public void setHannWindowOneSecond(boolean hannWindowOneSecond) {
         this.hannWindowOneSecond = hannWindowOneSecond;
-        fastLeqProcessing.setWindowType(hannWindowOneSecond ? FFTSignalProcessing.WINDOW_TYPE.TUKEY :
-                FFTSignalProcessing.WINDOW_TYPE.RECTANGULAR);
+        leqProcessing.updateWindow();
+    }
+
+    public boolean isExactOneSecondLeq() {
+        return exactOneSecondLeq;
+    }
+
+    /**
+     * @param exactOneSecondLeq True to compute the 1s levels with its own FFT, in order to keep the
+     *                          1 Hz frequency resolution. Otherwise the 1s levels are the energetic
+     *                          average of the fast levels (only one FFT is done).
+     */
+    public void setExactOneSecondLeq(boolean exactOneSecondLeq) {
+        this.exactOneSecondLeq = exactOneSecondLeq;
+        leqProcessing.updateWindow();
     }
 
     public void setDoFastLeq(boolean doFastLeq) {
         this.doFastLeq = doFastLeq;
-        if(!doFastLeq) {
-            fastLeqProcessing.bufferToProcess.clear();
-        }
+        leqProcessing.updateFastWindowEnabled();
     }
 
     public void setDoOneSecondLeq(boolean doOneSecondLeq) {
@@ -164,8 +208,7 @@ public class AudioProcess implements Runnable {
     }
 
     public void setWeightingA(boolean weightingA) {
-        fastLeqProcessing.setAweighting(weightingA);
-        slowLeqProcessing.setAweighting(weightingA);
+        leqProcessing.setAweighting(weightingA);
     }
 
     /**
@@ -197,23 +240,33 @@ public class AudioProcess implements Runnable {
         return realTimeCenterFrequency;
     }
 
+    /**
+     * @return Number of audio blocks not yet processed
+     */
     public int getRemainingNotProcessSamples() {
-        return slowLeqProcessing.bufferToProcess.size() + fastLeqProcessing.bufferToProcess.size();
+        return leqProcessing.sampleConsumer.getPendingBlocks();
+    }
+
+    /**
+     * @return Number of audio samples dropped because the processing was too late
+     */
+    public long getDroppedSamples() {
+        return sampleRing.getDroppedSamples();
     }
 
     /**
      * @return The current delay between the audio input and the processed output
      */
     public long getFastNotProcessedMilliseconds() {
-        return (fastLeqProcessing.getPushedSamples() - fastLeqProcessing.getProcessedSamples()) / (rate / 1000);
+        return (leqProcessing.getPushedSamples() - leqProcessing.getProcessedSamples()) / (rate / 1000);
     }
 
     /**
      * @return Currently pushed samples
      */
     public long getSlowProcessedSamples() {
-        if(slowLeqProcessing != null) {
-            return slowLeqProcessing.getPushedSamples();
+        if(leqProcessing != null) {
+            return leqProcessing.getPushedSamples();
         } else {
             return 0;
         }
@@ -224,7 +277,25 @@ public class AudioProcess implements Runnable {
      * @return Third octave SPL up to 8Khz (4 Khz if the phone support 8Khz only)
      */
     public float[] getThirdOctaveFrequencySPL() {
-        return fastLeqProcessing.getThirdOctaveFrequencySPL();
+        return leqProcessing.getThirdOctaveFrequencySPL();
+    }
+
+    /**
+     * @return Current processing metrics, can be called from any thread
+     */
+    public AudioProcessMetrics getMetricsSnapshot() {
+        return leqProcessing.getMetricsSnapshot();
+    }
+
+    /**
+     * @param metricsLogPeriod Period of the processing metrics log line (ms), 0 to disable
+     */
+    public void setMetricsLogPeriod(long metricsLogPeriod) {
+        this.metricsLogPeriod = metricsLogPeriod;
+    }
+
+    public long getMetricsLogPeriod() {
+        return metricsLogPeriod;
     }
 
     private AudioRecord createAudioRecord() {
@@ -245,7 +316,7 @@ public class AudioProcess implements Runnable {
     }
 
     public double getFFTDelay() {
-        return fastLeqProcessing.getWindow().getWindowTime();
+        return leqProcessing.getWindow().getFastWindowTime();
     }
 
     @Override
@@ -253,7 +324,6 @@ public class AudioProcess implements Runnable {
         try {
             setCurrentState(STATE.PROCESSING);
             AudioRecord audioRecord = createAudioRecord();
-            short[] buffer;
             if (recording.get() && audioRecord != null) {
                 try {
                     try {
@@ -261,39 +331,42 @@ public class AudioProcess implements Runnable {
                     } catch (IllegalArgumentException | SecurityException ex) {
                         // Ignore
                     }
-                    new Thread(fastLeqProcessing).start();
-                    new Thread(slowLeqProcessing).start();
+                    new Thread(leqProcessing).start();
                     audioRecord.startRecording();
 
+                    boolean overflow = false;
                     while (recording.get()) {
-                        buffer = new short[bufferSize];
+                        short[] buffer = sampleRing.getWriteBlock();
                         int read = audioRecord.read(buffer, 0, buffer.length);
-                        if(read < buffer.length) {
-                            buffer = Arrays.copyOfRange(buffer, 0, read);
+                        if(read < 0) {
+                            throw new IllegalStateException("AudioRecord read error code " + read);
                         }
                         if (hasGain) {
                             // In place multiply
-                            for (int i = 0; i < buffer.length; i++) {
+                            for (int i = 0; i < read; i++) {
                                 buffer[i] = (short) (Math.max(Math.min(buffer[i] * gain, Short.MAX_VALUE), Short.MIN_VALUE));
                             }
                         }
-                        if(doFastLeq) {
-                            fastLeqProcessing.addSample(buffer);
-                        }
-                        if(doOneSecondLeq) {
-                            slowLeqProcessing.addSample(buffer);
-                        }
-                        if(customLeqProcessing != null) {
-                            customLeqProcessing.addSample(buffer);
+                        if(!sampleRing.publish(read)) {
+                            if(!overflow) {
+                                LOGGER.warn("Audio processing is late, audio samples are dropped");
+                            }
+                            overflow = true;
+                        } else if(overflow) {
+                            LOGGER.warn("Audio processing recovered, "+sampleRing.getDroppedSamples()+
+                                    " samples dropped since the beginning of the recording");
+                            overflow = false;
                         }
                     }
+                    sampleRing.close();
                     setCurrentState(STATE.WAITING_END_PROCESSING);
-                    while (fastLeqProcessing.isProcessing() || slowLeqProcessing.isProcessing()) {
+                    while (leqProcessing.isProcessing()) {
                         Thread.sleep(10);
                     }
                 } catch (Exception ex) {
                     Log.e("tag_record", "Error while recording", ex);
                 } finally {
+                    sampleRing.close();
                     if(audioRecord.getState() != AudioRecord.STATE_UNINITIALIZED) {
                         audioRecord.stop();
                         audioRecord.release();
@@ -309,7 +382,7 @@ public class AudioProcess implements Runnable {
      * @return In the array fftResultLvl, how many frequency cover one cell.
      */
     public double getFFTFreqArrayStep() {
-        return fastLeqProcessing.getFFTFreqArrayStep();
+        return leqProcessing.getFFTFreqArrayStep();
     }
     /**
      * @return Listener manager
@@ -323,9 +396,9 @@ public class AudioProcess implements Runnable {
      */
     double getLeq(boolean movingLeq) {
         if(doOneSecondLeq && movingLeq) {
-            return slowLeqProcessing.computeLeq();
+            return leqProcessing.computeLeq();
         } else if(doFastLeq && !movingLeq){
-            return fastLeqProcessing.getLeq();
+            return leqProcessing.getLeq();
         } else {
             return 0;
         }
@@ -337,49 +410,81 @@ public class AudioProcess implements Runnable {
 
     public interface  ProcessingThread extends Runnable {
         /**
-         * Add Signed Short sound samples
-         * @param sample
+         * Set the reader of Signed Short sound samples, called before the recording
+         * @param sampleConsumer Audio samples cursor
          */
-        void addSample(short[] sample);
+        void setSampleConsumer(SampleRingBuffer.Consumer sampleConsumer);
     }
 
+    /**
+     * Compute the fast and 1s levels from the same FFT
+     */
     public static final class LeqProcessingThread implements ProcessingThread {
-        private Queue<short[]> bufferToProcess = new ConcurrentLinkedQueue<short[]>();
+        private SampleRingBuffer.Consumer sampleConsumer;
         private final AudioProcess audioProcess;
         private AtomicBoolean processing = new AtomicBoolean(false);
-        private Window window;
+        private volatile MultiResolutionWindow window;
         private double leq = 0;
-        private String propertyName;
-        private double timePeriod;
         private boolean Aweighting;
-        private long pushedSamples = 0;
         private long processedSamples = 0;
-        private int lastPushIndex = 0;
+        private int lastFastIndex = 0;
+        private int lastSlowIndex = 0;
+        // Processing metrics
+        private final ProcessingTimings processingTimings = new ProcessingTimings();
+        private final TimingHistogram dispatchTimings = new TimingHistogram();
+        private final TimingHistogram blockTimings = new TimingHistogram();
+        private volatile int maxPendingBlocks = 0;
+        private volatile long lateBlocks = 0;
+        private volatile long gcStalls = 0;
+        private volatile long gcStallNanos = 0;
+        private volatile long processingNanos = 0;
+        private long lastUsedMemory = 0;
+        private long lastMetricsLog = 0;
 
         // Output only frequency response on this sample rate on the real time result (center + upper band)
         private float[] thirdOctaveSplLevels;
 
-        public LeqProcessingThread(AudioProcess audioProcess, double timePeriod, boolean Aweighting,
-                                   FFTSignalProcessing.WINDOW_TYPE window_type, String propertyName, boolean outputSpectrogram) {
+        public LeqProcessingThread(AudioProcess audioProcess, boolean Aweighting) {
             this.audioProcess = audioProcess;
-            this.propertyName = propertyName;
-            this.timePeriod = timePeriod;
             this.Aweighting = Aweighting;
-            this.window = new Window(window_type,
-                    audioProcess.getRate(), audioProcess.getRealtimeCenterFrequency(), timePeriod,
-                    Aweighting, FFTSignalProcessing.DB_FS_REFERENCE, outputSpectrogram);
+            this.sampleConsumer = audioProcess.sampleRing.addConsumer();
+            this.window = createWindow();
             thirdOctaveSplLevels = new float[audioProcess.getRealtimeCenterFrequency().length];
         }
 
-        public void setWindowType(FFTSignalProcessing.WINDOW_TYPE windowType) {
-            if(windowType != window.getWindowType()) {
-                this.window = new Window(windowType,
-                        audioProcess.getRate(), audioProcess.getRealtimeCenterFrequency(), timePeriod,
-                        window.isAWeighting(), FFTSignalProcessing.DB_FS_REFERENCE, window.isOutputThinFrequency());
-                lastPushIndex = 0;
+        private MultiResolutionWindow createWindow() {
+            MultiResolutionWindow newWindow = new MultiResolutionWindow(
+                    getWindowType(audioProcess.hannWindowFast),
+                    getWindowType(audioProcess.hannWindowOneSecond),
+                    audioProcess.getRate(), audioProcess.getRealtimeCenterFrequency(),
+                    AcousticIndicators.TIMEPERIOD_FAST, AcousticIndicators.TIMEPERIOD_SLOW,
+                    Aweighting, FFTSignalProcessing.DB_FS_REFERENCE, audioProcess.exactOneSecondLeq);
+            newWindow.setFastWindowEnabled(audioProcess.doFastLeq);
+            newWindow.setProcessingTimings(processingTimings);
+            return newWindow;
+        }
+
+        /**
+         * Recreate the window if the window types or the 1s computation mode have changed
+         */
+        public void updateWindow() {
+            MultiResolutionWindow currentWindow = window;
+            if(currentWindow.getFastWindowType() != getWindowType(audioProcess.hannWindowFast)
+                    || currentWindow.getSlowWindowType() != getWindowType(audioProcess.hannWindowOneSecond)
+                    || currentWindow.isExactSlowWindow() != audioProcess.exactOneSecondLeq) {
+                this.window = createWindow();
+                lastFastIndex = 0;
+                lastSlowIndex = 0;
             }
         }
 
+        /**
+         * In exact 1s mode the fast FFT is not required if the fast levels are not displayed
+         */
+        public void updateFastWindowEnabled() {
+            window.setFastWindowEnabled(audioProcess.doFastLeq);
+        }
+
         /**
          * @return Samples processed by FFT
          */
@@ -394,7 +499,7 @@ public class AudioProcess implements Runnable {
             }
         }
 
-        public Window getWindow() {
+        public MultiResolutionWindow getWindow() {
             return window;
         }
 
@@ -402,7 +507,7 @@ public class AudioProcess implements Runnable {
          * @return In the array fftResultLvl, how many frequency cover one cell.
          */
         public double getFFTFreqArrayStep() {
-            return 1 / timePeriod;
+            return 1 / window.getFastWindowTime();
         }
 
         public double getLeq() {
@@ -414,7 +519,7 @@ public class AudioProcess implements Runnable {
          * @return Compute leq from the last pushed 1s
          */
         public double computeLeq() {
-            return window.computeWindowLeq();
+            return window.computeSlowLeq();
         }
 
         /**
@@ -424,38 +529,94 @@ public class AudioProcess implements Runnable {
             return thirdOctaveSplLevels;
         }
 
-        public void addSample(short[] sample) {
-            bufferToProcess.add(sample);
-            pushedSamples+=sample.length;
+        @Override
+        public void setSampleConsumer(SampleRingBuffer.Consumer sampleConsumer) {
+            this.sampleConsumer = sampleConsumer;
+        }
+
+        /**
+         * @return Current processing metrics
+         */
+        public AudioProcessMetrics getMetricsSnapshot() {
+            return new AudioProcessMetrics(processingTimings, dispatchTimings, blockTimings,
+                    sampleConsumer.getPendingBlocks(), maxPendingBlocks,
+                    audioProcess.sampleRing.getDroppedSamples(), sampleConsumer.getPendingSamples(),
+                    lateBlocks, gcStalls, gcStallNanos, processedSamples, processingNanos,
+                    audioProcess.getRate());
+        }
+
+        /**
+         * Record the processing duration of one audio block. A block processed slower than real
+         * time while the used heap has decreased is counted as a GC stall.
+         */
+        private void recordBlock(int length, long startNanos) {
+            final long duration = System.nanoTime() - startNanos;
+            blockTimings.record(duration);
+            processingNanos += duration;
+            Runtime runtime = Runtime.getRuntime();
+            long usedMemory = runtime.totalMemory() - runtime.freeMemory();
+            if(duration * audioProcess.getRate() > length * 1000000000L) {
+                lateBlocks++;
+                if(usedMemory < lastUsedMemory) {
+                    gcStalls++;
+                    gcStallNanos += duration;
+                }
+            }
+            lastUsedMemory = usedMemory;
+            long logPeriod = audioProcess.metricsLogPeriod;
+            if(logPeriod > 0) {
+                long now = System.currentTimeMillis();
+                if(lastMetricsLog == 0) {
+                    lastMetricsLog = now;
+                } else if(now - lastMetricsLog >= logPeriod) {
+                    lastMetricsLog = now;
+                    LOGGER.info("Audio processing " + getMetricsSnapshot());
+                }
+            }
         }
 
+        /**
+         * @return Processed samples and samples waiting to be processed
+         */
         public long getPushedSamples() {
-            return pushedSamples;
+            return processedSamples + sampleConsumer.getPendingSamples();
         }
 
-        private void processWindow() {
-            lastPushIndex = window.getWindowIndex();
-            FFTSignalProcessing.ProcessingResult  result = window.getLastWindowMean();
-            window.cleanWindows();
-            thirdOctaveSplLevels = result.getdBaLevels();
-            // Compute leq
-            leq = result.getGlobaldBaValue();
+        private void fireResult(String propertyName, FFTSignalProcessing.ProcessingResult result) {
             // Compute record time
             // Take current time minus the computed delay of the measurement
             long beginRecordTime = System.currentTimeMillis() -
-                    (long) (((pushedSamples - result.getId())  /
+                    (long) (((getPushedSamples() - result.getId())  /
                             (double) audioProcess.getRate()) * 1000);
+            long start = System.nanoTime();
             audioProcess.listeners.firePropertyChange(propertyName,
                     null,
                     new AudioMeasureResult(result,  beginRecordTime));
+            dispatchTimings.record(System.nanoTime() - start);
         }
 
-        private void processSample(short[] buffer) {
-            window.pushSample(buffer);
-            if (window.getWindowIndex() != lastPushIndex) {
-                processWindow();
+        /**
+         * @return Number of processed samples
+         */
+        private int processSample(MultiResolutionWindow window, short[] buffer, int from, int length) {
+            int pushed = window.pushSample(buffer, from, length);
+            if (window.getFastWindowIndex() != lastFastIndex) {
+                lastFastIndex = window.getFastWindowIndex();
+                FFTSignalProcessing.ProcessingResult result = window.getLastFastResult();
+                thirdOctaveSplLevels = result.getdBaLevels();
+                leq = result.getGlobaldBaValue();
+                if(audioProcess.doFastLeq) {
+                    fireResult(PROP_FAST_LEQ, result);
+                }
+            }
+            if (window.getSlowWindowIndex() != lastSlowIndex) {
+                lastSlowIndex = window.getSlowWindowIndex();
+                if(audioProcess.doOneSecondLeq) {
+                    fireResult(PROP_SLOW_LEQ, window.getLastSlowResult());
+                }
             }
-            processedSamples += buffer.length;
+            processedSamples += pushed;
+            return pushed;
         }
 
         public boolean isProcessing() {
@@ -464,40 +625,34 @@ public class AudioProcess implements Runnable {
 
         @Override
         public void run() {
+            processing.set(true);
             try {
-                while (audioProcess.currentState != STATE.WAITING_END_PROCESSING &&
-                        !audioProcess.canceled.get()
-                        && audioProcess.currentState != STATE.CLOSED) {
-                    while (!bufferToProcess.isEmpty() && !audioProcess.canceled.get()) {
-                        processing.set(true);
-                        short[] buffer = bufferToProcess.poll();
-                        if(buffer != null) {
-                            if (buffer.length <= window.getMaximalBufferSize()) {
-                                // Good buffer size, use it
-                                processSample(buffer);
-                            } else {
-                                // Buffer is too large for the window
-                                // Split the buffer in multiple parts
-                                int cursor = 0;
-                                while (cursor < buffer.length) {
-                                    int sampleLen = Math.min(window.getMaximalBufferSize(), buffer.length - cursor);
-                                    short[] samples = Arrays.copyOfRange(buffer, cursor, cursor + sampleLen);
-                                    cursor += samples.length;
-                                    processSample(samples);
-                                }
-                            }
+                while (!audioProcess.canceled.get() && audioProcess.currentState != STATE.CLOSED) {
+                    if(!sampleConsumer.awaitBlock(CONSUMER_WAIT_TIMEOUT)) {
+                        if(sampleConsumer.isClosed()) {
+                            // All samples have been processed
+                            break;
                         }
+                        continue;
                     }
-                    try {
-                        Thread.sleep(5);
-                    } catch (InterruptedException ex) {
-                        break;
+                    maxPendingBlocks = Math.max(maxPendingBlocks, sampleConsumer.getPendingBlocks());
+                    if(audioProcess.doFastLeq || audioProcess.doOneSecondLeq) {
+                        final long blockStart = System.nanoTime();
+                        short[] buffer = sampleConsumer.getBlock();
+                        int length = sampleConsumer.getBlockLength();
+                        MultiResolutionWindow currentWindow = window;
+                        // The window takes samples up to the end of the current window,
+                        // so the buffer is processed in multiple parts if it is too large
+                        int cursor = 0;
+                        while (cursor < length) {
+                            cursor += processSample(currentWindow, buffer, cursor, length - cursor);
+                        }
+                        sampleConsumer.release();
+                        recordBlock(length, blockStart);
+                    } else {
+                        sampleConsumer.skipAll();
                     }
                 }
-                // Gather incomplete window
-                if(!window.isCacheEmpty()) {
-                    processWindow();
-                }
             } finally {
                 processing.set(false);
             }
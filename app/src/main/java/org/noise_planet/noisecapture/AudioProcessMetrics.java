@@ -0,0 +1,178 @@
+/*
+ * This file is part of the NoiseCapture application and OnoMap system.
+ *
+ * The 'OnoMaP' system is led by Lab-STICC and Ifsttar and generates noise maps via
+ * citizen-contributed noise data.
+ *
+ * This application is co-funded by the ENERGIC-OD Project (European Network for
+ * Redistributing Geospatial Information to user Communities - Open Data). ENERGIC-OD
+ * (http://www.energic-od.eu/) is partially funded under the ICT Policy Support Programme (ICT
+ * PSP) as part of the Competitiveness and Innovation Framework Programme by the European
+ * Community. The application work is also supported by the French geographic portal GEOPAL of the
+ * Pays de la Loire region (http://www.geopal.org).
+ *
+ * Copyright (C) IFSTTAR - LAE and Lab-STICC – CNRS UMR 6285 Equipe DECIDE Vannes
+ *
+ * NoiseCapture is a free software; you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation; either version 3 of
+ * the License, or(at your option) any later version. NoiseCapture is distributed in the hope that
+ * it will be useful,but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for
+ * more details.You should have received a copy of the GNU General Public License along with this
+ * program; if not, write to the Free Software Foundation,Inc., 51 Franklin Street, Fifth Floor,
+ * Boston, MA 02110-1301  USA or see For more information,  write to Ifsttar,
+ * 14-20 Boulevard Newton Cite Descartes, Champs sur Marne F-77447 Marne la Vallee Cedex 2 FRANCE
+ *  or write to scientific.computing@ifsttar.fr
+ */
+
+package org.noise_planet.noisecapture;
+
+import org.orbisgis.sos.ProcessingTimings;
+import org.orbisgis.sos.TimingHistogram;
+
+import java.util.Locale;
+
+/**
+ * Snapshot of the audio processing metrics, see {@link AudioProcess#getMetricsSnapshot()}
+ */
+public final class AudioProcessMetrics {
+    private final TimingHistogram[] stageTimings;
+    private final TimingHistogram dispatchTimings;
+    private final TimingHistogram blockTimings;
+    private final int pendingBlocks;
+    private final int maxPendingBlocks;
+    private final long droppedSamples;
+    private final long lateSamples;
+    private final long lateBlocks;
+    private final long gcStalls;
+    private final long gcStallNanos;
+    private final long processedSamples;
+    private final long processingNanos;
+    private final int sampleRate;
+
+    AudioProcessMetrics(ProcessingTimings processingTimings, TimingHistogram dispatchTimings,
+                        TimingHistogram blockTimings, int pendingBlocks, int maxPendingBlocks,
+                        long droppedSamples, long lateSamples, long lateBlocks, long gcStalls,
+                        long gcStallNanos, long processedSamples, long processingNanos, int sampleRate) {
+        ProcessingTimings.STAGE[] stages = ProcessingTimings.STAGE.values();
+        this.stageTimings = new TimingHistogram[stages.length];
+        for(ProcessingTimings.STAGE stage : stages) {
+            stageTimings[stage.ordinal()] = processingTimings.getStage(stage).copy();
+        }
+        this.dispatchTimings = dispatchTimings.copy();
+        this.blockTimings = blockTimings.copy();
+        this.pendingBlocks = pendingBlocks;
+        this.maxPendingBlocks = maxPendingBlocks;
+        this.droppedSamples = droppedSamples;
+        this.lateSamples = lateSamples;
+        this.lateBlocks = lateBlocks;
+        this.gcStalls = gcStalls;
+        this.gcStallNanos = gcStallNanos;
+        this.processedSamples = processedSamples;
+        this.processingNanos = processingNanos;
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * @param stage Signal processing stage
+     * @return Duration of the stage, one entry per processed window (per pushed buffer for the A-weighting)
+     */
+    public TimingHistogram getStageTimings(ProcessingTimings.STAGE stage) {
+        return stageTimings[stage.ordinal()];
+    }
+
+    /**
+     * @return Duration of the fast and 1s results dispatch to the listeners
+     */
+    public TimingHistogram getDispatchTimings() {
+        return dispatchTimings;
+    }
+
+    /**
+     * @return Processing duration of each audio block read from the microphone
+     */
+    public TimingHistogram getBlockTimings() {
+        return blockTimings;
+    }
+
+    /**
+     * @return Number of audio blocks waiting to be processed
+     */
+    public int getPendingBlocks() {
+        return pendingBlocks;
+    }
+
+    /**
+     * @return Maximum number of audio blocks waiting to be processed since the beginning of the recording
+     */
+    public int getMaxPendingBlocks() {
+        return maxPendingBlocks;
+    }
+
+    /**
+     * @return Number of audio samples dropped because the processing was too late
+     */
+    public long getDroppedSamples() {
+        return droppedSamples;
+    }
+
+    /**
+     * @return Number of audio samples received but not yet processed
+     */
+    public long getLateSamples() {
+        return lateSamples;
+    }
+
+    /**
+     * @return Number of audio blocks that took longer to process than their audio duration
+     */
+    public long getLateBlocks() {
+        return lateBlocks;
+    }
+
+    /**
+     * @return Number of late blocks while the heap has been collected
+     */
+    public long getGcStalls() {
+        return gcStalls;
+    }
+
+    /**
+     * @return Processing duration of the late blocks while the heap has been collected [ns]
+     */
+    public long getGcStallNanos() {
+        return gcStallNanos;
+    }
+
+    /**
+     * @return Number of processed audio samples
+     */
+    public long getProcessedSamples() {
+        return processedSamples;
+    }
+
+    /**
+     * @return Processing duration divided by the processed audio duration. The processing is
+     * real time while lower than 1.
+     */
+    public double getRealTimeFactor() {
+        if(processedSamples == 0) {
+            return 0;
+        }
+        return (processingNanos / 1e9) / (processedSamples / (double) sampleRate);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "rtf=%.4f queue=%d(max %d) dropped=%d late=%d lateBlocks=%d" +
+                " gcStalls=%d(%.1fms)", getRealTimeFactor(), pendingBlocks, maxPendingBlocks,
+                droppedSamples, lateSamples, lateBlocks, gcStalls, gcStallNanos / 1e6));
+        for(ProcessingTimings.STAGE stage : ProcessingTimings.STAGE.values()) {
+            sb.append(" ").append(stage.name()).append("[").append(stageTimings[stage.ordinal()]).append("]");
+        }
+        sb.append(" DISPATCH[").append(dispatchTimings).append("]");
+        sb.append(" BLOCK[").append(blockTimings).append("]");
+        return sb.toString();
+    }
+}
@@ -341,6 +341,7 @@ public class CalibrationActivity extends MainActivity implements PropertyChangeL
         audioProcess.setDoOneSecondLeq(true);
         audioProcess.setWeightingA(true);
         audioProcess.setHannWindowOneSecond(true);
+        audioProcess.setExactOneSecondLeq(true);
         if(testGainCheckBox.isChecked()) {
             SharedPreferences sharedPref = PreferenceManager.getDefaultSharedPreferences(CalibrationActivity.this);
             audioProcess.setGain((float)Math.pow(10, getDouble(sharedPref,"settings_recording_gain", 0) / 20));
@@ -412,6 +412,7 @@ public class CalibrationLinearityActivity extends MainActivity implements Proper
         audioProcess.setDoOneSecondLeq(true);
         audioProcess.setWeightingA(false);
         audioProcess.setHannWindowOneSecond(true);
+        audioProcess.setExactOneSecondLeq(true);
         if(testGainCheckBox.isChecked()) {
             SharedPreferences sharedPref = PreferenceManager.getDefaultSharedPreferences(CalibrationLinearityActivity.this);
             audioProcess.setGain((float)Math.pow(10, getDouble(sharedPref,"settings_recording_gain", 0) / 20));
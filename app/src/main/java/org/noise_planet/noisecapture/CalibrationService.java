@@ -46,6 +46,7 @@ import androidx.annotation.Nullable;
 import org.noise_planet.jwarble.Configuration;
 import org.noise_planet.jwarble.MessageCallback;
 import org.noise_planet.jwarble.OpenWarble;
+import org.noise_planet.noisecapture.util.SampleRingBuffer;
 import org.orbisgis.sos.LeqStats;
 import org.orbisgis.sos.SOSSignalProcessing;
 import org.orbisgis.sos.ThirdOctaveBandsFiltering;
@@ -57,8 +58,6 @@ import java.beans.PropertyChangeListener;
 import java.beans.PropertyChangeSupport;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -154,6 +153,7 @@ public class CalibrationService extends Service implements PropertyChangeListene
             audioProcess.setDoOneSecondLeq(false);
             audioProcess.setWeightingA(true);
             audioProcess.setHannWindowOneSecond(true);
+            audioProcess.setExactOneSecondLeq(true);
 
             if(isHost) {
                 SharedPreferences sharedPref = PreferenceManager.getDefaultSharedPreferences(CalibrationService.this);
@@ -563,7 +563,7 @@ public class CalibrationService extends Service implements PropertyChangeListene
         private final AtomicBoolean canceled;
         private final AtomicBoolean recording;
         private OpenWarble openWarble;
-        private Queue<short[]> bufferToProcess = new ConcurrentLinkedQueue<short[]>();
+        private SampleRingBuffer.Consumer sampleConsumer;
 
         public AcousticModemListener(CalibrationService calibrationService, AtomicBoolean
                 canceled, AtomicBoolean recording) {
@@ -577,38 +577,33 @@ public class CalibrationService extends Service implements PropertyChangeListene
         }
 
         @Override
-        public void addSample(short[] sample) {
-            if(recording.get()) {
-                bufferToProcess.add(sample);
-            }
+        public void setSampleConsumer(SampleRingBuffer.Consumer sampleConsumer) {
+            this.sampleConsumer = sampleConsumer;
         }
 
         @Override
         public void run() {
             while (!canceled.get() && openWarble != null) {
-                while(!bufferToProcess.isEmpty()) {
-                    short[] buffer = bufferToProcess.poll();
-                    if(buffer != null) {
-                        boolean doProcessBuffer = true;
-                        while(doProcessBuffer) {
-                            doProcessBuffer = false;
-                            double[] samples = new double[Math.min(buffer.length, openWarble.getMaxPushSamplesLength())];
-                            for (int i = 0; i < samples.length; i++) {
-                                samples[i] = buffer[i] / (double)Short.MAX_VALUE;
-                            }
-                            openWarble.pushSamples(samples);
-                            if (buffer.length > samples.length) {
-                                buffer = Arrays.copyOfRange(buffer, samples.length, buffer.length);
-                                doProcessBuffer = true;
-                            }
-                        }
+                if(!sampleConsumer.awaitBlock(100)) {
+                    if(sampleConsumer.isClosed()) {
+                        break;
                     }
+                    continue;
                 }
-                try {
-                    Thread.sleep(5);
-                } catch (InterruptedException ex) {
-                    break;
+                if(recording.get()) {
+                    short[] buffer = sampleConsumer.getBlock();
+                    int length = sampleConsumer.getBlockLength();
+                    int cursor = 0;
+                    while(cursor < length) {
+                        double[] samples = new double[Math.min(length - cursor, openWarble.getMaxPushSamplesLength())];
+                        for (int i = 0; i < samples.length; i++) {
+                            samples[i] = buffer[cursor + i] / (double)Short.MAX_VALUE;
+                        }
+                        openWarble.pushSamples(samples);
+                        cursor += samples.length;
+                    }
                 }
+                sampleConsumer.release();
             }
         }
     }
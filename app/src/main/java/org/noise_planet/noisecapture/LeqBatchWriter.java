@@ -0,0 +1,329 @@
+/*
+ * This file is part of the NoiseCapture application and OnoMap system.
+ *
+ * The 'OnoMaP' system is led by Lab-STICC and Ifsttar and generates noise maps via
+ * citizen-contributed noise data.
+ *
+ * This application is co-funded by the ENERGIC-OD Project (European Network for
+ * Redistributing Geospatial Information to user Communities - Open Data). ENERGIC-OD
+ * (http://www.energic-od.eu/) is partially funded under the ICT Policy Support Programme (ICT
+ * PSP) as part of the Competitiveness and Innovation Framework Programme by the European
+ * Community. The application work is also supported by the French geographic portal GEOPAL of the
+ * Pays de la Loire region (http://www.geopal.org).
+ *
+ * Copyright (C) IFSTTAR - LAE and Lab-STICC – CNRS UMR 6285 Equipe DECIDE Vannes
+ *
+ * NoiseCapture is a free software; you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation; either version 3 of
+ * the License, or(at your option) any later version. NoiseCapture is distributed in the hope that
+ * it will be useful,but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for
+ * more details.You should have received a copy of the GNU General Public License along with this
+ * program; if not, write to the Free Software Foundation,Inc., 51 Franklin Street, Fifth Floor,
+ * Boston, MA 02110-1301  USA or see For more information,  write to Ifsttar,
+ * 14-20 Boulevard Newton Cite Descartes, Champs sur Marne F-77447 Marne la Vallee Cedex 2 FRANCE
+ *  or write to scientific.computing@ifsttar.fr
+ */
+
+package org.noise_planet.noisecapture;
+
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteException;
+import android.database.sqlite.SQLiteStatement;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background writer of the leq of a record. The audio processing thread only puts the leq in a
+ * bounded queue, the writer thread inserts the leq by groups, one transaction for
+ * {@link #DEFAULT_MAX_BATCH_SIZE} leq or {@link #DEFAULT_MAX_BATCH_DELAY} ms. The database connection
+ * and the compiled insert statement are kept open until {@link #close(long)}.
+ * With a {@link RecordChunkStore} the leq are appended to the chunk files instead of the leq table.
+ */
+public class LeqBatchWriter implements Runnable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LeqBatchWriter.class);
+    public static final int DEFAULT_QUEUE_CAPACITY = 600;
+    public static final int DEFAULT_MAX_BATCH_SIZE = 10;
+    public static final long DEFAULT_MAX_BATCH_DELAY = 10000;
+    private static final int WRITE_RETRY = 5;
+    private static final long RETRY_DELAY = 500;
+    // Queue markers
+    private static final MeasurementManager.LeqBatch FLUSH = new MeasurementManager.LeqBatch(null);
+    private static final MeasurementManager.LeqBatch CLOSE = new MeasurementManager.LeqBatch(null);
+
+    private final Storage storage;
+    // Null to write into the leq table
+    private final RecordChunkStore recordChunkStore;
+    private final BlockingQueue<MeasurementManager.LeqBatch> queue;
+    private final int maxBatchSize;
+    private final long maxBatchDelay;
+    // Number of leq accepted by add
+    private final AtomicLong addedCount = new AtomicLong(0);
+    // Number of leq written or dropped by the writer thread, guarded by this
+    private long processedCount = 0;
+    private final AtomicLong droppedCount = new AtomicLong(0);
+    private volatile boolean closed = false;
+    private Thread thread = null;
+    // Writer thread state
+    private SQLiteDatabase database = null;
+    private SQLiteStatement leqStatement = null;
+    private final Set<Integer> chunkRecordIds = new HashSet<Integer>();
+
+    LeqBatchWriter(Storage storage, RecordChunkStore recordChunkStore) {
+        this(storage, recordChunkStore, DEFAULT_QUEUE_CAPACITY, DEFAULT_MAX_BATCH_SIZE, DEFAULT_MAX_BATCH_DELAY);
+    }
+
+    /**
+     * @param storage Database
+     * @param recordChunkStore Chunk files of the leq, null to write into the database
+     * @param queueCapacity Maximum number of leq waiting to be written
+     * @param maxBatchSize Maximum number of leq in a transaction
+     * @param maxBatchDelay Maximum delay (ms) between the reception of a leq and its transaction
+     */
+    LeqBatchWriter(Storage storage, RecordChunkStore recordChunkStore, int queueCapacity,
+                   int maxBatchSize, long maxBatchDelay) {
+        this.storage = storage;
+        this.recordChunkStore = recordChunkStore;
+        this.queue = new ArrayBlockingQueue<MeasurementManager.LeqBatch>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchDelay = maxBatchDelay;
+    }
+
+    /**
+     * Start the writer thread
+     */
+    public synchronized void start() {
+        if(thread == null) {
+            thread = new Thread(this, "LeqBatchWriter");
+            thread.start();
+        }
+    }
+
+    /**
+     * Queue a leq, never blocks.
+     * @param leqBatch Leq to write
+     * @return False if the queue is full or the writer is closed, the leq is dropped
+     */
+    public boolean add(MeasurementManager.LeqBatch leqBatch) {
+        if(closed) {
+            return false;
+        }
+        // Count before the queue, so a concurrent flush waits for it
+        addedCount.incrementAndGet();
+        if(queue.offer(leqBatch)) {
+            return true;
+        }
+        addedCount.decrementAndGet();
+        droppedCount.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * @return Number of leq dropped because the queue was full or the database was not writable
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * @return Number of leq waiting to be written
+     */
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * Commit the leq added before this call, and wait for the end of the transaction
+     * @param timeout Maximum waiting time (ms)
+     * @return True if the leq have been processed, false on timeout
+     */
+    public boolean flush(long timeout) throws InterruptedException {
+        final long target = addedCount.get();
+        final long deadline = System.currentTimeMillis() + timeout;
+        synchronized (this) {
+            if(processedCount >= target) {
+                return true;
+            }
+        }
+        // Do not wait the end of the batch delay
+        if(!queue.offer(FLUSH, timeout, TimeUnit.MILLISECONDS)) {
+            return false;
+        }
+        synchronized (this) {
+            while (processedCount < target) {
+                long remaining = deadline - System.currentTimeMillis();
+                if(remaining <= 0) {
+                    return false;
+                }
+                wait(remaining);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Write the remaining leq, then close the database connection and stop the writer thread
+     * @param timeout Maximum waiting time (ms)
+     * @return True if the writer thread is stopped
+     */
+    public boolean close(long timeout) throws InterruptedException {
+        closed = true;
+        Thread writerThread;
+        synchronized (this) {
+            writerThread = thread;
+        }
+        if(writerThread == null) {
+            return true;
+        }
+        final long deadline = System.currentTimeMillis() + timeout;
+        if(!queue.offer(CLOSE, timeout, TimeUnit.MILLISECONDS)) {
+            return false;
+        }
+        writerThread.join(Math.max(1, deadline - System.currentTimeMillis()));
+        return !writerThread.isAlive();
+    }
+
+    @Override
+    public void run() {
+        List<MeasurementManager.LeqBatch> group = new ArrayList<MeasurementManager.LeqBatch>(maxBatchSize);
+        boolean running = true;
+        try {
+            while (running) {
+                MeasurementManager.LeqBatch leqBatch = queue.take();
+                final long deadline = System.currentTimeMillis() + maxBatchDelay;
+                while (true) {
+                    if(leqBatch == CLOSE) {
+                        running = false;
+                        break;
+                    } else if(leqBatch == FLUSH) {
+                        break;
+                    }
+                    group.add(leqBatch);
+                    long remaining = deadline - System.currentTimeMillis();
+                    if(group.size() >= maxBatchSize || remaining <= 0) {
+                        break;
+                    }
+                    leqBatch = queue.poll(remaining, TimeUnit.MILLISECONDS);
+                    if(leqBatch == null) {
+                        break;
+                    }
+                }
+                if(!group.isEmpty() && !write(group)) {
+                    droppedCount.addAndGet(group.size());
+                }
+                synchronized (this) {
+                    processedCount += group.size();
+                    notifyAll();
+                }
+                group.clear();
+            }
+        } catch (InterruptedException ex) {
+            // Stop writing
+        } finally {
+            closeDatabase();
+            closeChunks();
+        }
+    }
+
+    /**
+     * Insert the leq and update the map cells in one transaction
+     * @return False if the leq have not been written
+     */
+    private boolean write(List<MeasurementManager.LeqBatch> group) throws InterruptedException {
+        int appendedCount = 0;
+        for(int retry = 0; retry < WRITE_RETRY; retry++) {
+            try {
+                // The map cells aggregation must not run between the append and the transaction
+                synchronized (LeqTileIndex.WRITE_LOCK) {
+                    if(recordChunkStore != null) {
+                        // Chunk files are not transactional, continue after the last appended leq
+                        for(; appendedCount < group.size(); appendedCount++) {
+                            MeasurementManager.LeqBatch leqBatch = group.get(appendedCount);
+                            recordChunkStore.append(leqBatch);
+                            chunkRecordIds.add(leqBatch.getLeq().getRecordId());
+                        }
+                        for(int recordId : chunkRecordIds) {
+                            recordChunkStore.flush(recordId);
+                        }
+                    }
+                    if(database == null) {
+                        openDatabase();
+                    }
+                    database.beginTransaction();
+                    try {
+                        LeqTileIndex leqTileIndex = new LeqTileIndex();
+                        for (MeasurementManager.LeqBatch leqBatch : group) {
+                            if(recordChunkStore == null) {
+                                MeasurementManager.insertLeqBatch(leqStatement, leqBatch);
+                            }
+                            leqTileIndex.add(leqBatch);
+                        }
+                        leqTileIndex.apply(database);
+                        database.setTransactionSuccessful();
+                    } finally {
+                        database.endTransaction();
+                    }
+                }
+                return true;
+            } catch (SQLiteException | IOException ex) {
+                LOGGER.error(ex.getLocalizedMessage(), ex);
+                closeDatabase();
+                Thread.sleep(RETRY_DELAY);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Open a connection for this thread only, other database users close the shared connection
+     * after each operation
+     */
+    private void openDatabase() {
+        String path;
+        SQLiteDatabase sharedDatabase = storage.getWritableDatabase();
+        try {
+            path = sharedDatabase.getPath();
+        } finally {
+            sharedDatabase.close();
+        }
+        database = SQLiteDatabase.openDatabase(path, null, SQLiteDatabase.OPEN_READWRITE);
+        // Each commit is on disk when the transaction ends
+        database.execSQL("PRAGMA synchronous = FULL");
+        leqStatement = MeasurementManager.compileLeqStatement(database);
+    }
+
+    private void closeChunks() {
+        if(recordChunkStore != null) {
+            for(int recordId : chunkRecordIds) {
+                try {
+                    recordChunkStore.close(recordId);
+                } catch (IOException ex) {
+                    LOGGER.error(ex.getLocalizedMessage(), ex);
+                }
+            }
+            chunkRecordIds.clear();
+        }
+    }
+
+    private void closeDatabase() {
+        if(leqStatement != null) {
+            leqStatement.close();
+            leqStatement = null;
+        }
+        if(database != null) {
+            database.close();
+            database = null;
+        }
+    }
+}
@@ -0,0 +1,386 @@
+/*
+ * This file is part of the NoiseCapture application and OnoMap system.
+ *
+ * The 'OnoMaP' system is led by Lab-STICC and Ifsttar and generates noise maps via
+ * citizen-contributed noise data.
+ *
+ * This application is co-funded by the ENERGIC-OD Project (European Network for
+ * Redistributing Geospatial Information to user Communities - Open Data). ENERGIC-OD
+ * (http://www.energic-od.eu/) is partially funded under the ICT Policy Support Programme (ICT
+ * PSP) as part of the Competitiveness and Innovation Framework Programme by the European
+ * Community. The application work is also supported by the French geographic portal GEOPAL of the
+ * Pays de la Loire region (http://www.geopal.org).
+ *
+ * Copyright (C) IFSTTAR - LAE and Lab-STICC – CNRS UMR 6285 Equipe DECIDE Vannes
+ *
+ * NoiseCapture is a free software; you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation; either version 3 of
+ * the License, or(at your option) any later version. NoiseCapture is distributed in the hope that
+ * it will be useful,but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for
+ * more details.You should have received a copy of the GNU General Public License along with this
+ * program; if not, write to the Free Software Foundation,Inc., 51 Franklin Street, Fifth Floor,
+ * Boston, MA 02110-1301  USA or see For more information,  write to Ifsttar,
+ * 14-20 Boulevard Newton Cite Descartes, Champs sur Marne F-77447 Marne la Vallee Cedex 2 FRANCE
+ *  or write to scientific.computing@ifsttar.fr
+ */
+
+package org.noise_planet.noisecapture;
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+
+import org.orbisgis.sos.DecibelConversion;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Located leq aggregated by map cell for each zoom level, stored in {@link Storage.LeqTile}.
+ * At each zoom level the web mercator tiles are divided into 2^{@link #CELL_ZOOM_OFFSET} cells
+ * by side. A cell holds the count and the sound energy sum of its leq, so the map reads a
+ * number of cells that does not depend on the number of stored leq. The part of each record is
+ * kept in {@link Storage.LeqTileRecord}, so a record is removed without reading its leq.
+ * An instance accumulates the changes of the cells until {@link #apply(SQLiteDatabase)}.
+ */
+public class LeqTileIndex {
+    // Highest aggregated zoom level, its cells are displayed at the higher zoom levels
+    public static final int MAX_ZOOM = 15;
+    // Cells of 8x8 pixels in the 256x256 pixels tiles
+    public static final int CELL_ZOOM_OFFSET = 5;
+    // Zoom of the row that asks for the aggregation of all the stored leq
+    static final int REBUILD_ZOOM = -1;
+    private static final double MAX_LATITUDE = 85.0511287798;
+    private static final int CELL_BITS = 21;
+    private static final long CELL_MASK = (1L << CELL_BITS) - 1;
+
+    // Held while leq are written with their cells, and during the aggregation of all the stored
+    // leq, so the aggregation does not miss or count twice the leq written concurrently.
+    // Acquire it before the beginning of the database transaction.
+    static final Object WRITE_LOCK = new Object();
+
+    // Sound energy and leq count changes by cell key
+    private final Map<Long, double[]> changes = new HashMap<Long, double[]>();
+    // Same changes by record identifier
+    private final Map<Integer, Map<Long, double[]>> recordChanges = new HashMap<Integer, Map<Long, double[]>>();
+
+    /**
+     * Add the leq to its cells if it is located
+     * @param leqBatch Leq and its spectrum
+     */
+    public void add(MeasurementManager.LeqBatch leqBatch) {
+        Storage.Leq leq = leqBatch.getLeq();
+        if(leq.getAccuracy() > 0) {
+            List<Storage.LeqValue> leqValues = leqBatch.getLeqValues();
+            float[] spectrum = new float[leqValues.size()];
+            for(int i = 0; i < spectrum.length; i++) {
+                spectrum[i] = leqValues.get(i).getSpl();
+            }
+            // Aggregate the stored values, the removal of the leq reads the same energy
+            add(leq.getRecordId(), leq.getLatitude(), leq.getLongitude(),
+                    Storage.Leq.unpackSpectrum(Storage.Leq.packSpectrum(spectrum)), 1);
+        }
+    }
+
+    /**
+     * @param recordId Record identifier
+     * @param latitude Leq latitude
+     * @param longitude Leq longitude
+     * @param spectrum Stored sound levels of the leq in dB(A), NaN values are ignored
+     * @param count 1 to add the leq, -1 to remove it
+     */
+    public void add(int recordId, double latitude, double longitude, float[] spectrum, int count) {
+        double energy = 0;
+        for(float spl : spectrum) {
+            if(!Float.isNaN(spl)) {
+                energy += DecibelConversion.dBToEnergy(spl);
+            }
+        }
+        Map<Long, double[]> record = getRecordChanges(recordId);
+        for(int zoom = 0; zoom <= MAX_ZOOM; zoom++) {
+            int level = zoom + CELL_ZOOM_OFFSET;
+            long key = getKey(zoom, getCellX(longitude, level), getCellY(latitude, level));
+            addChange(changes, key, count * energy, count);
+            addChange(record, key, count * energy, count);
+        }
+    }
+
+    /**
+     * Remove all the leq of a record from the cells. Only the cells of the record are read.
+     * @param database Readable database
+     * @param recordId Record identifier
+     */
+    public void removeRecord(SQLiteDatabase database, int recordId) {
+        Map<Long, double[]> record = getRecordChanges(recordId);
+        Cursor cursor = database.rawQuery("SELECT " + Storage.LeqTileRecord.COLUMN_ZOOM + ", " +
+                Storage.LeqTileRecord.COLUMN_CELL_X + ", " + Storage.LeqTileRecord.COLUMN_CELL_Y + ", " +
+                Storage.LeqTileRecord.COLUMN_ENERGY + ", " + Storage.LeqTileRecord.COLUMN_LEQ_COUNT +
+                " FROM " + Storage.LeqTileRecord.TABLE_NAME + " WHERE " +
+                Storage.LeqTileRecord.COLUMN_RECORD_ID + " = ?", new String[]{String.valueOf(recordId)});
+        try {
+            while (cursor.moveToNext()) {
+                long key = getKey(cursor.getInt(0), cursor.getInt(1), cursor.getInt(2));
+                addChange(changes, key, -cursor.getDouble(3), -cursor.getInt(4));
+                addChange(record, key, -cursor.getDouble(3), -cursor.getInt(4));
+            }
+        } finally {
+            cursor.close();
+        }
+    }
+
+    private Map<Long, double[]> getRecordChanges(int recordId) {
+        Map<Long, double[]> record = recordChanges.get(recordId);
+        if(record == null) {
+            record = new HashMap<Long, double[]>();
+            recordChanges.put(recordId, record);
+        }
+        return record;
+    }
+
+    private static long getKey(long zoom, long cellX, long cellY) {
+        return (zoom << (2 * CELL_BITS)) | (cellX << CELL_BITS) | cellY;
+    }
+
+    private static void addChange(Map<Long, double[]> cellChanges, long key, double energy, int count) {
+        double[] change = cellChanges.get(key);
+        if(change == null) {
+            change = new double[2];
+            cellChanges.put(key, change);
+        }
+        change[0] += energy;
+        change[1] += count;
+    }
+
+    /**
+     * Write the changes into the cells, in the transaction of the caller
+     * @param database Writable database
+     */
+    public void apply(SQLiteDatabase database) {
+        if(changes.isEmpty()) {
+            return;
+        }
+        apply(database, Storage.LeqTile.TABLE_NAME, null, changes);
+        for(Map.Entry<Integer, Map<Long, double[]>> entry : recordChanges.entrySet()) {
+            apply(database, Storage.LeqTileRecord.TABLE_NAME, entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * @param tableName {@link Storage.LeqTile} or {@link Storage.LeqTileRecord}, cell columns
+     *                  have the same names
+     * @param recordId Record identifier of {@link Storage.LeqTileRecord}, null for {@link Storage.LeqTile}
+     */
+    private static void apply(SQLiteDatabase database, String tableName, Integer recordId,
+                              Map<Long, double[]> cellChanges) {
+        final String recordCondition = recordId == null ? "" : " AND " +
+                Storage.LeqTileRecord.COLUMN_RECORD_ID + " = " + recordId;
+        final String cellCondition = " WHERE " + Storage.LeqTile.COLUMN_ZOOM + " = ? AND " +
+                Storage.LeqTile.COLUMN_CELL_X + " = ? AND " + Storage.LeqTile.COLUMN_CELL_Y + " = ?" +
+                recordCondition;
+        SQLiteStatement updateStatement = database.compileStatement("UPDATE " +
+                tableName + " SET " + Storage.LeqTile.COLUMN_ENERGY + " = " +
+                Storage.LeqTile.COLUMN_ENERGY + " + ?, " + Storage.LeqTile.COLUMN_LEQ_COUNT + " = " +
+                Storage.LeqTile.COLUMN_LEQ_COUNT + " + ?" + cellCondition);
+        SQLiteStatement insertStatement = database.compileStatement("INSERT INTO " +
+                tableName + "(" + Storage.LeqTile.COLUMN_ENERGY + ", " +
+                Storage.LeqTile.COLUMN_LEQ_COUNT + ", " + Storage.LeqTile.COLUMN_ZOOM + ", " +
+                Storage.LeqTile.COLUMN_CELL_X + ", " + Storage.LeqTile.COLUMN_CELL_Y +
+                (recordId == null ? ") VALUES (?, ?, ?, ?, ?)" : ", " +
+                Storage.LeqTileRecord.COLUMN_RECORD_ID + ") VALUES (?, ?, ?, ?, ?, " + recordId + ")"));
+        SQLiteStatement deleteStatement = database.compileStatement("DELETE FROM " +
+                tableName + cellCondition + " AND " + Storage.LeqTile.COLUMN_LEQ_COUNT + " <= 0");
+        try {
+            for(Map.Entry<Long, double[]> entry : cellChanges.entrySet()) {
+                long key = entry.getKey();
+                double[] change = entry.getValue();
+                long zoom = key >>> (2 * CELL_BITS);
+                long cellX = (key >>> CELL_BITS) & CELL_MASK;
+                long cellY = key & CELL_MASK;
+                long count = (long) change[1];
+                if(count == 0) {
+                    // Leq added then removed before apply
+                    continue;
+                }
+                updateStatement.bindDouble(1, change[0]);
+                updateStatement.bindLong(2, count);
+                updateStatement.bindLong(3, zoom);
+                updateStatement.bindLong(4, cellX);
+                updateStatement.bindLong(5, cellY);
+                if(updateStatement.executeUpdateDelete() == 0) {
+                    if(count > 0) {
+                        insertStatement.bindDouble(1, change[0]);
+                        insertStatement.bindLong(2, count);
+                        insertStatement.bindLong(3, zoom);
+                        insertStatement.bindLong(4, cellX);
+                        insertStatement.bindLong(5, cellY);
+                        insertStatement.executeInsert();
+                    }
+                } else if(count < 0) {
+                    // Remove the cell without leq
+                    deleteStatement.bindLong(1, zoom);
+                    deleteStatement.bindLong(2, cellX);
+                    deleteStatement.bindLong(3, cellY);
+                    deleteStatement.executeUpdateDelete();
+                }
+            }
+        } finally {
+            updateStatement.close();
+            insertStatement.close();
+            deleteStatement.close();
+        }
+    }
+
+    /**
+     * @param database Readable database
+     * @return True if the stored leq have to be aggregated, after a database upgrade
+     */
+    static boolean isRebuildRequired(SQLiteDatabase database) {
+        Cursor cursor = database.rawQuery("SELECT 1 FROM " + Storage.LeqTile.TABLE_NAME + " WHERE " +
+                Storage.LeqTile.COLUMN_ZOOM + " = ?", new String[]{String.valueOf(REBUILD_ZOOM)});
+        try {
+            return cursor.moveToNext();
+        } finally {
+            cursor.close();
+        }
+    }
+
+    /**
+     * @param database Readable database
+     * @param zoom Map zoom level
+     * @param west Minimal longitude of the area
+     * @param south Minimal latitude of the area
+     * @param east Maximal longitude of the area
+     * @param north Maximal latitude of the area
+     * @return Cells of the area
+     */
+    static List<Cell> getCells(SQLiteDatabase database, int zoom, double west, double south,
+                               double east, double north) {
+        zoom = Math.max(0, Math.min(MAX_ZOOM, zoom));
+        int level = zoom + CELL_ZOOM_OFFSET;
+        List<Cell> cells = new ArrayList<Cell>();
+        Cursor cursor = database.rawQuery("SELECT " + Storage.LeqTile.COLUMN_CELL_X + ", " +
+                Storage.LeqTile.COLUMN_CELL_Y + ", " + Storage.LeqTile.COLUMN_ENERGY + ", " +
+                Storage.LeqTile.COLUMN_LEQ_COUNT + " FROM " + Storage.LeqTile.TABLE_NAME + " WHERE " +
+                Storage.LeqTile.COLUMN_ZOOM + " = ? AND " + Storage.LeqTile.COLUMN_CELL_X +
+                " BETWEEN ? AND ? AND " + Storage.LeqTile.COLUMN_CELL_Y + " BETWEEN ? AND ?",
+                new String[]{String.valueOf(zoom), String.valueOf(getCellX(west, level)),
+                        String.valueOf(getCellX(east, level)), String.valueOf(getCellY(north, level)),
+                        String.valueOf(getCellY(south, level))});
+        try {
+            while (cursor.moveToNext()) {
+                int leqCount = cursor.getInt(3);
+                cells.add(new Cell(getLatitude(cursor.getInt(1) + 0.5, level),
+                        getLongitude(cursor.getInt(0) + 0.5, level),
+                        DecibelConversion.energyTodB(cursor.getDouble(2) / leqCount), leqCount));
+            }
+        } finally {
+            cursor.close();
+        }
+        return cells;
+    }
+
+    /**
+     * @param database Readable database
+     * @return Extent of the cells of the highest zoom level [west, south, east, north], null if
+     * there is no located leq
+     */
+    static double[] getBounds(SQLiteDatabase database) {
+        final int level = MAX_ZOOM + CELL_ZOOM_OFFSET;
+        Cursor cursor = database.rawQuery("SELECT MIN(" + Storage.LeqTile.COLUMN_CELL_X + "), MIN(" +
+                Storage.LeqTile.COLUMN_CELL_Y + "), MAX(" + Storage.LeqTile.COLUMN_CELL_X + "), MAX(" +
+                Storage.LeqTile.COLUMN_CELL_Y + "), COUNT(*) FROM " + Storage.LeqTile.TABLE_NAME +
+                " WHERE " + Storage.LeqTile.COLUMN_ZOOM + " = ?", new String[]{String.valueOf(MAX_ZOOM)});
+        try {
+            if(cursor.moveToNext() && cursor.getInt(4) > 0) {
+                return new double[] {getLongitude(cursor.getInt(0), level),
+                        getLatitude(cursor.getInt(3) + 1, level),
+                        getLongitude(cursor.getInt(2) + 1, level),
+                        getLatitude(cursor.getInt(1), level)};
+            }
+        } finally {
+            cursor.close();
+        }
+        return null;
+    }
+
+    /**
+     * @return Web mercator tile column of the longitude
+     */
+    static int getCellX(double longitude, int level) {
+        int size = 1 << level;
+        int x = (int) Math.floor((longitude + 180) / 360 * size);
+        return Math.max(0, Math.min(size - 1, x));
+    }
+
+    /**
+     * @return Web mercator tile row of the latitude
+     */
+    static int getCellY(double latitude, int level) {
+        int size = 1 << level;
+        double latitudeRad = Math.toRadians(Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, latitude)));
+        int y = (int) Math.floor((1 - Math.log(Math.tan(latitudeRad) + 1 / Math.cos(latitudeRad)) / Math.PI)
+                / 2 * size);
+        return Math.max(0, Math.min(size - 1, y));
+    }
+
+    /**
+     * @param x Web mercator tile column, with fraction
+     * @return Longitude
+     */
+    static double getLongitude(double x, int level) {
+        return x / (1 << level) * 360 - 180;
+    }
+
+    /**
+     * @param y Web mercator tile row, with fraction
+     * @return Latitude
+     */
+    static double getLatitude(double y, int level) {
+        return Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2 * y / (1 << level)))));
+    }
+
+    /**
+     * Aggregated located leq
+     */
+    public static final class Cell {
+        private final double latitude;
+        private final double longitude;
+        private final double leq;
+        private final int leqCount;
+
+        public Cell(double latitude, double longitude, double leq, int leqCount) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.leq = leq;
+            this.leqCount = leqCount;
+        }
+
+        /**
+         * @return Latitude of the cell center
+         */
+        public double getLatitude() {
+            return latitude;
+        }
+
+        /**
+         * @return Longitude of the cell center
+         */
+        public double getLongitude() {
+            return longitude;
+        }
+
+        /**
+         * @return Energetic mean of the leq sound levels in dB(A)
+         */
+        public double getLeq() {
+            return leq;
+        }
+
+        public int getLeqCount() {
+            return leqCount;
+        }
+    }
+}
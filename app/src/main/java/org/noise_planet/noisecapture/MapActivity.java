@@ -34,6 +34,7 @@ import android.content.SharedPreferences;
 import android.os.Build;
 import android.os.Bundle;
 import android.preference.PreferenceManager;
+import android.util.JsonWriter;
 import androidx.appcompat.app.AppCompatActivity;
 import android.view.Menu;
 import android.view.View;
@@ -42,10 +43,14 @@ import android.widget.Button;
 import android.widget.ProgressBar;
 import android.widget.Toast;
 
-import org.json.JSONArray;
-import org.json.JSONException;
-
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 
@@ -124,8 +129,7 @@ public class MapActivity extends MainActivity implements MapFragment.MapFragment
             webViewContent.setSelectedMeasurementRecordId(record.getId());
         }
 
-        mapFragment.runJs("addMeasurementPoints(JSON.parse(androidContent" +
-                ".getSelectedMeasurementData()))");
+        mapFragment.runJs("addMeasurementPoints()");
 
     }
 
@@ -143,6 +147,9 @@ public class MapActivity extends MainActivity implements MapFragment.MapFragment
         private int measureLimitation;
         private double ignoreNewPointDistanceDelta = 1;
         private AtomicBoolean canceled = new AtomicBoolean(false);
+        // Streams of GeoJSON features being read by the web page
+        private final Map<Integer, MeasurementDataStream> streams = new HashMap<Integer, MeasurementDataStream>();
+        private int lastStreamId = 0;
 
         public WebViewContent(AppCompatActivity activity, MeasurementManager measurementManager) {
             this.activity = activity;
@@ -157,51 +164,246 @@ public class MapActivity extends MainActivity implements MapFragment.MapFragment
             this.measureLimitation = measureLimitation;
         }
 
+        /**
+         * Start reading the located leq of the selected record
+         * @return Identifier of the stream for {@link #nextMeasurementData(int)}
+         */
+        @JavascriptInterface
+        public int openSelectedMeasurementData() {
+            return openMeasurementData(selectedMeasurementRecordId, true);
+        }
+
+        /**
+         * Aggregated located leq of all records in the map view
+         * @param west Minimal longitude of the view
+         * @param south Minimal latitude of the view
+         * @param east Maximal longitude of the view
+         * @param north Maximal latitude of the view
+         * @param zoom Map zoom level
+         * @return GeoJSON feature array of the map cells
+         */
         @JavascriptInterface
-        public String getSelectedMeasurementData() {
+        public String getMeasurementCells(double west, double south, double east, double north,
+                                          int zoom) {
+            List<LeqTileIndex.Cell> cells = measurementManager.getLeqCells(zoom, west, south, east,
+                    north);
+            StringWriter stringWriter = new StringWriter();
+            JsonWriter writer = new JsonWriter(stringWriter);
+            try {
+                writer.beginArray();
+                for(LeqTileIndex.Cell cell : cells) {
+                    writer.beginObject();
+                    writer.name("type");
+                    writer.value("Feature");
+                    writer.name("geometry");
+                    writer.beginObject();
+                    writer.name("type");
+                    writer.value("Point");
+                    writer.name("coordinates");
+                    writer.beginArray();
+                    writer.value(cell.getLongitude());
+                    writer.value(cell.getLatitude());
+                    writer.endArray();
+                    writer.endObject();
+                    writer.name("properties");
+                    writer.beginObject();
+                    writer.name(Storage.Record.COLUMN_LEQ_MEAN);
+                    writer.value(MeasurementExport.boundValue((float) cell.getLeq(), 0, 150));
+                    writer.name("marker-color");
+                    writer.value(MeasurementExport.getColorFromLevel(cell.getLeq()));
+                    writer.name(Storage.LeqTile.COLUMN_LEQ_COUNT);
+                    writer.value(cell.getLeqCount());
+                    writer.endObject();
+                    writer.endObject();
+                }
+                writer.endArray();
+                writer.close();
+            } catch (IOException ex) {
+                if (BuildConfig.DEBUG) {
+                    System.out.println("Error while building JSON " + ex.getLocalizedMessage());
+                }
+                return "[]";
+            }
+            return stringWriter.toString();
+        }
+
+        /**
+         * @return Extent of the located leq of all records [west, south, east, north], or null
+         */
+        @JavascriptInterface
+        public String getAllMeasurementBounds() {
+            double[] bounds = measurementManager.getLeqCellsBounds();
+            if(bounds == null) {
+                return "null";
+            }
+            return "[" + bounds[0] + "," + bounds[1] + "," + bounds[2] + "," + bounds[3] + "]";
+        }
+
+        private int openMeasurementData(int recordId, boolean warnNoLocation) {
             canceled.set(false);
-            long beginLoadContent = System.currentTimeMillis();
-            List<MeasurementManager.LeqBatch> measurements = measurementManager
-                    .getRecordLocations(selectedMeasurementRecordId, true, measureLimitation,
-                            new ReadRecordsProgression(activity, canceled),
-                            ignoreNewPointDistanceDelta);
-            if (measurements.isEmpty()) {
-                Toast.makeText(activity, activity.getText(R.string.no_gps_results), Toast
-                        .LENGTH_LONG).show();
+            MeasurementDataStream stream = new MeasurementDataStream(activity, measurementManager,
+                    recordId, measureLimitation, ignoreNewPointDistanceDelta, warnNoLocation,
+                    canceled, new ReadRecordsProgression(activity, canceled));
+            int streamId;
+            synchronized (streams) {
+                streamId = ++lastStreamId;
+                streams.put(streamId, stream);
             }
-            if (BuildConfig.DEBUG) {
-                System.out.println("Read data from db in " + (System.currentTimeMillis() -
-                        beginLoadContent) + " ms");
+            new Thread(stream, "MapDataReader").start();
+            return streamId;
+        }
+
+        /**
+         * Wait for the next page of the stream. The JavaScript side calls this method until the
+         * end of the stream, so that only a few pages of features are in memory at the same time.
+         * @param streamId Stream identifier
+         * @return GeoJSON feature array, or an empty string at the end of the stream
+         */
+        @JavascriptInterface
+        public String nextMeasurementData(int streamId) {
+            MeasurementDataStream stream;
+            synchronized (streams) {
+                stream = streams.get(streamId);
+            }
+            if(stream == null) {
+                return MeasurementDataStream.END;
+            }
+            String features = stream.next();
+            if(features.isEmpty()) {
+                synchronized (streams) {
+                    streams.remove(streamId);
+                }
             }
+            return features;
+        }
+    }
+
+    /**
+     * Read the GeoJSON features in a background thread. The pages of features wait in a bounded
+     * queue until the web page pulls them, then the reading of the database continues.
+     */
+    private static final class MeasurementDataStream implements Runnable,
+            MeasurementManager.PageVisitor {
+        static final String END = "";
+        // Number of pages waiting for the web page
+        private static final int QUEUE_CAPACITY = 4;
+        private final BlockingQueue<String> queue = new ArrayBlockingQueue<String>(QUEUE_CAPACITY);
+        private final AppCompatActivity activity;
+        private final MeasurementManager measurementManager;
+        private final int recordId;
+        private final int measureLimitation;
+        private final double ignoreNewPointDistanceDelta;
+        private final boolean warnNoLocation;
+        private final AtomicBoolean canceled;
+        private final MeasurementManager.ProgressionCallBack progressionCallBack;
+        private int featureCount = 0;
+        private long beginLoadContent;
+        private boolean ended = false;
+
+        MeasurementDataStream(AppCompatActivity activity, MeasurementManager measurementManager,
+                              int recordId, int measureLimitation,
+                              double ignoreNewPointDistanceDelta, boolean warnNoLocation,
+                              AtomicBoolean canceled,
+                              MeasurementManager.ProgressionCallBack progressionCallBack) {
+            this.activity = activity;
+            this.measurementManager = measurementManager;
+            this.recordId = recordId;
+            this.measureLimitation = measureLimitation;
+            this.ignoreNewPointDistanceDelta = ignoreNewPointDistanceDelta;
+            this.warnNoLocation = warnNoLocation;
+            this.canceled = canceled;
+            this.progressionCallBack = progressionCallBack;
+        }
+
+        @Override
+        public void run() {
+            beginLoadContent = System.currentTimeMillis();
+            try {
+                measurementManager.getRecordPages(recordId, true, measureLimitation,
+                        progressionCallBack, ignoreNewPointDistanceDelta,
+                        new MeasurementManager.LeqPage(MeasurementManager.DEFAULT_PAGE_SIZE), this);
+            } finally {
+                if(!put(END)) {
+                    // The web page does not read anymore, drop the pages
+                    queue.clear();
+                    queue.offer(END);
+                }
+            }
+        }
+
+        @Override
+        public boolean visit(MeasurementManager.LeqPage page) {
+            StringWriter stringWriter = new StringWriter();
+            JsonWriter writer = new JsonWriter(stringWriter);
+            MeasurementExport.LeqJSONWriter leqJSONWriter = new MeasurementExport.LeqJSONWriter(writer,
+                    false, false);
             try {
-                return MeasurementExport.recordsToGeoJSON(measurements, false, false).toString();
-            } catch (JSONException ex) {
+                writer.beginArray();
+                if(!leqJSONWriter.visit(page)) {
+                    return false;
+                }
+                writer.endArray();
+                writer.close();
+            } catch (IOException ex) {
                 if (BuildConfig.DEBUG) {
                     System.out.println("Error while building JSON " + ex.getLocalizedMessage());
                 }
-                return new JSONArray().toString();
+                return false;
             }
+            if(leqJSONWriter.getFeatureCount() == 0) {
+                return true;
+            }
+            featureCount += leqJSONWriter.getFeatureCount();
+            return put(stringWriter.toString());
         }
 
-        @JavascriptInterface
-        public String getAllMeasurementData() {
-            canceled.set(false);
-            long beginLoadContent = System.currentTimeMillis();
-            List<MeasurementManager.LeqBatch> measurements = measurementManager
-                    .getRecordLocations(-1 , true, measureLimitation, new ReadRecordsProgression
-                            (activity, canceled),
-                            ignoreNewPointDistanceDelta);
-            if(BuildConfig.DEBUG) {
-                System.out.println("Read data from db in "+(System.currentTimeMillis() - beginLoadContent)+" ms");
+        /**
+         * Wait for a free place in the queue
+         * @return False if the loading has been canceled
+         */
+        private boolean put(String features) {
+            try {
+                while (!canceled.get()) {
+                    if (queue.offer(features, 100, TimeUnit.MILLISECONDS)) {
+                        return true;
+                    }
+                }
+            } catch (InterruptedException ex) {
+                // Stop reading
             }
+            return false;
+        }
+
+        /**
+         * @return Next page of GeoJSON features, or {@link #END}
+         */
+        String next() {
+            if(ended) {
+                return END;
+            }
+            String features;
             try {
-                return MeasurementExport.recordsToGeoJSON(measurements, false, false).toString();
-            } catch (JSONException ex) {
-                if(BuildConfig.DEBUG) {
-                    System.out.println("Error while building JSON "+ex.getLocalizedMessage());
+                features = queue.take();
+            } catch (InterruptedException ex) {
+                features = END;
+            }
+            if(features.isEmpty()) {
+                ended = true;
+                if (warnNoLocation && featureCount == 0) {
+                    activity.runOnUiThread(new Runnable() {
+                        @Override
+                        public void run() {
+                            Toast.makeText(activity, activity.getText(R.string.no_gps_results),
+                                    Toast.LENGTH_LONG).show();
+                        }
+                    });
+                }
+                if (BuildConfig.DEBUG) {
+                    System.out.println("Read data from db in " + (System.currentTimeMillis() -
+                            beginLoadContent) + " ms");
                 }
-                return new JSONArray().toString();
             }
+            return features;
         }
     }
 
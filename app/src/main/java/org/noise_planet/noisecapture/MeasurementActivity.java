@@ -125,6 +125,7 @@ public class MeasurementActivity extends MainActivity implements
 
     private static final String LOG_SCALE_SETTING = "settings_spectrogram_logscalemode";
     private static final String DELETE_LEQ_ON_PAUSE_SETTING = "settings_delete_leq_on_pause";
+    private static final String CHUNKED_STORAGE_SETTING = "settings_chunked_storage";
     private static final String HAS_MAXIMAL_MEASURE_TIME_SETTING = "settings_recording";
     private static final String MAXIMAL_MEASURE_TIME_SETTING = "settings_recording_duration";
     private static final String SETTINGS_MEASUREMENT_DISPLAY_WINDOW = "settings_measurement_display_window";
@@ -207,6 +208,8 @@ public class MeasurementActivity extends MainActivity implements
             }
         } else if(DELETE_LEQ_ON_PAUSE_SETTING.equals(key)) {
             measurementService.setDeletedLeqOnPause(getInteger(sharedPreferences,key, DEFAULT_DELETE_LEQ_ON_PAUSE));
+        } else if(CHUNKED_STORAGE_SETTING.equals(key)) {
+            measurementService.setChunkedStorage(sharedPreferences.getBoolean(key, false));
         } else if(HAS_MAXIMAL_MEASURE_TIME_SETTING.equals(key)) {
             hasMaximalMeasurementTime = sharedPreferences.getBoolean(HAS_MAXIMAL_MEASURE_TIME_SETTING,
                     false);
@@ -335,7 +338,8 @@ public class MeasurementActivity extends MainActivity implements
     private View.OnClickListener onButtonPause = new View.OnClickListener() {
         @Override
         public void onClick(View view) {
-            // Stop measurement without waiting for the end of processing
+            // Stop measurement without waiting for the end of processing, the database is
+            // updated in background
             measurementService.setPause(!measurementService.isPaused());
             chronometerWaitingToStart.set(true);
             MeasurementActivity.this.runOnUiThread(new UpdateText(MeasurementActivity.this));
@@ -639,6 +643,11 @@ public class MeasurementActivity extends MainActivity implements
                     });
                 }
             }
+            else if(MeasurementService.PROP_PAUSE_APPLIED.equals(event.getPropertyName())) {
+                // The leq recorded before the pause may have been removed
+                activity.chronometerWaitingToStart.set(true);
+                activity.runOnUiThread(new UpdateText(activity));
+            }
             else if(MeasurementService.PROP_NEW_MEASUREMENT.equals(event.getPropertyName())) {
                 if(BuildConfig.DEBUG) {
                     System.out.println("Measure offset "+activity.measurementService.getAudioProcess().getFastNotProcessedMilliseconds()+" ms");
@@ -825,6 +834,7 @@ public class MeasurementActivity extends MainActivity implements
             SharedPreferences sharedPref = PreferenceManager.getDefaultSharedPreferences(MeasurementActivity.this);
             measurementService.setDeletedLeqOnPause(getInteger(sharedPref,MeasurementActivity.DELETE_LEQ_ON_PAUSE_SETTING,
                             MeasurementActivity.DEFAULT_DELETE_LEQ_ON_PAUSE));
+            measurementService.setChunkedStorage(sharedPref.getBoolean(CHUNKED_STORAGE_SETTING, false));
             measurementService.setdBGain(
                     getDouble(sharedPref,"settings_recording_gain", 0), getInteger(sharedPref, "settings_calibration_method", 0));
             // Init gui if recording is ongoing
@@ -35,9 +35,6 @@ import android.os.Build;
 import android.preference.PreferenceManager;
 import android.util.JsonWriter;
 
-import org.json.JSONArray;
-import org.json.JSONException;
-import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -45,8 +42,6 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import java.util.Properties;
@@ -126,82 +121,17 @@ public class MeasurementExport {
     }
 
     /**
-     * Convert list of measurements into GeoJSON feature array
-     * @param records Measurements array
+     * Write a measurement as a GeoJSON feature
+     * @param page Page of measurements
+     * @param row Row of the measurement in the page
+     * @param writer Output of the feature
      * @param outputNullGeometry If true empty geometry are exported (accuracy <= 0)
      * @param fullProperties If false only the mean LAeq are written, otherwise all available data are written.
-     * @return An array of GeoJSON feature objects.
-     * @throws JSONException
-     */
-    public static JSONArray recordsToGeoJSON(List<MeasurementManager.LeqBatch> records, boolean outputNullGeometry, boolean fullProperties) throws JSONException {
-        List<JSONObject> features = new ArrayList<>(records.size());
-        for (MeasurementManager.LeqBatch entry : records) {
-            Storage.Leq leq = entry.getLeq();
-            if(!outputNullGeometry && !(leq.getAccuracy() > 0)) {
-                continue;
-            }
-            JSONObject feature = new JSONObject();
-            feature.put("type", "Feature");
-
-            if (leq.getAccuracy() > 0) {
-                // Add coordinate
-                JSONObject point = new JSONObject();
-                point.put("type", "Point");
-                if(leq.getAltitude() != null && !Double.isNaN(leq.getAltitude())) {
-                    point.put("coordinates", new JSONArray(Arrays.asList(
-                            boundValue(leq.getLongitude(), -180.d, 180.d),
-                            boundValue(leq.getLatitude(), -90.d, 90.d),
-                            boundValue(leq.getAltitude(), -1000.d, 30000.d))));
-                } else {
-                    point.put("coordinates", new JSONArray(Arrays.asList(
-                            boundValue(leq.getLongitude(), -180.d, 180.d),
-                            boundValue(leq.getLatitude(), -90.d, 90.d))));
-                }
-                feature.put("geometry", point);
-            } else {
-                feature.put("geometry", JSONObject.NULL);
-            }
-
-            // Add properties
-            JSONObject featureProperties = new JSONObject();
-            double lAeq = entry.computeGlobalLeq();
-            featureProperties.put(Storage.Record.COLUMN_LEQ_MEAN, boundValue(Float.valueOf((float) lAeq), 0, 150));
-            //marker-color tag for geojson.io and leaflet map
-            featureProperties.put("marker-color", getColorFromLevel(lAeq));
-            if (fullProperties) {
-                featureProperties.put(Storage.Leq.COLUMN_ACCURACY,
-                        boundValue(leq.getAccuracy(), -99.f, 20000.f));
-                featureProperties.put(Storage.Leq.COLUMN_LOCATION_UTC, leq.getLocationUTC());
-                featureProperties.put(Storage.Leq.COLUMN_LEQ_UTC, leq.getLeqUtc());
-                featureProperties.put(Storage.Leq.COLUMN_LEQ_ID, leq.getLeqId());
-                if (leq.getBearing() != null) {
-                    featureProperties.put(Storage.Leq.COLUMN_BEARING, boundValue(leq.getBearing(), 0, 360));
-                }
-                if (leq.getSpeed() != null) {
-                    featureProperties.put(Storage.Leq.COLUMN_SPEED, boundValue(leq.getSpeed(), 0, 1200));
-                }
-                for (Storage.LeqValue leqValue : entry.getLeqValues()) {
-                    featureProperties.put("leq_" + leqValue.getFrequency(),
-                            boundValue(leqValue.getSpl(),0,150 ));
-                }
-            }
-            feature.put("properties", featureProperties);
-            features.add(feature);
-        }
-        return new JSONArray(features);
-    }
-
-
-    /**
-     * Convert list of measurements into GeoJSON feature array
-     * @param outputNullGeometry If true empty geometry are exported (accuracy <= 0)
-     * @param fullProperties If false only the mean LAeq are written, otherwise all available data are written.
-     * @return An array of GeoJSON feature objects.
-     * @throws JSONException
+     * @throws IOException output error
      */
-    public static void recordToGeoJSON(MeasurementManager.LeqBatch entry, JsonWriter writer , boolean outputNullGeometry, boolean fullProperties) throws IOException {
-            Storage.Leq leq = entry.getLeq();
-            if(!outputNullGeometry && !(leq.getAccuracy() > 0)) {
+    public static void recordToGeoJSON(MeasurementManager.LeqPage page, int row, JsonWriter writer, boolean outputNullGeometry, boolean fullProperties) throws IOException {
+            final float accuracy = page.getAccuracy()[row];
+            if(!outputNullGeometry && !(accuracy > 0)) {
                 return;
             }
             writer.beginObject();
@@ -209,20 +139,17 @@ public class MeasurementExport {
             writer.value("Feature");
 
             writer.name("geometry");
-            if (leq.getAccuracy() > 0) {
+            if (accuracy > 0) {
                 writer.beginObject();
                 writer.name("type");
                 writer.value("Point");
                 // Add coordinate
                 writer.name("coordinates");
                 writer.beginArray();
-                if(leq.getAltitude() != null && !Double.isNaN(leq.getAltitude())) {
-                    writer.value(boundValue(leq.getLongitude(), -180.d, 180.d));
-                    writer.value(boundValue(leq.getLatitude(), -90.d, 90.d));
-                    writer.value(boundValue(leq.getAltitude(), -1000.d, 30000.d));
-                } else {
-                    writer.value(boundValue(leq.getLongitude(), -180.d, 180.d));
-                    writer.value(boundValue(leq.getLatitude(), -90.d, 90.d));
+                writer.value(boundValue(page.getLongitude()[row], -180.d, 180.d));
+                writer.value(boundValue(page.getLatitude()[row], -90.d, 90.d));
+                if(!Double.isNaN(page.getAltitude()[row])) {
+                    writer.value(boundValue(page.getAltitude()[row], -1000.d, 30000.d));
                 }
                 writer.endArray();
                 writer.endObject();
@@ -234,7 +161,7 @@ public class MeasurementExport {
             writer.name("properties");
             writer.beginObject(); // begin properties
 
-            double lAeq = entry.computeGlobalLeq();
+            double lAeq = page.computeGlobalLeq(row);
             writer.name(Storage.Record.COLUMN_LEQ_MEAN);
             writer.value(boundValue((float) lAeq, 0, 150));
             writer.name("marker-color");
@@ -242,24 +169,28 @@ public class MeasurementExport {
             //marker-color tag for geojson.io and leaflet map
             if (fullProperties) {
                 writer.name(Storage.Leq.COLUMN_ACCURACY);
-                writer.value(boundValue(leq.getAccuracy(), -99.f, 20000.f));
+                writer.value(boundValue(accuracy, -99.f, 20000.f));
                 writer.name(Storage.Leq.COLUMN_LOCATION_UTC);
-                writer.value(leq.getLocationUTC());
+                writer.value(page.getLocationUtc()[row]);
                 writer.name(Storage.Leq.COLUMN_LEQ_UTC);
-                writer.value(leq.getLeqUtc());
+                writer.value(page.getLeqUtc()[row]);
                 writer.name(Storage.Leq.COLUMN_LEQ_ID);
-                writer.value(leq.getLeqId());
-                if (leq.getBearing() != null) {
+                writer.value(page.getLeqId()[row]);
+                if (!Float.isNaN(page.getBearing()[row])) {
                     writer.name(Storage.Leq.COLUMN_BEARING);
-                    writer.value(boundValue(leq.getBearing(), 0, 360));
+                    writer.value(boundValue(page.getBearing()[row], 0, 360));
                 }
-                if (leq.getSpeed() != null) {
+                if (!Float.isNaN(page.getSpeed()[row])) {
                     writer.name(Storage.Leq.COLUMN_SPEED);
-                    writer.value(boundValue(leq.getSpeed(), 0, 1200));
+                    writer.value(boundValue(page.getSpeed()[row], 0, 1200));
                 }
-                for (Storage.LeqValue leqValue : entry.getLeqValues()) {
-                    writer.name("leq_" + leqValue.getFrequency());
-                    writer.value(boundValue(leqValue.getSpl(),0,150 ));
+                float[] spectrum = page.getSpectrum()[row];
+                double[] frequencies = AudioProcess.realTimeCenterFrequency;
+                for (int idFreq = 0; idFreq < spectrum.length; idFreq++) {
+                    if(!Float.isNaN(spectrum[idFreq])) {
+                        writer.name("leq_" + (int) frequencies[idFreq]);
+                        writer.value(boundValue(spectrum[idFreq], 0, 150));
+                    }
                 }
             }
             writer.endObject(); // end properties
@@ -335,8 +266,9 @@ public class MeasurementExport {
             main.value("FeatureCollection");
             main.name("features"); // "features": [
             main.beginArray();
-            LeqJSONWriter leqJSONWriter = new LeqJSONWriter(main);
-            measurementManager.getRecordLocations(recordId, leqJSONWriter);
+            LeqJSONWriter leqJSONWriter = new LeqJSONWriter(main, true, true);
+            measurementManager.getRecordPages(recordId, false, 0, null, null,
+                    new MeasurementManager.LeqPage(MeasurementManager.DEFAULT_PAGE_SIZE), leqJSONWriter);
             main.endArray();
             main.endObject(); // }
             main.flush();
@@ -354,31 +286,43 @@ public class MeasurementExport {
         }
     }
 
-    public static class LeqJSONWriter implements MeasurementManager.RecordVisitor<MeasurementManager.LeqBatch> {
+    /**
+     * Write the pages of measurements as GeoJSON features
+     */
+    public static class LeqJSONWriter implements MeasurementManager.PageVisitor {
         JsonWriter main;
+        boolean outputNullGeometry;
+        boolean fullProperties;
+        int featureCount = 0;
 
-        LeqJSONWriter(JsonWriter main) {
+        LeqJSONWriter(JsonWriter main, boolean outputNullGeometry, boolean fullProperties) {
             this.main = main;
+            this.outputNullGeometry = outputNullGeometry;
+            this.fullProperties = fullProperties;
         }
 
         @Override
-        public void onCreateCursor(int recordCount) {
-
-        }
-
-        @Override
-        public boolean next(MeasurementManager.LeqBatch record) {
+        public boolean visit(MeasurementManager.LeqPage page) {
             try {
-                MeasurementExport.recordToGeoJSON(record, main, true, true);
+                for(int row = 0; row < page.getSize(); row++) {
+                    if(outputNullGeometry || page.getAccuracy()[row] > 0) {
+                        MeasurementExport.recordToGeoJSON(page, row, main, outputNullGeometry, fullProperties);
+                        featureCount++;
+                    }
+                }
             } catch (IOException ex) {
-                // Ignore
+                // Stop reading, the output is not writable
                 LOGGER.error("Error while writing JSON", ex);
+                return false;
             }
             return true;
         }
 
-        public void closeItems() {
-
+        /**
+         * @return Number of written features
+         */
+        public int getFeatureCount() {
+            return featureCount;
         }
     }
 }
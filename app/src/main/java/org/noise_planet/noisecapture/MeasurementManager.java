@@ -38,25 +38,31 @@ import android.database.sqlite.SQLiteStatement;
 import android.location.Location;
 import android.net.Uri;
 
+import org.orbisgis.sos.DecibelConversion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.StringTokenizer;
 
 /**
  * Add, remove and list all measures using android private storage.
  */
 public class MeasurementManager {
     private Storage storage;
+    // Leq of the long records
+    private final RecordChunkStore recordChunkStore;
     private static final Logger LOGGER = LoggerFactory.getLogger(MeasurementManager.class);
+    // Default number of leq in a page of getRecordPages
+    public static final int DEFAULT_PAGE_SIZE = 256;
 
     public MeasurementManager(Context context) {
         this.storage = new Storage(context);
         // Connect to local database
+        this.recordChunkStore = RecordChunkStore.getInstance(context);
     }
 
     /**
@@ -161,26 +167,61 @@ public class MeasurementManager {
      * @param recordId Record identifier
      */
     public void deleteRecord(int recordId) {
-        SQLiteDatabase database = storage.getWritableDatabase();
-        try {
-            database.delete(Storage.Record.TABLE_NAME, Storage.Record.COLUMN_ID + " = ?",
-                    new String[]{String.valueOf(recordId)});
-        } finally {
-            database.close();
-        }
+        deleteRecords(Collections.singletonList(recordId));
     }
 
     public int deleteLastLeqs(int recordId, long fromTimestamp) {
-        SQLiteDatabase database = storage.getWritableDatabase();
-        try {
-            return database.delete(Storage.Leq.TABLE_NAME,  Storage.Leq.COLUMN_RECORD_ID +
-                    " = ? AND "+ Storage.Leq.COLUMN_LEQ_UTC + " > ?",
-                    new String[]{String.valueOf(recordId), String.valueOf(fromTimestamp)});
-        } finally {
-            database.close();
+        synchronized (LeqTileIndex.WRITE_LOCK) {
+            LeqTileIndex leqTileIndex = new LeqTileIndex();
+            removeLeqTiles(recordId, fromTimestamp, leqTileIndex);
+            int deletedLeq = 0;
+            if(recordChunkStore.hasChunks(recordId)) {
+                try {
+                    deletedLeq = recordChunkStore.deleteAfter(recordId, fromTimestamp);
+                } catch (IOException ex) {
+                    LOGGER.error(ex.getLocalizedMessage(), ex);
+                    return 0;
+                }
+            }
+            SQLiteDatabase database = storage.getWritableDatabase();
+            try {
+                database.beginTransaction();
+                try {
+                    leqTileIndex.apply(database);
+                    deletedLeq += database.delete(Storage.Leq.TABLE_NAME,  Storage.Leq.COLUMN_RECORD_ID +
+                            " = ? AND "+ Storage.Leq.COLUMN_LEQ_UTC + " > ?",
+                            new String[]{String.valueOf(recordId), String.valueOf(fromTimestamp)});
+                    database.setTransactionSuccessful();
+                } finally {
+                    database.endTransaction();
+                }
+                return deletedLeq;
+            } finally {
+                database.close();
+            }
         }
     }
 
+    /**
+     * Remove the last located leq of a record from the map cells, only these leq are read
+     * @param recordId Record identifier
+     * @param fromTimestamp Only the leq with a strictly greater time are removed
+     * @param leqTileIndex Changes of the map cells
+     */
+    private void removeLeqTiles(int recordId, long fromTimestamp, final LeqTileIndex leqTileIndex) {
+        getRecordPages(recordId, fromTimestamp + 1, true, 0, null, null, new LeqPage(DEFAULT_PAGE_SIZE),
+                new PageVisitor() {
+            @Override
+            public boolean visit(LeqPage page) {
+                for(int row = 0; row < page.getSize(); row++) {
+                    leqTileIndex.add(page.getRecordId()[row], page.getLatitude()[row],
+                            page.getLongitude()[row], page.getSpectrum()[row], -1);
+                }
+                return true;
+            }
+        });
+    }
+
     /**
      * Delete all data associated with a record
      * @param recordIds Record identifiers
@@ -196,10 +237,110 @@ public class MeasurementManager {
             }
             param.append("?");
         }
-        SQLiteDatabase database = storage.getWritableDatabase();
+        synchronized (LeqTileIndex.WRITE_LOCK) {
+            for(int recordId : recordIds) {
+                recordChunkStore.deleteRecord(recordId);
+            }
+            SQLiteDatabase database = storage.getWritableDatabase();
+            try {
+                database.beginTransaction();
+                try {
+                    // Subtract the cells of the records, their leq are not read
+                    LeqTileIndex leqTileIndex = new LeqTileIndex();
+                    for(int recordId : recordIds) {
+                        leqTileIndex.removeRecord(database, recordId);
+                    }
+                    leqTileIndex.apply(database);
+                    database.delete(Storage.Record.TABLE_NAME, Storage.Record.COLUMN_ID +
+                                    " IN ("+param.toString()+")", paramValue);
+                    database.setTransactionSuccessful();
+                } finally {
+                    database.endTransaction();
+                }
+            } finally {
+                database.close();
+            }
+        }
+    }
+
+    /**
+     * Fetch the located leq aggregated by map cell
+     * @param zoom Map zoom level
+     * @param west Minimal longitude of the area
+     * @param south Minimal latitude of the area
+     * @param east Maximal longitude of the area
+     * @param north Maximal latitude of the area
+     * @return Cells of the area
+     */
+    public List<LeqTileIndex.Cell> getLeqCells(int zoom, double west, double south, double east,
+                                               double north) {
+        rebuildLeqTileIndexIfRequired();
+        SQLiteDatabase database = storage.getReadableDatabase();
+        try {
+            return LeqTileIndex.getCells(database, zoom, west, south, east, north);
+        } finally {
+            database.close();
+        }
+    }
+
+    /**
+     * @return Extent of all the located leq [west, south, east, north], null if there is none
+     */
+    public double[] getLeqCellsBounds() {
+        rebuildLeqTileIndexIfRequired();
+        SQLiteDatabase database = storage.getReadableDatabase();
+        try {
+            return LeqTileIndex.getBounds(database);
+        } finally {
+            database.close();
+        }
+    }
+
+    /**
+     * Aggregate all the stored leq if the database upgrade has created the map cells. The leq
+     * writers wait for the end of the aggregation.
+     */
+    private void rebuildLeqTileIndexIfRequired() {
+        if(!isLeqTileIndexRebuildRequired()) {
+            return;
+        }
+        synchronized (LeqTileIndex.WRITE_LOCK) {
+            // May have been done by another thread while waiting for the lock
+            if(!isLeqTileIndexRebuildRequired()) {
+                return;
+            }
+            final LeqTileIndex leqTileIndex = new LeqTileIndex();
+            getRecordPages(-1, true, 0, null, null, new LeqPage(DEFAULT_PAGE_SIZE), new PageVisitor() {
+                @Override
+                public boolean visit(LeqPage page) {
+                    for(int row = 0; row < page.getSize(); row++) {
+                        leqTileIndex.add(page.getRecordId()[row], page.getLatitude()[row],
+                                page.getLongitude()[row], page.getSpectrum()[row], 1);
+                    }
+                    return true;
+                }
+            });
+            SQLiteDatabase database = storage.getWritableDatabase();
+            try {
+                database.beginTransaction();
+                try {
+                    database.delete(Storage.LeqTile.TABLE_NAME, null, null);
+                    database.delete(Storage.LeqTileRecord.TABLE_NAME, null, null);
+                    leqTileIndex.apply(database);
+                    database.setTransactionSuccessful();
+                } finally {
+                    database.endTransaction();
+                }
+            } finally {
+                database.close();
+            }
+        }
+    }
+
+    private boolean isLeqTileIndexRebuildRequired() {
+        SQLiteDatabase database = storage.getReadableDatabase();
         try {
-            database.delete(Storage.Record.TABLE_NAME, Storage.Record.COLUMN_ID +
-                            " IN ("+param.toString()+")", paramValue);
+            return LeqTileIndex.isRebuildRequired(database);
         } finally {
             database.close();
         }
@@ -233,7 +374,7 @@ public class MeasurementManager {
      * @param leqs Leq value by time and frequency in the same order of frequency list
      * @return True if recordId has been found
      */
-    public boolean getRecordLeqs(int recordId, List<Integer> frequency, List<Float[]> leqs, ProgressionCallBack progressionCallBack) {
+    public boolean getRecordLeqs(int recordId, List<Integer> frequency, List<float[]> leqs, ProgressionCallBack progressionCallBack) {
         if(progressionCallBack != null) {
             progressionCallBack.onCreateCursor(getRecord(recordId).getTimeLength());
         }
@@ -241,35 +382,20 @@ public class MeasurementManager {
         for(double freq : frequencies) {
             frequency.add((int)freq);
         }
+        if(recordChunkStore.hasChunks(recordId)) {
+            return getChunkRecordLeqs(recordId, leqs, progressionCallBack);
+        }
         SQLiteDatabase database = storage.getReadableDatabase();
         try {
-            Cursor cursor = database.rawQuery("SELECT L." + Storage.Leq.COLUMN_LEQ_ID + ", " +
-                    "GROUP_CONCAT(LV." + Storage.LeqValue.COLUMN_SPL +
-                    ") leq_array FROM " + Storage.Leq.TABLE_NAME + " L, " + Storage.LeqValue
-                    .TABLE_NAME +
-                    " LV WHERE L." + Storage.Leq.COLUMN_RECORD_ID + " = ? AND L." +
-                    Storage.Leq.COLUMN_LEQ_ID + " = LV." + Storage.LeqValue.COLUMN_LEQ_ID +
-                    " GROUP BY L." + Storage.Leq.COLUMN_LEQ_ID + " ORDER BY L." + Storage.Leq
-                    .COLUMN_LEQ_ID + ", " +
-                    Storage.LeqValue.COLUMN_FREQUENCY, new String[]{String.valueOf(recordId)});
+            Cursor cursor = database.rawQuery("SELECT " + Storage.Leq.COLUMN_SPECTRUM + " FROM " +
+                    Storage.Leq.TABLE_NAME + " WHERE " + Storage.Leq.COLUMN_RECORD_ID + " = ? AND " +
+                    Storage.Leq.COLUMN_SPECTRUM + " IS NOT NULL ORDER BY " + Storage.Leq.COLUMN_LEQ_ID,
+                    new String[]{String.valueOf(recordId)});
             try {
-                int leqArrayIndex = cursor.getColumnIndex("leq_array");
                 boolean foundLeq = false;
                 while (cursor.moveToNext()) {
                     foundLeq = true;
-                    String leqStringArray = cursor.getString(leqArrayIndex);
-                    StringTokenizer stringTokenizer = new StringTokenizer(leqStringArray, ",");
-                    Float[] leqArray = new Float[stringTokenizer.countTokens()];
-                    int i = 0;
-                    while (stringTokenizer.hasMoreTokens()) {
-                        try {
-                            leqArray[i] = Float.valueOf(stringTokenizer.nextToken());
-                        } catch (NumberFormatException ex) {
-                            leqArray[i] = Float.MIN_VALUE;
-                        }
-                        i++;
-                    }
-                    leqs.add(leqArray);
+                    leqs.add(Storage.Leq.unpackSpectrum(cursor.getBlob(0)));
                     if(progressionCallBack != null) {
                         if(!progressionCallBack.onCursorNext()) {
                             break;
@@ -288,6 +414,34 @@ public class MeasurementManager {
         }
     }
 
+    private boolean getChunkRecordLeqs(int recordId, final List<float[]> leqs,
+                                       final ProgressionCallBack progressionCallBack) {
+        final int leqCount = leqs.size();
+        try {
+            recordChunkStore.visit(recordId, Long.MIN_VALUE, Long.MAX_VALUE, new RecordChunkStore.ChunkVisitor() {
+                @Override
+                public boolean visit(RecordChunkStore.Chunk chunk, int from, int to) {
+                    for(int row = from; row < to; row++) {
+                        float[] spectrum = new float[chunk.getBandCount()];
+                        chunk.getSpectrum(row, spectrum);
+                        leqs.add(spectrum);
+                        if(progressionCallBack != null && !progressionCallBack.onCursorNext()) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }
+            });
+        } catch (IOException ex) {
+            LOGGER.error(ex.getLocalizedMessage(), ex);
+        } finally {
+            if(progressionCallBack != null) {
+                progressionCallBack.onDeleteCursor();
+            }
+        }
+        return leqs.size() > leqCount;
+    }
+
     /**
      * Fetch all leq that hold a coordinate
      * @param recordId Record identifier, -1 for all
@@ -305,7 +459,30 @@ public class MeasurementManager {
      * @param maxAccuracy ignore measurements with
      * @return
      */
-    public double[] getRecordCenterPosition(int recordId, double maxAccuracy) {
+    public double[] getRecordCenterPosition(int recordId, final double maxAccuracy) {
+        if(recordChunkStore.hasChunks(recordId)) {
+            // Sum of latitude, longitude and count
+            final double[] sum = new double[3];
+            try {
+                recordChunkStore.visit(recordId, Long.MIN_VALUE, Long.MAX_VALUE, new RecordChunkStore.ChunkVisitor() {
+                    @Override
+                    public boolean visit(RecordChunkStore.Chunk chunk, int from, int to) {
+                        for(int row = from; row < to; row++) {
+                            float accuracy = chunk.getAccuracy(row);
+                            if(accuracy >= 1 && accuracy <= maxAccuracy) {
+                                sum[0] += chunk.getLatitude(row);
+                                sum[1] += chunk.getLongitude(row);
+                                sum[2]++;
+                            }
+                        }
+                        return true;
+                    }
+                });
+            } catch (IOException ex) {
+                LOGGER.error(ex.getLocalizedMessage(), ex);
+            }
+            return sum[2] > 0 ? new double[]{sum[0] / sum[2], sum[1] / sum[2]} : null;
+        }
         SQLiteDatabase database = storage.getReadableDatabase();
         Cursor cursor = database.rawQuery("SELECT AVG(" +
                 Storage.Leq.COLUMN_LATITUDE + ") LATAVG, AVG(" +
@@ -334,10 +511,17 @@ public class MeasurementManager {
 
 
     public int getRecordLocationsCount(int recordId, boolean withCoordinatesOnly) {
+        int chunkLocations = 0;
+        if(recordId >= 0) {
+            if(recordChunkStore.hasChunks(recordId)) {
+                return getChunkLocationsCount(recordId, withCoordinatesOnly);
+            }
+        } else {
+            for(int chunkRecordId : recordChunkStore.getRecordIds()) {
+                chunkLocations += getChunkLocationsCount(chunkRecordId, withCoordinatesOnly);
+            }
+        }
         SQLiteDatabase database = storage.getReadableDatabase();
-        double[] lastLatLng = null;
-        // Divide number, ex 2 will take half of the measurement (only odd leq_id numbers)
-        String divMod = "1";
         // Count the number of stored locations
         Cursor cursor;
         if (recordId >= 0) {
@@ -352,12 +536,36 @@ public class MeasurementManager {
         }
         try {
             if (cursor.moveToNext()) {
-                return cursor.getInt(0);
+                return chunkLocations + cursor.getInt(0);
             }
         } finally {
             cursor.close();
         }
-        return 0;
+        return chunkLocations;
+    }
+
+    private int getChunkLocationsCount(int recordId, final boolean withCoordinatesOnly) {
+        final int[] count = new int[1];
+        try {
+            recordChunkStore.visit(recordId, Long.MIN_VALUE, Long.MAX_VALUE, new RecordChunkStore.ChunkVisitor() {
+                @Override
+                public boolean visit(RecordChunkStore.Chunk chunk, int from, int to) {
+                    if(!withCoordinatesOnly) {
+                        count[0] += to - from;
+                    } else {
+                        for(int row = from; row < to; row++) {
+                            if(chunk.getAccuracy(row) > 0) {
+                                count[0]++;
+                            }
+                        }
+                    }
+                    return true;
+                }
+            });
+        } catch (IOException ex) {
+            LOGGER.error(ex.getLocalizedMessage(), ex);
+        }
+        return count[0];
     }
 
 
@@ -367,70 +575,28 @@ public class MeasurementManager {
      * @param recordId Record identifier, -1 for all
      * @param recordVisitor Visitor of records
      */
-    public void getRecordLocations(int recordId, RecordVisitor<LeqBatch> recordVisitor) {
-        SQLiteDatabase database = storage.getReadableDatabase();
-        double[] lastLatLng = null;
+    public void getRecordLocations(final int recordId, final RecordVisitor<LeqBatch> recordVisitor) {
         recordVisitor.onCreateCursor(getRecordLocationsCount(recordId, false));
-        try {
-            Cursor cursor;
-            cursor = database.rawQuery("SELECT "+Storage.Leq.getAllFields("L.")+", GROUP_CONCAT(LV." + Storage.LeqValue
-                    .COLUMN_SPL +
-                    ") leq_array FROM " + Storage.Leq.TABLE_NAME + " L, " + Storage.LeqValue
-                    .TABLE_NAME +
-                    " LV WHERE L." + Storage.Leq.COLUMN_RECORD_ID + " = ? AND L." +
-                    Storage.Leq.COLUMN_LEQ_ID + " = LV." + Storage.LeqValue.COLUMN_LEQ_ID +
-                    " GROUP BY "+Storage.Leq.getAllFields("L.")+" ORDER BY L." +
-                    Storage.Leq.COLUMN_LEQ_ID + ", " +
-                    Storage.LeqValue.COLUMN_FREQUENCY, new String[]{String.valueOf(recordId)});
-
-            try {
-                int lastId = -1;
-                int lastRecordId = -1;
-                LeqBatch lastLeq = null;
-                int leqArrayIndex = cursor.getColumnIndex("leq_array");
-                while (cursor.moveToNext()) {
-                    int cursorRecordId = cursor.getInt(cursor.getColumnIndex(Storage.Leq.COLUMN_RECORD_ID));
-                    if(cursorRecordId != lastRecordId) {
-                        lastRecordId = cursorRecordId;
-                    }
-                    if(lastId != -1) {
-                        // All frequencies for the current measurement are parsed
-                        if(!recordVisitor.next(lastLeq)) {
-                            lastLeq = null;
-                            break;
-                        }
-                        lastLeq = null;
-                    }
-                    if(lastLeq == null) {
-                        lastLeq = new LeqBatch(new Storage.Leq(cursor));
-                        lastId = lastLeq.getLeq().getLeqId();
-                    }
-                    String leqStringArray = cursor.getString(leqArrayIndex);
-                    StringTokenizer stringTokenizer = new StringTokenizer(leqStringArray, ",");
-                    int i = 0;
-                    while (stringTokenizer.hasMoreTokens()) {
-                        try {
-                            String leqValueString = stringTokenizer.nextToken();
-                            if(!leqValueString.isEmpty()) {
-                                Storage.LeqValue leqValue = new Storage.LeqValue(lastId,
-                                        (int) AudioProcess.realTimeCenterFrequency[i++],
-                                        Float.valueOf(leqValueString));
-                                lastLeq.addLeqValue(leqValue);
-                            }
-                        } catch (NumberFormatException ex) {
-                            // Could not read record value, skip
-                        }
+        getRecordPages(recordId, false, 0, null, null, new LeqPage(DEFAULT_PAGE_SIZE), new PageVisitor() {
+            @Override
+            public boolean visit(LeqPage page) {
+                for(int row = 0; row < page.getSize(); row++) {
+                    if(!recordVisitor.next(page.getLeqBatch(row))) {
+                        return false;
                     }
                 }
-                // Add last leq
-                if(lastLeq != null) {
-                    recordVisitor.next(lastLeq);
-                }
-            } finally {
-                cursor.close();
+                return true;
+            }
+        });
+    }
+
+    private static void addLeqValues(LeqBatch leqBatch, float[] spectrum) {
+        int leqId = leqBatch.getLeq().getLeqId();
+        double[] frequencies = AudioProcess.realTimeCenterFrequency;
+        for(int i = 0; i < spectrum.length && i < frequencies.length; i++) {
+            if(!Float.isNaN(spectrum[i])) {
+                leqBatch.addLeqValue(new Storage.LeqValue(leqId, (int) frequencies[i], spectrum[i]));
             }
-        } finally {
-            database.close();
         }
     }
 
@@ -442,124 +608,164 @@ public class MeasurementManager {
      * @param limitation Extract up to limitation point
      */
     public List<LeqBatch> getRecordLocations(int recordId, boolean withCoordinatesOnly, int limitation, ProgressionCallBack progressionCallBack, Double minDistance) {
-        SQLiteDatabase database = storage.getReadableDatabase();
-        double[] lastLatLng = null;
+        final List<LeqBatch> leqBatches = new ArrayList<LeqBatch>();
+        getRecordPages(recordId, withCoordinatesOnly, limitation, progressionCallBack, minDistance,
+                new LeqPage(DEFAULT_PAGE_SIZE), new PageVisitor() {
+                    @Override
+                    public boolean visit(LeqPage page) {
+                        for(int row = 0; row < page.getSize(); row++) {
+                            leqBatches.add(page.getLeqBatch(row));
+                        }
+                        return true;
+                    }
+                });
+        return leqBatches;
+    }
+
+    /**
+     * Read the leq into the column buffers of a page. The page is given to the visitor each time it
+     * is full, then its content is overwritten by the next leq.
+     * @param recordId Record identifier, -1 for all
+     * @param withCoordinatesOnly Do not extract leq that does not contain a coordinate
+     * @param limitation Extract up to limitation point, 0 for all
+     * @param progressionCallBack Progression of the reading, may be null
+     * @param minDistance Skip the locations closer than this distance (m) from the previous location
+     *                    of the same record, null to keep all locations
+     * @param page Column buffers, reused for each page
+     * @param pageVisitor Visitor of the filled pages
+     * @return False if the reading has been stopped by the visitor or the user
+     */
+    public boolean getRecordPages(int recordId, boolean withCoordinatesOnly, int limitation,
+                                  ProgressionCallBack progressionCallBack, Double minDistance,
+                                  LeqPage page, PageVisitor pageVisitor) {
+        return getRecordPages(recordId, Long.MIN_VALUE, withCoordinatesOnly, limitation,
+                progressionCallBack, minDistance, page, pageVisitor);
+    }
+
+    /**
+     * @param minimalUtc Skip the leq recorded before this time (epoch ms)
+     * @see #getRecordPages(int, boolean, int, ProgressionCallBack, Double, LeqPage, PageVisitor)
+     */
+    private boolean getRecordPages(int recordId, long minimalUtc, boolean withCoordinatesOnly,
+                                   int limitation, ProgressionCallBack progressionCallBack,
+                                   Double minDistance, LeqPage page, PageVisitor pageVisitor) {
         // Divide number, ex 2 will take half of the measurement (only odd leq_id numbers)
-        String divMod = "1";
+        int divMod = 1;
         if(limitation > 0) {
             int totalLocations = getRecordLocationsCount(recordId, withCoordinatesOnly);
             if(progressionCallBack != null) {
                 progressionCallBack.onCreateCursor(totalLocations);
             }
-            divMod = String.valueOf(Math.max(1, Math.ceil((double) totalLocations / limitation)));
+            divMod = (int) Math.max(1, Math.ceil((double) totalLocations / limitation));
         } else {
             if(progressionCallBack != null) {
                 progressionCallBack.onCreateCursor(getRecordLocationsCount(recordId, withCoordinatesOnly));
             }
         }
+        LocationFilter locationFilter = new LocationFilter(minDistance);
+        page.size = 0;
+        try {
+            List<Integer> chunkRecordIds;
+            if(recordId >= 0) {
+                chunkRecordIds = recordChunkStore.hasChunks(recordId) ?
+                        Collections.singletonList(recordId) : Collections.<Integer>emptyList();
+            } else {
+                chunkRecordIds = recordChunkStore.getRecordIds();
+            }
+            boolean completed = true;
+            if(recordId < 0 || chunkRecordIds.isEmpty()) {
+                completed = getDatabasePages(recordId, minimalUtc, withCoordinatesOnly, divMod,
+                        progressionCallBack, locationFilter, page, pageVisitor);
+            }
+            for(int chunkRecordId : chunkRecordIds) {
+                if(!completed) {
+                    break;
+                }
+                completed = getChunkPages(chunkRecordId, minimalUtc, withCoordinatesOnly, divMod,
+                        progressionCallBack, locationFilter, page, pageVisitor);
+            }
+            if(completed && page.size > 0) {
+                completed = page.flush(pageVisitor);
+            }
+            return completed;
+        } finally {
+            if(progressionCallBack != null) {
+                progressionCallBack.onDeleteCursor();
+            }
+        }
+    }
+
+    /**
+     * @return False if the reading has been stopped
+     */
+    private boolean getDatabasePages(int recordId, long minimalUtc, boolean withCoordinatesOnly, int divMod,
+                                     ProgressionCallBack progressionCallBack,
+                                     LocationFilter locationFilter, LeqPage page, PageVisitor pageVisitor) {
+        SQLiteDatabase database = storage.getReadableDatabase();
         try {
             Cursor cursor;
             if (recordId >= 0) {
-                cursor = database.rawQuery("SELECT "+Storage.Leq.getAllFields("L.")+", GROUP_CONCAT(LV." + Storage.LeqValue
-                        .COLUMN_SPL +
-                        ") leq_array FROM " + Storage.Leq.TABLE_NAME + " L, " + Storage.LeqValue
-                        .TABLE_NAME +
-                        " LV WHERE L." + Storage.Leq.COLUMN_RECORD_ID + " = ? AND L." +
-                        Storage.Leq.COLUMN_LEQ_ID + " = LV." + Storage.LeqValue.COLUMN_LEQ_ID +
-                        " AND L." + Storage.Leq.COLUMN_ACCURACY + " > ? AND L." + Storage.Leq
-                        .COLUMN_LEQ_ID + " % ? = 0 GROUP BY "+Storage.Leq.getAllFields("L.")+" ORDER BY L." +
-                        Storage.Leq.COLUMN_LEQ_ID + ", " +
-                        Storage.LeqValue.COLUMN_FREQUENCY, new String[]{String.valueOf(recordId), withCoordinatesOnly ? "0" : "-1", divMod});
+                cursor = database.rawQuery("SELECT " + Storage.Leq.getAllFields("L.") + ", L." +
+                        Storage.Leq.COLUMN_SPECTRUM + " FROM " + Storage.Leq.TABLE_NAME + " L WHERE L." +
+                        Storage.Leq.COLUMN_RECORD_ID + " = ? AND L." + Storage.Leq.COLUMN_SPECTRUM +
+                        " IS NOT NULL AND L." + Storage.Leq.COLUMN_ACCURACY + " > ? AND L." + Storage.Leq
+                        .COLUMN_LEQ_ID + " % ? = 0 AND L." + Storage.Leq.COLUMN_LEQ_UTC + " >= ? ORDER BY L." +
+                        Storage.Leq.COLUMN_LEQ_ID, new String[]{String.valueOf(recordId),
+                        withCoordinatesOnly ? "0" : "-1", String.valueOf(divMod), String.valueOf(minimalUtc)});
             } else {
-                cursor = database.rawQuery("SELECT "+Storage.Leq.getAllFields("L.")+", GROUP_CONCAT(LV." + Storage.LeqValue
-                        .COLUMN_SPL +
-                        ") leq_array FROM " + Storage.Leq.TABLE_NAME + " L, " + Storage.LeqValue
-                        .TABLE_NAME +
-                        " LV WHERE L." +
-                        Storage.Leq.COLUMN_LEQ_ID + " = LV." + Storage.LeqValue.COLUMN_LEQ_ID +
-                        " AND L." + Storage.Leq.COLUMN_ACCURACY + " > ? AND L." + Storage.Leq
-                        .COLUMN_LEQ_ID + " % ? = 0 GROUP BY "+Storage.Leq.getAllFields("L.")+" ORDER BY L." +
-                        Storage.Leq.COLUMN_LEQ_ID + ", " +
-                        Storage.LeqValue.COLUMN_FREQUENCY, new String[]{withCoordinatesOnly ? "0" : "-1", divMod});
+                cursor = database.rawQuery("SELECT " + Storage.Leq.getAllFields("L.") + ", L." +
+                        Storage.Leq.COLUMN_SPECTRUM + " FROM " + Storage.Leq.TABLE_NAME + " L WHERE L." +
+                        Storage.Leq.COLUMN_SPECTRUM + " IS NOT NULL AND L." + Storage.Leq.COLUMN_ACCURACY +
+                        " > ? AND L." + Storage.Leq.COLUMN_LEQ_ID + " % ? = 0 AND L." +
+                        Storage.Leq.COLUMN_LEQ_UTC + " >= ? ORDER BY L." + Storage.Leq.COLUMN_LEQ_ID,
+                        new String[]{withCoordinatesOnly ? "0" : "-1", String.valueOf(divMod),
+                                String.valueOf(minimalUtc)});
             }
             try {
-                List<LeqBatch> leqBatches = new ArrayList<LeqBatch>();
-                int lastId = -1;
-                int lastRecordId = -1;
-                int skipLeqId = -1;
-                LeqBatch lastLeq = null;
-                int leqArrayIndex = cursor.getColumnIndex("leq_array");
+                // Resolve the column indexes once for all rows
+                final int recordIdIndex = cursor.getColumnIndex(Storage.Leq.COLUMN_RECORD_ID);
+                final int leqIdIndex = cursor.getColumnIndex(Storage.Leq.COLUMN_LEQ_ID);
+                final int leqUtcIndex = cursor.getColumnIndex(Storage.Leq.COLUMN_LEQ_UTC);
+                final int latitudeIndex = cursor.getColumnIndex(Storage.Leq.COLUMN_LATITUDE);
+                final int longitudeIndex = cursor.getColumnIndex(Storage.Leq.COLUMN_LONGITUDE);
+                final int altitudeIndex = cursor.getColumnIndex(Storage.Leq.COLUMN_ALTITUDE);
+                final int accuracyIndex = cursor.getColumnIndex(Storage.Leq.COLUMN_ACCURACY);
+                final int speedIndex = cursor.getColumnIndex(Storage.Leq.COLUMN_SPEED);
+                final int bearingIndex = cursor.getColumnIndex(Storage.Leq.COLUMN_BEARING);
+                final int locationUtcIndex = cursor.getColumnIndex(Storage.Leq.COLUMN_LOCATION_UTC);
+                final int spectrumIndex = cursor.getColumnIndex(Storage.Leq.COLUMN_SPECTRUM);
                 while (cursor.moveToNext()) {
-                    int cursorLeqId = cursor.getInt(cursor.getColumnIndex(Storage.Leq.COLUMN_LEQ_ID));
-                    int cursorRecordId = cursor.getInt(cursor.getColumnIndex(Storage.Leq.COLUMN_RECORD_ID));
-                    if(skipLeqId != -1 && skipLeqId == cursorLeqId) {
-                        continue;
-                    }
-                    if(cursorRecordId != lastRecordId) {
-                        skipLeqId = -1;
-                        lastLatLng = null;
-                        lastRecordId = cursorRecordId;
-                    }
-                    if(lastId != -1) {
-                        if(progressionCallBack != null) {
-                            if(!progressionCallBack.onCursorNext()) {
-                                // user cancel the loading of data
-                                break;
-                            }
-                        }
-                        // Ignore point if the new point is too close from the last point
-                        if(minDistance != null) {
-                            double[] location = new double[]{
-                                    cursor.getDouble(cursor.getColumnIndex(Storage.Leq.COLUMN_LATITUDE)),
-                                    cursor.getDouble(cursor.getColumnIndex(Storage.Leq.COLUMN_LONGITUDE))};
-                            double accuracy = cursor.getFloat(cursor.getColumnIndex(Storage.Leq.COLUMN_ACCURACY));
-                            if(accuracy > 0) {
-                                if(lastLatLng != null) {
-                                    float[] result = new float[3];
-                                    Location.distanceBetween(lastLatLng[0], lastLatLng[1], location[0], location[1], result);
-                                    if(result[0] < minDistance) {
-                                        // Ignore all next frequencies of this measurement leq
-                                        skipLeqId = cursorLeqId;
-                                        continue;
-                                    }
-                                }
-                                lastLatLng = location;
-                            }
+                    if(progressionCallBack != null) {
+                        if(!progressionCallBack.onCursorNext()) {
+                            // user cancel the loading of data
+                            return false;
                         }
-                        // All frequencies for the current measurement are parsed
-                        leqBatches.add(lastLeq);
-                        lastLeq = null;
                     }
-                    if(lastLeq == null) {
-                        lastLeq = new LeqBatch(new Storage.Leq(cursor));
-                        lastId = lastLeq.getLeq().getLeqId();
+                    int leqRecordId = cursor.getInt(recordIdIndex);
+                    double latitude = cursor.getDouble(latitudeIndex);
+                    double longitude = cursor.getDouble(longitudeIndex);
+                    float accuracy = cursor.getFloat(accuracyIndex);
+                    if(!locationFilter.accept(leqRecordId, latitude, longitude, accuracy)) {
+                        continue;
                     }
-                    String leqStringArray = cursor.getString(leqArrayIndex);
-                    StringTokenizer stringTokenizer = new StringTokenizer(leqStringArray, ",");
-                    int i = 0;
-                    while (stringTokenizer.hasMoreTokens()) {
-                        try {
-                            String leqValueString = stringTokenizer.nextToken();
-                            if(!leqValueString.isEmpty()) {
-                                Storage.LeqValue leqValue = new Storage.LeqValue(lastId,
-                                        (int) AudioProcess.realTimeCenterFrequency[i++],
-                                        Float.valueOf(leqValueString));
-                                lastLeq.addLeqValue(leqValue);
-                            }
-                        } catch (NumberFormatException ex) {
-                            // Could not read record value, skip
-                        }
+                    final int row = page.size++;
+                    page.recordId[row] = leqRecordId;
+                    page.leqId[row] = cursor.getInt(leqIdIndex);
+                    page.leqUtc[row] = cursor.getLong(leqUtcIndex);
+                    page.latitude[row] = latitude;
+                    page.longitude[row] = longitude;
+                    page.altitude[row] = cursor.isNull(altitudeIndex) ? Double.NaN : cursor.getDouble(altitudeIndex);
+                    page.accuracy[row] = accuracy;
+                    page.speed[row] = cursor.isNull(speedIndex) ? Float.NaN : cursor.getFloat(speedIndex);
+                    page.bearing[row] = cursor.isNull(bearingIndex) ? Float.NaN : cursor.getFloat(bearingIndex);
+                    page.locationUtc[row] = cursor.getLong(locationUtcIndex);
+                    Storage.Leq.unpackSpectrum(cursor.getBlob(spectrumIndex), page.spectrum[row]);
+                    if(page.isFull() && !page.flush(pageVisitor)) {
+                        return false;
                     }
                 }
-                // Add last leq
-                if(lastLeq != null) {
-                    leqBatches.add(lastLeq);
-                }
-                return leqBatches;
+                return true;
             } finally {
-                if(progressionCallBack != null) {
-                    progressionCallBack.onDeleteCursor();
-                }
                 cursor.close();
             }
         } finally {
@@ -567,6 +773,59 @@ public class MeasurementManager {
         }
     }
 
+    /**
+     * @return False if the reading has been stopped
+     */
+    private boolean getChunkPages(final int recordId, long minimalUtc, boolean withCoordinatesOnly, final int divMod,
+                                  final ProgressionCallBack progressionCallBack,
+                                  final LocationFilter locationFilter, final LeqPage page,
+                                  final PageVisitor pageVisitor) {
+        final float minimalAccuracy = withCoordinatesOnly ? 0 : -1;
+        final boolean[] completed = new boolean[] {true};
+        try {
+            recordChunkStore.visit(recordId, minimalUtc, Long.MAX_VALUE, new RecordChunkStore.ChunkVisitor() {
+                @Override
+                public boolean visit(RecordChunkStore.Chunk chunk, int from, int to) {
+                    for(int row = from; row < to; row++) {
+                        float accuracy = chunk.getAccuracy(row);
+                        if(accuracy <= minimalAccuracy || chunk.getLeqId(row) % divMod != 0) {
+                            continue;
+                        }
+                        if(progressionCallBack != null && !progressionCallBack.onCursorNext()) {
+                            completed[0] = false;
+                            return false;
+                        }
+                        double latitude = chunk.getLatitude(row);
+                        double longitude = chunk.getLongitude(row);
+                        if(!locationFilter.accept(recordId, latitude, longitude, accuracy)) {
+                            continue;
+                        }
+                        final int pageRow = page.size++;
+                        page.recordId[pageRow] = recordId;
+                        page.leqId[pageRow] = chunk.getLeqId(row);
+                        page.leqUtc[pageRow] = chunk.getUtc(row);
+                        page.latitude[pageRow] = latitude;
+                        page.longitude[pageRow] = longitude;
+                        page.altitude[pageRow] = chunk.getAltitude(row);
+                        page.accuracy[pageRow] = accuracy;
+                        page.speed[pageRow] = chunk.getSpeed(row);
+                        page.bearing[pageRow] = chunk.getBearing(row);
+                        page.locationUtc[pageRow] = chunk.getLocationUtc(row);
+                        chunk.getSpectrum(row, page.spectrum[pageRow]);
+                        if(page.isFull() && !page.flush(pageVisitor)) {
+                            completed[0] = false;
+                            return false;
+                        }
+                    }
+                    return true;
+                }
+            });
+        } catch (IOException ex) {
+            LOGGER.error(ex.getLocalizedMessage(), ex);
+        }
+        return completed[0];
+    }
+
     public Storage.Record getRecord(int recordId) {
         SQLiteDatabase database = storage.getReadableDatabase();
         try {
@@ -654,56 +913,18 @@ public class MeasurementManager {
         SQLiteDatabase database = storage.getWritableDatabase();
         while(true) {
             try {
-                database.beginTransaction();
-                SQLiteStatement leqStatement = database.compileStatement(
-                        "INSERT INTO " + Storage.Leq.TABLE_NAME + "(" +
-                                Storage.Leq.COLUMN_RECORD_ID + "," +
-                                Storage.Leq.COLUMN_LEQ_UTC + "," +
-                                Storage.Leq.COLUMN_LATITUDE + "," +
-                                Storage.Leq.COLUMN_LONGITUDE + "," +
-                                Storage.Leq.COLUMN_ALTITUDE + "," +
-                                Storage.Leq.COLUMN_ACCURACY + "," +
-                                Storage.Leq.COLUMN_LOCATION_UTC + "," +
-                                Storage.Leq.COLUMN_SPEED + "," +
-                                Storage.Leq.COLUMN_BEARING +
-                                ") VALUES (?, ?,?,?,?,?,?,?,?)");
-                SQLiteStatement leqValueStatement = database.compileStatement("INSERT INTO " +
-                        Storage.LeqValue.TABLE_NAME + " VALUES (?,?,?)");
-                for (LeqBatch leqBatch : leqBatches) {
-                    Storage.Leq leq = leqBatch.getLeq();
-                    leqStatement.clearBindings();
-                    leqStatement.bindLong(1, leq.getRecordId());
-                    leqStatement.bindLong(2, leq.getLeqUtc());
-                    leqStatement.bindDouble(3, leq.getLatitude());
-                    leqStatement.bindDouble(4, leq.getLongitude());
-                    if (leq.getAltitude() != null) {
-                        leqStatement.bindDouble(5, leq.getAltitude());
-                    } else {
-                        leqStatement.bindNull(5);
-                    }
-                    leqStatement.bindDouble(6, leq.getAccuracy());
-                    leqStatement.bindDouble(7, leq.getLocationUTC());
-                    if (leq.getSpeed() != null) {
-                        leqStatement.bindDouble(8, leq.getSpeed());
-                    } else {
-                        leqStatement.bindNull(8);
-                    }
-                    if (leq.getBearing() != null) {
-                        leqStatement.bindDouble(9, leq.getBearing());
-                    } else {
-                        leqStatement.bindNull(9);
-                    }
-                    long leqId = leqStatement.executeInsert();
-                    for (Storage.LeqValue leqValue : leqBatch.getLeqValues()) {
-                        leqValueStatement.clearBindings();
-                        leqValueStatement.bindLong(1, leqId);
-                        leqValueStatement.bindLong(2, leqValue.getFrequency());
-                        leqValueStatement.bindDouble(3, leqValue.getSpl());
-                        leqValueStatement.execute();
+                synchronized (LeqTileIndex.WRITE_LOCK) {
+                    database.beginTransaction();
+                    SQLiteStatement leqStatement = compileLeqStatement(database);
+                    LeqTileIndex leqTileIndex = new LeqTileIndex();
+                    for (LeqBatch leqBatch : leqBatches) {
+                        insertLeqBatch(leqStatement, leqBatch);
+                        leqTileIndex.add(leqBatch);
                     }
+                    leqTileIndex.apply(database);
+                    database.setTransactionSuccessful();
+                    database.endTransaction();
                 }
-                database.setTransactionSuccessful();
-                database.endTransaction();
                 break;
             }catch (SQLiteException ex) {
                 // Sql issue
@@ -723,6 +944,81 @@ public class MeasurementManager {
         }
     }
 
+    /**
+     * @return Writer of leq records in a background thread, for the life of a record
+     */
+    public LeqBatchWriter createLeqBatchWriter() {
+        return createLeqBatchWriter(false);
+    }
+
+    /**
+     * @param chunked True to write the leq into {@link RecordChunkStore} files, for long records
+     * @return Writer of leq records in a background thread, for the life of a record
+     */
+    public LeqBatchWriter createLeqBatchWriter(boolean chunked) {
+        return new LeqBatchWriter(storage, chunked ? recordChunkStore : null);
+    }
+
+    /**
+     * @return Storage of the leq of long records
+     */
+    public RecordChunkStore getRecordChunkStore() {
+        return recordChunkStore;
+    }
+
+    static SQLiteStatement compileLeqStatement(SQLiteDatabase database) {
+        return database.compileStatement(
+                "INSERT INTO " + Storage.Leq.TABLE_NAME + "(" +
+                        Storage.Leq.COLUMN_RECORD_ID + "," +
+                        Storage.Leq.COLUMN_LEQ_UTC + "," +
+                        Storage.Leq.COLUMN_LATITUDE + "," +
+                        Storage.Leq.COLUMN_LONGITUDE + "," +
+                        Storage.Leq.COLUMN_ALTITUDE + "," +
+                        Storage.Leq.COLUMN_ACCURACY + "," +
+                        Storage.Leq.COLUMN_LOCATION_UTC + "," +
+                        Storage.Leq.COLUMN_SPEED + "," +
+                        Storage.Leq.COLUMN_BEARING + "," +
+                        Storage.Leq.COLUMN_SPECTRUM +
+                        ") VALUES (?, ?,?,?,?,?,?,?,?,?)");
+    }
+
+    /**
+     * Insert one leq and its values, in the transaction of the statement database
+     * @param leqStatement Statement returned by {@link #compileLeqStatement(SQLiteDatabase)}
+     */
+    static void insertLeqBatch(SQLiteStatement leqStatement, LeqBatch leqBatch) {
+        Storage.Leq leq = leqBatch.getLeq();
+        leqStatement.clearBindings();
+        leqStatement.bindLong(1, leq.getRecordId());
+        leqStatement.bindLong(2, leq.getLeqUtc());
+        leqStatement.bindDouble(3, leq.getLatitude());
+        leqStatement.bindDouble(4, leq.getLongitude());
+        if (leq.getAltitude() != null) {
+            leqStatement.bindDouble(5, leq.getAltitude());
+        } else {
+            leqStatement.bindNull(5);
+        }
+        leqStatement.bindDouble(6, leq.getAccuracy());
+        leqStatement.bindDouble(7, leq.getLocationUTC());
+        if (leq.getSpeed() != null) {
+            leqStatement.bindDouble(8, leq.getSpeed());
+        } else {
+            leqStatement.bindNull(8);
+        }
+        if (leq.getBearing() != null) {
+            leqStatement.bindDouble(9, leq.getBearing());
+        } else {
+            leqStatement.bindNull(9);
+        }
+        List<Storage.LeqValue> leqValues = leqBatch.getLeqValues();
+        float[] spectrum = new float[leqValues.size()];
+        for (int i = 0; i < spectrum.length; i++) {
+            spectrum[i] = leqValues.get(i).getSpl();
+        }
+        leqStatement.bindBlob(10, Storage.Leq.packSpectrum(spectrum));
+        leqStatement.executeInsert();
+    }
+
     public void updateRecordUserInput(int recordId, String description, Short pleasantness,
                                       String[] tags, Uri photo_uri, String noisePartyTag) {
 
@@ -797,9 +1093,9 @@ public class MeasurementManager {
         public double computeGlobalLeq() {
             double globalLeq = 0;
             for(Storage.LeqValue leqValue : leqValues) {
-                globalLeq += Math.pow(10, leqValue.getSpl() / 10.);
+                globalLeq += DecibelConversion.dBToEnergy(leqValue.getSpl());
             }
-            return 10 * Math.log10(globalLeq);
+            return DecibelConversion.energyTodB(globalLeq);
         }
 
         public Storage.Leq getLeq() {
@@ -811,11 +1107,183 @@ public class MeasurementManager {
         }
     }
 
+    /**
+     * Column buffers of consecutive leq, filled by {@link #getRecordPages}. Each array is indexed
+     * by the row in the page. Unknown altitude, speed, bearing and sound levels are NaN.
+     */
+    public static final class LeqPage {
+        private final int[] recordId;
+        private final int[] leqId;
+        private final long[] leqUtc;
+        private final double[] latitude;
+        private final double[] longitude;
+        private final double[] altitude;
+        private final float[] accuracy;
+        private final float[] speed;
+        private final float[] bearing;
+        private final long[] locationUtc;
+        // Sound level by row and by frequency of AudioProcess.realTimeCenterFrequency
+        private final float[][] spectrum;
+        private int size = 0;
+
+        /**
+         * @param capacity Maximum number of leq in a page
+         */
+        public LeqPage(int capacity) {
+            recordId = new int[capacity];
+            leqId = new int[capacity];
+            leqUtc = new long[capacity];
+            latitude = new double[capacity];
+            longitude = new double[capacity];
+            altitude = new double[capacity];
+            accuracy = new float[capacity];
+            speed = new float[capacity];
+            bearing = new float[capacity];
+            locationUtc = new long[capacity];
+            spectrum = new float[capacity][AudioProcess.realTimeCenterFrequency.length];
+        }
+
+        private boolean isFull() {
+            return size == leqId.length;
+        }
+
+        /**
+         * Give the page to the visitor then empty it
+         */
+        private boolean flush(PageVisitor pageVisitor) {
+            boolean next = pageVisitor.visit(this);
+            size = 0;
+            return next;
+        }
+
+        /**
+         * @return Number of leq in this page
+         */
+        public int getSize() {
+            return size;
+        }
+
+        public int getCapacity() {
+            return leqId.length;
+        }
+
+        public int[] getRecordId() {
+            return recordId;
+        }
+
+        public int[] getLeqId() {
+            return leqId;
+        }
+
+        public long[] getLeqUtc() {
+            return leqUtc;
+        }
+
+        public double[] getLatitude() {
+            return latitude;
+        }
+
+        public double[] getLongitude() {
+            return longitude;
+        }
+
+        public double[] getAltitude() {
+            return altitude;
+        }
+
+        public float[] getAccuracy() {
+            return accuracy;
+        }
+
+        public float[] getSpeed() {
+            return speed;
+        }
+
+        public float[] getBearing() {
+            return bearing;
+        }
+
+        public long[] getLocationUtc() {
+            return locationUtc;
+        }
+
+        public float[][] getSpectrum() {
+            return spectrum;
+        }
+
+        /**
+         * @param row Row in the page
+         * @return Global sound level of the leq
+         */
+        public double computeGlobalLeq(int row) {
+            double globalLeq = 0;
+            for(float spl : spectrum[row]) {
+                if(!Float.isNaN(spl)) {
+                    globalLeq += DecibelConversion.dBToEnergy(spl);
+                }
+            }
+            return DecibelConversion.energyTodB(globalLeq);
+        }
+
+        /**
+         * @param row Row in the page
+         * @return Copy of the leq
+         */
+        public LeqBatch getLeqBatch(int row) {
+            LeqBatch leqBatch = new LeqBatch(new Storage.Leq(recordId[row], leqId[row], leqUtc[row],
+                    latitude[row], longitude[row], Double.isNaN(altitude[row]) ? null : altitude[row],
+                    Float.isNaN(speed[row]) ? null : speed[row],
+                    Float.isNaN(bearing[row]) ? null : bearing[row], accuracy[row], locationUtc[row]));
+            addLeqValues(leqBatch, spectrum[row]);
+            return leqBatch;
+        }
+    }
+
+    /**
+     * Skip the locations too close from the last kept location of the same record
+     */
+    private static final class LocationFilter {
+        private final Double minDistance;
+        private final float[] result = new float[3];
+        private int lastRecordId = -1;
+        private double[] lastLatLng = null;
+
+        LocationFilter(Double minDistance) {
+            this.minDistance = minDistance;
+        }
+
+        boolean accept(int recordId, double latitude, double longitude, float accuracy) {
+            if(recordId != lastRecordId) {
+                lastLatLng = null;
+                lastRecordId = recordId;
+            }
+            if(minDistance == null || accuracy <= 0) {
+                return true;
+            }
+            if(lastLatLng != null) {
+                Location.distanceBetween(lastLatLng[0], lastLatLng[1], latitude, longitude, result);
+                if(result[0] < minDistance) {
+                    return false;
+                }
+            }
+            lastLatLng = new double[]{latitude, longitude};
+            return true;
+        }
+    }
+
     public interface RecordVisitor<El> {
         void onCreateCursor(int recordCount);
         boolean next(El record);
     }
 
+    public interface PageVisitor {
+        /**
+         * @param page Filled page, its content is overwritten after this call
+         * @return False to stop reading
+         */
+        boolean visit(LeqPage page);
+    }
+
     public interface ProgressionCallBack {
         void onCreateCursor(int recordCount);
 
@@ -51,6 +51,8 @@ import androidx.annotation.RequiresApi;
 import androidx.core.app.NotificationCompat;
 import androidx.core.content.ContextCompat;
 
+import org.orbisgis.sos.AcousticIndicators;
+import org.orbisgis.sos.DecibelConversion;
 import org.orbisgis.sos.LeqStats;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -64,6 +66,11 @@ import java.util.Map;
 import java.util.NavigableMap;
 import java.util.StringTokenizer;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -81,17 +88,27 @@ public class MeasurementService extends Service {
     private CommonLocationListener passiveLocationListener;
     // New measurement record sent to the database Event object is Storage.Leq
     public static final String PROP_NEW_MEASUREMENT = "PROP_NEW_MEASUREMENT";
+    // The database has been updated after a pause, leq count and statistics may have changed
+    public static final String PROP_PAUSE_APPLIED = "PROP_PAUSE_APPLIED";
     private long minTimeDelay = 1000;
     private static final long MAXIMUM_LOCATION_HISTORY = 50;
     private AudioProcess audioProcess;
     private AtomicBoolean isRecording = new AtomicBoolean(false);  // Is microphone activated
     private AtomicBoolean isPaused = new AtomicBoolean(false);  // Recording is temporary paused
+    // Leq are not stored, set at pause and cleared once the pause database operations are done
+    private AtomicBoolean isStoragePaused = new AtomicBoolean(false);
+    // Database operations of pause and resume, in call order and out of the UI thread
+    private final ExecutorService pauseExecutor = Executors.newSingleThreadExecutor();
     private AtomicBoolean isStorageActivated = new AtomicBoolean(false); // Is leq are stored into database
 
     private AtomicBoolean canceled = new AtomicBoolean(false);
     // 1s leq recorded in db
     private AtomicInteger leqAdded = new AtomicInteger(0);
     private MeasurementManager measurementManager;
+    // Background writer of the leq of the current record
+    private volatile LeqBatchWriter leqBatchWriter;
+    // Maximum waiting time (ms) of the leq writer on pause and stop
+    private static final long LEQ_WRITER_TIMEOUT = 10000;
     private DoProcessing doProcessing = new DoProcessing(this);
     // This measurement identifier in the long term storage
     private int recordId = -1;
@@ -99,6 +116,8 @@ public class MeasurementService extends Service {
     private int minimalLeqCount = 0;
     // Seconds to delete when pause is activated
     private int deletedLeqOnPause = 0;
+    // Write the leq of the next records into chunk files
+    private boolean chunkedStorage = false;
     private double dBGain = 0;
     private int calibrationMethod = 0;
     private PropertyChangeSupport listeners = new PropertyChangeSupport(this);
@@ -107,6 +126,10 @@ public class MeasurementService extends Service {
     private NavigableMap<Long, Location> timeLocation = new TreeMap<Long, Location>();
     private LeqStats leqStats = new LeqStats();
     private LeqStats leqStatsFast = new LeqStats();
+    // Sliding period of the live indicators [s]
+    public static final double SLIDING_INDICATORS_PERIOD = 60;
+    private AcousticIndicators.SlidingLevelTracker fastLevelTracker =
+            new AcousticIndicators.SlidingLevelTracker(AcousticIndicators.TIMEPERIOD_FAST, SLIDING_INDICATORS_PERIOD);
 
     private NotificationManager mNM;
 
@@ -147,6 +170,13 @@ public class MeasurementService extends Service {
     public LeqStats getFastLeqStats() {
         return leqStatsFast;
     }
+
+    /**
+     * @return LAeq, LAFmax, LAFmin and percentiles of the fast levels over the last {@link #SLIDING_INDICATORS_PERIOD}
+     */
+    public AcousticIndicators.SlidingLevelTracker getFastLevelTracker() {
+        return fastLevelTracker;
+    }
     public int getRecordId() {
         return recordId;
     }
@@ -209,6 +239,7 @@ public class MeasurementService extends Service {
         if(isRecording()) {
             cancel();
         }
+        pauseExecutor.shutdown();
         try {
             AudioManager mgr = (AudioManager) getSystemService(Context.AUDIO_SERVICE);
             mgr.setStreamMute(AudioManager.STREAM_SYSTEM, false);
@@ -426,34 +457,121 @@ public class MeasurementService extends Service {
         listeners.removePropertyChangeListener(propertyChangeListener);
     }
 
-    public void setPause(boolean newState) {
+    /**
+     * Pause or resume the measurement. The database is updated by a background thread, listeners
+     * receive {@link #PROP_PAUSE_APPLIED} when it is done. A resume is applied after the pending
+     * pause operations.
+     * @param newState True to pause
+     */
+    public void setPause(final boolean newState) {
         isPaused.set(newState);
         LOGGER.info("Measurement pause = " + String.valueOf(newState));
-        audioProcess.setDoFastLeq(!newState);
-        audioProcess.setDoOneSecondLeq(!newState);
-        if(newState && deletedLeqOnPause > 0 && recordId > -1) {
+        final AudioProcess process = audioProcess;
+        if(newState) {
+            isStoragePaused.set(true);
+            process.setDoFastLeq(false);
+            process.setDoOneSecondLeq(false);
+        }
+        final long pauseTime = System.currentTimeMillis();
+        pauseExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                if(newState) {
+                    applyPause(pauseTime);
+                    listeners.firePropertyChange(PROP_PAUSE_APPLIED, null, leqAdded.get());
+                } else {
+                    process.setDoFastLeq(true);
+                    process.setDoOneSecondLeq(true);
+                    isStoragePaused.set(false);
+                }
+            }
+        });
+    }
+
+    /**
+     * Write the pending leq then remove the leq recorded just before the pause
+     * @param pauseTime Pause time (epoch ms)
+     */
+    private void applyPause(long pauseTime) {
+        flushLeqBatchWriter();
+        if(deletedLeqOnPause > 0 && recordId > -1) {
             // Delete last recorded leq
             int deletedLeq = measurementManager.deleteLastLeqs(recordId,
-                    System.currentTimeMillis() -  (deletedLeqOnPause * 1000));
+                    pauseTime -  (deletedLeqOnPause * 1000));
             leqAdded.set(Math.max(0, leqAdded.get() - deletedLeq));
             // Recompute LeqStats altered by the removed leq
             LeqStats newLeqStats = new LeqStats();
             // Query database
             List<Integer> frequencies = new ArrayList<Integer>();
-            List<Float[]> leqValues = new ArrayList<Float[]>();
+            List<float[]> leqValues = new ArrayList<float[]>();
             measurementManager.getRecordLeqs(recordId, frequencies, leqValues, null);
             // parse each leq window time
-            for(Float[] leqFreqs : leqValues) {
+            for(float[] leqFreqs : leqValues) {
                 double rms = 0;
                 for(float leqValue : leqFreqs) {
-                    rms += Math.pow(10, leqValue / 10);
+                    rms += DecibelConversion.dBToEnergy(leqValue);
                 }
-                newLeqStats.addLeq(10 * Math.log10(rms));
+                newLeqStats.addLeq(DecibelConversion.energyTodB(rms));
             }
             leqStats = newLeqStats;
             leqStatsFast = new LeqStats(newLeqStats);
-        } else if(newState && recordId > -1) {
+            fastLevelTracker.clear();
+        } else if(recordId > -1) {
             leqStatsFast = new LeqStats();
+            fastLevelTracker.clear();
+        }
+    }
+
+    /**
+     * Wait until the pause and resume requested before this call are applied
+     */
+    private void waitPauseExecutor() {
+        try {
+            pauseExecutor.submit(new Runnable() {
+                @Override
+                public void run() {
+                }
+            }).get(LEQ_WRITER_TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException ex) {
+            LOGGER.error(ex.getLocalizedMessage(), ex);
+        }
+    }
+
+    /**
+     * Wait until the leq received before this call are committed into the database
+     */
+    private void flushLeqBatchWriter() {
+        LeqBatchWriter writer = leqBatchWriter;
+        if(writer != null) {
+            try {
+                if(!writer.flush(LEQ_WRITER_TIMEOUT)) {
+                    LOGGER.error("Timeout while writing leq into the database");
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Write the remaining leq and stop the leq writer of the record
+     */
+    private void closeLeqBatchWriter() {
+        LeqBatchWriter writer = leqBatchWriter;
+        leqBatchWriter = null;
+        if(writer != null) {
+            try {
+                if(!writer.close(LEQ_WRITER_TIMEOUT)) {
+                    LOGGER.error("Timeout while writing leq into the database");
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            if(writer.getDroppedCount() > 0) {
+                LOGGER.warn(writer.getDroppedCount() + " leq have not been written into the database");
+            }
         }
     }
 
@@ -464,6 +582,18 @@ public class MeasurementService extends Service {
         this.deletedLeqOnPause = Math.max(0, deletedLeqOnPause);
     }
 
+    /**
+     * @param chunkedStorage True to store the leq of the next records in {@link RecordChunkStore}
+     *                       files, for long measurements
+     */
+    public void setChunkedStorage(boolean chunkedStorage) {
+        this.chunkedStorage = chunkedStorage;
+    }
+
+    public boolean isChunkedStorage() {
+        return chunkedStorage;
+    }
+
     /**
      * @return Deleted leq triggered by a pause
      */
@@ -584,7 +714,7 @@ public class MeasurementService extends Service {
             // Skip event if we do not record or if the pause is active
             if (AudioProcess.PROP_SLOW_LEQ.equals(event.getPropertyName
                     ())) {
-                if (measurementService.isStoring() && !measurementService.isPaused.get()) {
+                if (measurementService.isStoring() && !measurementService.isStoragePaused.get()) {
                     // Delayed audio processing
                     AudioProcess.AudioMeasureResult measure =
                             (AudioProcess.AudioMeasureResult) event.getNewValue();
@@ -610,19 +740,25 @@ public class MeasurementService extends Service {
                         leqValueList
                                 .add(new Storage.LeqValue(-1, (int) freqValues[idFreq], leqs[idFreq]));
                     }
-                    measurementService.measurementManager
-                            .addLeqBatch(new MeasurementManager.LeqBatch(leq, leqValueList));
-                    measurementService.leqAdded.addAndGet(1);
+                    // Database is written by a background thread, do not wait for the disk here
+                    LeqBatchWriter writer = measurementService.leqBatchWriter;
+                    if(writer != null && writer.add(new MeasurementManager.LeqBatch(leq, leqValueList))) {
+                        measurementService.leqAdded.addAndGet(1);
+                    }
                     measurementService.listeners.firePropertyChange(PROP_NEW_MEASUREMENT, null, new MeasurementEventObject(measure, leq));
                 }
             } else if(AudioProcess.PROP_FAST_LEQ.equals(event.getPropertyName())) {
-                if (measurementService.isStoring() && !measurementService.isPaused.get()) {
+                if (measurementService.isStoring() && !measurementService.isStoragePaused.get()) {
                     AudioProcess.AudioMeasureResult measure =
                             (AudioProcess.AudioMeasureResult) event.getNewValue();
                     measurementService.leqStatsFast.addLeq(measure.getGlobaldBaValue());
+                    measurementService.fastLevelTracker.addLevel(measure.getGlobaldBaValue());
                 }
             } else if (AudioProcess.PROP_STATE_CHANGED.equals(event.getPropertyName())) {
                 if (AudioProcess.STATE.CLOSED.equals(event.getNewValue())) {
+                    // Statistics and leq count are updated by a pending pause
+                    measurementService.waitPauseExecutor();
+                    measurementService.closeLeqBatchWriter();
                     if(measurementService.recordId > -1) {
                         // Recording and processing of audio has been closed
                         // Cancel the persistent notification.
@@ -674,6 +810,10 @@ public class MeasurementService extends Service {
             startRecording();
         }
         recordId = measurementManager.addRecord(Storage.Record.CALIBRATION_METHODS.values()[calibrationMethod]);
+        closeLeqBatchWriter();
+        LeqBatchWriter writer = measurementManager.createLeqBatchWriter(chunkedStorage);
+        writer.start();
+        leqBatchWriter = writer;
         leqAdded.set(0);
         isStorageActivated.set(true);
         showNotification();
@@ -0,0 +1,640 @@
+/*
+ * This file is part of the NoiseCapture application and OnoMap system.
+ *
+ * The 'OnoMaP' system is led by Lab-STICC and Ifsttar and generates noise maps via
+ * citizen-contributed noise data.
+ *
+ * This application is co-funded by the ENERGIC-OD Project (European Network for
+ * Redistributing Geospatial Information to user Communities - Open Data). ENERGIC-OD
+ * (http://www.energic-od.eu/) is partially funded under the ICT Policy Support Programme (ICT
+ * PSP) as part of the Competitiveness and Innovation Framework Programme by the European
+ * Community. The application work is also supported by the French geographic portal GEOPAL of the
+ * Pays de la Loire region (http://www.geopal.org).
+ *
+ * Copyright (C) IFSTTAR - LAE and Lab-STICC – CNRS UMR 6285 Equipe DECIDE Vannes
+ *
+ * NoiseCapture is a free software; you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation; either version 3 of
+ * the License, or(at your option) any later version. NoiseCapture is distributed in the hope that
+ * it will be useful,but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for
+ * more details.You should have received a copy of the GNU General Public License along with this
+ * program; if not, write to the Free Software Foundation,Inc., 51 Franklin Street, Fifth Floor,
+ * Boston, MA 02110-1301  USA or see For more information,  write to Ifsttar,
+ * 14-20 Boulevard Newton Cite Descartes, Champs sur Marne F-77447 Marne la Vallee Cedex 2 FRANCE
+ *  or write to scientific.computing@ifsttar.fr
+ */
+
+
+package org.noise_planet.noisecapture;
+
+import android.content.ContentValues;
+import android.content.Context;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Storage of the leq of long records into append-only columnar files. Each chunk file holds up to
+ * {@link #DEFAULT_CHUNK_CAPACITY} leq, every column (time, location, spectrum) is a contiguous
+ * array mapped in memory. The chunks are listed in the {@link Storage.LeqChunk} table, so reading
+ * a time range or deleting a record costs one operation by chunk instead of one by leq.
+ */
+public class RecordChunkStore {
+    // One hour of 1s leq
+    public static final int DEFAULT_CHUNK_CAPACITY = 3600;
+    public static final String CHUNK_DIRECTORY = "leq_chunks";
+    private static final String CHUNK_FILE_EXTENSION = ".chunk";
+    private static final Map<String, RecordChunkStore> STORES = new HashMap<String, RecordChunkStore>();
+
+    private final Storage storage;
+    private final File directory;
+    private final int chunkCapacity;
+    // Chunk being written of each record, guarded by this
+    private final Map<Integer, Appender> appenders = new HashMap<Integer, Appender>();
+
+    RecordChunkStore(Storage storage, File directory, int chunkCapacity) {
+        this.storage = storage;
+        this.directory = directory;
+        this.chunkCapacity = chunkCapacity;
+    }
+
+    /**
+     * @param context Application context
+     * @return The store of the application, shared by all the threads
+     */
+    public static RecordChunkStore getInstance(Context context) {
+        File directory = new File(context.getFilesDir(), CHUNK_DIRECTORY);
+        synchronized (STORES) {
+            RecordChunkStore store = STORES.get(directory.getAbsolutePath());
+            if(store == null) {
+                store = new RecordChunkStore(new Storage(context.getApplicationContext()), directory,
+                        DEFAULT_CHUNK_CAPACITY);
+                STORES.put(directory.getAbsolutePath(), store);
+            }
+            return store;
+        }
+    }
+
+    public int getChunkCapacity() {
+        return chunkCapacity;
+    }
+
+    private File getChunkFile(int recordId, int chunkIndex) {
+        return new File(new File(directory, String.valueOf(recordId)), chunkIndex + CHUNK_FILE_EXTENSION);
+    }
+
+    /**
+     * Append a leq at the end of its record. The leq is readable immediately, but it is on disk only
+     * after {@link #flush(int)}
+     * @param leqBatch Leq and its spectrum, in the order of frequencies
+     */
+    public synchronized void append(MeasurementManager.LeqBatch leqBatch) throws IOException {
+        Storage.Leq leq = leqBatch.getLeq();
+        Appender appender = appenders.get(leq.getRecordId());
+        if(appender == null) {
+            appender = new Appender(leq.getRecordId());
+            appenders.put(leq.getRecordId(), appender);
+        }
+        appender.append(leq, leqBatch.getLeqValues());
+    }
+
+    /**
+     * Write the appended leq of the record on disk and update the chunk index
+     * @param recordId Record identifier
+     */
+    public synchronized void flush(int recordId) throws IOException {
+        Appender appender = appenders.get(recordId);
+        if(appender != null) {
+            appender.sync();
+        }
+    }
+
+    /**
+     * Flush and release the chunk being written of the record
+     * @param recordId Record identifier
+     */
+    public synchronized void close(int recordId) throws IOException {
+        Appender appender = appenders.remove(recordId);
+        if(appender != null) {
+            appender.sync();
+        }
+    }
+
+    /**
+     * @param recordId Record identifier
+     * @return True if the leq of this record are stored in chunks
+     */
+    public boolean hasChunks(int recordId) {
+        SQLiteDatabase database = storage.getReadableDatabase();
+        try {
+            Cursor cursor = database.rawQuery("SELECT 1 FROM " + Storage.LeqChunk.TABLE_NAME +
+                    " WHERE " + Storage.LeqChunk.COLUMN_RECORD_ID + " = ? LIMIT 1",
+                    new String[]{String.valueOf(recordId)});
+            try {
+                return cursor.moveToNext();
+            } finally {
+                cursor.close();
+            }
+        } finally {
+            database.close();
+        }
+    }
+
+    /**
+     * @return Identifiers of the records stored in chunks
+     */
+    public List<Integer> getRecordIds() {
+        List<Integer> recordIds = new ArrayList<Integer>();
+        SQLiteDatabase database = storage.getReadableDatabase();
+        try {
+            Cursor cursor = database.rawQuery("SELECT DISTINCT " + Storage.LeqChunk.COLUMN_RECORD_ID +
+                    " FROM " + Storage.LeqChunk.TABLE_NAME + " ORDER BY " +
+                    Storage.LeqChunk.COLUMN_RECORD_ID, null);
+            try {
+                while (cursor.moveToNext()) {
+                    recordIds.add(cursor.getInt(0));
+                }
+            } finally {
+                cursor.close();
+            }
+        } finally {
+            database.close();
+        }
+        return recordIds;
+    }
+
+    /**
+     * @return Chunk indexes of the record that may hold leq in the time range, in time order
+     */
+    private List<Integer> getChunkIndexes(int recordId, long fromUtc, long toUtc) {
+        List<Integer> chunkIndexes = new ArrayList<Integer>();
+        SQLiteDatabase database = storage.getReadableDatabase();
+        try {
+            // The index of the chunk being written may be late, the chunk is kept if it is not full
+            Cursor cursor = database.rawQuery("SELECT " + Storage.LeqChunk.COLUMN_CHUNK_INDEX +
+                    " FROM " + Storage.LeqChunk.TABLE_NAME + " WHERE " +
+                    Storage.LeqChunk.COLUMN_RECORD_ID + " = ? AND " +
+                    Storage.LeqChunk.COLUMN_FIRST_UTC + " <= ? AND (" +
+                    Storage.LeqChunk.COLUMN_LAST_UTC + " >= ? OR " +
+                    Storage.LeqChunk.COLUMN_LEQ_COUNT + " < " + Storage.LeqChunk.COLUMN_CAPACITY +
+                    ") ORDER BY " + Storage.LeqChunk.COLUMN_CHUNK_INDEX,
+                    new String[]{String.valueOf(recordId), String.valueOf(toUtc), String.valueOf(fromUtc)});
+            try {
+                while (cursor.moveToNext()) {
+                    chunkIndexes.add(cursor.getInt(0));
+                }
+            } finally {
+                cursor.close();
+            }
+        } finally {
+            database.close();
+        }
+        return chunkIndexes;
+    }
+
+    /**
+     * Visit the leq of a record in time order
+     * @param recordId Record identifier
+     * @param fromUtc Minimal leq time, inclusive
+     * @param toUtc Maximal leq time, inclusive
+     * @param visitor Receive the rows of each chunk
+     */
+    void visit(int recordId, long fromUtc, long toUtc, ChunkVisitor visitor) throws IOException {
+        for(int chunkIndex : getChunkIndexes(recordId, fromUtc, toUtc)) {
+            File chunkFile = getChunkFile(recordId, chunkIndex);
+            if(!chunkFile.exists()) {
+                continue;
+            }
+            Chunk chunk = Chunk.open(chunkFile, chunkIndex, false);
+            int from = chunk.lowerBound(fromUtc);
+            int to = toUtc == Long.MAX_VALUE ? chunk.getCount() : chunk.lowerBound(toUtc + 1);
+            if(from < to && !visitor.visit(chunk, from, to)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Remove the leq of a record more recent than the provided time
+     * @param recordId Record identifier
+     * @param fromUtc Leq with a strictly greater time are deleted
+     * @return Number of deleted leq
+     */
+    public synchronized int deleteAfter(int recordId, long fromUtc) throws IOException {
+        close(recordId);
+        List<long[]> chunks = new ArrayList<long[]>();
+        SQLiteDatabase database = storage.getWritableDatabase();
+        try {
+            Cursor cursor = database.rawQuery("SELECT " + Storage.LeqChunk.COLUMN_CHUNK_ID + ", " +
+                    Storage.LeqChunk.COLUMN_CHUNK_INDEX + " FROM " + Storage.LeqChunk.TABLE_NAME +
+                    " WHERE " + Storage.LeqChunk.COLUMN_RECORD_ID + " = ? AND (" +
+                    Storage.LeqChunk.COLUMN_LAST_UTC + " > ? OR " + Storage.LeqChunk.COLUMN_LEQ_COUNT +
+                    " < " + Storage.LeqChunk.COLUMN_CAPACITY + ") ORDER BY " +
+                    Storage.LeqChunk.COLUMN_CHUNK_INDEX + " DESC",
+                    new String[]{String.valueOf(recordId), String.valueOf(fromUtc)});
+            try {
+                while (cursor.moveToNext()) {
+                    chunks.add(new long[]{cursor.getLong(0), cursor.getLong(1)});
+                }
+            } finally {
+                cursor.close();
+            }
+            int deletedLeq = 0;
+            for(long[] chunkIds : chunks) {
+                File chunkFile = getChunkFile(recordId, (int) chunkIds[1]);
+                Chunk chunk = chunkFile.exists() ? Chunk.open(chunkFile, (int) chunkIds[1], true) : null;
+                int keptLeq = chunk == null ? 0 : chunk.lowerBound(fromUtc + 1);
+                if(keptLeq == 0) {
+                    if(chunk != null) {
+                        deletedLeq += chunk.getCount();
+                    }
+                    database.delete(Storage.LeqChunk.TABLE_NAME, Storage.LeqChunk.COLUMN_CHUNK_ID +
+                            " = ?", new String[]{String.valueOf(chunkIds[0])});
+                    if(chunkFile.exists() && !chunkFile.delete()) {
+                        throw new IOException("Cannot delete " + chunkFile);
+                    }
+                } else {
+                    deletedLeq += chunk.getCount() - keptLeq;
+                    chunk.setCount(keptLeq);
+                    chunk.force();
+                    updateIndex(database, chunkIds[0], chunk);
+                }
+            }
+            return deletedLeq;
+        } finally {
+            database.close();
+        }
+    }
+
+    /**
+     * Delete the chunks of a record
+     * @param recordId Record identifier
+     */
+    public synchronized void deleteRecord(int recordId) {
+        appenders.remove(recordId);
+        SQLiteDatabase database = storage.getWritableDatabase();
+        try {
+            database.delete(Storage.LeqChunk.TABLE_NAME, Storage.LeqChunk.COLUMN_RECORD_ID + " = ?",
+                    new String[]{String.valueOf(recordId)});
+        } finally {
+            database.close();
+        }
+        File recordDirectory = new File(directory, String.valueOf(recordId));
+        File[] chunkFiles = recordDirectory.listFiles();
+        if(chunkFiles != null) {
+            for(File chunkFile : chunkFiles) {
+                if(!chunkFile.delete()) {
+                    chunkFile.deleteOnExit();
+                }
+            }
+        }
+        if(recordDirectory.exists() && !recordDirectory.delete()) {
+            recordDirectory.deleteOnExit();
+        }
+    }
+
+    private static void updateIndex(SQLiteDatabase database, long chunkId, Chunk chunk) {
+        ContentValues contentValues = new ContentValues();
+        int count = chunk.getCount();
+        contentValues.put(Storage.LeqChunk.COLUMN_LEQ_COUNT, count);
+        if(count > 0) {
+            contentValues.put(Storage.LeqChunk.COLUMN_FIRST_UTC, chunk.getUtc(0));
+            contentValues.put(Storage.LeqChunk.COLUMN_LAST_UTC, chunk.getUtc(count - 1));
+        }
+        database.update(Storage.LeqChunk.TABLE_NAME, contentValues, Storage.LeqChunk.COLUMN_CHUNK_ID +
+                " = ?", new String[]{String.valueOf(chunkId)});
+    }
+
+    /**
+     * Receive leq rows of chunks
+     */
+    interface ChunkVisitor {
+        /**
+         * @param chunk Chunk content
+         * @param from First row, inclusive
+         * @param to Last row, exclusive
+         * @return False to stop the iteration
+         */
+        boolean visit(Chunk chunk, int from, int to);
+    }
+
+    /**
+     * Chunk being written of a record, used under the store lock
+     */
+    private final class Appender {
+        private final int recordId;
+        private Chunk chunk = null;
+        private long chunkId = -1;
+        private boolean dirty = false;
+
+        Appender(int recordId) {
+            this.recordId = recordId;
+        }
+
+        void append(Storage.Leq leq, List<Storage.LeqValue> leqValues) throws IOException {
+            if(chunk != null && chunk.isFull()) {
+                sync();
+                chunk = null;
+            }
+            if(chunk == null) {
+                openChunk(leq, leqValues.size());
+            }
+            chunk.append(leq, leqValues);
+            dirty = true;
+        }
+
+        /**
+         * Continue the last chunk of the record if it is not full, or create a new chunk
+         */
+        private void openChunk(Storage.Leq leq, int bandCount) throws IOException {
+            int chunkIndex = 0;
+            SQLiteDatabase database = storage.getWritableDatabase();
+            try {
+                Cursor cursor = database.rawQuery("SELECT " + Storage.LeqChunk.COLUMN_CHUNK_ID + ", " +
+                        Storage.LeqChunk.COLUMN_CHUNK_INDEX + " FROM " + Storage.LeqChunk.TABLE_NAME +
+                        " WHERE " + Storage.LeqChunk.COLUMN_RECORD_ID + " = ? ORDER BY " +
+                        Storage.LeqChunk.COLUMN_CHUNK_INDEX + " DESC LIMIT 1",
+                        new String[]{String.valueOf(recordId)});
+                try {
+                    if(cursor.moveToNext()) {
+                        long lastChunkId = cursor.getLong(0);
+                        int lastChunkIndex = cursor.getInt(1);
+                        File chunkFile = getChunkFile(recordId, lastChunkIndex);
+                        if(chunkFile.exists()) {
+                            Chunk lastChunk = Chunk.open(chunkFile, lastChunkIndex, true);
+                            if(!lastChunk.isFull() && lastChunk.getBandCount() == bandCount) {
+                                chunk = lastChunk;
+                                chunkId = lastChunkId;
+                                return;
+                            }
+                        }
+                        chunkIndex = lastChunkIndex + 1;
+                    }
+                } finally {
+                    cursor.close();
+                }
+                File chunkFile = getChunkFile(recordId, chunkIndex);
+                File recordDirectory = chunkFile.getParentFile();
+                if(!recordDirectory.exists() && !recordDirectory.mkdirs()) {
+                    throw new IOException("Cannot create " + recordDirectory);
+                }
+                chunk = Chunk.create(chunkFile, chunkIndex, chunkCapacity, bandCount);
+                ContentValues contentValues = new ContentValues();
+                contentValues.put(Storage.LeqChunk.COLUMN_RECORD_ID, recordId);
+                contentValues.put(Storage.LeqChunk.COLUMN_CHUNK_INDEX, chunkIndex);
+                contentValues.put(Storage.LeqChunk.COLUMN_FIRST_UTC, leq.getLeqUtc());
+                contentValues.put(Storage.LeqChunk.COLUMN_LAST_UTC, leq.getLeqUtc());
+                contentValues.put(Storage.LeqChunk.COLUMN_LEQ_COUNT, 0);
+                contentValues.put(Storage.LeqChunk.COLUMN_CAPACITY, chunkCapacity);
+                chunkId = database.insertOrThrow(Storage.LeqChunk.TABLE_NAME, null, contentValues);
+            } finally {
+                database.close();
+            }
+        }
+
+        void sync() {
+            if(dirty && chunk != null) {
+                chunk.force();
+                SQLiteDatabase database = storage.getWritableDatabase();
+                try {
+                    updateIndex(database, chunkId, chunk);
+                } finally {
+                    database.close();
+                }
+                dirty = false;
+            }
+        }
+    }
+
+    /**
+     * Memory mapped chunk file. Little-endian header (magic, version, capacity, band count, leq
+     * count) followed by one array by column.
+     */
+    static final class Chunk {
+        private static final int MAGIC = 0x4B43434E;
+        private static final int FORMAT_VERSION = 1;
+        private static final int HEADER_SIZE = 32;
+        private static final int HEADER_COUNT_OFFSET = 16;
+
+        private final ByteBuffer buffer;
+        private final int chunkIndex;
+        private final int capacity;
+        private final int bandCount;
+        private final int utcOffset;
+        private final int locationUtcOffset;
+        private final int latitudeOffset;
+        private final int longitudeOffset;
+        private final int altitudeOffset;
+        private final int accuracyOffset;
+        private final int speedOffset;
+        private final int bearingOffset;
+        private final int spectrumOffset;
+
+        private Chunk(ByteBuffer buffer, int chunkIndex, int capacity, int bandCount) {
+            this.buffer = buffer;
+            this.chunkIndex = chunkIndex;
+            this.capacity = capacity;
+            this.bandCount = bandCount;
+            utcOffset = HEADER_SIZE;
+            locationUtcOffset = utcOffset + capacity * 8;
+            latitudeOffset = locationUtcOffset + capacity * 8;
+            longitudeOffset = latitudeOffset + capacity * 8;
+            altitudeOffset = longitudeOffset + capacity * 8;
+            accuracyOffset = altitudeOffset + capacity * 8;
+            speedOffset = accuracyOffset + capacity * 4;
+            bearingOffset = speedOffset + capacity * 4;
+            spectrumOffset = bearingOffset + capacity * 4;
+        }
+
+        static long getFileSize(int capacity, int bandCount) {
+            return HEADER_SIZE + (long) capacity * (5 * 8 + 3 * 4 + bandCount * 2);
+        }
+
+        static Chunk create(File file, int chunkIndex, int capacity, int bandCount) throws IOException {
+            ByteBuffer buffer = map(file, true, getFileSize(capacity, bandCount));
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, FORMAT_VERSION);
+            buffer.putInt(8, capacity);
+            buffer.putInt(12, bandCount);
+            buffer.putInt(HEADER_COUNT_OFFSET, 0);
+            return new Chunk(buffer, chunkIndex, capacity, bandCount);
+        }
+
+        static Chunk open(File file, int chunkIndex, boolean writable) throws IOException {
+            ByteBuffer buffer = map(file, writable, -1);
+            if(buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC ||
+                    buffer.getInt(4) != FORMAT_VERSION) {
+                throw new IOException("Not a leq chunk file " + file);
+            }
+            int capacity = buffer.getInt(8);
+            int bandCount = buffer.getInt(12);
+            if(capacity <= 0 || bandCount < 0 || buffer.capacity() < getFileSize(capacity, bandCount)) {
+                throw new IOException("Truncated leq chunk file " + file);
+            }
+            return new Chunk(buffer, chunkIndex, capacity, bandCount);
+        }
+
+        private static ByteBuffer map(File file, boolean writable, long size) throws IOException {
+            RandomAccessFile randomAccessFile = new RandomAccessFile(file, writable ? "rw" : "r");
+            try {
+                if(size >= 0) {
+                    randomAccessFile.setLength(size);
+                } else {
+                    size = randomAccessFile.length();
+                }
+                // The mapping stays valid after closing the file
+                return randomAccessFile.getChannel().map(writable ? FileChannel.MapMode.READ_WRITE :
+                        FileChannel.MapMode.READ_ONLY, 0, size).order(ByteOrder.LITTLE_ENDIAN);
+            } finally {
+                randomAccessFile.close();
+            }
+        }
+
+        int getCount() {
+            return Math.min(capacity, buffer.getInt(HEADER_COUNT_OFFSET));
+        }
+
+        void setCount(int count) {
+            buffer.putInt(HEADER_COUNT_OFFSET, count);
+        }
+
+        boolean isFull() {
+            return getCount() >= capacity;
+        }
+
+        int getCapacity() {
+            return capacity;
+        }
+
+        int getBandCount() {
+            return bandCount;
+        }
+
+        void force() {
+            if(buffer instanceof MappedByteBuffer) {
+                ((MappedByteBuffer) buffer).force();
+            }
+        }
+
+        void append(Storage.Leq leq, List<Storage.LeqValue> leqValues) {
+            int row = getCount();
+            buffer.putLong(utcOffset + row * 8, leq.getLeqUtc());
+            buffer.putLong(locationUtcOffset + row * 8, leq.getLocationUTC());
+            buffer.putDouble(latitudeOffset + row * 8, leq.getLatitude());
+            buffer.putDouble(longitudeOffset + row * 8, leq.getLongitude());
+            buffer.putDouble(altitudeOffset + row * 8, leq.getAltitude() == null ? Double.NaN : leq.getAltitude());
+            buffer.putFloat(accuracyOffset + row * 4, leq.getAccuracy());
+            buffer.putFloat(speedOffset + row * 4, leq.getSpeed() == null ? Float.NaN : leq.getSpeed());
+            buffer.putFloat(bearingOffset + row * 4, leq.getBearing() == null ? Float.NaN : leq.getBearing());
+            float[] spectrum = new float[bandCount];
+            for(int idBand = 0; idBand < bandCount; idBand++) {
+                spectrum[idBand] = idBand < leqValues.size() ? leqValues.get(idBand).getSpl() : Float.NaN;
+            }
+            ByteBuffer spectrumBuffer = buffer.duplicate();
+            spectrumBuffer.position(spectrumOffset + row * bandCount * 2);
+            spectrumBuffer.put(Storage.Leq.packSpectrum(spectrum));
+            // The row is visible to the readers once the count is updated
+            setCount(row + 1);
+        }
+
+        /**
+         * @param utc Time
+         * @return First row with a time greater or equal to utc, or the row count
+         */
+        int lowerBound(long utc) {
+            int low = 0;
+            int high = getCount();
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if(getUtc(middle) < utc) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * @return Identifier of the leq in its record
+         */
+        int getLeqId(int row) {
+            return chunkIndex * capacity + row + 1;
+        }
+
+        long getUtc(int row) {
+            return buffer.getLong(utcOffset + row * 8);
+        }
+
+        long getLocationUtc(int row) {
+            return buffer.getLong(locationUtcOffset + row * 8);
+        }
+
+        double getLatitude(int row) {
+            return buffer.getDouble(latitudeOffset + row * 8);
+        }
+
+        double getLongitude(int row) {
+            return buffer.getDouble(longitudeOffset + row * 8);
+        }
+
+        float getAccuracy(int row) {
+            return buffer.getFloat(accuracyOffset + row * 4);
+        }
+
+        /**
+         * @param row Row index
+         * @param spectrum Output sound levels in dB, NaN for a missing value
+         */
+        void getSpectrum(int row, float[] spectrum) {
+            final int offset = spectrumOffset + row * bandCount * 2;
+            for(int idBand = 0; idBand < bandCount && idBand < spectrum.length; idBand++) {
+                short value = buffer.getShort(offset + idBand * 2);
+                spectrum[idBand] = value == Storage.Leq.SPECTRUM_MISSING_VALUE ? Float.NaN : value * Storage.Leq.SPECTRUM_PRECISION;
+            }
+        }
+
+        /**
+         * @return Altitude, NaN if unknown
+         */
+        double getAltitude(int row) {
+            return buffer.getDouble(altitudeOffset + row * 8);
+        }
+
+        /**
+         * @return Speed, NaN if unknown
+         */
+        float getSpeed(int row) {
+            return buffer.getFloat(speedOffset + row * 4);
+        }
+
+        /**
+         * @return Bearing, NaN if unknown
+         */
+        float getBearing(int row) {
+            return buffer.getFloat(bearingOffset + row * 4);
+        }
+
+        Storage.Leq getLeq(int recordId, int row) {
+            double altitude = getAltitude(row);
+            float speed = getSpeed(row);
+            float bearing = getBearing(row);
+            return new Storage.Leq(recordId, getLeqId(row), getUtc(row), getLatitude(row),
+                    getLongitude(row), Double.isNaN(altitude) ? null : altitude,
+                    Float.isNaN(speed) ? null : speed, Float.isNaN(bearing) ? null : bearing,
+                    getAccuracy(row), getLocationUtc(row));
+        }
+    }
+}
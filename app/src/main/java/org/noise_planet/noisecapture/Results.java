@@ -70,6 +70,7 @@ import com.nhaarman.supertooltips.ToolTipRelativeLayout;
 import com.nhaarman.supertooltips.ToolTipView;
 
 import org.noise_planet.noisecapture.util.CustomPercentFormatter;
+import org.orbisgis.sos.DecibelConversion;
 import org.orbisgis.sos.LeqStats;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -642,33 +643,42 @@ public class Results extends MainActivity {
         @Override
         public void run() {
 
-            // Query database
-            List<Integer> frequencies = new ArrayList<Integer>();
-            List<Float[]> leqValues = new ArrayList<Float[]>();
-            activity.measurementManager.getRecordLeqs(activity.record.getId(), frequencies, leqValues, new
-                    ReadRecordsProgression(activity));
-
+            double[] frequencies = AudioProcess.realTimeCenterFrequency;
             // Create leq statistics by frequency
-            LeqStats[] leqStatsByFreq = new LeqStats[frequencies.size()];
+            final LeqStats[] leqStatsByFreq = new LeqStats[frequencies.length];
             for(int idFreq = 0; idFreq < leqStatsByFreq.length; idFreq++) {
                 leqStatsByFreq[idFreq] = new LeqStats();
             }
-            // parse each leq window time
-            for(Float[] leqFreqs : leqValues) {
-                double rms = 0;
-                int idFreq = 0;
-                for(float leqValue : leqFreqs) {
-                    leqStatsByFreq[idFreq].addLeq(leqValue);
-                    rms += Math.pow(10, leqValue / 10);
-                    idFreq++;
-                }
-                activity.leqStats.addLeq(10 * Math.log10(rms));
-            }
+            // Query database, parse each leq window time
+            activity.measurementManager.getRecordPages(activity.record.getId(), false, 0,
+                    new ReadRecordsProgression(activity), null,
+                    new MeasurementManager.LeqPage(MeasurementManager.DEFAULT_PAGE_SIZE),
+                    new MeasurementManager.PageVisitor() {
+                        @Override
+                        public boolean visit(MeasurementManager.LeqPage page) {
+                            float[][] spectrum = page.getSpectrum();
+                            for(int row = 0; row < page.getSize(); row++) {
+                                double rms = 0;
+                                for(int idFreq = 0; idFreq < leqStatsByFreq.length; idFreq++) {
+                                    float leqValue = spectrum[row][idFreq];
+                                    // Bands missing from the stored spectrum are NaN
+                                    if(!Float.isNaN(leqValue)) {
+                                        leqStatsByFreq[idFreq].addLeq(leqValue);
+                                        rms += DecibelConversion.dBToEnergy(leqValue);
+                                    }
+                                }
+                                if(rms > 0) {
+                                    activity.leqStats.addLeq(DecibelConversion.energyTodB(rms));
+                                }
+                            }
+                            return true;
+                        }
+                    });
             activity.splHistogram = new ArrayList<>(leqStatsByFreq.length);
             activity.ltob = new String[leqStatsByFreq.length];
             int idFreq = 0;
             for (LeqStats aLeqStatsByFreq : leqStatsByFreq) {
-                activity.ltob[idFreq] = Spectrogram.formatFrequency(frequencies.get(idFreq));
+                activity.ltob[idFreq] = Spectrogram.formatFrequency((int) frequencies[idFreq]);
                 activity.splHistogram.add((float) aLeqStatsByFreq.getLeqMean());
                 idFreq++;
             }
@@ -36,6 +36,8 @@ import android.graphics.Rect;
 import android.util.AttributeSet;
 import android.view.View;
 
+import org.orbisgis.sos.DecibelConversion;
+
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
 import java.util.ArrayList;
@@ -274,11 +276,11 @@ public class Spectrogram extends View {
                     }
                     for (int idfreq = freqStart; idfreq < freqEnd; idfreq++) {
                         // Rescale value and pick the color in the color ramp
-                        sumVal += Math.pow(10, ticSpectrum[idfreq] / 10);
+                        sumVal += DecibelConversion.dBToEnergy(ticSpectrum[idfreq]);
                     }
                     lastProcessFrequencyIndex = Math.min(spectrum.length, nextFrequencyIndex);
                     sumVal = (float)Math.max(0,
-                            (10 * Math.log10(sumVal)));
+                            DecibelConversion.energyTodB(sumVal));
                     int pixColor = getColor(sumVal, min, max);
                     for(int y = 0; y < ticWidth; y++) {
                         ticColors[((spectrogramHeight - 1) - pixel) * ticWidth + y] = pixColor;
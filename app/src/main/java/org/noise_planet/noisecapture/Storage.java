@@ -32,6 +32,7 @@ import android.content.Context;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteOpenHelper;
+import android.database.sqlite.SQLiteStatement;
 import android.graphics.Bitmap;
 import android.graphics.BitmapFactory;
 import android.net.Uri;
@@ -43,6 +44,7 @@ import android.text.TextUtils;
 import org.noise_planet.noisecapture.util.TrafficNoiseEstimator;
 
 import java.text.DateFormat;
+import java.util.Arrays;
 import java.util.Date;
 
 /**
@@ -96,7 +98,7 @@ public class Storage extends SQLiteOpenHelper {
         }
     }
     // If you change the database schema, you must increment the database version.
-    public static final int DATABASE_VERSION = 11;
+    public static final int DATABASE_VERSION = 14;
     public static final String DATABASE_NAME = "Storage.db";
     private static final String ACTIVATE_FOREIGN_KEY = "PRAGMA foreign_keys=ON;";
 
@@ -109,7 +111,10 @@ public class Storage extends SQLiteOpenHelper {
         db.execSQL(ACTIVATE_FOREIGN_KEY);
         db.execSQL(CREATE_RECORD);
         db.execSQL(CREATE_LEQ);
-        db.execSQL(CREATE_LEQ_VALUE);
+        db.execSQL(CREATE_LEQ_CHUNK);
+        db.execSQL(CREATE_LEQ_CHUNK_INDEX);
+        db.execSQL(CREATE_LEQ_TILE);
+        db.execSQL(CREATE_LEQ_TILE_RECORD);
         db.execSQL(CREATE_RECORD_TAG);
         db.execSQL(CREATE_TRAFFIC_CALIBRATION_SESSION);
     }
@@ -195,6 +200,80 @@ public class Storage extends SQLiteOpenHelper {
             }
             oldVersion = 11;
         }
+        if(oldVersion == 11) {
+            if(!db.isReadOnly()) {
+                // Third-octave spectrum is packed into a blob of the leq row
+                db.execSQL("ALTER TABLE leq ADD COLUMN spectrum BLOB");
+                packLeqValues(db);
+                db.execSQL("DROP TABLE IF EXISTS leq_value");
+            }
+            oldVersion = 12;
+        }
+        if(oldVersion == 12) {
+            if(!db.isReadOnly()) {
+                // Index of the leq chunk files of long records
+                db.execSQL("CREATE TABLE leq_chunk(chunk_id INTEGER PRIMARY KEY, record_id INTEGER," +
+                        " chunk_index INTEGER, first_utc LONG, last_utc LONG, leq_count INTEGER," +
+                        " capacity INTEGER, FOREIGN KEY(record_id) REFERENCES record(record_id)" +
+                        " ON DELETE CASCADE)");
+                db.execSQL("CREATE INDEX leq_chunk_record ON leq_chunk(record_id, chunk_index)");
+            }
+            oldVersion = 13;
+        }
+        if(oldVersion == 13) {
+            if(!db.isReadOnly()) {
+                // Aggregation of the located leq by map cell
+                db.execSQL("CREATE TABLE leq_tile(zoom INTEGER, cell_x INTEGER, cell_y INTEGER," +
+                        " energy DOUBLE, leq_count INTEGER, PRIMARY KEY(zoom, cell_x, cell_y))");
+                db.execSQL("CREATE TABLE leq_tile_record(record_id INTEGER, zoom INTEGER," +
+                        " cell_x INTEGER, cell_y INTEGER, energy DOUBLE, leq_count INTEGER," +
+                        " PRIMARY KEY(record_id, zoom, cell_x, cell_y), FOREIGN KEY(record_id)" +
+                        " REFERENCES record(record_id) ON DELETE CASCADE)");
+                // The existing leq are aggregated on the first use of the map
+                db.execSQL("INSERT INTO leq_tile VALUES (-1, 0, 0, 0, 1)");
+            }
+            oldVersion = 14;
+        }
+    }
+
+    /**
+     * Copy the rows of the leq_value table of version 11 into the spectrum column of leq
+     */
+    private static void packLeqValues(SQLiteDatabase db) {
+        SQLiteStatement updateStatement = db.compileStatement("UPDATE leq SET spectrum = ? WHERE leq_id = ?");
+        Cursor cursor = db.rawQuery("SELECT leq_id, spl FROM leq_value ORDER BY leq_id, frequency", null);
+        try {
+            float[] spl = new float[32];
+            int splCount = 0;
+            long lastLeqId = -1;
+            while (cursor.moveToNext()) {
+                long leqId = cursor.getLong(0);
+                if(leqId != lastLeqId) {
+                    if(splCount > 0) {
+                        updateSpectrum(updateStatement, lastLeqId, Arrays.copyOf(spl, splCount));
+                    }
+                    lastLeqId = leqId;
+                    splCount = 0;
+                }
+                if(splCount == spl.length) {
+                    spl = Arrays.copyOf(spl, spl.length * 2);
+                }
+                spl[splCount++] = cursor.isNull(1) ? Float.NaN : cursor.getFloat(1);
+            }
+            if(splCount > 0) {
+                updateSpectrum(updateStatement, lastLeqId, Arrays.copyOf(spl, splCount));
+            }
+        } finally {
+            cursor.close();
+            updateStatement.close();
+        }
+    }
+
+    private static void updateSpectrum(SQLiteStatement updateStatement, long leqId, float[] spl) {
+        updateStatement.clearBindings();
+        updateStatement.bindBlob(1, Leq.packSpectrum(spl));
+        updateStatement.bindLong(2, leqId);
+        updateStatement.execute();
     }
 
 
@@ -446,6 +525,11 @@ public class Storage extends SQLiteOpenHelper {
         public static final String COLUMN_SPEED = "speed"; // device speed estimation
         public static final String COLUMN_BEARING = "bearing"; // device orientation estimation
         public static final String COLUMN_LOCATION_UTC = "location_utc"; // date of last obtained location
+        public static final String COLUMN_SPECTRUM = "spectrum"; // third-octave spl, see packSpectrum
+        // Quantization of packed spectrum values (dB)
+        public static final float SPECTRUM_PRECISION = 0.01f;
+        // Packed value of a missing spl
+        static final short SPECTRUM_MISSING_VALUE = Short.MIN_VALUE;
 
         private int recordId;
         private int leqId;
@@ -550,6 +634,55 @@ public class Storage extends SQLiteOpenHelper {
         public long getLocationUTC() {
             return locationUTC;
         }
+
+        /**
+         * Pack third-octave sound levels into 16 bits little-endian integers of
+         * {@link #SPECTRUM_PRECISION} dB.
+         * @param spl Sound levels in dB, in the order of frequencies. NaN for a missing value.
+         * @return Blob content of {@link #COLUMN_SPECTRUM}
+         */
+        public static byte[] packSpectrum(float[] spl) {
+            byte[] data = new byte[spl.length * 2];
+            for(int i = 0; i < spl.length; i++) {
+                short value;
+                if(Float.isNaN(spl[i])) {
+                    value = SPECTRUM_MISSING_VALUE;
+                } else {
+                    value = (short) Math.max(Short.MIN_VALUE + 1, Math.min(Short.MAX_VALUE,
+                            Math.round(spl[i] / SPECTRUM_PRECISION)));
+                }
+                data[i * 2] = (byte) value;
+                data[i * 2 + 1] = (byte) (value >> 8);
+            }
+            return data;
+        }
+
+        /**
+         * @param data Blob content of {@link #COLUMN_SPECTRUM}
+         * @return Sound levels in dB, NaN for a missing value
+         */
+        public static float[] unpackSpectrum(byte[] data) {
+            if(data == null) {
+                return new float[0];
+            }
+            float[] spl = new float[data.length / 2];
+            unpackSpectrum(data, spl);
+            return spl;
+        }
+
+        /**
+         * @param data Blob content of {@link #COLUMN_SPECTRUM}
+         * @param spl Output sound levels in dB, NaN for a missing value. Values that are not in
+         *            data are set to NaN.
+         */
+        public static void unpackSpectrum(byte[] data, float[] spl) {
+            final int length = data == null ? 0 : Math.min(spl.length, data.length / 2);
+            for(int i = 0; i < length; i++) {
+                short value = (short) ((data[i * 2] & 0xFF) | (data[i * 2 + 1] << 8));
+                spl[i] = value == SPECTRUM_MISSING_VALUE ? Float.NaN : value * SPECTRUM_PRECISION;
+            }
+            Arrays.fill(spl, length, spl.length, Float.NaN);
+        }
     }
 
     public static final String CREATE_LEQ = "CREATE TABLE " + Leq.TABLE_NAME + "(" +
@@ -563,24 +696,92 @@ public class Storage extends SQLiteOpenHelper {
             Leq.COLUMN_SPEED + " FLOAT, " +
             Leq.COLUMN_ACCURACY + " FLOAT, " +
             Leq.COLUMN_LOCATION_UTC + " LONG, " +
+            Leq.COLUMN_SPECTRUM + " BLOB, " +
             "FOREIGN KEY(" + Leq.COLUMN_RECORD_ID + ") REFERENCES record("+Record.COLUMN_ID+") ON DELETE CASCADE)";
 
-    public static final class LeqValue implements BaseColumns {
-        public static final String TABLE_NAME = "leq_value";
-        public static final String COLUMN_LEQ_ID = "leq_id";
-        public static final String COLUMN_FREQUENCY = "frequency";
-        public static final String COLUMN_SPL = "spl"; // Spl value in dB(A)
+    /**
+     * Index of the leq files written by {@link RecordChunkStore}
+     */
+    public static final class LeqChunk {
+        public static final String TABLE_NAME = "leq_chunk";
+        public static final String COLUMN_CHUNK_ID = "chunk_id";
+        public static final String COLUMN_RECORD_ID = "record_id";
+        public static final String COLUMN_CHUNK_INDEX = "chunk_index"; // order of the chunk in the record
+        public static final String COLUMN_FIRST_UTC = "first_utc";
+        public static final String COLUMN_LAST_UTC = "last_utc";
+        public static final String COLUMN_LEQ_COUNT = "leq_count";
+        public static final String COLUMN_CAPACITY = "capacity"; // maximum number of leq in the chunk
+    }
+
+    public static final String CREATE_LEQ_CHUNK = "CREATE TABLE " + LeqChunk.TABLE_NAME + "(" +
+            LeqChunk.COLUMN_CHUNK_ID + " INTEGER PRIMARY KEY, " +
+            LeqChunk.COLUMN_RECORD_ID + " INTEGER, " +
+            LeqChunk.COLUMN_CHUNK_INDEX + " INTEGER, " +
+            LeqChunk.COLUMN_FIRST_UTC + " LONG, " +
+            LeqChunk.COLUMN_LAST_UTC + " LONG, " +
+            LeqChunk.COLUMN_LEQ_COUNT + " INTEGER, " +
+            LeqChunk.COLUMN_CAPACITY + " INTEGER, " +
+            "FOREIGN KEY(" + LeqChunk.COLUMN_RECORD_ID + ") REFERENCES record(" + Record.COLUMN_ID +
+            ") ON DELETE CASCADE);";
+
+    public static final String CREATE_LEQ_CHUNK_INDEX = "CREATE INDEX leq_chunk_record ON " +
+            LeqChunk.TABLE_NAME + "(" + LeqChunk.COLUMN_RECORD_ID + ", " + LeqChunk.COLUMN_CHUNK_INDEX + ")";
+
+    /**
+     * Located leq aggregated by map cell, see {@link LeqTileIndex}
+     */
+    public static final class LeqTile {
+        public static final String TABLE_NAME = "leq_tile";
+        public static final String COLUMN_ZOOM = "zoom"; // map zoom level
+        public static final String COLUMN_CELL_X = "cell_x"; // column of the cell at this zoom level
+        public static final String COLUMN_CELL_Y = "cell_y"; // row of the cell at this zoom level
+        public static final String COLUMN_ENERGY = "energy"; // sum of the sound energy of the leq
+        public static final String COLUMN_LEQ_COUNT = "leq_count";
+    }
+
+    public static final String CREATE_LEQ_TILE = "CREATE TABLE " + LeqTile.TABLE_NAME + "(" +
+            LeqTile.COLUMN_ZOOM + " INTEGER, " +
+            LeqTile.COLUMN_CELL_X + " INTEGER, " +
+            LeqTile.COLUMN_CELL_Y + " INTEGER, " +
+            LeqTile.COLUMN_ENERGY + " DOUBLE, " +
+            LeqTile.COLUMN_LEQ_COUNT + " INTEGER, " +
+            "PRIMARY KEY(" + LeqTile.COLUMN_ZOOM + ", " + LeqTile.COLUMN_CELL_X + ", " +
+            LeqTile.COLUMN_CELL_Y + "))";
+
+    /**
+     * Part of the {@link LeqTile} cells that comes from a record, a record is removed from the
+     * cells without reading its leq
+     */
+    public static final class LeqTileRecord {
+        public static final String TABLE_NAME = "leq_tile_record";
+        public static final String COLUMN_RECORD_ID = "record_id";
+        public static final String COLUMN_ZOOM = "zoom";
+        public static final String COLUMN_CELL_X = "cell_x";
+        public static final String COLUMN_CELL_Y = "cell_y";
+        public static final String COLUMN_ENERGY = "energy";
+        public static final String COLUMN_LEQ_COUNT = "leq_count";
+    }
 
+    public static final String CREATE_LEQ_TILE_RECORD = "CREATE TABLE " + LeqTileRecord.TABLE_NAME + "(" +
+            LeqTileRecord.COLUMN_RECORD_ID + " INTEGER, " +
+            LeqTileRecord.COLUMN_ZOOM + " INTEGER, " +
+            LeqTileRecord.COLUMN_CELL_X + " INTEGER, " +
+            LeqTileRecord.COLUMN_CELL_Y + " INTEGER, " +
+            LeqTileRecord.COLUMN_ENERGY + " DOUBLE, " +
+            LeqTileRecord.COLUMN_LEQ_COUNT + " INTEGER, " +
+            "PRIMARY KEY(" + LeqTileRecord.COLUMN_RECORD_ID + ", " + LeqTileRecord.COLUMN_ZOOM + ", " +
+            LeqTileRecord.COLUMN_CELL_X + ", " + LeqTileRecord.COLUMN_CELL_Y + "), " +
+            "FOREIGN KEY(" + LeqTileRecord.COLUMN_RECORD_ID + ") REFERENCES record(" + Record.COLUMN_ID +
+            ") ON DELETE CASCADE)";
+
+    /**
+     * Sound level of a frequency band, stored in {@link Leq#COLUMN_SPECTRUM}
+     */
+    public static final class LeqValue {
         private final int leqId;
         private final int frequency;
         private final float spl;
 
-        public LeqValue(Cursor cursor) {
-            this(cursor.getInt(cursor.getColumnIndex(COLUMN_LEQ_ID)),
-                    cursor.getInt(cursor.getColumnIndex(COLUMN_FREQUENCY)),
-                    cursor.getFloat(cursor.getColumnIndex(COLUMN_SPL)));
-        }
-
         /**
          * @param leqId Leq Id or -1 if unknown
          * @param frequency Frequency in Hertz
@@ -605,13 +806,6 @@ public class Storage extends SQLiteOpenHelper {
         }
     }
 
-    public static final String CREATE_LEQ_VALUE = "CREATE TABLE " + LeqValue.TABLE_NAME + "(" +
-            LeqValue.COLUMN_LEQ_ID +" INTEGER, " +
-            LeqValue.COLUMN_FREQUENCY +" INTEGER, " +
-            LeqValue.COLUMN_SPL +" FLOAT, " +
-            "PRIMARY KEY("+LeqValue.COLUMN_LEQ_ID +", "+LeqValue.COLUMN_FREQUENCY +"), " +
-            "FOREIGN KEY("+LeqValue.COLUMN_LEQ_ID +") REFERENCES leq("+Leq.COLUMN_LEQ_ID+") ON DELETE CASCADE);";
-
     public static final class RecordTag {
         public static final String TABLE_NAME = "record_tag";
         public static final String COLUMN_TAG_ID = "tag_id";
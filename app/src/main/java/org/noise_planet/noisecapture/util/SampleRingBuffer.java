@@ -0,0 +1,276 @@
+/*
+ * This file is part of the NoiseCapture application and OnoMap system.
+ *
+ * The 'OnoMaP' system is led by Lab-STICC and Ifsttar and generates noise maps via
+ * citizen-contributed noise data.
+ *
+ * This application is co-funded by the ENERGIC-OD Project (European Network for
+ * Redistributing Geospatial Information to user Communities - Open Data). ENERGIC-OD
+ * (http://www.energic-od.eu/) is partially funded under the ICT Policy Support Programme (ICT
+ * PSP) as part of the Competitiveness and Innovation Framework Programme by the European
+ * Community. The application work is also supported by the French geographic portal GEOPAL of the
+ * Pays de la Loire region (http://www.geopal.org).
+ *
+ * Copyright (C) IFSTTAR - LAE and Lab-STICC – CNRS UMR 6285 Equipe DECIDE Vannes
+ *
+ * NoiseCapture is a free software; you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation; either version 3 of
+ * the License, or(at your option) any later version. NoiseCapture is distributed in the hope that
+ * it will be useful,but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for
+ * more details.You should have received a copy of the GNU General Public License along with this
+ * program; if not, write to the Free Software Foundation,Inc., 51 Franklin Street, Fifth Floor,
+ * Boston, MA 02110-1301  USA or see For more information,  write to Ifsttar,
+ * 14-20 Boulevard Newton Cite Descartes, Champs sur Marne F-77447 Marne la Vallee Cedex 2 FRANCE
+ *  or write to scientific.computing@ifsttar.fr
+ */
+
+package org.noise_planet.noisecapture.util;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Preallocated ring of audio sample blocks with one producer and multiple consumers.
+ * Each consumer reads all the blocks with its own cursor. The producer never waits, if the slowest
+ * consumer is late by the ring capacity the new block is dropped and counted as overflow.
+ */
+public class SampleRingBuffer {
+    private final short[][] blocks;
+    private final int[] blockLength;
+    // Scratch block used when the ring is full
+    private final short[] overflowBlock;
+    // Number of published blocks, written only by the producer
+    private final AtomicLong writeSequence = new AtomicLong(0);
+    private volatile long publishedSamples = 0;
+    private volatile long droppedSamples = 0;
+    private volatile long droppedBlocks = 0;
+    private volatile boolean closed = false;
+    private volatile Consumer[] consumers = new Consumer[0];
+    // Producer state
+    private boolean writeInOverflowBlock = false;
+
+    /**
+     * @param blockCount Number of blocks in the ring
+     * @param blockSize Maximum number of samples in a block
+     */
+    public SampleRingBuffer(int blockCount, int blockSize) {
+        if(blockCount <= 0 || blockSize <= 0) {
+            throw new IllegalArgumentException("Ring size must be greater than 0");
+        }
+        blocks = new short[blockCount][blockSize];
+        blockLength = new int[blockCount];
+        overflowBlock = new short[blockSize];
+    }
+
+    /**
+     * Register a new consumer. The consumer start reading at the next published block.
+     * @return Consumer cursor
+     */
+    public synchronized Consumer addConsumer() {
+        Consumer consumer = new Consumer(this, writeSequence.get(), publishedSamples);
+        Consumer[] newConsumers = Arrays.copyOf(consumers, consumers.length + 1);
+        newConsumers[consumers.length] = consumer;
+        consumers = newConsumers;
+        return consumer;
+    }
+
+    /**
+     * @return Maximum number of samples in a block
+     */
+    public int getBlockSize() {
+        return overflowBlock.length;
+    }
+
+    public int getBlockCount() {
+        return blocks.length;
+    }
+
+    /**
+     * Producer only. Return the block to fill before calling {@link #publish(int)}.
+     * If the ring is full the returned block is a scratch block that will not be published.
+     * @return Block to fill
+     */
+    public short[] getWriteBlock() {
+        long sequence = writeSequence.get();
+        writeInOverflowBlock = sequence - getMinimalConsumerSequence(sequence) >= blocks.length;
+        if(writeInOverflowBlock) {
+            return overflowBlock;
+        } else {
+            return blocks[(int)(sequence % blocks.length)];
+        }
+    }
+
+    /**
+     * Producer only. Publish the block returned by {@link #getWriteBlock()} to the consumers.
+     * @param length Number of samples written in the block
+     * @return False if the block has been dropped because the ring is full
+     */
+    public boolean publish(int length) {
+        if(writeInOverflowBlock) {
+            droppedSamples += length;
+            droppedBlocks++;
+            return false;
+        }
+        long sequence = writeSequence.get();
+        blockLength[(int)(sequence % blocks.length)] = length;
+        publishedSamples += length;
+        writeSequence.set(sequence + 1);
+        wakeUpConsumers();
+        return true;
+    }
+
+    /**
+     * Wake up consumers, they will read the remaining blocks then {@link Consumer#awaitBlock(long)}
+     * will return false.
+     */
+    public void close() {
+        closed = true;
+        wakeUpConsumers();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * @return Number of samples dropped because a consumer was late
+     */
+    public long getDroppedSamples() {
+        return droppedSamples;
+    }
+
+    /**
+     * @return Number of blocks dropped because a consumer was late
+     */
+    public long getDroppedBlocks() {
+        return droppedBlocks;
+    }
+
+    /**
+     * @return Number of samples published since the creation of the ring
+     */
+    public long getPublishedSamples() {
+        return publishedSamples;
+    }
+
+    private long getMinimalConsumerSequence(long writeSequence) {
+        long minimalSequence = writeSequence;
+        for(Consumer consumer : consumers) {
+            minimalSequence = Math.min(minimalSequence, consumer.readSequence.get());
+        }
+        return minimalSequence;
+    }
+
+    private void wakeUpConsumers() {
+        for(Consumer consumer : consumers) {
+            Thread waiter = consumer.waiter;
+            if(waiter != null) {
+                LockSupport.unpark(waiter);
+            }
+        }
+    }
+
+    /**
+     * Read cursor of one consumer thread
+     */
+    public static final class Consumer {
+        private final SampleRingBuffer ring;
+        private final AtomicLong readSequence;
+        private volatile long consumedSamples;
+        private volatile Thread waiter = null;
+
+        private Consumer(SampleRingBuffer ring, long readSequence, long consumedSamples) {
+            this.ring = ring;
+            this.readSequence = new AtomicLong(readSequence);
+            this.consumedSamples = consumedSamples;
+        }
+
+        /**
+         * Wait until a block is available
+         * @param timeoutMillis Maximum waiting time
+         * @return True if a block is available, false on timeout or if the ring is closed and
+         * all blocks have been read
+         */
+        public boolean awaitBlock(long timeoutMillis) {
+            if(hasBlock()) {
+                return true;
+            }
+            final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+            waiter = Thread.currentThread();
+            try {
+                while (!hasBlock() && !ring.closed) {
+                    long remaining = deadline - System.nanoTime();
+                    if(remaining <= 0 || Thread.interrupted()) {
+                        break;
+                    }
+                    LockSupport.parkNanos(this, remaining);
+                }
+            } finally {
+                waiter = null;
+            }
+            return hasBlock();
+        }
+
+        /**
+         * @return True if a block can be read with {@link #getBlock()}
+         */
+        public boolean hasBlock() {
+            return readSequence.get() < ring.writeSequence.get();
+        }
+
+        /**
+         * @return Next block to read, content is valid until {@link #release()}
+         */
+        public short[] getBlock() {
+            return ring.blocks[(int)(readSequence.get() % ring.blocks.length)];
+        }
+
+        /**
+         * @return Number of samples in the block returned by {@link #getBlock()}
+         */
+        public int getBlockLength() {
+            return ring.blockLength[(int)(readSequence.get() % ring.blocks.length)];
+        }
+
+        /**
+         * Release the current block, the producer can write into it
+         */
+        public void release() {
+            consumedSamples += getBlockLength();
+            readSequence.set(readSequence.get() + 1);
+        }
+
+        /**
+         * Release all available blocks without reading them
+         */
+        public void skipAll() {
+            while(hasBlock()) {
+                release();
+            }
+        }
+
+        /**
+         * @return True if the producer will not publish new blocks
+         */
+        public boolean isClosed() {
+            return ring.closed;
+        }
+
+        /**
+         * @return Number of published blocks not read by this consumer
+         */
+        public int getPendingBlocks() {
+            return (int)(ring.writeSequence.get() - readSequence.get());
+        }
+
+        /**
+         * @return Number of published samples not read by this consumer
+         */
+        public long getPendingSamples() {
+            return Math.max(0, ring.publishedSamples - consumedSamples);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * This file is part of the NoiseCapture application and OnoMap system.
+ *
+ * The 'OnoMaP' system is led by Lab-STICC and Ifsttar and generates noise maps via
+ * citizen-contributed noise data.
+ *
+ * This application is co-funded by the ENERGIC-OD Project (European Network for
+ * Redistributing Geospatial Information to user Communities - Open Data). ENERGIC-OD
+ * (http://www.energic-od.eu/) is partially funded under the ICT Policy Support Programme (ICT
+ * PSP) as part of the Competitiveness and Innovation Framework Programme by the European
+ * Community. The application work is also supported by the French geographic portal GEOPAL of the
+ * Pays de la Loire region (http://www.geopal.org).
+ *
+ * Copyright (C) IFSTTAR - LAE and Lab-STICC – CNRS UMR 6285 Equipe DECIDE Vannes
+ *
+ * NoiseCapture is a free software; you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation; either version 3 of
+ * the License, or(at your option) any later version. NoiseCapture is distributed in the hope that
+ * it will be useful,but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for
+ * more details.You should have received a copy of the GNU General Public License along with this
+ * program; if not, write to the Free Software Foundation,Inc., 51 Franklin Street, Fifth Floor,
+ * Boston, MA 02110-1301  USA or see For more information,  write to Ifsttar,
+ * 14-20 Boulevard Newton Cite Descartes, Champs sur Marne F-77447 Marne la Vallee Cedex 2 FRANCE
+ *  or write to scientific.computing@ifsttar.fr
+ */
+
+package org.noise_planet.noisecapture;
+
+import org.junit.Test;
+import org.noise_planet.noisecapture.util.SampleRingBuffer;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SampleRingBufferTest {
+
+    @Test
+    public void testOverflow() {
+        SampleRingBuffer ring = new SampleRingBuffer(4, 10);
+        SampleRingBuffer.Consumer consumer = ring.addConsumer();
+        for(int i = 0; i < 6; i++) {
+            short[] block = ring.getWriteBlock();
+            block[0] = (short)i;
+            assertEquals(i < 4, ring.publish(8));
+        }
+        assertEquals(2, ring.getDroppedBlocks());
+        assertEquals(16, ring.getDroppedSamples());
+        assertEquals(4, consumer.getPendingBlocks());
+        assertEquals(32, consumer.getPendingSamples());
+        // Dropped blocks must not overwrite the unread blocks
+        for(int i = 0; i < 4; i++) {
+            assertTrue(consumer.hasBlock());
+            assertEquals(i, consumer.getBlock()[0]);
+            assertEquals(8, consumer.getBlockLength());
+            consumer.release();
+        }
+        assertFalse(consumer.hasBlock());
+        // Space is available again
+        ring.getWriteBlock()[0] = 42;
+        assertTrue(ring.publish(5));
+        assertTrue(consumer.awaitBlock(0));
+        assertEquals(42, consumer.getBlock()[0]);
+        assertEquals(5, consumer.getBlockLength());
+    }
+
+    @Test
+    public void testConsumerThreads() throws InterruptedException {
+        final SampleRingBuffer ring = new SampleRingBuffer(8, 64);
+        final int blockCount = 5000;
+        final AtomicLong[] sums = new AtomicLong[] {new AtomicLong(), new AtomicLong()};
+        Thread[] threads = new Thread[sums.length];
+        for(int idConsumer = 0; idConsumer < sums.length; idConsumer++) {
+            final SampleRingBuffer.Consumer consumer = ring.addConsumer();
+            final AtomicLong sum = sums[idConsumer];
+            threads[idConsumer] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    while (consumer.awaitBlock(1000) || !consumer.isClosed()) {
+                        if(consumer.hasBlock()) {
+                            short[] block = consumer.getBlock();
+                            for (int i = 0; i < consumer.getBlockLength(); i++) {
+                                sum.addAndGet(block[i]);
+                            }
+                            consumer.release();
+                        }
+                    }
+                }
+            });
+            threads[idConsumer].start();
+        }
+        long expectedSum = 0;
+        int published = 0;
+        while(published < blockCount) {
+            short[] block = ring.getWriteBlock();
+            int length = 1 + published % block.length;
+            for(int i = 0; i < length; i++) {
+                block[i] = (short)(published % 100);
+            }
+            // The producer waits only in this test in order to not drop samples
+            if(ring.publish(length)) {
+                expectedSum += length * (published % 100);
+                published++;
+            } else {
+                Thread.yield();
+            }
+        }
+        ring.close();
+        for(Thread thread : threads) {
+            thread.join(10000);
+            assertFalse(thread.isAlive());
+        }
+        for(AtomicLong sum : sums) {
+            assertEquals(expectedSum, sum.get());
+        }
+    }
+}
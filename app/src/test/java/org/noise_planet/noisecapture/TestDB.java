@@ -54,6 +54,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Properties;
 import java.util.zip.ZipEntry;
@@ -147,6 +148,390 @@ public class TestDB {
 
     }
 
+    @Test
+    public void testLeqBatchWriter() throws InterruptedException {
+        MeasurementManager measurementManager =
+                new MeasurementManager(RuntimeEnvironment.application);
+        int recordId = measurementManager.addRecord(Storage.Record.CALIBRATION_METHODS.None);
+        LeqBatchWriter writer = measurementManager.createLeqBatchWriter();
+        writer.start();
+        List<Storage.LeqValue> leqValues = new ArrayList<Storage.LeqValue>();
+        leqValues.add(new Storage.LeqValue(-1, 1000, 58));
+        leqValues.add(new Storage.LeqValue(-1, 2000, 48));
+        for(int i = 0; i < 25; i++) {
+            Storage.Leq leq = new Storage.Leq(recordId, -1, 1000 * i, 12 + i * 0.001, 15, 50.d,
+                    15.f, 4.f, 4.5f, 1000 * i);
+            assertTrue(writer.add(new MeasurementManager.LeqBatch(leq, leqValues)));
+        }
+        // Flush does not wait for the batch delay
+        assertTrue(writer.flush(5000));
+        List<MeasurementManager.LeqBatch> storedLeq =
+                measurementManager.getRecordLocations(recordId, true, 0);
+        assertEquals(25, storedLeq.size());
+        assertEquals(2, storedLeq.get(0).getLeqValues().size());
+        Storage.Leq leq = new Storage.Leq(recordId, -1, 25000, 12, 15, 50.d,
+                15.f, 4.f, 4.5f, 25000);
+        assertTrue(writer.add(new MeasurementManager.LeqBatch(leq, leqValues)));
+        assertTrue(writer.close(5000));
+        assertEquals(0, writer.getDroppedCount());
+        assertEquals(26, measurementManager.getRecordLocations(recordId, true, 0).size());
+        // Closed writer does not accept new leq
+        assertTrue(!writer.add(new MeasurementManager.LeqBatch(leq, leqValues)));
+    }
+
+    @Test
+    public void testRecordChunkStore() throws IOException {
+        MeasurementManager measurementManager =
+                new MeasurementManager(RuntimeEnvironment.application);
+        int recordId = measurementManager.addRecord(Storage.Record.CALIBRATION_METHODS.None);
+        RecordChunkStore store = new RecordChunkStore(new Storage(RuntimeEnvironment.application),
+                folder.getRoot(), 10);
+        List<Storage.LeqValue> leqValues = new ArrayList<Storage.LeqValue>();
+        leqValues.add(new Storage.LeqValue(-1, 1000, 58));
+        leqValues.add(new Storage.LeqValue(-1, 2000, 48.5f));
+        for(int i = 0; i < 25; i++) {
+            Storage.Leq leq = new Storage.Leq(recordId, -1, 1000 * i, 12 + i * 0.001, 15,
+                    i % 2 == 0 ? null : 50.d, 15.f, 4.f, 4.5f, 1000 * i);
+            store.append(new MeasurementManager.LeqBatch(leq, leqValues));
+        }
+        store.flush(recordId);
+        assertTrue(store.hasChunks(recordId));
+        final List<Long> times = new ArrayList<Long>();
+        final List<Storage.Leq> leqs = new ArrayList<Storage.Leq>();
+        final int finalRecordId = recordId;
+        RecordChunkStore.ChunkVisitor visitor = new RecordChunkStore.ChunkVisitor() {
+            @Override
+            public boolean visit(RecordChunkStore.Chunk chunk, int from, int to) {
+                for(int row = from; row < to; row++) {
+                    times.add(chunk.getUtc(row));
+                    leqs.add(chunk.getLeq(finalRecordId, row));
+                }
+                return true;
+            }
+        };
+        store.visit(recordId, Long.MIN_VALUE, Long.MAX_VALUE, visitor);
+        assertEquals(25, times.size());
+        assertNull(leqs.get(0).getAltitude());
+        assertEquals(50, leqs.get(1).getAltitude(), 1e-6);
+        assertEquals(12.024, leqs.get(24).getLatitude(), 1e-9);
+        // Time range over the 3 chunks
+        times.clear();
+        store.visit(recordId, 8000, 12000, visitor);
+        assertEquals(5, times.size());
+        assertEquals(8000, (long)times.get(0));
+        assertEquals(12000, (long)times.get(4));
+        // Delete the last leq
+        assertEquals(9, store.deleteAfter(recordId, 15000));
+        times.clear();
+        store.visit(recordId, Long.MIN_VALUE, Long.MAX_VALUE, visitor);
+        assertEquals(16, times.size());
+        // Append after the deletion
+        Storage.Leq leq = new Storage.Leq(recordId, -1, 16000, 12, 15, 50.d, 15.f, 4.f, 4.5f, 16000);
+        store.append(new MeasurementManager.LeqBatch(leq, leqValues));
+        store.close(recordId);
+        times.clear();
+        store.visit(recordId, Long.MIN_VALUE, Long.MAX_VALUE, visitor);
+        assertEquals(17, times.size());
+        assertEquals(16000, (long)times.get(16));
+        store.deleteRecord(recordId);
+        assertTrue(!store.hasChunks(recordId));
+        assertEquals(0, folder.getRoot().list().length);
+    }
+
+    @Test
+    public void testChunkedLeqBatchWriter() throws InterruptedException {
+        MeasurementManager measurementManager =
+                new MeasurementManager(RuntimeEnvironment.application);
+        int recordId = measurementManager.addRecord(Storage.Record.CALIBRATION_METHODS.None);
+        LeqBatchWriter writer = measurementManager.createLeqBatchWriter(true);
+        writer.start();
+        List<Storage.LeqValue> leqValues = new ArrayList<Storage.LeqValue>();
+        leqValues.add(new Storage.LeqValue(-1, 1000, 58));
+        leqValues.add(new Storage.LeqValue(-1, 2000, 48));
+        for(int i = 0; i < 30; i++) {
+            Storage.Leq leq = new Storage.Leq(recordId, -1, 1000 * i, 12 + i * 0.001, 15, 50.d,
+                    15.f, 4.f, i < 20 ? 4.5f : 0, 1000 * i);
+            assertTrue(writer.add(new MeasurementManager.LeqBatch(leq, leqValues)));
+        }
+        assertTrue(writer.flush(5000));
+        assertTrue(measurementManager.getRecordChunkStore().hasChunks(recordId));
+        assertEquals(30, measurementManager.getRecordLocationsCount(recordId, false));
+        assertEquals(20, measurementManager.getRecordLocationsCount(recordId, true));
+        List<MeasurementManager.LeqBatch> storedLeq =
+                measurementManager.getRecordLocations(recordId, true, 0);
+        assertEquals(20, storedLeq.size());
+        assertEquals(2, storedLeq.get(0).getLeqValues().size());
+        assertEquals(48, storedLeq.get(0).getLeqValues().get(1).getSpl(), 0.01);
+        assertEquals(10, measurementManager.getRecordLocations(recordId, true, 10).size());
+        assertEquals(12.0095, measurementManager.getRecordCenterPosition(recordId, 15)[0], 1e-6);
+        // Pause remove the last 10 seconds
+        assertEquals(10, measurementManager.deleteLastLeqs(recordId, 19000));
+        List<Integer> frequency = new ArrayList<>();
+        List<float[]> leqs = new ArrayList<>();
+        assertTrue(measurementManager.getRecordLeqs(recordId, frequency, leqs, null));
+        assertEquals(20, leqs.size());
+        assertEquals(58, leqs.get(0)[0], 0.01);
+        assertTrue(writer.close(5000));
+        measurementManager.deleteRecord(recordId);
+        assertTrue(!measurementManager.getRecordChunkStore().hasChunks(recordId));
+    }
+
+    @Test
+    public void testRecordPages() {
+        MeasurementManager measurementManager =
+                new MeasurementManager(RuntimeEnvironment.application);
+        int recordId = measurementManager.addRecord(Storage.Record.CALIBRATION_METHODS.None);
+        List<Storage.LeqValue> leqValues = new ArrayList<Storage.LeqValue>();
+        leqValues.add(new Storage.LeqValue(-1, 1000, 58));
+        leqValues.add(new Storage.LeqValue(-1, 2000, 48));
+        List<MeasurementManager.LeqBatch> leqBatches = new ArrayList<MeasurementManager.LeqBatch>();
+        for(int i = 0; i < 10; i++) {
+            Storage.Leq leq = new Storage.Leq(recordId, -1, 1000 * i, 12 + i * 0.001, 15,
+                    i < 5 ? 50.d : null, i < 5 ? 15.f : null, 4.f, 4.5f, 1000 * i);
+            leqBatches.add(new MeasurementManager.LeqBatch(leq, leqValues));
+        }
+        measurementManager.addLeqBatches(leqBatches);
+        final List<Integer> pageSizes = new ArrayList<Integer>();
+        final List<Long> times = new ArrayList<Long>();
+        MeasurementManager.LeqPage page = new MeasurementManager.LeqPage(4);
+        assertTrue(measurementManager.getRecordPages(recordId, true, 0, null, null, page,
+                new MeasurementManager.PageVisitor() {
+            @Override
+            public boolean visit(MeasurementManager.LeqPage page) {
+                pageSizes.add(page.getSize());
+                for(int row = 0; row < page.getSize(); row++) {
+                    long utc = page.getLeqUtc()[row];
+                    times.add(utc);
+                    assertEquals(12 + utc * 1e-6, page.getLatitude()[row], 1e-9);
+                    assertEquals(utc < 5000, !Double.isNaN(page.getAltitude()[row]));
+                    assertEquals(utc < 5000, !Float.isNaN(page.getSpeed()[row]));
+                    assertEquals(58, page.getSpectrum()[row][0], 0.01);
+                    assertEquals(48, page.getSpectrum()[row][1], 0.01);
+                    assertTrue(Float.isNaN(page.getSpectrum()[row][2]));
+                }
+                return true;
+            }
+        }));
+        assertEquals(Arrays.asList(4, 4, 2), pageSizes);
+        assertEquals(10, times.size());
+        assertEquals(9000, (long)times.get(9));
+        // The visitor stops the reading
+        pageSizes.clear();
+        assertTrue(!measurementManager.getRecordPages(recordId, true, 0, null, null, page,
+                new MeasurementManager.PageVisitor() {
+            @Override
+            public boolean visit(MeasurementManager.LeqPage page) {
+                pageSizes.add(page.getSize());
+                return false;
+            }
+        }));
+        assertEquals(1, pageSizes.size());
+        // Row copy
+        MeasurementManager.LeqBatch leqBatch =
+                measurementManager.getRecordLocations(recordId, true, 0).get(7);
+        assertNull(leqBatch.getLeq().getAltitude());
+        assertEquals(2, leqBatch.getLeqValues().size());
+        assertEquals(58.41, leqBatch.computeGlobalLeq(), 0.01);
+    }
+
+    @Test
+    public void testLeqTileIndex() {
+        MeasurementManager measurementManager =
+                new MeasurementManager(RuntimeEnvironment.application);
+        int recordId = measurementManager.addRecord(Storage.Record.CALIBRATION_METHODS.None);
+        List<Storage.LeqValue> leqValues = new ArrayList<Storage.LeqValue>();
+        leqValues.add(new Storage.LeqValue(-1, 1000, 58));
+        leqValues.add(new Storage.LeqValue(-1, 2000, 48));
+        List<MeasurementManager.LeqBatch> leqBatches = new ArrayList<MeasurementManager.LeqBatch>();
+        for(int i = 0; i < 10; i++) {
+            // The last 4 leq are not located
+            Storage.Leq leq = new Storage.Leq(recordId, -1, 1000 * i, 47.641, -3.155, null, null,
+                    null, i < 6 ? 4.5f : 0, 1000 * i);
+            leqBatches.add(new MeasurementManager.LeqBatch(leq, leqValues));
+        }
+        measurementManager.addLeqBatches(leqBatches);
+        List<LeqTileIndex.Cell> cells = measurementManager.getLeqCells(10, -4, 47, -3, 48);
+        assertEquals(1, cells.size());
+        assertEquals(6, cells.get(0).getLeqCount());
+        assertEquals(58.41, cells.get(0).getLeq(), 0.01);
+        assertEquals(47.641, cells.get(0).getLatitude(), 0.1);
+        assertEquals(0, measurementManager.getLeqCells(10, 0, 47, 1, 48).size());
+        // The cells of the highest zoom level are used for the higher zoom levels
+        cells = measurementManager.getLeqCells(LeqTileIndex.MAX_ZOOM + 3, -4, 47, -3, 48);
+        assertEquals(1, cells.size());
+        assertEquals(-3.155, cells.get(0).getLongitude(), 0.001);
+        // Louder leq of another record
+        int otherRecordId = measurementManager.addRecord(Storage.Record.CALIBRATION_METHODS.None);
+        List<Storage.LeqValue> louderLeqValues = new ArrayList<Storage.LeqValue>();
+        louderLeqValues.add(new Storage.LeqValue(-1, 1000, 68));
+        louderLeqValues.add(new Storage.LeqValue(-1, 2000, 58));
+        leqBatches.clear();
+        for(int i = 1; i <= 2; i++) {
+            Storage.Leq leq = new Storage.Leq(otherRecordId, -1, 1000 * i, 47.641, -3.155, null,
+                    null, null, 4.5f, 1000 * i);
+            leqBatches.add(new MeasurementManager.LeqBatch(leq, louderLeqValues));
+        }
+        measurementManager.addLeqBatches(leqBatches);
+        cells = measurementManager.getLeqCells(0, -180, -85, 180, 85);
+        assertEquals(1, cells.size());
+        assertEquals(8, cells.get(0).getLeqCount());
+        assertEquals(63.53, cells.get(0).getLeq(), 0.01);
+        double[] bounds = measurementManager.getLeqCellsBounds();
+        assertNotNull(bounds);
+        assertTrue(bounds[0] <= -3.155 && -3.155 <= bounds[2]);
+        assertTrue(bounds[1] <= 47.641 && 47.641 <= bounds[3]);
+        // Deleted leq are removed from the cells
+        assertEquals(2, measurementManager.deleteLastLeqs(otherRecordId, 0));
+        cells = measurementManager.getLeqCells(0, -180, -85, 180, 85);
+        assertEquals(6, cells.get(0).getLeqCount());
+        assertEquals(58.41, cells.get(0).getLeq(), 0.01);
+        double leqBefore = cells.get(0).getLeq();
+        // A deleted record removes exactly the energy it has added
+        louderLeqValues.add(new Storage.LeqValue(-1, 4000, 51.236f));
+        measurementManager.addLeqBatches(leqBatches);
+        assertEquals(8, measurementManager.getLeqCells(0, -180, -85, 180, 85).get(0).getLeqCount());
+        measurementManager.deleteRecord(otherRecordId);
+        cells = measurementManager.getLeqCells(0, -180, -85, 180, 85);
+        assertEquals(6, cells.get(0).getLeqCount());
+        assertEquals(leqBefore, cells.get(0).getLeq(), 1e-9);
+        measurementManager.deleteRecord(recordId);
+        assertEquals(0, measurementManager.getLeqCells(0, -180, -85, 180, 85).size());
+        assertNull(measurementManager.getLeqCellsBounds());
+    }
+
+    @Test
+    public void testUpgradeLeqTile() {
+        MeasurementManager measurementManager =
+                new MeasurementManager(RuntimeEnvironment.application);
+        int recordId = measurementManager.addRecord(Storage.Record.CALIBRATION_METHODS.None);
+        List<Storage.LeqValue> leqValues = new ArrayList<Storage.LeqValue>();
+        leqValues.add(new Storage.LeqValue(-1, 1000, 58));
+        leqValues.add(new Storage.LeqValue(-1, 2000, 48));
+        List<MeasurementManager.LeqBatch> leqBatches = new ArrayList<MeasurementManager.LeqBatch>();
+        for(int i = 0; i < 3; i++) {
+            Storage.Leq leq = new Storage.Leq(recordId, -1, 1000 * i, 47.641, -3.155, null, null,
+                    null, 4.5f, 1000 * i);
+            leqBatches.add(new MeasurementManager.LeqBatch(leq, leqValues));
+        }
+        measurementManager.addLeqBatches(leqBatches);
+        Storage storage = new Storage(RuntimeEnvironment.application);
+        SQLiteDatabase db = storage.getWritableDatabase();
+        try {
+            // Schema of version 13
+            db.execSQL("DROP TABLE leq_tile");
+            db.execSQL("DROP TABLE leq_tile_record");
+            storage.onUpgrade(db, 13, Storage.DATABASE_VERSION);
+            assertTrue(LeqTileIndex.isRebuildRequired(db));
+        } finally {
+            db.close();
+        }
+        // The stored leq are aggregated on the first use of the cells
+        List<LeqTileIndex.Cell> cells = measurementManager.getLeqCells(0, -180, -85, 180, 85);
+        assertEquals(1, cells.size());
+        assertEquals(3, cells.get(0).getLeqCount());
+        assertEquals(58.41, cells.get(0).getLeq(), 0.01);
+        db = storage.getReadableDatabase();
+        try {
+            assertTrue(!LeqTileIndex.isRebuildRequired(db));
+        } finally {
+            db.close();
+        }
+        // The cells of the record have been rebuilt too
+        measurementManager.deleteRecord(recordId);
+        assertEquals(0, measurementManager.getLeqCells(0, -180, -85, 180, 85).size());
+    }
+
+    @Test
+    public void testPackSpectrum() {
+        float[] spl = new float[] {45.256f, -12.5f, 0, Float.NaN, Float.NEGATIVE_INFINITY, 400};
+        byte[] data = Storage.Leq.packSpectrum(spl);
+        assertEquals(spl.length * 2, data.length);
+        float[] unpacked = Storage.Leq.unpackSpectrum(data);
+        assertEquals(spl.length, unpacked.length);
+        assertEquals(45.26, unpacked[0], 1e-4);
+        assertEquals(-12.5, unpacked[1], 1e-4);
+        assertEquals(0, unpacked[2], 1e-4);
+        assertTrue(Float.isNaN(unpacked[3]));
+        // Out of range values are clamped
+        assertEquals(-327.67, unpacked[4], 1e-4);
+        assertEquals(327.67, unpacked[5], 1e-4);
+    }
+
+    @Test
+    public void testUpgradeLeqValues() {
+        MeasurementManager measurementManager =
+                new MeasurementManager(RuntimeEnvironment.application);
+        int recordId = measurementManager.addRecord(Storage.Record.CALIBRATION_METHODS.None);
+        Storage storage = new Storage(RuntimeEnvironment.application);
+        SQLiteDatabase db = storage.getWritableDatabase();
+        try {
+            // Schema of version 11
+            db.execSQL("DROP TABLE leq_chunk");
+            db.execSQL("DROP TABLE leq_tile");
+            db.execSQL("DROP TABLE leq_tile_record");
+            db.execSQL("DROP TABLE leq");
+            db.execSQL("CREATE TABLE leq(record_id INTEGER, leq_id INTEGER PRIMARY KEY, leq_utc LONG," +
+                    " latitude DOUBLE, longitude DOUBLE, bearing FLOAT, altitude DOUBLE, speed FLOAT," +
+                    " accuracy FLOAT, location_utc LONG)");
+            db.execSQL("CREATE TABLE leq_value(leq_id INTEGER, frequency INTEGER, spl FLOAT," +
+                    " PRIMARY KEY(leq_id, frequency))");
+            db.execSQL("INSERT INTO leq VALUES(" + recordId + ", 1, 1000, 47.6, -3.1, 0, 0, 0, 4.8, 1000)");
+            db.execSQL("INSERT INTO leq VALUES(" + recordId + ", 2, 2000, 47.6, -3.1, 0, 0, 0, 4.8, 2000)");
+            db.execSQL("INSERT INTO leq_value VALUES(1, 1000, 58.12)");
+            db.execSQL("INSERT INTO leq_value VALUES(1, 125, 65.5)");
+            db.execSQL("INSERT INTO leq_value VALUES(2, 125, 61)");
+            db.execSQL("INSERT INTO leq_value VALUES(2, 1000, 50.5)");
+            storage.onUpgrade(db, 11, Storage.DATABASE_VERSION);
+        } finally {
+            db.close();
+        }
+        List<Integer> frequency = new ArrayList<>();
+        List<float[]> leqs = new ArrayList<>();
+        assertTrue(measurementManager.getRecordLeqs(recordId, frequency, leqs, null));
+        assertEquals(2, leqs.size());
+        // Values are sorted by frequency
+        assertEquals(2, leqs.get(0).length);
+        assertEquals(65.5, leqs.get(0)[0], 0.01);
+        assertEquals(58.12, leqs.get(0)[1], 0.01);
+        assertEquals(61, leqs.get(1)[0], 0.01);
+        assertEquals(50.5, leqs.get(1)[1], 0.01);
+    }
+
+    @Test
+    public void testUpgradeLeqChunk() throws IOException {
+        MeasurementManager measurementManager =
+                new MeasurementManager(RuntimeEnvironment.application);
+        int recordId = measurementManager.addRecord(Storage.Record.CALIBRATION_METHODS.None);
+        List<Storage.LeqValue> leqValues = new ArrayList<Storage.LeqValue>();
+        leqValues.add(new Storage.LeqValue(-1, 1000, 58));
+        measurementManager.addLeqBatch(new MeasurementManager.LeqBatch(new Storage.Leq(recordId,
+                -1, 1000, 47.6, -3.1, null, 0.f, 0.f, 4.8f, 1000), leqValues));
+        Storage storage = new Storage(RuntimeEnvironment.application);
+        SQLiteDatabase db = storage.getWritableDatabase();
+        try {
+            // Schema of version 12
+            db.execSQL("DROP TABLE leq_chunk");
+            db.execSQL("DROP TABLE leq_tile");
+            db.execSQL("DROP TABLE leq_tile_record");
+            storage.onUpgrade(db, 12, Storage.DATABASE_VERSION);
+        } finally {
+            db.close();
+        }
+        // Leq stored before the upgrade are still in the leq table
+        List<Integer> frequency = new ArrayList<>();
+        List<float[]> leqs = new ArrayList<>();
+        assertTrue(measurementManager.getRecordLeqs(recordId, frequency, leqs, null));
+        assertEquals(1, leqs.size());
+        assertEquals(58, leqs.get(0)[0], 0.01);
+        // Chunk index is available
+        RecordChunkStore store = new RecordChunkStore(storage, folder.getRoot(), 10);
+        assertTrue(!store.hasChunks(recordId));
+        store.append(new MeasurementManager.LeqBatch(new Storage.Leq(recordId, -1, 2000, 47.6,
+                -3.1, null, 0.f, 0.f, 4.8f, 2000), leqValues));
+        store.flush(recordId);
+        assertTrue(store.hasChunks(recordId));
+    }
+
     @Test
     public void testResults() throws URISyntaxException {
         MeasurementManager measurementManager =
@@ -174,10 +559,10 @@ public class TestDB {
 
         // Fetch data
         List<Integer> frequency = new ArrayList<>();
-        List<Float[]> leqs = new ArrayList<>();
+        List<float[]> leqs = new ArrayList<>();
         assertTrue(measurementManager.getRecordLeqs(recordId, frequency, leqs, null));
         assertEquals(2, leqs.size());
-        Float[] checkLeq = leqs.remove(0);
+        float[] checkLeq = leqs.remove(0);
         assertNotNull(checkLeq);
         assertEquals(65, checkLeq[0], 0.1);
         assertEquals(55, checkLeq[1], 0.1);
@@ -4,1495 +4,69 @@ INSERT INTO "record" VALUES(29,1474192998234,'3d08cbac-acb7-4492-95d8-9f489e3ae4
 COMMIT;
 PRAGMA foreign_keys=OFF;
 BEGIN TRANSACTION;
-INSERT INTO "leq" VALUES(29,10217,1474192998181,4.7641576666666665572e+01,-3.15576166666666724225e+00,5.30163906514644622802e-02,16.4,1.30880004882812500004e+02,4.80000019073486328125e+00,1474192994000);
-INSERT INTO "leq" VALUES(29,10218,1474192999141,4.7641576666666665572e+01,-3.15576166666666724225e+00,5.30163906514644622802e-02,16.4,1.30880004882812500004e+02,4.80000019073486328125e+00,1474192994000);
-INSERT INTO "leq" VALUES(29,10219,1474193000101,4.7641576666666665572e+01,-3.15576166666666724225e+00,5.30163906514644622802e-02,16.4,1.30880004882812500004e+02,4.80000019073486328125e+00,1474192994000);
-INSERT INTO "leq" VALUES(29,10220,1474193001061,4.7641576666666665572e+01,-3.15576166666666724225e+00,5.30163906514644622802e-02,16.4,1.30880004882812500004e+02,4.80000019073486328125e+00,1474192994000);
-INSERT INTO "leq" VALUES(29,10221,1474193002021,4.7641608333333337554e+01,-3.15577833333333312992e+00,0.0,16.3,1.30880004882812500004e+02,3.5,1474193002000);
-INSERT INTO "leq" VALUES(29,10222,1474193002982,4.7641608333333337554e+01,-3.15577833333333312992e+00,0.0,16.3,1.30880004882812500004e+02,3.5,1474193002000);
-INSERT INTO "leq" VALUES(29,10223,1474193003942,4.7641608333333337554e+01,-3.15577833333333312992e+00,0.0,16.3,1.30880004882812500004e+02,3.5,1474193002000);
-INSERT INTO "leq" VALUES(29,10224,1474193004902,4.7641608333333337554e+01,-3.15577833333333312992e+00,0.0,16.3,1.30880004882812500004e+02,3.5,1474193002000);
-INSERT INTO "leq" VALUES(29,10225,1474193005862,4.7641608333333337554e+01,-3.15577833333333312992e+00,0.0,16.3,1.30880004882812500004e+02,3.5,1474193002000);
-INSERT INTO "leq" VALUES(29,10226,1474193006822,4.76416383333333399736e+01,-3.15575666666666654336e+00,4.22072224318981170654e-02,16.3,2.77339996337890625009e+02,3.09999990463256835937e+00,1474193007000);
-INSERT INTO "leq" VALUES(29,10227,1474193007783,4.76416383333333399736e+01,-3.15575666666666654336e+00,4.22072224318981170654e-02,16.3,2.77339996337890625009e+02,3.09999990463256835937e+00,1474193007000);
-INSERT INTO "leq" VALUES(29,10228,1474193008743,4.76416383333333399736e+01,-3.15575666666666654336e+00,4.22072224318981170654e-02,16.3,2.77339996337890625009e+02,3.09999990463256835937e+00,1474193007000);
-INSERT INTO "leq" VALUES(29,10229,1474193009703,4.76416383333333399736e+01,-3.15575666666666654336e+00,4.22072224318981170654e-02,16.3,2.77339996337890625009e+02,3.09999990463256835937e+00,1474193007000);
-INSERT INTO "leq" VALUES(29,10230,1474193010663,4.76416383333333399736e+01,-3.15575666666666654336e+00,4.22072224318981170654e-02,16.3,2.77339996337890625009e+02,3.09999990463256835937e+00,1474193007000);
-INSERT INTO "leq" VALUES(29,10231,1474193011623,4.76416266666666601272e+01,-3.155815,6.28475844860076904296e-01,16.3,246.25,3.79999995231628417968e+00,1474193012000);
-INSERT INTO "leq" VALUES(29,10232,1474193012584,4.76416266666666601272e+01,-3.155815,6.28475844860076904296e-01,16.3,246.25,3.79999995231628417968e+00,1474193012000);
-INSERT INTO "leq" VALUES(29,10233,1474193013544,4.76416266666666601272e+01,-3.155815,6.28475844860076904296e-01,16.3,246.25,3.79999995231628417968e+00,1474193012000);
-INSERT INTO "leq" VALUES(29,10234,1474193014504,4.76416266666666601272e+01,-3.155815,6.28475844860076904296e-01,16.3,246.25,3.79999995231628417968e+00,1474193012000);
-INSERT INTO "leq" VALUES(29,10235,1474193015464,4.76415899999999936653e+01,-3.15586,5.70826947689056396484e-01,16.2,2.13149993896484375006e+02,3.59999990463256835937e+00,1474193016000);
-INSERT INTO "leq" VALUES(29,10236,1474193016424,4.76415899999999936653e+01,-3.15586,5.70826947689056396484e-01,16.2,2.13149993896484375006e+02,3.59999990463256835937e+00,1474193016000);
-INSERT INTO "leq" VALUES(29,10237,1474193017385,4.76415899999999936653e+01,-3.15586,5.70826947689056396484e-01,16.2,2.13149993896484375006e+02,3.59999990463256835937e+00,1474193016000);
-INSERT INTO "leq" VALUES(29,10238,1474193018345,47.64156,-3.15588833333333296238e+00,6.64506375789642333984e-01,16.2,205.25,3.70000004768371582031e+00,1474193019000);
-INSERT INTO "leq" VALUES(29,10239,1474193019305,47.64156,-3.15588833333333296238e+00,6.64506375789642333984e-01,16.2,205.25,3.70000004768371582031e+00,1474193019000);
-INSERT INTO "leq" VALUES(29,10240,1474193020265,47.64156,-3.15588833333333296238e+00,6.64506375789642333984e-01,16.2,205.25,3.70000004768371582031e+00,1474193019000);
-INSERT INTO "leq" VALUES(29,10241,1474193021225,47.64156,-3.15588833333333296238e+00,6.64506375789642333984e-01,16.2,205.25,3.70000004768371582031e+00,1474193019000);
-INSERT INTO "leq" VALUES(29,10242,1474193022186,47.64156,-3.15588833333333296238e+00,6.64506375789642333984e-01,16.2,205.25,3.70000004768371582031e+00,1474193019000);
-INSERT INTO "leq" VALUES(29,10243,1474193023146,4.76415316666666655009e+01,-3.1559266666666663248e+00,5.39428889751434326171e-01,16.1,2.54350006103515624989e+02,3.40000009536743164062e+00,1474193023000);
-INSERT INTO "leq" VALUES(29,10244,1474193024106,4.76415316666666655009e+01,-3.1559266666666663248e+00,5.39428889751434326171e-01,16.1,2.54350006103515624989e+02,3.40000009536743164062e+00,1474193023000);
-INSERT INTO "leq" VALUES(29,10245,1474193025066,4.76415316666666655009e+01,-3.1559266666666663248e+00,5.39428889751434326171e-01,16.1,2.54350006103515624989e+02,3.40000009536743164062e+00,1474193023000);
-INSERT INTO "leq" VALUES(29,10246,1474193026026,4.76415316666666655009e+01,-3.1559266666666663248e+00,5.39428889751434326171e-01,16.1,2.54350006103515624989e+02,3.40000009536743164062e+00,1474193023000);
-INSERT INTO "leq" VALUES(29,10247,1474193026987,4.76415316666666655009e+01,-3.1559266666666663248e+00,5.39428889751434326171e-01,16.1,2.54350006103515624989e+02,3.40000009536743164062e+00,1474193023000);
-INSERT INTO "leq" VALUES(29,10248,1474193027947,4.76415316666666655009e+01,-3.1559266666666663248e+00,5.39428889751434326171e-01,16.1,2.54350006103515624989e+02,3.40000009536743164062e+00,1474193023000);
-INSERT INTO "leq" VALUES(29,10249,1474193028907,4.76415316666666655009e+01,-3.1559266666666663248e+00,5.39428889751434326171e-01,16.1,2.54350006103515624989e+02,3.40000009536743164062e+00,1474193023000);
-INSERT INTO "leq" VALUES(29,10250,1474193029867,4.76415316666666655009e+01,-3.1559266666666663248e+00,5.39428889751434326171e-01,16.1,2.54350006103515624989e+02,3.40000009536743164062e+00,1474193023000);
-INSERT INTO "leq" VALUES(29,10251,1474193030827,4.76415433333333240275e+01,-3.15597999999999956344e+00,8.78116130828857421875e-01,16.1,3.09910003662109375006e+02,3.79999995231628417968e+00,1474193031000);
-INSERT INTO "leq" VALUES(29,10252,1474193031788,4.76415433333333240275e+01,-3.15597999999999956344e+00,8.78116130828857421875e-01,16.1,3.09910003662109375006e+02,3.79999995231628417968e+00,1474193031000);
-INSERT INTO "leq" VALUES(29,10253,1474193032748,4.76415433333333240275e+01,-3.15597999999999956344e+00,8.78116130828857421875e-01,16.1,3.09910003662109375006e+02,3.79999995231628417968e+00,1474193031000);
-INSERT INTO "leq" VALUES(29,10254,1474193033708,4.76415433333333240275e+01,-3.15597999999999956344e+00,8.78116130828857421875e-01,16.1,3.09910003662109375006e+02,3.79999995231628417968e+00,1474193031000);
-INSERT INTO "leq" VALUES(29,10255,1474193034668,4.76415433333333240275e+01,-3.15597999999999956344e+00,8.78116130828857421875e-01,16.1,3.09910003662109375006e+02,3.79999995231628417968e+00,1474193031000);
-INSERT INTO "leq" VALUES(29,10256,1474193035629,47.64156,-3.1560249999999996362e+00,8.27673316001892089843e-01,16.0,3.23230010986328124993e+02,3.70000004768371582031e+00,1474193036000);
-INSERT INTO "leq" VALUES(29,10257,1474193036589,47.64156,-3.1560249999999996362e+00,8.27673316001892089843e-01,16.0,3.23230010986328124993e+02,3.70000004768371582031e+00,1474193036000);
-INSERT INTO "leq" VALUES(29,10258,1474193037549,47.64156,-3.1560249999999996362e+00,8.27673316001892089843e-01,16.0,3.23230010986328124993e+02,3.70000004768371582031e+00,1474193036000);
-INSERT INTO "leq" VALUES(29,10259,1474193038509,4.76416000000000039449e+01,-3.15602666666666697992e+00,1.03098857402801513671e+00,16.1,8.05000019073486328125e+00,4.0,1474193039000);
-INSERT INTO "leq" VALUES(29,10260,1474193039469,4.76416000000000039449e+01,-3.15602666666666697992e+00,1.03098857402801513671e+00,16.1,8.05000019073486328125e+00,4.0,1474193039000);
-INSERT INTO "leq" VALUES(29,10261,1474193040430,4.76416000000000039449e+01,-3.15602666666666697992e+00,1.03098857402801513671e+00,16.1,8.05000019073486328125e+00,4.0,1474193039000);
-INSERT INTO "leq" VALUES(29,10262,1474193041390,4.76416000000000039449e+01,-3.15602666666666697992e+00,1.03098857402801513671e+00,16.1,8.05000019073486328125e+00,4.0,1474193039000);
-INSERT INTO "leq" VALUES(29,10263,1474193042350,4.76416000000000039449e+01,-3.15602666666666697992e+00,1.03098857402801513671e+00,16.1,8.05000019073486328125e+00,4.0,1474193039000);
-INSERT INTO "leq" VALUES(29,10264,1474193043310,4.76416250000000047765e+01,-3.15597499999999975273e+00,1.02892971038818359375e+00,16.1,5.6840000152587890625e+01,3.90000009536743164062e+00,1474193044000);
-INSERT INTO "leq" VALUES(29,10265,1474193044270,4.76416250000000047765e+01,-3.15597499999999975273e+00,1.02892971038818359375e+00,16.1,5.6840000152587890625e+01,3.90000009536743164062e+00,1474193044000);
-INSERT INTO "leq" VALUES(29,10266,1474193045231,4.76416250000000047765e+01,-3.15597499999999975273e+00,1.02892971038818359375e+00,16.1,5.6840000152587890625e+01,3.90000009536743164062e+00,1474193044000);
-INSERT INTO "leq" VALUES(29,10267,1474193046191,4.76416250000000047765e+01,-3.15597499999999975273e+00,1.02892971038818359375e+00,16.1,5.6840000152587890625e+01,3.90000009536743164062e+00,1474193044000);
-INSERT INTO "leq" VALUES(29,10268,1474193047151,4.76416250000000047765e+01,-3.15597499999999975273e+00,1.02892971038818359375e+00,16.1,5.6840000152587890625e+01,3.90000009536743164062e+00,1474193044000);
-INSERT INTO "leq" VALUES(29,10269,1474193048111,4.76416483333333289334e+01,-3.15593333333333303514e+00,1.07628417015075683593e+00,16.2,6.40500030517578124991e+01,3.90000009536743164062e+00,1474193048000);
-INSERT INTO "leq" VALUES(29,10270,1474193049071,4.76416483333333289334e+01,-3.15593333333333303514e+00,1.07628417015075683593e+00,16.2,6.40500030517578124991e+01,3.90000009536743164062e+00,1474193048000);
-INSERT INTO "leq" VALUES(29,10271,1474193050032,4.76416483333333289334e+01,-3.15593333333333303514e+00,1.07628417015075683593e+00,16.2,6.40500030517578124991e+01,3.90000009536743164062e+00,1474193048000);
-INSERT INTO "leq" VALUES(29,10272,1474193050992,4.76416483333333289334e+01,-3.15593333333333303514e+00,1.07628417015075683593e+00,16.2,6.40500030517578124991e+01,3.90000009536743164062e+00,1474193048000);
-INSERT INTO "leq" VALUES(29,10273,1474193051952,4.76416483333333289334e+01,-3.15587666666666644132e+00,1.11385893821716308593e+00,16.2,9.29499969482421875034e+01,4.0,1474193052000);
-INSERT INTO "leq" VALUES(29,10274,1474193052912,4.76416483333333289334e+01,-3.15587666666666644132e+00,1.11385893821716308593e+00,16.2,9.29499969482421875034e+01,4.0,1474193052000);
-INSERT INTO "leq" VALUES(29,10275,1474193053872,4.76416483333333289334e+01,-3.15587666666666644132e+00,1.11385893821716308593e+00,16.2,9.29499969482421875034e+01,4.0,1474193052000);
-INSERT INTO "leq" VALUES(29,10276,1474193054833,4.76416483333333289334e+01,-3.15587666666666644132e+00,1.11385893821716308593e+00,16.2,9.29499969482421875034e+01,4.0,1474193052000);
-INSERT INTO "leq" VALUES(29,10277,1474193055793,4.7641640000000009536e+01,-3.15582833333333301339e+00,0.853409469127655,16.2,9.479000091552734375e+01,3.5,1474193056000);
-INSERT INTO "leq" VALUES(29,10278,1474193056753,4.7641640000000009536e+01,-3.15582833333333301339e+00,0.853409469127655,16.2,9.479000091552734375e+01,3.5,1474193056000);
+INSERT INTO "leq" VALUES(29,10217,1474192998181,4.7641576666666665572e+01,-3.15576166666666724225e+00,5.30163906514644622802e-02,16.4,1.30880004882812500004e+02,4.80000019073486328125e+00,1474192994000,X'2712FA0F1310EA1127125112EA11B712391278129C13A213F712D01026116C0F360E840D870D740B5400C2FFE4FE');
+INSERT INTO "leq" VALUES(29,10218,1474192999141,4.7641576666666665572e+01,-3.15576166666666724225e+00,5.30163906514644622802e-02,16.4,1.30880004882812500004e+02,4.80000019073486328125e+00,1474192994000,X'8C117D109D0F671230139D13EA1151126012511217131113E412F51037117E0F740E0D0EC70D210C1701A4FF87FD');
+INSERT INTO "leq" VALUES(29,10219,1474193000101,4.7641576666666665572e+01,-3.15576166666666724225e+00,5.30163906514644622802e-02,16.4,1.30880004882812500004e+02,4.80000019073486328125e+00,1474192994000,X'D41390114A10AF139A1312156C12CB12971257139B13DE13DA135F1229127410E90EFC0D060E710CE40256018CFF');
+INSERT INTO "leq" VALUES(29,10220,1474193001061,4.7641576666666665572e+01,-3.15576166666666724225e+00,5.30163906514644622802e-02,16.4,1.30880004882812500004e+02,4.80000019073486328125e+00,1474192994000,X'0414DD10630FBD14D9164416C6130715F514E315FF15F6159116B014D4149412E7101111D210C50F45053204C902');
+INSERT INTO "leq" VALUES(29,10221,1474193002021,4.7641608333333337554e+01,-3.15577833333333312992e+00,0.0,16.3,1.30880004882812500004e+02,3.5,1474193002000,X'DE13F60E6E0FA0135817FE15591362159C147A15CF159E159A16E91484141D129B108411C1108B0FEE00050065FE');
+INSERT INTO "leq" VALUES(29,10222,1474193002982,4.7641608333333337554e+01,-3.15577833333333312992e+00,0.0,16.3,1.30880004882812500004e+02,3.5,1474193002000,X'1D12CE0D360F1A12081582134811A8132A1369130C140E142015C113B712B610F80E470E8E0EFB0C4A0303021D00');
+INSERT INTO "leq" VALUES(29,10223,1474193003942,4.7641608333333337554e+01,-3.15577833333333312992e+00,0.0,16.3,1.30880004882812500004e+02,3.5,1474193002000,X'A610BB0E7D10DB119912AD107E0FDB1021113B114412391237136112BD10150F1D0E450D4D0D880BF101400042FD');
+INSERT INTO "leq" VALUES(29,10224,1474193004902,4.7641608333333337554e+01,-3.15577833333333312992e+00,0.0,16.3,1.30880004882812500004e+02,3.5,1474193002000,X'5A0C740BE90D850E4E0F8F0F2C10E60F84107F10D210BF101E10350F8B0EC30D430D080DF30C1C0B300011FF4BFD');
+INSERT INTO "leq" VALUES(29,10225,1474193005862,4.7641608333333337554e+01,-3.15577833333333312992e+00,0.0,16.3,1.30880004882812500004e+02,3.5,1474193002000,X'A80C3F0B860DED0D6B0F470FB10F600FFA10B0109A1088107A10380FDF0E4A10990E280E3E0E950C010194FF3BFD');
+INSERT INTO "leq" VALUES(29,10226,1474193006822,4.76416383333333399736e+01,-3.15575666666666654336e+00,4.22072224318981170654e-02,16.3,2.77339996337890625009e+02,3.09999990463256835937e+00,1474193007000,X'0E1069125E14A9139512A8122F11AD0F8E1017100710BB0FFE0E850E730EB50DB20D890D6A0D430B880076FF54FE');
+INSERT INTO "leq" VALUES(29,10227,1474193007783,4.76416383333333399736e+01,-3.15575666666666654336e+00,4.22072224318981170654e-02,16.3,2.77339996337890625009e+02,3.09999990463256835937e+00,1474193007000,X'DA0F0412831322133F13D6115B106D1026107710F10FE70F6E0FDB0F290F100EC70D820D7D0D630B05029F010D01');
+INSERT INTO "leq" VALUES(29,10228,1474193008743,4.76416383333333399736e+01,-3.15575666666666654336e+00,4.22072224318981170654e-02,16.3,2.77339996337890625009e+02,3.09999990463256835937e+00,1474193007000,X'B90EA10EC2117F12AC113B11FA0FA60FCF0F8E10261091102E104E10700FF40DEC0D6C0D8D0D600BB1013600BCFD');
+INSERT INTO "leq" VALUES(29,10229,1474193009703,4.76416383333333399736e+01,-3.15575666666666654336e+00,4.22072224318981170654e-02,16.3,2.77339996337890625009e+02,3.09999990463256835937e+00,1474193007000,X'700D0312A212FE11EF1136126111A81194102E1234110E1119109F10A410FA0E1E0ED40DAD0D630B8B010D018B00');
+INSERT INTO "leq" VALUES(29,10230,1474193010663,4.76416383333333399736e+01,-3.15575666666666654336e+00,4.22072224318981170654e-02,16.3,2.77339996337890625009e+02,3.09999990463256835937e+00,1474193007000,X'470E34102C12D3110F12E1116B118D11ED106912D21185119F10A610EB10660F600EAD0D950D290BDD00CDFFEAFD');
+INSERT INTO "leq" VALUES(29,10231,1474193011623,4.76416266666666601272e+01,-3.155815,6.28475844860076904296e-01,16.3,246.25,3.79999995231628417968e+00,1474193012000,X'730CB10D0011B510EA101311BA10E711E8106A1123126E11DC102710CC0FF70E290EDA0D930D400B5202E7019401');
+INSERT INTO "leq" VALUES(29,10232,1474193012584,4.76416266666666601272e+01,-3.155815,6.28475844860076904296e-01,16.3,246.25,3.79999995231628417968e+00,1474193012000,X'F00C5F11B51156123612F2108E104A11DC1071111C11AE10E60F5A0F0A0F420EDC0DB30D850D400B050206016700');
+INSERT INTO "leq" VALUES(29,10233,1474193013544,4.76416266666666601272e+01,-3.155815,6.28475844860076904296e-01,16.3,246.25,3.79999995231628417968e+00,1474193012000,X'F70EA01247131C134713BD12FC12B11161110712A911A610D50F410FF00E620EF30DA10D8C0D550B1F0316028F01');
+INSERT INTO "leq" VALUES(29,10234,1474193014504,4.76416266666666601272e+01,-3.155815,6.28475844860076904296e-01,16.3,246.25,3.79999995231628417968e+00,1474193012000,X'F4125214EF157A16DE1670163F15DE1446135E12FC118F118B10DF0FFF0EAE0E0D0EA40DA70D470B5201BAFF0CFD');
+INSERT INTO "leq" VALUES(29,10235,1474193015464,4.76415899999999936653e+01,-3.15586,5.70826947689056396484e-01,16.2,2.13149993896484375006e+02,3.59999990463256835937e+00,1474193016000,X'561295158316CA1670170518CD165B16BA15EA1349124F115910F00FB60F120F4B0EA40D770D2B0B1104C9039D03');
+INSERT INTO "leq" VALUES(29,10236,1474193016424,4.76415899999999936653e+01,-3.15586,5.70826947689056396484e-01,16.2,2.13149993896484375006e+02,3.59999990463256835937e+00,1474193016000,X'C911131618167416931616164915FE13431315132E124411A4100F10AC0FF10E840ED00D990D460B340210014000');
+INSERT INTO "leq" VALUES(29,10237,1474193017385,4.76415899999999936653e+01,-3.15586,5.70826947689056396484e-01,16.2,2.13149993896484375006e+02,3.59999990463256835937e+00,1474193016000,X'0D12501423156F159614D214F312F01167111612FE115E117110410F100F680E350ED70DCB0D4D0BAC046504E803');
+INSERT INTO "leq" VALUES(29,10238,1474193018345,47.64156,-3.15588833333333296238e+00,6.64506375789642333984e-01,16.2,205.25,3.70000004768371582031e+00,1474193019000,X'8812AA156317A817701710179D1627155013B212AB1149117D10640F100F3B0E190ED40DA80D7C0B700627060206');
+INSERT INTO "leq" VALUES(29,10239,1474193019305,47.64156,-3.15588833333333296238e+00,6.64506375789642333984e-01,16.2,205.25,3.70000004768371582031e+00,1474193019000,X'FD0EDD11E61354155214D414E5143E12D0113611D9103F10F60F290FB30E150EEC0DB50DB40D780B8B0010FFD4FC');
+INSERT INTO "leq" VALUES(29,10240,1474193020265,47.64156,-3.15588833333333296238e+00,6.64506375789642333984e-01,16.2,205.25,3.70000004768371582031e+00,1474193019000,X'B810C5103911B7120914C212271097110C11F00F75107B10FD0F090F610F190F4E0FCB0E9A0EA00BD90201015FFE');
+INSERT INTO "leq" VALUES(29,10241,1474193021225,47.64156,-3.15588833333333296238e+00,6.64506375789642333984e-01,16.2,205.25,3.70000004768371582031e+00,1474193019000,X'F60C3B12E01223150A1434142B11E512D71291108110BD10151173103910100F920E170EE00D850BDB00D3FFECFE');
+INSERT INTO "leq" VALUES(29,10242,1474193022186,47.64156,-3.15588833333333296238e+00,6.64506375789642333984e-01,16.2,205.25,3.70000004768371582031e+00,1474193019000,X'BE0C590FCC1486119B15DC13F1116B13CE1243122012E4116C116810700FD50ED50E510EEC0D6F0B04015F00E7FF');
+INSERT INTO "leq" VALUES(29,10243,1474193023146,4.76415316666666655009e+01,-3.1559266666666663248e+00,5.39428889751434326171e-01,16.1,2.54350006103515624989e+02,3.40000009536743164062e+00,1474193023000,X'2F0E9B0F131098111F12871103109611F910551159112B111A10890F760EEC0DCF0D9C0D7E0D410BB501020077FD');
+INSERT INTO "leq" VALUES(29,10244,1474193024106,4.76415316666666655009e+01,-3.1559266666666663248e+00,5.39428889751434326171e-01,16.1,2.54350006103515624989e+02,3.40000009536743164062e+00,1474193023000,X'620CC80E2B0E1B117910890F7B0F3D117510AB104A108710C30FD20EA20ED00DEB0D590D450D210BB40091FF4AFE');
+INSERT INTO "leq" VALUES(29,10245,1474193025066,4.76415316666666655009e+01,-3.1559266666666663248e+00,5.39428889751434326171e-01,16.1,2.54350006103515624989e+02,3.40000009536743164062e+00,1474193023000,X'0D09EB0E8C0E1D0F800F7E0F950F52113C1293117C10CB0F740F010F550ED00DA70D550D3A0D110B8B0015FFBEFC');
+INSERT INTO "leq" VALUES(29,10246,1474193026026,4.76415316666666655009e+01,-3.1559266666666663248e+00,5.39428889751434326171e-01,16.1,2.54350006103515624989e+02,3.40000009536743164062e+00,1474193023000,X'4409340F4D0EE90E10101810810F4F122A118A11821190104B10650F8B0EFD0DB50D820D540D500B0700C4FE64FC');
+INSERT INTO "leq" VALUES(29,10247,1474193026987,4.76415316666666655009e+01,-3.1559266666666663248e+00,5.39428889751434326171e-01,16.1,2.54350006103515624989e+02,3.40000009536743164062e+00,1474193023000,X'0E0A070F0B0EB011220FD80FCA0F7D11A710F710AE124B10EA0FEC0E8A0ED80DAE0D5E0D690D1F0BFC00CBFFA7FE');
+INSERT INTO "leq" VALUES(29,10248,1474193027947,4.76415316666666655009e+01,-3.1559266666666663248e+00,5.39428889751434326171e-01,16.1,2.54350006103515624989e+02,3.40000009536743164062e+00,1474193023000,X'D908F40D030E03103E0FD1102F0FFA0FAA100F1268104F100410090F3C0EE80DE10D7E0D7C0D3C0BE500400097FF');
+INSERT INTO "leq" VALUES(29,10249,1474193028907,4.76415316666666655009e+01,-3.1559266666666663248e+00,5.39428889751434326171e-01,16.1,2.54350006103515624989e+02,3.40000009536743164062e+00,1474193023000,X'F80C8810C410D410F20F8F10B70F1B107E106811FD0F3F10760F150F0D0EF20DB30DA50D690D1E0BF7014201D000');
+INSERT INTO "leq" VALUES(29,10250,1474193029867,4.76415316666666655009e+01,-3.1559266666666663248e+00,5.39428889751434326171e-01,16.1,2.54350006103515624989e+02,3.40000009536743164062e+00,1474193023000,X'BB0B360FF70F2D0FFC0E260FA80E880F7A0F4510A80FB40F6D0FBD0EA20E1C0EF40DCA0DE00D620BB5010E0035FD');
+INSERT INTO "leq" VALUES(29,10251,1474193030827,4.76415433333333240275e+01,-3.15597999999999956344e+00,8.78116130828857421875e-01,16.1,3.09910003662109375006e+02,3.79999995231628417968e+00,1474193031000,X'340A8B0D950D7A0D7F0D650E000E6D0E9B0E700EFD0E550F350FBD0E280EF70D090EE60DF70D620BF5FFC2FE9AFC');
+INSERT INTO "leq" VALUES(29,10252,1474193031788,4.76415433333333240275e+01,-3.15597999999999956344e+00,8.78116130828857421875e-01,16.1,3.09910003662109375006e+02,3.79999995231628417968e+00,1474193031000,X'CC09370E080F370E600EC80E900E880FE30F990FC90FC511E7100D0F2611D70F160FE10EF80E340C1500CFFE8FFC');
+INSERT INTO "leq" VALUES(29,10253,1474193032748,4.76415433333333240275e+01,-3.15597999999999956344e+00,8.78116130828857421875e-01,16.1,3.09910003662109375006e+02,3.79999995231628417968e+00,1474193031000,X'5C0A2F0B6F0C120D2F0D660FDB0D6B0E9F0EC40EC90E8C0E630EE90DB90DDA0DA50D630D6A0D180B150011FF74FD');
+INSERT INTO "leq" VALUES(29,10254,1474193033708,4.76415433333333240275e+01,-3.15597999999999956344e+00,8.78116130828857421875e-01,16.1,3.09910003662109375006e+02,3.79999995231628417968e+00,1474193031000,X'8B0ABF0A710C2E0D740D690E560F1210C30F320F460F270FE10E8F0E110E700E940D690D6C0D2C0B4200FEFEB0FC');
+INSERT INTO "leq" VALUES(29,10255,1474193034668,4.76415433333333240275e+01,-3.15597999999999956344e+00,8.78116130828857421875e-01,16.1,3.09910003662109375006e+02,3.79999995231628417968e+00,1474193031000,X'650C190FF00EF30E7F0FAF0ECB0E48106E109D11FA0FD30EBF0E2B0EC00DE80D970D660D520D1E0B97008FFF66FE');
+INSERT INTO "leq" VALUES(29,10256,1474193035629,47.64156,-3.1560249999999996362e+00,8.27673316001892089843e-01,16.0,3.23230010986328124993e+02,3.70000004768371582031e+00,1474193036000,X'0C0D5E106D10EF0F390F6D0FA80FC510EC10FF11791033114110140FE20E110E1F0E080EFC0D6D0B700052FF80FD');
+INSERT INTO "leq" VALUES(29,10257,1474193036589,47.64156,-3.1560249999999996362e+00,8.27673316001892089843e-01,16.0,3.23230010986328124993e+02,3.70000004768371582031e+00,1474193036000,X'DA09170B7A0CFB0DD510100E740E3811CD11BF10790F940F8D0F9A0EAB0EF50DE80DA20D890D120B1C00ECFE8AFC');
+INSERT INTO "leq" VALUES(29,10258,1474193037549,47.64156,-3.1560249999999996362e+00,8.27673316001892089843e-01,16.0,3.23230010986328124993e+02,3.70000004768371582031e+00,1474193036000,X'CB08E608BA0B7E0F1010830F7011D011580F150F920F7D0FDC0E720EDB0E7C0E420EF70D980D030BEF006800DFFF');
+INSERT INTO "leq" VALUES(29,10259,1474193038509,4.76416000000000039449e+01,-3.15602666666666697992e+00,1.03098857402801513671e+00,16.1,8.05000019073486328125e+00,4.0,1474193039000,X'B008A80B3A0D4E0F490FB60F6312B7104D12A2117A103D104310910F200F210F180EA70DA90D2E0B580036FF50FD');
+INSERT INTO "leq" VALUES(29,10260,1474193039469,4.76416000000000039449e+01,-3.15602666666666697992e+00,1.03098857402801513671e+00,16.1,8.05000019073486328125e+00,4.0,1474193039000,X'C109040BB10CD40E410E090F2810F60E6B0F7E10D6101F100610130FAA0E0F0EF70DBD0D580DEB0A280009FF7DFD');
+INSERT INTO "leq" VALUES(29,10261,1474193040430,4.76416000000000039449e+01,-3.15602666666666697992e+00,1.03098857402801513671e+00,16.1,8.05000019073486328125e+00,4.0,1474193039000,X'560A320B4F0DC90D820E311234136C103310630FA20FB30F890F970EB60E520E090EBD0DCD0D3C0B0800CCFE73FC');
+INSERT INTO "leq" VALUES(29,10262,1474193041390,4.76416000000000039449e+01,-3.15602666666666697992e+00,1.03098857402801513671e+00,16.1,8.05000019073486328125e+00,4.0,1474193039000,X'A40B580C440EA00F6911D40FAC0FAD111C111311541178101C10140FF80E680E3B0EB70DE20D4F0B1E011B0027FF');
+INSERT INTO "leq" VALUES(29,10263,1474193042350,4.76416000000000039449e+01,-3.15602666666666697992e+00,1.03098857402801513671e+00,16.1,8.05000019073486328125e+00,4.0,1474193039000,X'900EDC0DD50F451146116811CA12B6126812CD12E61200129511B010EE10AF0FCE0E240E080E610B6104F4037303');
+INSERT INTO "leq" VALUES(29,10264,1474193043310,4.76416250000000047765e+01,-3.15597499999999975273e+00,1.02892971038818359375e+00,16.1,5.6840000152587890625e+01,3.90000009536743164062e+00,1474193044000,X'C210160E701151113411E5112C128114141436132F131613AD11DC104A10E00F340F5D0E2B0E970B3301A9001F00');
+INSERT INTO "leq" VALUES(29,10265,1474193044270,4.76416250000000047765e+01,-3.15597499999999975273e+00,1.02892971038818359375e+00,16.1,5.6840000152587890625e+01,3.90000009536743164062e+00,1474193044000,X'4C0E8E0D870DD40F2310A41020104E11B11133123E11DD107510C90FF60E470EDA0DB50DA90D350B5C00ABFF80FE');
+INSERT INTO "leq" VALUES(29,10266,1474193045231,4.76416250000000047765e+01,-3.15597499999999975273e+00,1.02892971038818359375e+00,16.1,5.6840000152587890625e+01,3.90000009536743164062e+00,1474193044000,X'5A0C940CDF0D6E0ECC0E6D0FCA0E1F104510A5103511C2102F10440FF40E590E1C0EAC0DBC0D5C0B330195FF96FD');
+INSERT INTO "leq" VALUES(29,10267,1474193046191,4.76416250000000047765e+01,-3.15597499999999975273e+00,1.02892971038818359375e+00,16.1,5.6840000152587890625e+01,3.90000009536743164062e+00,1474193044000,X'290D200CAC0CEF0D4F108B0F3D11891006106C114610A310FD0F000F5D0E100E0C0EE90DDF0D490BB800E5FFD2FE');
+INSERT INTO "leq" VALUES(29,10268,1474193047151,4.76416250000000047765e+01,-3.15597499999999975273e+00,1.02892971038818359375e+00,16.1,5.6840000152587890625e+01,3.90000009536743164062e+00,1474193044000,X'F609030CE30DF10FBA0E900F1013751214120B11A5107B10FA0F4F0FBE0E190EF70DBB0DA30D2E0BCE01280077FD');
+INSERT INTO "leq" VALUES(29,10269,1474193048111,4.76416483333333289334e+01,-3.15593333333333303514e+00,1.07628417015075683593e+00,16.2,6.40500030517578124991e+01,3.90000009536743164062e+00,1474193048000,X'D509C50B250DE20DE30EFC0E850EFF0F04109810970FCA0F020F2F0E080EE50DBF0D9C0D6D0D130B190195FF28FD');
+INSERT INTO "leq" VALUES(29,10270,1474193049071,4.76416483333333289334e+01,-3.15593333333333303514e+00,1.07628417015075683593e+00,16.2,6.40500030517578124991e+01,3.90000009536743164062e+00,1474193048000,X'C50B720A450CF50D250E8E0E0E0EB90E770FFB10E70FBD0F270F600EF00DA80DA10D6F0D530DED0AD600D9FF0CFF');
+INSERT INTO "leq" VALUES(29,10271,1474193050032,4.76416483333333289334e+01,-3.15593333333333303514e+00,1.07628417015075683593e+00,16.2,6.40500030517578124991e+01,3.90000009536743164062e+00,1474193048000,X'170C8A0E340F410E760E4A0EEB0D080F490FA910CC0FD60F320F640EED0D8C0DB20D7D0D530D0E0BE4FFB4FE9DFC');
+INSERT INTO "leq" VALUES(29,10272,1474193050992,4.76416483333333289334e+01,-3.15593333333333303514e+00,1.07628417015075683593e+00,16.2,6.40500030517578124991e+01,3.90000009536743164062e+00,1474193048000,X'5609700B760B2D0D3A0E580E8B0E820F340FAD10D90FAC0F3E0F920EF40DDF0DCD0D880D610DFF0A2C0000FF18FD');
+INSERT INTO "leq" VALUES(29,10273,1474193051952,4.76416483333333289334e+01,-3.15587666666666644132e+00,1.11385893821716308593e+00,16.2,9.29499969482421875034e+01,4.0,1474193052000,X'720AF20AB20C720D0A0E6F0EDE0DD30E990FF210870F1110840F0F0F1A0E270E1C0ED70DB70D1F0B960070FF36FE');
+INSERT INTO "leq" VALUES(29,10274,1474193052912,4.76416483333333289334e+01,-3.15587666666666644132e+00,1.11385893821716308593e+00,16.2,9.29499969482421875034e+01,4.0,1474193052000,X'A00B8E0C2A0E6D0E9A0D460E510EDE0EA30F2D11A20FCA0F570F800EE10DF70D1C0E910D7A0D040BA0006AFFAEFD');
+INSERT INTO "leq" VALUES(29,10275,1474193053872,4.76416483333333289334e+01,-3.15587666666666644132e+00,1.11385893821716308593e+00,16.2,9.29499969482421875034e+01,4.0,1474193052000,X'650B530C060E2C0FBD0FD80FD0104611F7108613A11110116310420FA90EC00E770EDE0DA90D150B2B02BE015501');
+INSERT INTO "leq" VALUES(29,10276,1474193054833,4.76416483333333289334e+01,-3.15587666666666644132e+00,1.11385893821716308593e+00,16.2,9.29499969482421875034e+01,4.0,1474193052000,X'D60C910C950EDF0FB90FC1104211951213126A14081388129311C910F80F1410610F2B0E080E660B82019D0088FF');
+INSERT INTO "leq" VALUES(29,10277,1474193055793,4.7641640000000009536e+01,-3.15582833333333301339e+00,0.853409469127655,16.2,9.479000091552734375e+01,3.5,1474193056000,X'D70C880CCB0ED70E310F4910A8117912DD122714DF1204132B13A612F510F60F7B0F890E0E0E4E0B9200C0FFDDFE');
+INSERT INTO "leq" VALUES(29,10278,1474193056753,4.7641640000000009536e+01,-3.15582833333333301339e+00,0.853409469127655,16.2,9.479000091552734375e+01,3.5,1474193056000,X'590E3A0FC00F1110630F5210B911C4115312C4134213C8136C133112CA11DB1088100B10640F280D2D03B801B400');
 COMMIT;
 PRAGMA foreign_keys=OFF;
 BEGIN TRANSACTION;
-INSERT INTO "leq_value" VALUES(10217,100,46.4693603515625);
-INSERT INTO "leq_value" VALUES(10217,125,4.0904750823974609375e+01);
-INSERT INTO "leq_value" VALUES(10217,160,4.11546287536621093741e+01);
-INSERT INTO "leq_value" VALUES(10217,200,4.58588180541992187491e+01);
-INSERT INTO "leq_value" VALUES(10217,250,4.6467437744140625e+01);
-INSERT INTO "leq_value" VALUES(10217,315,4.6892490386962890625e+01);
-INSERT INTO "leq_value" VALUES(10217,400,4.58583717346191406267e+01);
-INSERT INTO "leq_value" VALUES(10217,500,4.79138221740722656258e+01);
-INSERT INTO "leq_value" VALUES(10217,630,4.66462478637695312491e+01);
-INSERT INTO "leq_value" VALUES(10217,800,4.72822532653808593741e+01);
-INSERT INTO "leq_value" VALUES(10217,1000,5.02021064758300781258e+01);
-INSERT INTO "leq_value" VALUES(10217,1250,5.02627792358398437508e+01);
-INSERT INTO "leq_value" VALUES(10217,1600,4.85489883422851562508e+01);
-INSERT INTO "leq_value" VALUES(10217,2000,4.3035907745361328125e+01);
-INSERT INTO "leq_value" VALUES(10217,2500,43.8965950012207);
-INSERT INTO "leq_value" VALUES(10217,3150,3.94796905517578124991e+01);
-INSERT INTO "leq_value" VALUES(10217,4000,3.63801040649414062508e+01);
-INSERT INTO "leq_value" VALUES(10217,5000,3.45996551513671874995e+01);
-INSERT INTO "leq_value" VALUES(10217,6300,3.46301193237304687504e+01);
-INSERT INTO "leq_value" VALUES(10217,8000,2.9319934844970703125e+01);
-INSERT INTO "leq_value" VALUES(10217,10000,8.39997887611389160156e-01);
-INSERT INTO "leq_value" VALUES(10217,12500,-0.623436450958252);
-INSERT INTO "leq_value" VALUES(10217,16000,-2.84254622459411621093e+00);
-INSERT INTO "leq_value" VALUES(10218,100,4.4923534393310546875e+01);
-INSERT INTO "leq_value" VALUES(10218,125,4.220706939697265625e+01);
-INSERT INTO "leq_value" VALUES(10218,160,3.99682464599609375008e+01);
-INSERT INTO "leq_value" VALUES(10218,200,4.71074371337890625017e+01);
-INSERT INTO "leq_value" VALUES(10218,250,4.91218795776367187508e+01);
-INSERT INTO "leq_value" VALUES(10218,315,5.02095527648925781232e+01);
-INSERT INTO "leq_value" VALUES(10218,400,4.58577270507812499982e+01);
-INSERT INTO "leq_value" VALUES(10218,500,4.68857841491699218767e+01);
-INSERT INTO "leq_value" VALUES(10218,630,4.70353050231933593732e+01);
-INSERT INTO "leq_value" VALUES(10218,800,4.68949775695800781267e+01);
-INSERT INTO "leq_value" VALUES(10218,1000,4.8872165679931640625e+01);
-INSERT INTO "leq_value" VALUES(10218,1250,4.8806667327880859375e+01);
-INSERT INTO "leq_value" VALUES(10218,1600,4.83575897216796875017e+01);
-INSERT INTO "leq_value" VALUES(10218,2000,4.34058303833007812482e+01);
-INSERT INTO "leq_value" VALUES(10218,2500,4.40656204223632812482e+01);
-INSERT INTO "leq_value" VALUES(10218,3150,3.96605377197265625e+01);
-INSERT INTO "leq_value" VALUES(10218,4000,3.69981231689453125008e+01);
-INSERT INTO "leq_value" VALUES(10218,5000,3.59711189270019531254e+01);
-INSERT INTO "leq_value" VALUES(10218,6300,3.52657623291015625004e+01);
-INSERT INTO "leq_value" VALUES(10218,8000,3.1046598434448242187e+01);
-INSERT INTO "leq_value" VALUES(10218,10000,2.785152435302734375e+00);
-INSERT INTO "leq_value" VALUES(10218,12500,-0.924497663974762);
-INSERT INTO "leq_value" VALUES(10218,16000,-6.32961511611938476562e+00);
-INSERT INTO "leq_value" VALUES(10219,100,5.0762653350830078125e+01);
-INSERT INTO "leq_value" VALUES(10219,125,4.49628601074218749991e+01);
-INSERT INTO "leq_value" VALUES(10219,160,4.16974868774414062508e+01);
-INSERT INTO "leq_value" VALUES(10219,200,5.03904876708984374991e+01);
-INSERT INTO "leq_value" VALUES(10219,250,5.01803245544433593758e+01);
-INSERT INTO "leq_value" VALUES(10219,315,5.39386596679687500008e+01);
-INSERT INTO "leq_value" VALUES(10219,400,4.71627655029296875008e+01);
-INSERT INTO "leq_value" VALUES(10219,500,4.81116638183593749991e+01);
-INSERT INTO "leq_value" VALUES(10219,630,47.5889778137207);
-INSERT INTO "leq_value" VALUES(10219,800,4.95114059448242187482e+01);
-INSERT INTO "leq_value" VALUES(10219,1000,5.01880912780761718767e+01);
-INSERT INTO "leq_value" VALUES(10219,1250,5.0862865447998046875e+01);
-INSERT INTO "leq_value" VALUES(10219,1600,5.08165321350097656241e+01);
-INSERT INTO "leq_value" VALUES(10219,2000,4.70255775451660156232e+01);
-INSERT INTO "leq_value" VALUES(10219,2500,46.4938850402832);
-INSERT INTO "leq_value" VALUES(10219,3150,4.21192474365234374982e+01);
-INSERT INTO "leq_value" VALUES(10219,4000,3.81728782653808593758e+01);
-INSERT INTO "leq_value" VALUES(10219,5000,3.58047714233398437508e+01);
-INSERT INTO "leq_value" VALUES(10219,6300,3.58954353332519531254e+01);
-INSERT INTO "leq_value" VALUES(10219,8000,3.18479080200195312504e+01);
-INSERT INTO "leq_value" VALUES(10219,10000,7.40221834182739257812e+00);
-INSERT INTO "leq_value" VALUES(10219,12500,3.42097020149230957031e+00);
-INSERT INTO "leq_value" VALUES(10219,16000,-1.1574007272720336914e+00);
-INSERT INTO "leq_value" VALUES(10220,100,5.12414588928222656258e+01);
-INSERT INTO "leq_value" VALUES(10220,125,4.31683273315429687482e+01);
-INSERT INTO "leq_value" VALUES(10220,160,3.9388256072998046875e+01);
-INSERT INTO "leq_value" VALUES(10220,200,5.308750152587890625e+01);
-INSERT INTO "leq_value" VALUES(10220,250,5.84883460998535156241e+01);
-INSERT INTO "leq_value" VALUES(10220,315,5.70031433105468750017e+01);
-INSERT INTO "leq_value" VALUES(10220,400,5.06161956787109375017e+01);
-INSERT INTO "leq_value" VALUES(10220,500,5.38276824951171874991e+01);
-INSERT INTO "leq_value" VALUES(10220,630,53.65185546875);
-INSERT INTO "leq_value" VALUES(10220,800,5.60255699157714843767e+01);
-INSERT INTO "leq_value" VALUES(10220,1000,5.63142700195312499982e+01);
-INSERT INTO "leq_value" VALUES(10220,1250,56.2246208190918);
-INSERT INTO "leq_value" VALUES(10220,1600,5.77745132446289062517e+01);
-INSERT INTO "leq_value" VALUES(10220,2000,5.2964305877685546875e+01);
-INSERT INTO "leq_value" VALUES(10220,2500,5.33228836059570312491e+01);
-INSERT INTO "leq_value" VALUES(10220,3150,4.75603408813476562482e+01);
-INSERT INTO "leq_value" VALUES(10220,4000,4.32704048156738281267e+01);
-INSERT INTO "leq_value" VALUES(10220,5000,43.6904296875);
-INSERT INTO "leq_value" VALUES(10220,6300,43.0628547668457);
-INSERT INTO "leq_value" VALUES(10220,8000,4.03741798400878906241e+01);
-INSERT INTO "leq_value" VALUES(10220,10000,1.34941196441650390625e+01);
-INSERT INTO "leq_value" VALUES(10220,12500,1.07351379394531249995e+01);
-INSERT INTO "leq_value" VALUES(10220,16000,7.13434839248657226562e+00);
-INSERT INTO "leq_value" VALUES(10221,100,50.859375);
-INSERT INTO "leq_value" VALUES(10221,125,38.2983283996582);
-INSERT INTO "leq_value" VALUES(10221,160,3.9501373291015625e+01);
-INSERT INTO "leq_value" VALUES(10221,200,5.02395401000976562491e+01);
-INSERT INTO "leq_value" VALUES(10221,250,5.97560348510742187508e+01);
-INSERT INTO "leq_value" VALUES(10221,315,56.3040771484375);
-INSERT INTO "leq_value" VALUES(10221,400,4.95299530029296875e+01);
-INSERT INTO "leq_value" VALUES(10221,500,5.47424087524414062491e+01);
-INSERT INTO "leq_value" VALUES(10221,630,5.27637519836425781258e+01);
-INSERT INTO "leq_value" VALUES(10221,800,5.49810180664062499991e+01);
-INSERT INTO "leq_value" VALUES(10221,1000,5.58304481506347656267e+01);
-INSERT INTO "leq_value" VALUES(10221,1250,5.5344028472900390625e+01);
-INSERT INTO "leq_value" VALUES(10221,1600,57.8585205078125);
-INSERT INTO "leq_value" VALUES(10221,2000,5.353443145751953125e+01);
-INSERT INTO "leq_value" VALUES(10221,2500,5.25207557678222656258e+01);
-INSERT INTO "leq_value" VALUES(10221,3150,4.63736038208007812517e+01);
-INSERT INTO "leq_value" VALUES(10221,4000,4.25083580017089843758e+01);
-INSERT INTO "leq_value" VALUES(10221,5000,4.48408241271972656232e+01);
-INSERT INTO "leq_value" VALUES(10221,6300,4.2891025543212890625e+01);
-INSERT INTO "leq_value" VALUES(10221,8000,3.97865905761718750008e+01);
-INSERT INTO "leq_value" VALUES(10221,10000,2.38142752647399902343e+00);
-INSERT INTO "leq_value" VALUES(10221,12500,5.26705570518970489501e-02);
-INSERT INTO "leq_value" VALUES(10221,16000,-4.11025238037109375e+00);
-INSERT INTO "leq_value" VALUES(10222,100,4.63675956726074218767e+01);
-INSERT INTO "leq_value" VALUES(10222,125,3.53360328674316406241e+01);
-INSERT INTO "leq_value" VALUES(10222,160,38.9409294128418);
-INSERT INTO "leq_value" VALUES(10222,200,4.6342449188232421875e+01);
-INSERT INTO "leq_value" VALUES(10222,250,5.38387641906738281241e+01);
-INSERT INTO "leq_value" VALUES(10222,315,4.99435768127441406241e+01);
-INSERT INTO "leq_value" VALUES(10222,400,4.42375297546386718732e+01);
-INSERT INTO "leq_value" VALUES(10222,500,5.0318202972412109375e+01);
-INSERT INTO "leq_value" VALUES(10222,630,4.90638580322265625008e+01);
-INSERT INTO "leq_value" VALUES(10222,800,49.6866569519043);
-INSERT INTO "leq_value" VALUES(10222,1000,5.13213348388671875e+01);
-INSERT INTO "leq_value" VALUES(10222,1250,5.13392715454101562517e+01);
-INSERT INTO "leq_value" VALUES(10222,1600,5.40821800231933593741e+01);
-INSERT INTO "leq_value" VALUES(10222,2000,5.05671577453613281267e+01);
-INSERT INTO "leq_value" VALUES(10222,2500,4.79145202636718749991e+01);
-INSERT INTO "leq_value" VALUES(10222,3150,4.27814369201660156267e+01);
-INSERT INTO "leq_value" VALUES(10222,4000,3.8319309234619140625e+01);
-INSERT INTO "leq_value" VALUES(10222,5000,3.65503158569335937508e+01);
-INSERT INTO "leq_value" VALUES(10222,6300,3.72615509033203124995e+01);
-INSERT INTO "leq_value" VALUES(10222,8000,3.3230762481689453125e+01);
-INSERT INTO "leq_value" VALUES(10222,10000,8.42071628570556640625e+00);
-INSERT INTO "leq_value" VALUES(10222,12500,5.1541500091552734375e+00);
-INSERT INTO "leq_value" VALUES(10222,16000,2.86219865083694458007e-01);
-INSERT INTO "leq_value" VALUES(10223,100,4.26211395263671875008e+01);
-INSERT INTO "leq_value" VALUES(10223,125,3.77113494873046874991e+01);
-INSERT INTO "leq_value" VALUES(10223,160,42.2086181640625);
-INSERT INTO "leq_value" VALUES(10223,200,4.57142143249511718767e+01);
-INSERT INTO "leq_value" VALUES(10223,250,4.76126632690429687491e+01);
-INSERT INTO "leq_value" VALUES(10223,315,42.6900520324707);
-INSERT INTO "leq_value" VALUES(10223,400,3.9663639068603515625e+01);
-INSERT INTO "leq_value" VALUES(10223,500,43.145263671875);
-INSERT INTO "leq_value" VALUES(10223,630,4.38455352783203124991e+01);
-INSERT INTO "leq_value" VALUES(10223,800,4.41106719970703124982e+01);
-INSERT INTO "leq_value" VALUES(10223,1000,4.67633399963378906241e+01);
-INSERT INTO "leq_value" VALUES(10223,1250,4.6652431488037109375e+01);
-INSERT INTO "leq_value" VALUES(10223,1600,4.9189395904541015625e+01);
-INSERT INTO "leq_value" VALUES(10223,2000,47.0499382019043);
-INSERT INTO "leq_value" VALUES(10223,2500,4.2854442596435546875e+01);
-INSERT INTO "leq_value" VALUES(10223,3150,3.8612224578857421875e+01);
-INSERT INTO "leq_value" VALUES(10223,4000,3.6133174896240234375e+01);
-INSERT INTO "leq_value" VALUES(10223,5000,3.39719085693359374995e+01);
-INSERT INTO "leq_value" VALUES(10223,6300,3.40487976074218750004e+01);
-INSERT INTO "leq_value" VALUES(10223,8000,2.95178546905517578133e+01);
-INSERT INTO "leq_value" VALUES(10223,10000,4.96568965911865234375e+00);
-INSERT INTO "leq_value" VALUES(10223,12500,6.36542916297912597656e-01);
-INSERT INTO "leq_value" VALUES(10223,16000,-7.02006864547729492187e+00);
-INSERT INTO "leq_value" VALUES(10224,100,31.6235294342041);
-INSERT INTO "leq_value" VALUES(10224,125,2.93181133270263671875e+01);
-INSERT INTO "leq_value" VALUES(10224,160,3.56103477478027343741e+01);
-INSERT INTO "leq_value" VALUES(10224,200,3.71749534606933593758e+01);
-INSERT INTO "leq_value" VALUES(10224,250,3.917938995361328125e+01);
-INSERT INTO "leq_value" VALUES(10224,315,3.98338851928710937491e+01);
-INSERT INTO "leq_value" VALUES(10224,400,4.13979644775390624982e+01);
-INSERT INTO "leq_value" VALUES(10224,500,4.06988182067871093758e+01);
-INSERT INTO "leq_value" VALUES(10224,630,42.2801399230957);
-INSERT INTO "leq_value" VALUES(10224,800,4.22330627441406249991e+01);
-INSERT INTO "leq_value" VALUES(10224,1000,4.30582351684570312482e+01);
-INSERT INTO "leq_value" VALUES(10224,1250,42.8690071105957);
-INSERT INTO "leq_value" VALUES(10224,1600,4.12602005004882812491e+01);
-INSERT INTO "leq_value" VALUES(10224,2000,3.8929126739501953125e+01);
-INSERT INTO "leq_value" VALUES(10224,2500,3.72306137084960937495e+01);
-INSERT INTO "leq_value" VALUES(10224,3150,3.52284393310546874991e+01);
-INSERT INTO "leq_value" VALUES(10224,4000,3.39467544555664062504e+01);
-INSERT INTO "leq_value" VALUES(10224,5000,3.33628807067871093741e+01);
-INSERT INTO "leq_value" VALUES(10224,6300,3.31455116271972656245e+01);
-INSERT INTO "leq_value" VALUES(10224,8000,2.8444583892822265625e+01);
-INSERT INTO "leq_value" VALUES(10224,10000,4.82874184846878051757e-01);
-INSERT INTO "leq_value" VALUES(10224,12500,-2.38740468025207519531e+00);
-INSERT INTO "leq_value" VALUES(10224,16000,-6.92896604537963867187e+00);
-INSERT INTO "leq_value" VALUES(10225,100,3.23961906433105468745e+01);
-INSERT INTO "leq_value" VALUES(10225,125,2.87940521240234375e+01);
-INSERT INTO "leq_value" VALUES(10225,160,3.46176376342773437508e+01);
-INSERT INTO "leq_value" VALUES(10225,200,3.56531295776367187491e+01);
-INSERT INTO "leq_value" VALUES(10225,250,3.9468242645263671875e+01);
-INSERT INTO "leq_value" VALUES(10225,315,3.91062583923339843758e+01);
-INSERT INTO "leq_value" VALUES(10225,400,4.01697120666503906241e+01);
-INSERT INTO "leq_value" VALUES(10225,500,3.9361858367919921875e+01);
-INSERT INTO "leq_value" VALUES(10225,630,4.3455562591552734375e+01);
-INSERT INTO "leq_value" VALUES(10225,800,4.27172164916992187517e+01);
-INSERT INTO "leq_value" VALUES(10225,1000,4.25049858093261718767e+01);
-INSERT INTO "leq_value" VALUES(10225,1250,4.23173065185546874982e+01);
-INSERT INTO "leq_value" VALUES(10225,1600,4.21777420043945312517e+01);
-INSERT INTO "leq_value" VALUES(10225,2000,3.895745086669921875e+01);
-INSERT INTO "leq_value" VALUES(10225,2500,3.8072406768798828125e+01);
-INSERT INTO "leq_value" VALUES(10225,3150,4.1700267791748046875e+01);
-INSERT INTO "leq_value" VALUES(10225,4000,3.7371063232421875e+01);
-INSERT INTO "leq_value" VALUES(10225,5000,3.62405281066894531245e+01);
-INSERT INTO "leq_value" VALUES(10225,6300,3.64598884582519531258e+01);
-INSERT INTO "leq_value" VALUES(10225,8000,32.2105827331543);
-INSERT INTO "leq_value" VALUES(10225,10000,2.56532526016235351562e+00);
-INSERT INTO "leq_value" VALUES(10225,12500,-1.08128762245178222656e+00);
-INSERT INTO "leq_value" VALUES(10225,16000,-7.09314393997192382812e+00);
-INSERT INTO "leq_value" VALUES(10226,100,4.11041946411132812482e+01);
-INSERT INTO "leq_value" VALUES(10226,125,47.12939453125);
-INSERT INTO "leq_value" VALUES(10226,160,5.213504791259765625e+01);
-INSERT INTO "leq_value" VALUES(10226,200,5.03277626037597656258e+01);
-INSERT INTO "leq_value" VALUES(10226,250,4.756778717041015625e+01);
-INSERT INTO "leq_value" VALUES(10226,315,4.77574653625488281232e+01);
-INSERT INTO "leq_value" VALUES(10226,400,4.39875030517578125e+01);
-INSERT INTO "leq_value" VALUES(10226,500,4.01252517700195312491e+01);
-INSERT INTO "leq_value" VALUES(10226,630,4.23797264099121093758e+01);
-INSERT INTO "leq_value" VALUES(10226,800,4.11914482116699218758e+01);
-INSERT INTO "leq_value" VALUES(10226,1000,4.10295715332031250008e+01);
-INSERT INTO "leq_value" VALUES(10226,1250,4.02671356201171874982e+01);
-INSERT INTO "leq_value" VALUES(10226,1600,3.83773269653320312508e+01);
-INSERT INTO "leq_value" VALUES(10226,2000,3.71694831848144531245e+01);
-INSERT INTO "leq_value" VALUES(10226,2500,3.69861869812011718745e+01);
-INSERT INTO "leq_value" VALUES(10226,3150,3.50947532653808593741e+01);
-INSERT INTO "leq_value" VALUES(10226,4000,3.50624694824218750008e+01);
-INSERT INTO "leq_value" VALUES(10226,5000,3.46485939025878906258e+01);
-INSERT INTO "leq_value" VALUES(10226,6300,3.43410949707031249995e+01);
-INSERT INTO "leq_value" VALUES(10226,8000,2.8828151702880859375e+01);
-INSERT INTO "leq_value" VALUES(10226,10000,1.36045539379119873046e+00);
-INSERT INTO "leq_value" VALUES(10226,12500,-1.38284230232238769531e+00);
-INSERT INTO "leq_value" VALUES(10226,16000,-4.27851009368896484375e+00);
-INSERT INTO "leq_value" VALUES(10227,100,4.0581378936767578125e+01);
-INSERT INTO "leq_value" VALUES(10227,125,4.61210136413574218767e+01);
-INSERT INTO "leq_value" VALUES(10227,160,4.99496536254882812517e+01);
-INSERT INTO "leq_value" VALUES(10227,200,4.89846763610839843741e+01);
-INSERT INTO "leq_value" VALUES(10227,250,49.2696533203125);
-INSERT INTO "leq_value" VALUES(10227,315,4.56591567993164062491e+01);
-INSERT INTO "leq_value" VALUES(10227,400,4.18742485046386718732e+01);
-INSERT INTO "leq_value" VALUES(10227,500,4.20499839782714843758e+01);
-INSERT INTO "leq_value" VALUES(10227,630,4.13375396728515624982e+01);
-INSERT INTO "leq_value" VALUES(10227,800,42.1519889831543);
-INSERT INTO "leq_value" VALUES(10227,1000,4.08127365112304687491e+01);
-INSERT INTO "leq_value" VALUES(10227,1250,4.07137527465820312508e+01);
-INSERT INTO "leq_value" VALUES(10227,1600,3.94981842041015625e+01);
-INSERT INTO "leq_value" VALUES(10227,2000,4.05909690856933593741e+01);
-INSERT INTO "leq_value" VALUES(10227,2500,3.88104782104492187491e+01);
-INSERT INTO "leq_value" VALUES(10227,3150,3.60008125305175781245e+01);
-INSERT INTO "leq_value" VALUES(10227,4000,3.5273113250732421875e+01);
-INSERT INTO "leq_value" VALUES(10227,5000,3.45793647766113281254e+01);
-INSERT INTO "leq_value" VALUES(10227,6300,3.45257873535156250004e+01);
-INSERT INTO "leq_value" VALUES(10227,8000,2.91496410369873046883e+01);
-INSERT INTO "leq_value" VALUES(10227,10000,5.16805410385131835937e+00);
-INSERT INTO "leq_value" VALUES(10227,12500,4.15180158615112304687e+00);
-INSERT INTO "leq_value" VALUES(10227,16000,2.68860721588134765625e+00);
-INSERT INTO "leq_value" VALUES(10228,100,3.76943740844726562491e+01);
-INSERT INTO "leq_value" VALUES(10228,125,3.74529342651367187495e+01);
-INSERT INTO "leq_value" VALUES(10228,160,4.5456447601318359375e+01);
-INSERT INTO "leq_value" VALUES(10228,200,4.734790802001953125e+01);
-INSERT INTO "leq_value" VALUES(10228,250,4.52412147521972656232e+01);
-INSERT INTO "leq_value" VALUES(10228,315,44.1142463684082);
-INSERT INTO "leq_value" VALUES(10228,400,4.08957252502441406241e+01);
-INSERT INTO "leq_value" VALUES(10228,500,4.0064792633056640625e+01);
-INSERT INTO "leq_value" VALUES(10228,630,4.04677238464355468758e+01);
-INSERT INTO "leq_value" VALUES(10228,800,4.23770027160644531267e+01);
-INSERT INTO "leq_value" VALUES(10228,1000,4.13356704711914062482e+01);
-INSERT INTO "leq_value" VALUES(10228,1250,4.24093894958496093767e+01);
-INSERT INTO "leq_value" VALUES(10228,1600,4.141819000244140625e+01);
-INSERT INTO "leq_value" VALUES(10228,2000,4.17423286437988281258e+01);
-INSERT INTO "leq_value" VALUES(10228,2500,3.9522220611572265625e+01);
-INSERT INTO "leq_value" VALUES(10228,3150,3.57191429138183593741e+01);
-INSERT INTO "leq_value" VALUES(10228,4000,3.5642375946044921875e+01);
-INSERT INTO "leq_value" VALUES(10228,5000,3.43566360473632812508e+01);
-INSERT INTO "leq_value" VALUES(10228,6300,3.4692363739013671875e+01);
-INSERT INTO "leq_value" VALUES(10228,8000,2.91166477203369140625e+01);
-INSERT INTO "leq_value" VALUES(10228,10000,4.32856321334838867187e+00);
-INSERT INTO "leq_value" VALUES(10228,12500,5.44068276882171630859e-01);
-INSERT INTO "leq_value" VALUES(10228,16000,-5.798160552978515625e+00);
-INSERT INTO "leq_value" VALUES(10229,100,3.44038314819335937504e+01);
-INSERT INTO "leq_value" VALUES(10229,125,4.61067924499511718741e+01);
-INSERT INTO "leq_value" VALUES(10229,160,4.770366668701171875e+01);
-INSERT INTO "leq_value" VALUES(10229,200,4.60552253723144531258e+01);
-INSERT INTO "leq_value" VALUES(10229,250,4.59057922363281249982e+01);
-INSERT INTO "leq_value" VALUES(10229,315,4.66224060058593749991e+01);
-INSERT INTO "leq_value" VALUES(10229,400,4.44928474426269531232e+01);
-INSERT INTO "leq_value" VALUES(10229,500,4.5199680328369140625e+01);
-INSERT INTO "leq_value" VALUES(10229,630,4.24422302246093750008e+01);
-INSERT INTO "leq_value" VALUES(10229,800,4.65382881164550781232e+01);
-INSERT INTO "leq_value" VALUES(10229,1000,4.404369354248046875e+01);
-INSERT INTO "leq_value" VALUES(10229,1250,4.36554450988769531232e+01);
-INSERT INTO "leq_value" VALUES(10229,1600,4.12108535766601562482e+01);
-INSERT INTO "leq_value" VALUES(10229,2000,4.25498237609863281258e+01);
-INSERT INTO "leq_value" VALUES(10229,2500,4.25988998413085937508e+01);
-INSERT INTO "leq_value" VALUES(10229,3150,3.8340427398681640625e+01);
-INSERT INTO "leq_value" VALUES(10229,4000,36.1413459777832);
-INSERT INTO "leq_value" VALUES(10229,5000,3.54004364013671874995e+01);
-INSERT INTO "leq_value" VALUES(10229,6300,3.50075531005859375e+01);
-INSERT INTO "leq_value" VALUES(10229,8000,2.91491546630859375008e+01);
-INSERT INTO "leq_value" VALUES(10229,10000,3.94691753387451171875e+00);
-INSERT INTO "leq_value" VALUES(10229,12500,2.6917934417724609375e+00);
-INSERT INTO "leq_value" VALUES(10229,16000,1.38636386394500732421e+00);
-INSERT INTO "leq_value" VALUES(10230,100,3.65525093078613281258e+01);
-INSERT INTO "leq_value" VALUES(10230,125,4.14769096374511718732e+01);
-INSERT INTO "leq_value" VALUES(10230,160,4.65225105285644531267e+01);
-INSERT INTO "leq_value" VALUES(10230,200,4.56285972595214843732e+01);
-INSERT INTO "leq_value" VALUES(10230,250,4.6226787567138671875e+01);
-INSERT INTO "leq_value" VALUES(10230,315,4.57676467895507812491e+01);
-INSERT INTO "leq_value" VALUES(10230,400,4.45918693542480468758e+01);
-INSERT INTO "leq_value" VALUES(10230,500,4.49348526000976562517e+01);
-INSERT INTO "leq_value" VALUES(10230,630,4.33253364562988281267e+01);
-INSERT INTO "leq_value" VALUES(10230,800,4.71327323913574218732e+01);
-INSERT INTO "leq_value" VALUES(10230,1000,4.562168121337890625e+01);
-INSERT INTO "leq_value" VALUES(10230,1250,4.48477592468261718758e+01);
-INSERT INTO "leq_value" VALUES(10230,1600,4.2554607391357421875e+01);
-INSERT INTO "leq_value" VALUES(10230,2000,4.26163711547851562508e+01);
-INSERT INTO "leq_value" VALUES(10230,2500,4.33105239868164062491e+01);
-INSERT INTO "leq_value" VALUES(10230,3150,3.94196472167968749991e+01);
-INSERT INTO "leq_value" VALUES(10230,4000,3.68026313781738281241e+01);
-INSERT INTO "leq_value" VALUES(10230,5000,3.5013332366943359375e+01);
-INSERT INTO "leq_value" VALUES(10230,6300,3.47696609497070312504e+01);
-INSERT INTO "leq_value" VALUES(10230,8000,2.85723323822021484375e+01);
-INSERT INTO "leq_value" VALUES(10230,10000,2.20619535446167);
-INSERT INTO "leq_value" VALUES(10230,12500,-5.14152109622955322265e-01);
-INSERT INTO "leq_value" VALUES(10230,16000,-5.3350238800048828125e+00);
-INSERT INTO "leq_value" VALUES(10231,100,3.18670692443847656258e+01);
-INSERT INTO "leq_value" VALUES(10231,125,35.0455207824707);
-INSERT INTO "leq_value" VALUES(10231,160,4.35192031860351562482e+01);
-INSERT INTO "leq_value" VALUES(10231,200,4.27702255249023437482e+01);
-INSERT INTO "leq_value" VALUES(10231,250,4.32967376708984375e+01);
-INSERT INTO "leq_value" VALUES(10231,315,4.37134666442871093732e+01);
-INSERT INTO "leq_value" VALUES(10231,400,4.28201255798339843741e+01);
-INSERT INTO "leq_value" VALUES(10231,500,4.58325347900390624991e+01);
-INSERT INTO "leq_value" VALUES(10231,630,4.32789573669433593741e+01);
-INSERT INTO "leq_value" VALUES(10231,800,4.45776634216308593767e+01);
-INSERT INTO "leq_value" VALUES(10231,1000,4.64271965026855468758e+01);
-INSERT INTO "leq_value" VALUES(10231,1250,4.46173400878906249982e+01);
-INSERT INTO "leq_value" VALUES(10231,1600,4.31591110229492187517e+01);
-INSERT INTO "leq_value" VALUES(10231,2000,4.13508949279785156241e+01);
-INSERT INTO "leq_value" VALUES(10231,2500,4.04375495910644531258e+01);
-INSERT INTO "leq_value" VALUES(10231,3150,38.3108024597168);
-INSERT INTO "leq_value" VALUES(10231,4000,3.6247577667236328125e+01);
-INSERT INTO "leq_value" VALUES(10231,5000,3.54574928283691406241e+01);
-INSERT INTO "leq_value" VALUES(10231,6300,3.47519149780273437508e+01);
-INSERT INTO "leq_value" VALUES(10231,8000,2.88041915893554687508e+01);
-INSERT INTO "leq_value" VALUES(10231,10000,5.94051504135131835937e+00);
-INSERT INTO "leq_value" VALUES(10231,12500,4.86997890472412109375e+00);
-INSERT INTO "leq_value" VALUES(10231,16000,4.036144256591796875e+00);
-INSERT INTO "leq_value" VALUES(10232,100,3.311893463134765625e+01);
-INSERT INTO "leq_value" VALUES(10232,125,4.44686813354492187482e+01);
-INSERT INTO "leq_value" VALUES(10232,160,45.33154296875);
-INSERT INTO "leq_value" VALUES(10232,200,4.69414787292480468767e+01);
-INSERT INTO "leq_value" VALUES(10232,250,4.66166954040527343767e+01);
-INSERT INTO "leq_value" VALUES(10232,315,4.33784751892089843767e+01);
-INSERT INTO "leq_value" VALUES(10232,400,4.23770179748535156258e+01);
-INSERT INTO "leq_value" VALUES(10232,500,4.42645530700683593767e+01);
-INSERT INTO "leq_value" VALUES(10232,630,4.31550903320312499982e+01);
-INSERT INTO "leq_value" VALUES(10232,800,4.46541938781738281241e+01);
-INSERT INTO "leq_value" VALUES(10232,1000,4.380313873291015625e+01);
-INSERT INTO "leq_value" VALUES(10232,1250,42.7044563293457);
-INSERT INTO "leq_value" VALUES(10232,1600,4.0699920654296875e+01);
-INSERT INTO "leq_value" VALUES(10232,2000,3.930035400390625e+01);
-INSERT INTO "leq_value" VALUES(10232,2500,3.8503047943115234375e+01);
-INSERT INTO "leq_value" VALUES(10232,3150,3.64990386962890624991e+01);
-INSERT INTO "leq_value" VALUES(10232,4000,3.54844551086425781245e+01);
-INSERT INTO "leq_value" VALUES(10232,5000,3.50719223022460937491e+01);
-INSERT INTO "leq_value" VALUES(10232,6300,3.46100616455078125e+01);
-INSERT INTO "leq_value" VALUES(10232,8000,2.88049774169921875e+01);
-INSERT INTO "leq_value" VALUES(10232,10000,5.16808748245239257812e+00);
-INSERT INTO "leq_value" VALUES(10232,12500,2.62299227714538574218e+00);
-INSERT INTO "leq_value" VALUES(10232,16000,1.03119015693664550781e+00);
-INSERT INTO "leq_value" VALUES(10233,100,3.83134803771972656241e+01);
-INSERT INTO "leq_value" VALUES(10233,125,4.76849098205566406232e+01);
-INSERT INTO "leq_value" VALUES(10233,160,4.93472557067871093767e+01);
-INSERT INTO "leq_value" VALUES(10233,200,4.89174652099609375e+01);
-INSERT INTO "leq_value" VALUES(10233,250,4.93453826904296875008e+01);
-INSERT INTO "leq_value" VALUES(10233,315,4.79665298461914062482e+01);
-INSERT INTO "leq_value" VALUES(10233,400,4.85990791320800781267e+01);
-INSERT INTO "leq_value" VALUES(10233,500,4.528697967529296875e+01);
-INSERT INTO "leq_value" VALUES(10233,630,4.44908981323242187517e+01);
-INSERT INTO "leq_value" VALUES(10233,800,4.61494941711425781232e+01);
-INSERT INTO "leq_value" VALUES(10233,1000,4.52125015258789062508e+01);
-INSERT INTO "leq_value" VALUES(10233,1250,4.26213226318359374991e+01);
-INSERT INTO "leq_value" VALUES(10233,1600,4.05331764221191406241e+01);
-INSERT INTO "leq_value" VALUES(10233,2000,39.0452995300293);
-INSERT INTO "leq_value" VALUES(10233,2500,3.82352142333984375e+01);
-INSERT INTO "leq_value" VALUES(10233,3150,3.68209381103515625004e+01);
-INSERT INTO "leq_value" VALUES(10233,4000,3.57071838378906249991e+01);
-INSERT INTO "leq_value" VALUES(10233,5000,3.48884353637695312491e+01);
-INSERT INTO "leq_value" VALUES(10233,6300,3.46849098205566406258e+01);
-INSERT INTO "leq_value" VALUES(10233,8000,2.90091361999511718758e+01);
-INSERT INTO "leq_value" VALUES(10233,10000,7.98525285720825195312e+00);
-INSERT INTO "leq_value" VALUES(10233,12500,5.33822202682495117187e+00);
-INSERT INTO "leq_value" VALUES(10233,16000,3.98629736900329589843e+00);
-INSERT INTO "leq_value" VALUES(10234,100,48.5235595703125);
-INSERT INTO "leq_value" VALUES(10234,125,5.20208587646484375008e+01);
-INSERT INTO "leq_value" VALUES(10234,160,5.61500396728515625008e+01);
-INSERT INTO "leq_value" VALUES(10234,200,5.753940582275390625e+01);
-INSERT INTO "leq_value" VALUES(10234,250,5.85354652404785156258e+01);
-INSERT INTO "leq_value" VALUES(10234,315,5.74360618591308593741e+01);
-INSERT INTO "leq_value" VALUES(10234,400,54.387451171875);
-INSERT INTO "leq_value" VALUES(10234,500,53.4172477722168);
-INSERT INTO "leq_value" VALUES(10234,630,4.93397750854492187508e+01);
-INSERT INTO "leq_value" VALUES(10234,800,4.70189247131347656241e+01);
-INSERT INTO "leq_value" VALUES(10234,1000,4.60401077270507812482e+01);
-INSERT INTO "leq_value" VALUES(10234,1250,4.49511451721191406232e+01);
-INSERT INTO "leq_value" VALUES(10234,1600,4.23460540771484374991e+01);
-INSERT INTO "leq_value" VALUES(10234,2000,4.06324920654296874991e+01);
-INSERT INTO "leq_value" VALUES(10234,2500,38.3911018371582);
-INSERT INTO "leq_value" VALUES(10234,3150,37.581298828125);
-INSERT INTO "leq_value" VALUES(10234,4000,3.59701118469238281241e+01);
-INSERT INTO "leq_value" VALUES(10234,5000,3.49226455688476562495e+01);
-INSERT INTO "leq_value" VALUES(10234,6300,3.495380401611328125e+01);
-INSERT INTO "leq_value" VALUES(10234,8000,2.88683090209960937491e+01);
-INSERT INTO "leq_value" VALUES(10234,10000,3.38418459892272949218e+00);
-INSERT INTO "leq_value" VALUES(10234,12500,-7.0177459716796875e-01);
-INSERT INTO "leq_value" VALUES(10234,16000,-7.56235170364379882812e+00);
-INSERT INTO "leq_value" VALUES(10235,100,4.69356422424316406267e+01);
-INSERT INTO "leq_value" VALUES(10235,125,5.52515525817871093732e+01);
-INSERT INTO "leq_value" VALUES(10235,160,5.76338424682617187508e+01);
-INSERT INTO "leq_value" VALUES(10235,200,5.83380775451660156267e+01);
-INSERT INTO "leq_value" VALUES(10235,250,6.00021896362304687491e+01);
-INSERT INTO "leq_value" VALUES(10235,315,6.14883689880371093767e+01);
-INSERT INTO "leq_value" VALUES(10235,400,5.83657302856445312508e+01);
-INSERT INTO "leq_value" VALUES(10235,500,5.7233638763427734375e+01);
-INSERT INTO "leq_value" VALUES(10235,630,5.56165275573730468741e+01);
-INSERT INTO "leq_value" VALUES(10235,800,5.09754028320312500008e+01);
-INSERT INTO "leq_value" VALUES(10235,1000,4.68052253723144531241e+01);
-INSERT INTO "leq_value" VALUES(10235,1250,4.43054962158203125e+01);
-INSERT INTO "leq_value" VALUES(10235,1600,4.18509330749511718758e+01);
-INSERT INTO "leq_value" VALUES(10235,2000,4.07951278686523437482e+01);
-INSERT INTO "leq_value" VALUES(10235,2500,4.02207069396972656267e+01);
-INSERT INTO "leq_value" VALUES(10235,3150,3.858298492431640625e+01);
-INSERT INTO "leq_value" VALUES(10235,4000,3.65932044982910156241e+01);
-INSERT INTO "leq_value" VALUES(10235,5000,3.49248428344726562504e+01);
-INSERT INTO "leq_value" VALUES(10235,6300,3.44669799804687499995e+01);
-INSERT INTO "leq_value" VALUES(10235,8000,2.85888309478759765625e+01);
-INSERT INTO "leq_value" VALUES(10235,10000,1.04109115600585937504e+01);
-INSERT INTO "leq_value" VALUES(10235,12500,9.68856716156005859375e+00);
-INSERT INTO "leq_value" VALUES(10235,16000,9.25406742095947265625e+00);
-INSERT INTO "leq_value" VALUES(10236,100,45.534912109375);
-INSERT INTO "leq_value" VALUES(10236,125,5.65115051269531250017e+01);
-INSERT INTO "leq_value" VALUES(10236,160,5.65589942932128906258e+01);
-INSERT INTO "leq_value" VALUES(10236,200,5.74774932861328125e+01);
-INSERT INTO "leq_value" VALUES(10236,250,5.77891311645507812491e+01);
-INSERT INTO "leq_value" VALUES(10236,315,5.65355949401855468767e+01);
-INSERT INTO "leq_value" VALUES(10236,400,5.44906654357910156258e+01);
-INSERT INTO "leq_value" VALUES(10236,500,5.11761245727539062491e+01);
-INSERT INTO "leq_value" VALUES(10236,630,4.93143234252929687491e+01);
-INSERT INTO "leq_value" VALUES(10236,800,48.8536376953125);
-INSERT INTO "leq_value" VALUES(10236,1000,4.65406875610351562517e+01);
-INSERT INTO "leq_value" VALUES(10236,1250,4.42028503417968750017e+01);
-INSERT INTO "leq_value" VALUES(10236,1600,4.25954933166503906232e+01);
-INSERT INTO "leq_value" VALUES(10236,2000,4.11115760803222656232e+01);
-INSERT INTO "leq_value" VALUES(10236,2500,4.01166229248046875017e+01);
-INSERT INTO "leq_value" VALUES(10236,3150,3.82474937438964843758e+01);
-INSERT INTO "leq_value" VALUES(10236,4000,3.71602134704589843745e+01);
-INSERT INTO "leq_value" VALUES(10236,5000,3.53587684631347656241e+01);
-INSERT INTO "leq_value" VALUES(10236,6300,3.48124542236328125008e+01);
-INSERT INTO "leq_value" VALUES(10236,8000,2.88626308441162109375e+01);
-INSERT INTO "leq_value" VALUES(10236,10000,5.64444446563720703125e+00);
-INSERT INTO "leq_value" VALUES(10236,12500,2.71665072441101074218e+00);
-INSERT INTO "leq_value" VALUES(10236,16000,6.39869630336761474609e-01);
-INSERT INTO "leq_value" VALUES(10237,100,4.6210117340087890625e+01);
-INSERT INTO "leq_value" VALUES(10237,125,5.20035667419433593732e+01);
-INSERT INTO "leq_value" VALUES(10237,160,5.41083641052246093732e+01);
-INSERT INTO "leq_value" VALUES(10237,200,5.4870243072509765625e+01);
-INSERT INTO "leq_value" VALUES(10237,250,5.270343780517578125e+01);
-INSERT INTO "leq_value" VALUES(10237,315,5.33034057617187499982e+01);
-INSERT INTO "leq_value" VALUES(10237,400,4.85055770874023437508e+01);
-INSERT INTO "leq_value" VALUES(10237,500,4.59223480224609374982e+01);
-INSERT INTO "leq_value" VALUES(10237,630,4.45462112426757812517e+01);
-INSERT INTO "leq_value" VALUES(10237,800,4.62995758056640625008e+01);
-INSERT INTO "leq_value" VALUES(10237,1000,4.60637626647949218741e+01);
-INSERT INTO "leq_value" VALUES(10237,1250,4.44580841064453125e+01);
-INSERT INTO "leq_value" VALUES(10237,1600,4.2089786529541015625e+01);
-INSERT INTO "leq_value" VALUES(10237,2000,3.9050510406494140625e+01);
-INSERT INTO "leq_value" VALUES(10237,2500,3.8558856964111328125e+01);
-INSERT INTO "leq_value" VALUES(10237,3150,3.68810768127441406254e+01);
-INSERT INTO "leq_value" VALUES(10237,4000,3.63733406066894531254e+01);
-INSERT INTO "leq_value" VALUES(10237,5000,3.54306564331054687491e+01);
-INSERT INTO "leq_value" VALUES(10237,6300,3.53068389892578125008e+01);
-INSERT INTO "leq_value" VALUES(10237,8000,2.89334545135498046866e+01);
-INSERT INTO "leq_value" VALUES(10237,10000,1.19613046646118164066e+01);
-INSERT INTO "leq_value" VALUES(10237,12500,1.12458095550537109377e+01);
-INSERT INTO "leq_value" VALUES(10237,16000,1.00041379928588867185e+01);
-INSERT INTO "leq_value" VALUES(10238,100,4.7438030242919921875e+01);
-INSERT INTO "leq_value" VALUES(10238,125,5.545711517333984375e+01);
-INSERT INTO "leq_value" VALUES(10238,160,5.98689384460449218732e+01);
-INSERT INTO "leq_value" VALUES(10238,200,6.05555191040039062508e+01);
-INSERT INTO "leq_value" VALUES(10238,250,6.00041961669921875e+01);
-INSERT INTO "leq_value" VALUES(10238,315,5.90383605957031250017e+01);
-INSERT INTO "leq_value" VALUES(10238,400,57.8883171081543);
-INSERT INTO "leq_value" VALUES(10238,500,5.41542396545410156241e+01);
-INSERT INTO "leq_value" VALUES(10238,630,4.94389953613281250008e+01);
-INSERT INTO "leq_value" VALUES(10238,800,4.78573150634765624982e+01);
-INSERT INTO "leq_value" VALUES(10238,1000,4.52344398498535156267e+01);
-INSERT INTO "leq_value" VALUES(10238,1250,4.42495079040527343732e+01);
-INSERT INTO "leq_value" VALUES(10238,1600,4.22107963562011718767e+01);
-INSERT INTO "leq_value" VALUES(10238,2000,3.94012794494628906241e+01);
-INSERT INTO "leq_value" VALUES(10238,2500,3.8564350128173828125e+01);
-INSERT INTO "leq_value" VALUES(10238,3150,3.64257545471191406254e+01);
-INSERT INTO "leq_value" VALUES(10238,4000,3.60906753540039062491e+01);
-INSERT INTO "leq_value" VALUES(10238,5000,3.53987083435058593741e+01);
-INSERT INTO "leq_value" VALUES(10238,6300,3.49642410278320312508e+01);
-INSERT INTO "leq_value" VALUES(10238,8000,2.94043674468994140633e+01);
-INSERT INTO "leq_value" VALUES(10238,10000,1.64795684814453125e+01);
-INSERT INTO "leq_value" VALUES(10238,12500,1.57452287673950195312e+01);
-INSERT INTO "leq_value" VALUES(10238,16000,1.53814344406127929683e+01);
-INSERT INTO "leq_value" VALUES(10239,100,3.83654327392578125e+01);
-INSERT INTO "leq_value" VALUES(10239,125,45.7335319519043);
-INSERT INTO "leq_value" VALUES(10239,160,5.09438095092773437491e+01);
-INSERT INTO "leq_value" VALUES(10239,200,5.46027107238769531232e+01);
-INSERT INTO "leq_value" VALUES(10239,250,5.20198287963867187508e+01);
-INSERT INTO "leq_value" VALUES(10239,315,5.33237953186035156232e+01);
-INSERT INTO "leq_value" VALUES(10239,400,53.4945068359375);
-INSERT INTO "leq_value" VALUES(10239,500,4.66952209472656250017e+01);
-INSERT INTO "leq_value" VALUES(10239,630,4.56005096435546875e+01);
-INSERT INTO "leq_value" VALUES(10239,800,4.40621910095214843741e+01);
-INSERT INTO "leq_value" VALUES(10239,1000,4.31308403015136718758e+01);
-INSERT INTO "leq_value" VALUES(10239,1250,4.15889968872070312508e+01);
-INSERT INTO "leq_value" VALUES(10239,1600,4.08573303222656249991e+01);
-INSERT INTO "leq_value" VALUES(10239,2000,3.8807582855224609375e+01);
-INSERT INTO "leq_value" VALUES(10239,2500,3.7629680633544921875e+01);
-INSERT INTO "leq_value" VALUES(10239,3150,3.6048126220703125e+01);
-INSERT INTO "leq_value" VALUES(10239,4000,3.56406745910644531241e+01);
-INSERT INTO "leq_value" VALUES(10239,5000,3.50867347717285156245e+01);
-INSERT INTO "leq_value" VALUES(10239,6300,3.5075435638427734375e+01);
-INSERT INTO "leq_value" VALUES(10239,8000,2.93635597229003906258e+01);
-INSERT INTO "leq_value" VALUES(10239,10000,1.39381623268127441406e+00);
-INSERT INTO "leq_value" VALUES(10239,12500,-2.40353631973266601562e+00);
-INSERT INTO "leq_value" VALUES(10239,16000,-8.1221370697021484375e+00);
-INSERT INTO "leq_value" VALUES(10240,100,4.28034133911132812482e+01);
-INSERT INTO "leq_value" VALUES(10240,125,4.29291229248046875017e+01);
-INSERT INTO "leq_value" VALUES(10240,160,4.40938224792480468758e+01);
-INSERT INTO "leq_value" VALUES(10240,200,4.7905597686767578125e+01);
-INSERT INTO "leq_value" VALUES(10240,250,5.12907638549804687508e+01);
-INSERT INTO "leq_value" VALUES(10240,315,4.802318572998046875e+01);
-INSERT INTO "leq_value" VALUES(10240,400,4.135463714599609375e+01);
-INSERT INTO "leq_value" VALUES(10240,500,45.03369140625);
-INSERT INTO "leq_value" VALUES(10240,630,4.36387748718261718732e+01);
-INSERT INTO "leq_value" VALUES(10240,800,40.80419921875);
-INSERT INTO "leq_value" VALUES(10240,1000,4.21334686279296875008e+01);
-INSERT INTO "leq_value" VALUES(10240,1250,4.21904220581054687508e+01);
-INSERT INTO "leq_value" VALUES(10240,1600,4.09268608093261718758e+01);
-INSERT INTO "leq_value" VALUES(10240,2000,3.849488067626953125e+01);
-INSERT INTO "leq_value" VALUES(10240,2500,3.93726310729980468741e+01);
-INSERT INTO "leq_value" VALUES(10240,3150,3.8648387908935546875e+01);
-INSERT INTO "leq_value" VALUES(10240,4000,3.9182613372802734375e+01);
-INSERT INTO "leq_value" VALUES(10240,5000,3.78692855834960937508e+01);
-INSERT INTO "leq_value" VALUES(10240,6300,3.73764686584472656245e+01);
-INSERT INTO "leq_value" VALUES(10240,8000,2.97621974945068359366e+01);
-INSERT INTO "leq_value" VALUES(10240,10000,7.29118061065673828125e+00);
-INSERT INTO "leq_value" VALUES(10240,12500,2.5717639923095703125e+00);
-INSERT INTO "leq_value" VALUES(10240,16000,-4.17055654525756835937e+00);
-INSERT INTO "leq_value" VALUES(10241,100,3.31815032958984374995e+01);
-INSERT INTO "leq_value" VALUES(10241,125,4.66680068969726562482e+01);
-INSERT INTO "leq_value" VALUES(10241,160,4.8320217132568359375e+01);
-INSERT INTO "leq_value" VALUES(10241,200,5.41105499267578125008e+01);
-INSERT INTO "leq_value" VALUES(10241,250,5.13032035827636718767e+01);
-INSERT INTO "leq_value" VALUES(10241,315,5.17232017517089843767e+01);
-INSERT INTO "leq_value" VALUES(10241,400,4.39543495178222656241e+01);
-INSERT INTO "leq_value" VALUES(10241,500,4.8365631103515625e+01);
-INSERT INTO "leq_value" VALUES(10241,630,4.82284698486328124991e+01);
-INSERT INTO "leq_value" VALUES(10241,800,4.24113044738769531241e+01);
-INSERT INTO "leq_value" VALUES(10241,1000,4.22536544799804687517e+01);
-INSERT INTO "leq_value" VALUES(10241,1250,42.8450813293457);
-INSERT INTO "leq_value" VALUES(10241,1600,4.37278213500976562508e+01);
-INSERT INTO "leq_value" VALUES(10241,2000,4.2112598419189453125e+01);
-INSERT INTO "leq_value" VALUES(10241,2500,4.15261154174804687517e+01);
-INSERT INTO "leq_value" VALUES(10241,3150,3.85625762939453125e+01);
-INSERT INTO "leq_value" VALUES(10241,4000,3.73009452819824218741e+01);
-INSERT INTO "leq_value" VALUES(10241,5000,3.60685005187988281258e+01);
-INSERT INTO "leq_value" VALUES(10241,6300,3.5519618988037109375e+01);
-INSERT INTO "leq_value" VALUES(10241,8000,2.94938621520996093741e+01);
-INSERT INTO "leq_value" VALUES(10241,10000,2.194263458251953125e+00);
-INSERT INTO "leq_value" VALUES(10241,12500,-4.48074489831924438476e-01);
-INSERT INTO "leq_value" VALUES(10241,16000,-2.75962281227111816406e+00);
-INSERT INTO "leq_value" VALUES(10242,100,3.26209945678710937504e+01);
-INSERT INTO "leq_value" VALUES(10242,125,3.92906913757324218741e+01);
-INSERT INTO "leq_value" VALUES(10242,160,5.32407836914062500017e+01);
-INSERT INTO "leq_value" VALUES(10242,200,4.4861392974853515625e+01);
-INSERT INTO "leq_value" VALUES(10242,250,5.53142585754394531258e+01);
-INSERT INTO "leq_value" VALUES(10242,315,5.08354454040527343767e+01);
-INSERT INTO "leq_value" VALUES(10242,400,4.59258766174316406232e+01);
-INSERT INTO "leq_value" VALUES(10242,500,4.97098045349121093767e+01);
-INSERT INTO "leq_value" VALUES(10242,630,4.81354484558105468741e+01);
-INSERT INTO "leq_value" VALUES(10242,800,4.67453765869140625e+01);
-INSERT INTO "leq_value" VALUES(10242,1000,4.6400051116943359375e+01);
-INSERT INTO "leq_value" VALUES(10242,1250,4.57951011657714843758e+01);
-INSERT INTO "leq_value" VALUES(10242,1600,4.46027145385742187491e+01);
-INSERT INTO "leq_value" VALUES(10242,2000,4.199512481689453125e+01);
-INSERT INTO "leq_value" VALUES(10242,2500,3.952483367919921875e+01);
-INSERT INTO "leq_value" VALUES(10242,3150,3.79702529907226562491e+01);
-INSERT INTO "leq_value" VALUES(10242,4000,3.7970867156982421875e+01);
-INSERT INTO "leq_value" VALUES(10242,5000,3.66459236145019531241e+01);
-INSERT INTO "leq_value" VALUES(10242,6300,3.56373939514160156241e+01);
-INSERT INTO "leq_value" VALUES(10242,8000,2.926711273193359375e+01);
-INSERT INTO "leq_value" VALUES(10242,10000,2.60229468345642089843e+00);
-INSERT INTO "leq_value" VALUES(10242,12500,9.527187347412109375e-01);
-INSERT INTO "leq_value" VALUES(10242,16000,-2.46210262179374694824e-01);
-INSERT INTO "leq_value" VALUES(10243,100,3.63104095458984375008e+01);
-INSERT INTO "leq_value" VALUES(10243,125,3.99509735107421875e+01);
-INSERT INTO "leq_value" VALUES(10243,160,4.11472740173339843758e+01);
-INSERT INTO "leq_value" VALUES(10243,200,4.50437850952148437482e+01);
-INSERT INTO "leq_value" VALUES(10243,250,4.63863105773925781232e+01);
-INSERT INTO "leq_value" VALUES(10243,315,4.48734321594238281258e+01);
-INSERT INTO "leq_value" VALUES(10243,400,4.09892387390136718732e+01);
-INSERT INTO "leq_value" VALUES(10243,500,4.50198402404785156258e+01);
-INSERT INTO "leq_value" VALUES(10243,630,4.34544143676757812491e+01);
-INSERT INTO "leq_value" VALUES(10243,800,4.43713340759277343741e+01);
-INSERT INTO "leq_value" VALUES(10243,1000,4.44058494567871093767e+01);
-INSERT INTO "leq_value" VALUES(10243,1250,4.39459724426269531232e+01);
-INSERT INTO "leq_value" VALUES(10243,1600,4.12156791687011718732e+01);
-INSERT INTO "leq_value" VALUES(10243,2000,3.9770595550537109375e+01);
-INSERT INTO "leq_value" VALUES(10243,2500,3.70154800415039062508e+01);
-INSERT INTO "leq_value" VALUES(10243,3150,3.56388931274414062495e+01);
-INSERT INTO "leq_value" VALUES(10243,4000,35.3514289855957);
-INSERT INTO "leq_value" VALUES(10243,5000,3.48394165039062499991e+01);
-INSERT INTO "leq_value" VALUES(10243,6300,3.45411643981933593741e+01);
-INSERT INTO "leq_value" VALUES(10243,8000,2.88097324371337890633e+01);
-INSERT INTO "leq_value" VALUES(10243,10000,4.36621427536010742187e+00);
-INSERT INTO "leq_value" VALUES(10243,12500,1.755523681640625e-02);
-INSERT INTO "leq_value" VALUES(10243,16000,-6.49119424819946289062e+00);
-INSERT INTO "leq_value" VALUES(10244,100,3.170383453369140625e+01);
-INSERT INTO "leq_value" VALUES(10244,125,3.78401260375976562495e+01);
-INSERT INTO "leq_value" VALUES(10244,160,3.62665100097656250004e+01);
-INSERT INTO "leq_value" VALUES(10244,200,4.37893333435058593758e+01);
-INSERT INTO "leq_value" VALUES(10244,250,4.21734313964843750017e+01);
-INSERT INTO "leq_value" VALUES(10244,315,3.97726669311523437508e+01);
-INSERT INTO "leq_value" VALUES(10244,400,3.963278961181640625e+01);
-INSERT INTO "leq_value" VALUES(10244,500,4.41335296630859375e+01);
-INSERT INTO "leq_value" VALUES(10244,630,4.21256484985351562508e+01);
-INSERT INTO "leq_value" VALUES(10244,800,4.26663627624511718758e+01);
-INSERT INTO "leq_value" VALUES(10244,1000,4.1701107025146484375e+01);
-INSERT INTO "leq_value" VALUES(10244,1250,4.23103485107421874991e+01);
-INSERT INTO "leq_value" VALUES(10244,1600,4.03473701477050781258e+01);
-INSERT INTO "leq_value" VALUES(10244,2000,3.79382476806640624991e+01);
-INSERT INTO "leq_value" VALUES(10244,2500,3.74591941833496093754e+01);
-INSERT INTO "leq_value" VALUES(10244,3150,3.53643379211425781241e+01);
-INSERT INTO "leq_value" VALUES(10244,4000,3.56312599182128906258e+01);
-INSERT INTO "leq_value" VALUES(10244,5000,3.41707077026367187508e+01);
-INSERT INTO "leq_value" VALUES(10244,6300,3.39716110229492187491e+01);
-INSERT INTO "leq_value" VALUES(10244,8000,2.84871616363525390633e+01);
-INSERT INTO "leq_value" VALUES(10244,10000,1.80049455165863037109e+00);
-INSERT INTO "leq_value" VALUES(10244,12500,-1.10969340801239013671e+00);
-INSERT INTO "leq_value" VALUES(10244,16000,-4.37701511383056640625e+00);
-INSERT INTO "leq_value" VALUES(10245,100,2.31666641235351562495e+01);
-INSERT INTO "leq_value" VALUES(10245,125,3.8189304351806640625e+01);
-INSERT INTO "leq_value" VALUES(10245,160,3.72387733459472656258e+01);
-INSERT INTO "leq_value" VALUES(10245,200,38.6902961730957);
-INSERT INTO "leq_value" VALUES(10245,250,3.96839942932128906258e+01);
-INSERT INTO "leq_value" VALUES(10245,315,3.96631202697753906241e+01);
-INSERT INTO "leq_value" VALUES(10245,400,3.9890682220458984375e+01);
-INSERT INTO "leq_value" VALUES(10245,500,4.43361740112304687517e+01);
-INSERT INTO "leq_value" VALUES(10245,630,4.66823577880859375e+01);
-INSERT INTO "leq_value" VALUES(10245,800,44.9876708984375);
-INSERT INTO "leq_value" VALUES(10245,1000,4.22039871215820312517e+01);
-INSERT INTO "leq_value" VALUES(10245,1250,4.04260292053222656258e+01);
-INSERT INTO "leq_value" VALUES(10245,1600,3.95592079162597656241e+01);
-INSERT INTO "leq_value" VALUES(10245,2000,38.4115104675293);
-INSERT INTO "leq_value" VALUES(10245,2500,3.66943969726562500008e+01);
-INSERT INTO "leq_value" VALUES(10245,3150,3.53640098571777343754e+01);
-INSERT INTO "leq_value" VALUES(10245,4000,3.49521408081054687491e+01);
-INSERT INTO "leq_value" VALUES(10245,5000,3.4126415252685546875e+01);
-INSERT INTO "leq_value" VALUES(10245,6300,3.38591651916503906245e+01);
-INSERT INTO "leq_value" VALUES(10245,8000,28.3254337310791);
-INSERT INTO "leq_value" VALUES(10245,10000,1.39299750328063964843e+00);
-INSERT INTO "leq_value" VALUES(10245,12500,-2.34941244125366210937e+00);
-INSERT INTO "leq_value" VALUES(10245,16000,-8.34459400177002);
-INSERT INTO "leq_value" VALUES(10246,100,2.372028350830078125e+01);
-INSERT INTO "leq_value" VALUES(10246,125,3.8922939300537109375e+01);
-INSERT INTO "leq_value" VALUES(10246,160,3.66093292236328125008e+01);
-INSERT INTO "leq_value" VALUES(10246,200,3.81681671142578125008e+01);
-INSERT INTO "leq_value" VALUES(10246,250,4.11172637939453124991e+01);
-INSERT INTO "leq_value" VALUES(10246,315,4.11989440917968750008e+01);
-INSERT INTO "leq_value" VALUES(10246,400,3.96901702880859375e+01);
-INSERT INTO "leq_value" VALUES(10246,500,4.68721351623535156241e+01);
-INSERT INTO "leq_value" VALUES(10246,630,4.3939990997314453125e+01);
-INSERT INTO "leq_value" VALUES(10246,800,4.48981056213378906241e+01);
-INSERT INTO "leq_value" VALUES(10246,1000,4.48203392028808593732e+01);
-INSERT INTO "leq_value" VALUES(10246,1250,4.24003372192382812491e+01);
-INSERT INTO "leq_value" VALUES(10246,1600,4.17093658447265625e+01);
-INSERT INTO "leq_value" VALUES(10246,2000,3.9406688690185546875e+01);
-INSERT INTO "leq_value" VALUES(10246,2500,3.72346572875976562495e+01);
-INSERT INTO "leq_value" VALUES(10246,3150,3.58131332397460937504e+01);
-INSERT INTO "leq_value" VALUES(10246,4000,3.508575439453125e+01);
-INSERT INTO "leq_value" VALUES(10246,5000,3.45761032104492187504e+01);
-INSERT INTO "leq_value" VALUES(10246,6300,3.41196517944335937495e+01);
-INSERT INTO "leq_value" VALUES(10246,8000,2.89577064514160156241e+01);
-INSERT INTO "leq_value" VALUES(10246,10000,6.69140219688415527343e-02);
-INSERT INTO "leq_value" VALUES(10246,12500,-3.16176724433898925781e+00);
-INSERT INTO "leq_value" VALUES(10246,16000,-9.2364654541015625e+00);
-INSERT INTO "leq_value" VALUES(10247,100,2.5739345550537109375e+01);
-INSERT INTO "leq_value" VALUES(10247,125,3.84730300903320312491e+01);
-INSERT INTO "leq_value" VALUES(10247,160,3.59497566223144531254e+01);
-INSERT INTO "leq_value" VALUES(10247,200,4.528003692626953125e+01);
-INSERT INTO "leq_value" VALUES(10247,250,3.87408218383789062491e+01);
-INSERT INTO "leq_value" VALUES(10247,315,40.5629768371582);
-INSERT INTO "leq_value" VALUES(10247,400,4.04193344116210937508e+01);
-INSERT INTO "leq_value" VALUES(10247,500,4.47669944763183593741e+01);
-INSERT INTO "leq_value" VALUES(10247,630,4.26251449584960937508e+01);
-INSERT INTO "leq_value" VALUES(10247,800,4.34321517944335937482e+01);
-INSERT INTO "leq_value" VALUES(10247,1000,4.78226051330566406241e+01);
-INSERT INTO "leq_value" VALUES(10247,1250,4.17073211669921874991e+01);
-INSERT INTO "leq_value" VALUES(10247,1600,4.07436218261718750008e+01);
-INSERT INTO "leq_value" VALUES(10247,2000,3.82044830322265625008e+01);
-INSERT INTO "leq_value" VALUES(10247,2500,3.72214012145996093745e+01);
-INSERT INTO "leq_value" VALUES(10247,3150,35.4449462890625);
-INSERT INTO "leq_value" VALUES(10247,4000,3.50198516845703124991e+01);
-INSERT INTO "leq_value" VALUES(10247,5000,3.42187805175781250004e+01);
-INSERT INTO "leq_value" VALUES(10247,6300,3.43255157470703125004e+01);
-INSERT INTO "leq_value" VALUES(10247,8000,2.84742450714111328125e+01);
-INSERT INTO "leq_value" VALUES(10247,10000,2.52484154701232910156e+00);
-INSERT INTO "leq_value" VALUES(10247,12500,-5.32968699932098388671e-01);
-INSERT INTO "leq_value" VALUES(10247,16000,-3.44667673110961914062e+00);
-INSERT INTO "leq_value" VALUES(10248,100,2.2653177261352539062e+01);
-INSERT INTO "leq_value" VALUES(10248,125,3.57227172851562500008e+01);
-INSERT INTO "leq_value" VALUES(10248,160,35.8679084777832);
-INSERT INTO "leq_value" VALUES(10248,200,4.09903602600097656267e+01);
-INSERT INTO "leq_value" VALUES(10248,250,3.9023876190185546875e+01);
-INSERT INTO "leq_value" VALUES(10248,315,4.30496520996093749982e+01);
-INSERT INTO "leq_value" VALUES(10248,400,3.88672294616699218758e+01);
-INSERT INTO "leq_value" VALUES(10248,500,4.09024734497070312482e+01);
-INSERT INTO "leq_value" VALUES(10248,630,4.26620407104492187482e+01);
-INSERT INTO "leq_value" VALUES(10248,800,4.623485565185546875e+01);
-INSERT INTO "leq_value" VALUES(10248,1000,4.20002784729003906258e+01);
-INSERT INTO "leq_value" VALUES(10248,1250,4.1751918792724609375e+01);
-INSERT INTO "leq_value" VALUES(10248,1600,4.09972915649414062491e+01);
-INSERT INTO "leq_value" VALUES(10248,2000,3.8488475799560546875e+01);
-INSERT INTO "leq_value" VALUES(10248,2500,3.643993377685546875e+01);
-INSERT INTO "leq_value" VALUES(10248,3150,3.5603199005126953125e+01);
-INSERT INTO "leq_value" VALUES(10248,4000,3.55295982360839843758e+01);
-INSERT INTO "leq_value" VALUES(10248,5000,3.45382156372070312508e+01);
-INSERT INTO "leq_value" VALUES(10248,6300,3.45174179077148437491e+01);
-INSERT INTO "leq_value" VALUES(10248,8000,2.87561893463134765625e+01);
-INSERT INTO "leq_value" VALUES(10248,10000,2.28788495063781738281e+00);
-INSERT INTO "leq_value" VALUES(10248,12500,6.36012792587280273437e-01);
-INSERT INTO "leq_value" VALUES(10248,16000,-1.04766368865966796875e+00);
-INSERT INTO "leq_value" VALUES(10249,100,3.31988220214843749995e+01);
-INSERT INTO "leq_value" VALUES(10249,125,4.23214759826660156258e+01);
-INSERT INTO "leq_value" VALUES(10249,160,4.29165725708007812517e+01);
-INSERT INTO "leq_value" VALUES(10249,200,4.30752143859863281241e+01);
-INSERT INTO "leq_value" VALUES(10249,250,40.8237190246582);
-INSERT INTO "leq_value" VALUES(10249,315,4.23947677612304687491e+01);
-INSERT INTO "leq_value" VALUES(10249,400,4.02314872741699218732e+01);
-INSERT INTO "leq_value" VALUES(10249,500,4.12275238037109374982e+01);
-INSERT INTO "leq_value" VALUES(10249,630,4.22217826843261718767e+01);
-INSERT INTO "leq_value" VALUES(10249,800,44.5562858581543);
-INSERT INTO "leq_value" VALUES(10249,1000,4.09276504516601562482e+01);
-INSERT INTO "leq_value" VALUES(10249,1250,4.159313201904296875e+01);
-INSERT INTO "leq_value" VALUES(10249,1600,3.9578449249267578125e+01);
-INSERT INTO "leq_value" VALUES(10249,2000,3.8614521026611328125e+01);
-INSERT INTO "leq_value" VALUES(10249,2500,3.59668273925781250004e+01);
-INSERT INTO "leq_value" VALUES(10249,3150,3.56997032165527343754e+01);
-INSERT INTO "leq_value" VALUES(10249,4000,3.50675354003906249991e+01);
-INSERT INTO "leq_value" VALUES(10249,5000,3.49319686889648437508e+01);
-INSERT INTO "leq_value" VALUES(10249,6300,3.43330726623535156241e+01);
-INSERT INTO "leq_value" VALUES(10249,8000,2.8464385986328125e+01);
-INSERT INTO "leq_value" VALUES(10249,10000,5.02930974960327148437e+00);
-INSERT INTO "leq_value" VALUES(10249,12500,3.2174358367919921875e+00);
-INSERT INTO "leq_value" VALUES(10249,16000,2.08255219459533691406e+00);
-INSERT INTO "leq_value" VALUES(10250,100,3.00296535491943359383e+01);
-INSERT INTO "leq_value" VALUES(10250,125,38.9368782043457);
-INSERT INTO "leq_value" VALUES(10250,160,4.0873584747314453125e+01);
-INSERT INTO "leq_value" VALUES(10250,200,3.8850391387939453125e+01);
-INSERT INTO "leq_value" VALUES(10250,250,3.83555564880371093741e+01);
-INSERT INTO "leq_value" VALUES(10250,315,3.8782436370849609375e+01);
-INSERT INTO "leq_value" VALUES(10250,400,3.75202178955078125e+01);
-INSERT INTO "leq_value" VALUES(10250,500,3.975650787353515625e+01);
-INSERT INTO "leq_value" VALUES(10250,630,3.96229324340820312491e+01);
-INSERT INTO "leq_value" VALUES(10250,800,4.16462059020996093732e+01);
-INSERT INTO "leq_value" VALUES(10250,1000,4.00769271850585937508e+01);
-INSERT INTO "leq_value" VALUES(10250,1250,40.1971549987793);
-INSERT INTO "leq_value" VALUES(10250,1600,3.94933357238769531258e+01);
-INSERT INTO "leq_value" VALUES(10250,2000,3.77259063720703125e+01);
-INSERT INTO "leq_value" VALUES(10250,2500,37.4597282409668);
-INSERT INTO "leq_value" VALUES(10250,3150,3.61226043701171874991e+01);
-INSERT INTO "leq_value" VALUES(10250,4000,3.572490692138671875e+01);
-INSERT INTO "leq_value" VALUES(10250,5000,3.52974014282226562495e+01);
-INSERT INTO "leq_value" VALUES(10250,6300,35.5206298828125);
-INSERT INTO "leq_value" VALUES(10250,8000,2.91419010162353515625e+01);
-INSERT INTO "leq_value" VALUES(10250,10000,4.36933040618896484375e+00);
-INSERT INTO "leq_value" VALUES(10250,12500,1.38417780399322509765e-01);
-INSERT INTO "leq_value" VALUES(10250,16000,-7.14669466018676757812e+00);
-INSERT INTO "leq_value" VALUES(10251,100,2.61249656677246093754e+01);
-INSERT INTO "leq_value" VALUES(10251,125,34.6712646484375);
-INSERT INTO "leq_value" VALUES(10251,160,3.47746887207031250008e+01);
-INSERT INTO "leq_value" VALUES(10251,200,3.45036277770996093741e+01);
-INSERT INTO "leq_value" VALUES(10251,250,3.454975128173828125e+01);
-INSERT INTO "leq_value" VALUES(10251,315,3.68451576232910156245e+01);
-INSERT INTO "leq_value" VALUES(10251,400,3.5841274261474609375e+01);
-INSERT INTO "leq_value" VALUES(10251,500,3.69340667724609374991e+01);
-INSERT INTO "leq_value" VALUES(10251,630,3.73852005004882812508e+01);
-INSERT INTO "leq_value" VALUES(10251,800,3.69599075317382812504e+01);
-INSERT INTO "leq_value" VALUES(10251,1000,38.3715934753418);
-INSERT INTO "leq_value" VALUES(10251,1250,3.924567413330078125e+01);
-INSERT INTO "leq_value" VALUES(10251,1600,3.89332618713378906258e+01);
-INSERT INTO "leq_value" VALUES(10251,2000,37.7283821105957);
-INSERT INTO "leq_value" VALUES(10251,2500,3.62436141967773437508e+01);
-INSERT INTO "leq_value" VALUES(10251,3150,3.5748119354248046875e+01);
-INSERT INTO "leq_value" VALUES(10251,4000,3.59251098632812499995e+01);
-INSERT INTO "leq_value" VALUES(10251,5000,3.55795364379882812495e+01);
-INSERT INTO "leq_value" VALUES(10251,6300,3.57457733154296875e+01);
-INSERT INTO "leq_value" VALUES(10251,8000,2.91419506072998046875e+01);
-INSERT INTO "leq_value" VALUES(10251,10000,-1.07429496943950653076e-01);
-INSERT INTO "leq_value" VALUES(10251,12500,-3.17793035507202148437e+00);
-INSERT INTO "leq_value" VALUES(10251,16000,-8.7038116455078125e+00);
-INSERT INTO "leq_value" VALUES(10252,100,2.50832862854003906254e+01);
-INSERT INTO "leq_value" VALUES(10252,125,3.63914222717285156254e+01);
-INSERT INTO "leq_value" VALUES(10252,160,3.8481853485107421875e+01);
-INSERT INTO "leq_value" VALUES(10252,200,3.63873634338378906241e+01);
-INSERT INTO "leq_value" VALUES(10252,250,3.68002548217773437508e+01);
-INSERT INTO "leq_value" VALUES(10252,315,3.78423156738281250008e+01);
-INSERT INTO "leq_value" VALUES(10252,400,3.72764816284179687508e+01);
-INSERT INTO "leq_value" VALUES(10252,500,3.97607955932617187491e+01);
-INSERT INTO "leq_value" VALUES(10252,630,40.6709098815918);
-INSERT INTO "leq_value" VALUES(10252,800,3.9930095672607421875e+01);
-INSERT INTO "leq_value" VALUES(10252,1000,4.04053459167480468741e+01);
-INSERT INTO "leq_value" VALUES(10252,1250,4.54909973144531250017e+01);
-INSERT INTO "leq_value" VALUES(10252,1600,4.32744369506835937491e+01);
-INSERT INTO "leq_value" VALUES(10252,2000,3.85255203247070312491e+01);
-INSERT INTO "leq_value" VALUES(10252,2500,4.39013938903808593767e+01);
-INSERT INTO "leq_value" VALUES(10252,3150,4.05492401123046875e+01);
-INSERT INTO "leq_value" VALUES(10252,4000,3.86232223510742187508e+01);
-INSERT INTO "leq_value" VALUES(10252,5000,3.809418487548828125e+01);
-INSERT INTO "leq_value" VALUES(10252,6300,3.83224945068359375e+01);
-INSERT INTO "leq_value" VALUES(10252,8000,3.1237123489379882812e+01);
-INSERT INTO "leq_value" VALUES(10252,10000,2.07663908600807189941e-01);
-INSERT INTO "leq_value" VALUES(10252,12500,-3.04899573326110839843e+00);
-INSERT INTO "leq_value" VALUES(10252,16000,-8.81325626373291);
-INSERT INTO "leq_value" VALUES(10253,100,2.65152893066406249991e+01);
-INSERT INTO "leq_value" VALUES(10253,125,2.8628204345703125e+01);
-INSERT INTO "leq_value" VALUES(10253,160,3.1828441619873046875e+01);
-INSERT INTO "leq_value" VALUES(10253,200,3.34645500183105468758e+01);
-INSERT INTO "leq_value" VALUES(10253,250,3.37546577453613281258e+01);
-INSERT INTO "leq_value" VALUES(10253,315,3.9422168731689453125e+01);
-INSERT INTO "leq_value" VALUES(10253,400,3.54668502807617187495e+01);
-INSERT INTO "leq_value" VALUES(10253,500,3.69127349853515624995e+01);
-INSERT INTO "leq_value" VALUES(10253,630,3.74309577941894531258e+01);
-INSERT INTO "leq_value" VALUES(10253,800,3.78016777038574218754e+01);
-INSERT INTO "leq_value" VALUES(10253,1000,3.78510398864746093754e+01);
-INSERT INTO "leq_value" VALUES(10253,1250,3.72401199340820312491e+01);
-INSERT INTO "leq_value" VALUES(10253,1600,3.68256797790527343758e+01);
-INSERT INTO "leq_value" VALUES(10253,2000,35.6070442199707);
-INSERT INTO "leq_value" VALUES(10253,2500,3.5133304595947265625e+01);
-INSERT INTO "leq_value" VALUES(10253,3150,3.54632835388183593745e+01);
-INSERT INTO "leq_value" VALUES(10253,4000,3.49300270080566406245e+01);
-INSERT INTO "leq_value" VALUES(10253,5000,3.42667694091796875004e+01);
-INSERT INTO "leq_value" VALUES(10253,6300,3.43430862426757812491e+01);
-INSERT INTO "leq_value" VALUES(10253,8000,2.84009990692138671866e+01);
-INSERT INTO "leq_value" VALUES(10253,10000,2.06056073307991027832e-01);
-INSERT INTO "leq_value" VALUES(10253,12500,-2.38506436347961425781e+00);
-INSERT INTO "leq_value" VALUES(10253,16000,-6.519001007080078125e+00);
-INSERT INTO "leq_value" VALUES(10254,100,2.69862976074218750008e+01);
-INSERT INTO "leq_value" VALUES(10254,125,2.7514665603637695312e+01);
-INSERT INTO "leq_value" VALUES(10254,160,3.185272216796875e+01);
-INSERT INTO "leq_value" VALUES(10254,200,33.739990234375);
-INSERT INTO "leq_value" VALUES(10254,250,3.44382629394531249991e+01);
-INSERT INTO "leq_value" VALUES(10254,315,3.68889350891113281254e+01);
-INSERT INTO "leq_value" VALUES(10254,400,3.926312255859375e+01);
-INSERT INTO "leq_value" VALUES(10254,500,4.11411590576171874982e+01);
-INSERT INTO "leq_value" VALUES(10254,630,40.3502082824707);
-INSERT INTO "leq_value" VALUES(10254,800,3.8895923614501953125e+01);
-INSERT INTO "leq_value" VALUES(10254,1000,3.91015968322753906241e+01);
-INSERT INTO "leq_value" VALUES(10254,1250,3.87872848510742187491e+01);
-INSERT INTO "leq_value" VALUES(10254,1600,3.80864181518554687508e+01);
-INSERT INTO "leq_value" VALUES(10254,2000,3.72687110900878906241e+01);
-INSERT INTO "leq_value" VALUES(10254,2500,3.60050430297851562508e+01);
-INSERT INTO "leq_value" VALUES(10254,3150,3.69634704589843749995e+01);
-INSERT INTO "leq_value" VALUES(10254,4000,3.47560272216796874991e+01);
-INSERT INTO "leq_value" VALUES(10254,5000,3.43291244506835937491e+01);
-INSERT INTO "leq_value" VALUES(10254,6300,3.43625335693359374995e+01);
-INSERT INTO "leq_value" VALUES(10254,8000,2.8600940704345703125e+01);
-INSERT INTO "leq_value" VALUES(10254,10000,6.5605258941650390625e-01);
-INSERT INTO "leq_value" VALUES(10254,12500,-2.58184719085693359375e+00);
-INSERT INTO "leq_value" VALUES(10254,16000,-8.47639751434326171875e+00);
-INSERT INTO "leq_value" VALUES(10255,100,31.7275390625);
-INSERT INTO "leq_value" VALUES(10255,125,3.8651275634765625e+01);
-INSERT INTO "leq_value" VALUES(10255,160,3.823799896240234375e+01);
-INSERT INTO "leq_value" VALUES(10255,200,3.8270778656005859375e+01);
-INSERT INTO "leq_value" VALUES(10255,250,3.9666843414306640625e+01);
-INSERT INTO "leq_value" VALUES(10255,315,3.75939025878906250008e+01);
-INSERT INTO "leq_value" VALUES(10255,400,3.7873973846435546875e+01);
-INSERT INTO "leq_value" VALUES(10255,500,4.1677074432373046875e+01);
-INSERT INTO "leq_value" VALUES(10255,630,4.20636749267578125e+01);
-INSERT INTO "leq_value" VALUES(10255,800,4.50908432006835937491e+01);
-INSERT INTO "leq_value" VALUES(10255,1000,4.08993377685546875008e+01);
-INSERT INTO "leq_value" VALUES(10255,1250,37.9547233581543);
-INSERT INTO "leq_value" VALUES(10255,1600,3.77481155395507812495e+01);
-INSERT INTO "leq_value" VALUES(10255,2000,3.62680511474609374995e+01);
-INSERT INTO "leq_value" VALUES(10255,2500,3.51971015930175781241e+01);
-INSERT INTO "leq_value" VALUES(10255,3150,3.55975685119628906241e+01);
-INSERT INTO "leq_value" VALUES(10255,4000,3.47897071838378906254e+01);
-INSERT INTO "leq_value" VALUES(10255,5000,3.43040046691894531241e+01);
-INSERT INTO "leq_value" VALUES(10255,6300,3.40992584228515625008e+01);
-INSERT INTO "leq_value" VALUES(10255,8000,2.84631671905517578133e+01);
-INSERT INTO "leq_value" VALUES(10255,10000,1.51227414608001708984e+00);
-INSERT INTO "leq_value" VALUES(10255,12500,-1.13445699214935302734e+00);
-INSERT INTO "leq_value" VALUES(10255,16000,-4.09961795806884765625e+00);
-INSERT INTO "leq_value" VALUES(10256,100,3.3400707244873046875e+01);
-INSERT INTO "leq_value" VALUES(10256,125,4.18988838195800781258e+01);
-INSERT INTO "leq_value" VALUES(10256,160,4.2047176361083984375e+01);
-INSERT INTO "leq_value" VALUES(10256,200,4.07926101684570312482e+01);
-INSERT INTO "leq_value" VALUES(10256,250,3.896958160400390625e+01);
-INSERT INTO "leq_value" VALUES(10256,315,3.94920310974121093741e+01);
-INSERT INTO "leq_value" VALUES(10256,400,4.00817375183105468767e+01);
-INSERT INTO "leq_value" VALUES(10256,500,4.29286804199218750008e+01);
-INSERT INTO "leq_value" VALUES(10256,630,4.33191947937011718767e+01);
-INSERT INTO "leq_value" VALUES(10256,800,4.6070919036865234375e+01);
-INSERT INTO "leq_value" VALUES(10256,1000,42.1717529296875);
-INSERT INTO "leq_value" VALUES(10256,1250,4.4029827117919921875e+01);
-INSERT INTO "leq_value" VALUES(10256,1600,4.16123504638671874982e+01);
-INSERT INTO "leq_value" VALUES(10256,2000,3.8598491668701171875e+01);
-INSERT INTO "leq_value" VALUES(10256,2500,3.8098728179931640625e+01);
-INSERT INTO "leq_value" VALUES(10256,3150,3.60099945068359374991e+01);
-INSERT INTO "leq_value" VALUES(10256,4000,3.61529197692871093758e+01);
-INSERT INTO "leq_value" VALUES(10256,5000,3.592144012451171875e+01);
-INSERT INTO "leq_value" VALUES(10256,6300,3.58022384643554687495e+01);
-INSERT INTO "leq_value" VALUES(10256,8000,2.92476444244384765625e+01);
-INSERT INTO "leq_value" VALUES(10256,10000,1.11818969249725341796e+00);
-INSERT INTO "leq_value" VALUES(10256,12500,-1.7390880584716796875e+00);
-INSERT INTO "leq_value" VALUES(10256,16000,-6.40166378021240234375e+00);
-INSERT INTO "leq_value" VALUES(10257,100,2.52180805206298828133e+01);
-INSERT INTO "leq_value" VALUES(10257,125,2.83885803222656250008e+01);
-INSERT INTO "leq_value" VALUES(10257,160,3.19374866485595703129e+01);
-INSERT INTO "leq_value" VALUES(10257,200,3.57927398681640624995e+01);
-INSERT INTO "leq_value" VALUES(10257,250,4.30888214111328125008e+01);
-INSERT INTO "leq_value" VALUES(10257,315,3.59985046386718749995e+01);
-INSERT INTO "leq_value" VALUES(10257,400,3.70033378601074218754e+01);
-INSERT INTO "leq_value" VALUES(10257,500,4.40820045471191406232e+01);
-INSERT INTO "leq_value" VALUES(10257,630,4.55748443603515625017e+01);
-INSERT INTO "leq_value" VALUES(10257,800,4.28747901916503906241e+01);
-INSERT INTO "leq_value" VALUES(10257,1000,3.9611293792724609375e+01);
-INSERT INTO "leq_value" VALUES(10257,1250,3.988289642333984375e+01);
-INSERT INTO "leq_value" VALUES(10257,1600,3.9805095672607421875e+01);
-INSERT INTO "leq_value" VALUES(10257,2000,3.73836936950683593758e+01);
-INSERT INTO "leq_value" VALUES(10257,2500,37.5546760559082);
-INSERT INTO "leq_value" VALUES(10257,3150,3.57254371643066406241e+01);
-INSERT INTO "leq_value" VALUES(10257,4000,35.60498046875);
-INSERT INTO "leq_value" VALUES(10257,5000,3.489910125732421875e+01);
-INSERT INTO "leq_value" VALUES(10257,6300,3.46501426696777343745e+01);
-INSERT INTO "leq_value" VALUES(10257,8000,2.83448238372802734375e+01);
-INSERT INTO "leq_value" VALUES(10257,10000,2.79860019683837890625e-01);
-INSERT INTO "leq_value" VALUES(10257,12500,-2.75514960289001464843e+00);
-INSERT INTO "leq_value" VALUES(10257,16000,-8.86247158050537109375e+00);
-INSERT INTO "leq_value" VALUES(10258,100,2.25090103149414062495e+01);
-INSERT INTO "leq_value" VALUES(10258,125,2.2784193038940429687e+01);
-INSERT INTO "leq_value" VALUES(10258,160,3.00166454315185546883e+01);
-INSERT INTO "leq_value" VALUES(10258,200,3.96586265563964843758e+01);
-INSERT INTO "leq_value" VALUES(10258,250,4.11244468688964843767e+01);
-INSERT INTO "leq_value" VALUES(10258,315,3.97139739990234375e+01);
-INSERT INTO "leq_value" VALUES(10258,400,4.4641399383544921875e+01);
-INSERT INTO "leq_value" VALUES(10258,500,4.56042633056640624991e+01);
-INSERT INTO "leq_value" VALUES(10258,630,3.9275905609130859375e+01);
-INSERT INTO "leq_value" VALUES(10258,800,3.86073837280273437491e+01);
-INSERT INTO "leq_value" VALUES(10258,1000,3.98591766357421874991e+01);
-INSERT INTO "leq_value" VALUES(10258,1250,3.9646636962890625e+01);
-INSERT INTO "leq_value" VALUES(10258,1600,3.80382308959960937491e+01);
-INSERT INTO "leq_value" VALUES(10258,2000,36.9780387878418);
-INSERT INTO "leq_value" VALUES(10258,2500,3.8032276153564453125e+01);
-INSERT INTO "leq_value" VALUES(10258,3150,3.70770759582519531254e+01);
-INSERT INTO "leq_value" VALUES(10258,4000,3.64987220764160156258e+01);
-INSERT INTO "leq_value" VALUES(10258,5000,3.57508773803710937504e+01);
-INSERT INTO "leq_value" VALUES(10258,6300,3.48042526245117187508e+01);
-INSERT INTO "leq_value" VALUES(10258,8000,2.81894645690917968741e+01);
-INSERT INTO "leq_value" VALUES(10258,10000,2.38540315628051757812e+00);
-INSERT INTO "leq_value" VALUES(10258,12500,1.04041504859924316406e+00);
-INSERT INTO "leq_value" VALUES(10258,16000,-0.325069397687912);
-INSERT INTO "leq_value" VALUES(10259,100,2.22357254028320312495e+01);
-INSERT INTO "leq_value" VALUES(10259,125,2.98411026000976562508e+01);
-INSERT INTO "leq_value" VALUES(10259,160,3.38631744384765625004e+01);
-INSERT INTO "leq_value" VALUES(10259,200,39.1837043762207);
-INSERT INTO "leq_value" VALUES(10259,250,3.9128047943115234375e+01);
-INSERT INTO "leq_value" VALUES(10259,315,4.02190322875976562482e+01);
-INSERT INTO "leq_value" VALUES(10259,400,4.70676841735839843758e+01);
-INSERT INTO "leq_value" VALUES(10259,500,4.27854194641113281258e+01);
-INSERT INTO "leq_value" VALUES(10259,630,4.68526802062988281241e+01);
-INSERT INTO "leq_value" VALUES(10259,800,4.51366195678710937491e+01);
-INSERT INTO "leq_value" VALUES(10259,1000,4.21807022094726562482e+01);
-INSERT INTO "leq_value" VALUES(10259,1250,41.5660514831543);
-INSERT INTO "leq_value" VALUES(10259,1600,4.162593841552734375e+01);
-INSERT INTO "leq_value" VALUES(10259,2000,3.985279083251953125e+01);
-INSERT INTO "leq_value" VALUES(10259,2500,3.871772003173828125e+01);
-INSERT INTO "leq_value" VALUES(10259,3150,3.87332191467285156258e+01);
-INSERT INTO "leq_value" VALUES(10259,4000,3.60800819396972656245e+01);
-INSERT INTO "leq_value" VALUES(10259,5000,3.49475173950195312495e+01);
-INSERT INTO "leq_value" VALUES(10259,6300,3.49652633666992187491e+01);
-INSERT INTO "leq_value" VALUES(10259,8000,2.86178684234619140625e+01);
-INSERT INTO "leq_value" VALUES(10259,10000,8.75563323497772216796e-01);
-INSERT INTO "leq_value" VALUES(10259,12500,-2.02051782608032226562e+00);
-INSERT INTO "leq_value" VALUES(10259,16000,-6.88250255584716796875e+00);
-INSERT INTO "leq_value" VALUES(10260,100,2.49691467285156249995e+01);
-INSERT INTO "leq_value" VALUES(10260,125,2.82028179168701171875e+01);
-INSERT INTO "leq_value" VALUES(10260,160,3.24883995056152343741e+01);
-INSERT INTO "leq_value" VALUES(10260,200,3.79628295898437500004e+01);
-INSERT INTO "leq_value" VALUES(10260,250,3.64881134033203125e+01);
-INSERT INTO "leq_value" VALUES(10260,315,3.8487300872802734375e+01);
-INSERT INTO "leq_value" VALUES(10260,400,4.13597602844238281232e+01);
-INSERT INTO "leq_value" VALUES(10260,500,38.2955436706543);
-INSERT INTO "leq_value" VALUES(10260,630,3.94740524291992187508e+01);
-INSERT INTO "leq_value" VALUES(10260,800,4.22230453491210937482e+01);
-INSERT INTO "leq_value" VALUES(10260,1000,4.30975646972656249982e+01);
-INSERT INTO "leq_value" VALUES(10260,1250,4.12714347839355468741e+01);
-INSERT INTO "leq_value" VALUES(10260,1600,4.10172920227050781267e+01);
-INSERT INTO "leq_value" VALUES(10260,2000,3.85868988037109374991e+01);
-INSERT INTO "leq_value" VALUES(10260,2500,3.75377235412597656241e+01);
-INSERT INTO "leq_value" VALUES(10260,3150,3.59861068725585937495e+01);
-INSERT INTO "leq_value" VALUES(10260,4000,3.575084686279296875e+01);
-INSERT INTO "leq_value" VALUES(10260,5000,3.51727790832519531254e+01);
-INSERT INTO "leq_value" VALUES(10260,6300,3.41649589538574218741e+01);
-INSERT INTO "leq_value" VALUES(10260,8000,2.79532165527343750004e+01);
-INSERT INTO "leq_value" VALUES(10260,10000,4.03097242116928100585e-01);
-INSERT INTO "leq_value" VALUES(10260,12500,-2.46889853477478027343e+00);
-INSERT INTO "leq_value" VALUES(10260,16000,-6.425487518310546875e+00);
-INSERT INTO "leq_value" VALUES(10261,100,2.64566135406494140625e+01);
-INSERT INTO "leq_value" VALUES(10261,125,2.86648197174072265625e+01);
-INSERT INTO "leq_value" VALUES(10261,160,3.40709915161132812508e+01);
-INSERT INTO "leq_value" VALUES(10261,200,35.29443359375);
-INSERT INTO "leq_value" VALUES(10261,250,3.71414527893066406241e+01);
-INSERT INTO "leq_value" VALUES(10261,315,4.657482147216796875e+01);
-INSERT INTO "leq_value" VALUES(10261,400,4.91630897521972656241e+01);
-INSERT INTO "leq_value" VALUES(10261,500,4.20415344238281250008e+01);
-INSERT INTO "leq_value" VALUES(10261,630,41.472900390625);
-INSERT INTO "leq_value" VALUES(10261,800,3.9394474029541015625e+01);
-INSERT INTO "leq_value" VALUES(10261,1000,4.00216255187988281241e+01);
-INSERT INTO "leq_value" VALUES(10261,1250,4.01897735595703124982e+01);
-INSERT INTO "leq_value" VALUES(10261,1600,3.97658309936523437491e+01);
-INSERT INTO "leq_value" VALUES(10261,2000,3.73494110107421874991e+01);
-INSERT INTO "leq_value" VALUES(10261,2500,3.76560287475585937495e+01);
-INSERT INTO "leq_value" VALUES(10261,3150,3.66591110229492187508e+01);
-INSERT INTO "leq_value" VALUES(10261,4000,35.9322624206543);
-INSERT INTO "leq_value" VALUES(10261,5000,3.51651916503906249991e+01);
-INSERT INTO "leq_value" VALUES(10261,6300,35.3309211730957);
-INSERT INTO "leq_value" VALUES(10261,8000,2.87620105743408203133e+01);
-INSERT INTO "leq_value" VALUES(10261,10000,8.3699092268943786621e-02);
-INSERT INTO "leq_value" VALUES(10261,12500,-3.08243441581726074218e+00);
-INSERT INTO "leq_value" VALUES(10261,16000,-9.08541965484619140625e+00);
-INSERT INTO "leq_value" VALUES(10262,100,2.9802677154541015625e+01);
-INSERT INTO "leq_value" VALUES(10262,125,3.15958728790283203133e+01);
-INSERT INTO "leq_value" VALUES(10262,160,3.6522808074951171875e+01);
-INSERT INTO "leq_value" VALUES(10262,200,4.00020599365234375e+01);
-INSERT INTO "leq_value" VALUES(10262,250,4.45701370239257812491e+01);
-INSERT INTO "leq_value" VALUES(10262,315,4.05241241455078125008e+01);
-INSERT INTO "leq_value" VALUES(10262,400,4.01241188049316406267e+01);
-INSERT INTO "leq_value" VALUES(10262,500,4.52538223266601562482e+01);
-INSERT INTO "leq_value" VALUES(10262,630,4.37963562011718750017e+01);
-INSERT INTO "leq_value" VALUES(10262,800,4.37124748229980468732e+01);
-INSERT INTO "leq_value" VALUES(10262,1000,4.43573455810546875017e+01);
-INSERT INTO "leq_value" VALUES(10262,1250,4.2163181304931640625e+01);
-INSERT INTO "leq_value" VALUES(10262,1600,4.12443656921386718732e+01);
-INSERT INTO "leq_value" VALUES(10262,2000,3.8595485687255859375e+01);
-INSERT INTO "leq_value" VALUES(10262,2500,38.3155403137207);
-INSERT INTO "leq_value" VALUES(10262,3150,3.68808097839355468754e+01);
-INSERT INTO "leq_value" VALUES(10262,4000,3.64324150085449218741e+01);
-INSERT INTO "leq_value" VALUES(10262,5000,3.5113010406494140625e+01);
-INSERT INTO "leq_value" VALUES(10262,6300,3.55432281494140624991e+01);
-INSERT INTO "leq_value" VALUES(10262,8000,2.89499320983886718758e+01);
-INSERT INTO "leq_value" VALUES(10262,10000,2.85904216766357421875e+00);
-INSERT INTO "leq_value" VALUES(10262,12500,2.69172310829162597656e-01);
-INSERT INTO "leq_value" VALUES(10262,16000,-2.17014265060424804687e+00);
-INSERT INTO "leq_value" VALUES(10263,100,37.2789192199707);
-INSERT INTO "leq_value" VALUES(10263,125,3.54756050109863281245e+01);
-INSERT INTO "leq_value" VALUES(10263,160,4.05340538024902343741e+01);
-INSERT INTO "leq_value" VALUES(10263,200,4.42073822021484375e+01);
-INSERT INTO "leq_value" VALUES(10263,250,4.42167396545410156232e+01);
-INSERT INTO "leq_value" VALUES(10263,315,4.45554809570312500017e+01);
-INSERT INTO "leq_value" VALUES(10263,400,4.80977554321289062482e+01);
-INSERT INTO "leq_value" VALUES(10263,500,4.79011955261230468758e+01);
-INSERT INTO "leq_value" VALUES(10263,630,4.71222076416015624991e+01);
-INSERT INTO "leq_value" VALUES(10263,800,4.8125667572021484375e+01);
-INSERT INTO "leq_value" VALUES(10263,1000,48.3786506652832);
-INSERT INTO "leq_value" VALUES(10263,1250,4.60823364257812499982e+01);
-INSERT INTO "leq_value" VALUES(10263,1600,45.0055046081543);
-INSERT INTO "leq_value" VALUES(10263,2000,42.7213249206543);
-INSERT INTO "leq_value" VALUES(10263,2500,4.3337001800537109375e+01);
-INSERT INTO "leq_value" VALUES(10263,3150,4.01473655700683593758e+01);
-INSERT INTO "leq_value" VALUES(10263,4000,3.7903041839599609375e+01);
-INSERT INTO "leq_value" VALUES(10263,5000,3.61972885131835937495e+01);
-INSERT INTO "leq_value" VALUES(10263,6300,3.59227066040039062495e+01);
-INSERT INTO "leq_value" VALUES(10263,8000,2.91285648345947265633e+01);
-INSERT INTO "leq_value" VALUES(10263,10000,1.12055063247680664062e+01);
-INSERT INTO "leq_value" VALUES(10263,12500,1.01227598190307617183e+01);
-INSERT INTO "leq_value" VALUES(10263,16000,8.83487415313720703125e+00);
-INSERT INTO "leq_value" VALUES(10264,100,4.28956909179687499982e+01);
-INSERT INTO "leq_value" VALUES(10264,125,3.60643882751464843754e+01);
-INSERT INTO "leq_value" VALUES(10264,160,4.46361045837402343767e+01);
-INSERT INTO "leq_value" VALUES(10264,200,44.3324089050293);
-INSERT INTO "leq_value" VALUES(10264,250,4.40378799438476562508e+01);
-INSERT INTO "leq_value" VALUES(10264,315,4.58052558898925781232e+01);
-INSERT INTO "leq_value" VALUES(10264,400,4.65192947387695312491e+01);
-INSERT INTO "leq_value" VALUES(10264,500,5.24893951416015625e+01);
-INSERT INTO "leq_value" VALUES(10264,630,5.13951339721679687508e+01);
-INSERT INTO "leq_value" VALUES(10264,800,49.1795768737793);
-INSERT INTO "leq_value" VALUES(10264,1000,49.111572265625);
-INSERT INTO "leq_value" VALUES(10264,1250,4.88562622070312500008e+01);
-INSERT INTO "leq_value" VALUES(10264,1600,4.5250682830810546875e+01);
-INSERT INTO "leq_value" VALUES(10264,2000,4.31589393615722656267e+01);
-INSERT INTO "leq_value" VALUES(10264,2500,4.17046241760253906267e+01);
-INSERT INTO "leq_value" VALUES(10264,3150,4.06369056701660156258e+01);
-INSERT INTO "leq_value" VALUES(10264,4000,3.89190139770507812508e+01);
-INSERT INTO "leq_value" VALUES(10264,5000,3.67701606750488281245e+01);
-INSERT INTO "leq_value" VALUES(10264,6300,3.62650985717773437504e+01);
-INSERT INTO "leq_value" VALUES(10264,8000,2.96722011566162109375e+01);
-INSERT INTO "leq_value" VALUES(10264,10000,3.07085919380188);
-INSERT INTO "leq_value" VALUES(10264,12500,1.68512868881225585937e+00);
-INSERT INTO "leq_value" VALUES(10264,16000,3.06372821331024169921e-01);
-INSERT INTO "leq_value" VALUES(10265,100,3.66033134460449218741e+01);
-INSERT INTO "leq_value" VALUES(10265,125,3.46994705200195312504e+01);
-INSERT INTO "leq_value" VALUES(10265,160,3.46335067749023437508e+01);
-INSERT INTO "leq_value" VALUES(10265,200,4.0521697998046875e+01);
-INSERT INTO "leq_value" VALUES(10265,250,4.13135070800781249982e+01);
-INSERT INTO "leq_value" VALUES(10265,315,4.25974998474121093741e+01);
-INSERT INTO "leq_value" VALUES(10265,400,4.12791290283203125008e+01);
-INSERT INTO "leq_value" VALUES(10265,500,44.2988166809082);
-INSERT INTO "leq_value" VALUES(10265,630,4.52920494079589843741e+01);
-INSERT INTO "leq_value" VALUES(10265,800,46.59033203125);
-INSERT INTO "leq_value" VALUES(10265,1000,4.41391677856445312482e+01);
-INSERT INTO "leq_value" VALUES(10265,1250,4.31749687194824218741e+01);
-INSERT INTO "leq_value" VALUES(10265,1600,4.2127971649169921875e+01);
-INSERT INTO "leq_value" VALUES(10265,2000,4.04069404602050781267e+01);
-INSERT INTO "leq_value" VALUES(10265,2500,3.829799652099609375e+01);
-INSERT INTO "leq_value" VALUES(10265,3150,3.65499191284179687495e+01);
-INSERT INTO "leq_value" VALUES(10265,4000,3.5459308624267578125e+01);
-INSERT INTO "leq_value" VALUES(10265,5000,35.0909309387207);
-INSERT INTO "leq_value" VALUES(10265,6300,3.49695167541503906241e+01);
-INSERT INTO "leq_value" VALUES(10265,8000,2.8688076019287109375e+01);
-INSERT INTO "leq_value" VALUES(10265,10000,9.23107326030731201171e-01);
-INSERT INTO "leq_value" VALUES(10265,12500,-8.48757505416870117187e-01);
-INSERT INTO "leq_value" VALUES(10265,16000,-3.83650994300842285156e+00);
-INSERT INTO "leq_value" VALUES(10266,100,3.16245689392089843758e+01);
-INSERT INTO "leq_value" VALUES(10266,125,3.219768524169921875e+01);
-INSERT INTO "leq_value" VALUES(10266,160,3.55088958740234374991e+01);
-INSERT INTO "leq_value" VALUES(10266,200,3.69410171508789062508e+01);
-INSERT INTO "leq_value" VALUES(10266,250,3.78807563781738281254e+01);
-INSERT INTO "leq_value" VALUES(10266,315,3.9485652923583984375e+01);
-INSERT INTO "leq_value" VALUES(10266,400,3.78562889099121093741e+01);
-INSERT INTO "leq_value" VALUES(10266,500,4.12716712951660156258e+01);
-INSERT INTO "leq_value" VALUES(10266,630,4.16520385742187500017e+01);
-INSERT INTO "leq_value" VALUES(10266,800,4.2605190277099609375e+01);
-INSERT INTO "leq_value" VALUES(10266,1000,4.40479965209960937482e+01);
-INSERT INTO "leq_value" VALUES(10266,1250,4.28990898132324218741e+01);
-INSERT INTO "leq_value" VALUES(10266,1600,4.14340858459472656267e+01);
-INSERT INTO "leq_value" VALUES(10266,2000,3.90815773010253906258e+01);
-INSERT INTO "leq_value" VALUES(10266,2500,3.8279388427734375e+01);
-INSERT INTO "leq_value" VALUES(10266,3150,3.67269821166992187504e+01);
-INSERT INTO "leq_value" VALUES(10266,4000,3.61171569824218750008e+01);
-INSERT INTO "leq_value" VALUES(10266,5000,3.49979743957519531241e+01);
-INSERT INTO "leq_value" VALUES(10266,6300,3.51640853881835937491e+01);
-INSERT INTO "leq_value" VALUES(10266,8000,2.90754642486572265633e+01);
-INSERT INTO "leq_value" VALUES(10266,10000,3.07490253448486328125e+00);
-INSERT INTO "leq_value" VALUES(10266,12500,-1.07360434532165527343e+00);
-INSERT INTO "leq_value" VALUES(10266,16000,-6.18107175827026367187e+00);
-INSERT INTO "leq_value" VALUES(10267,100,3.3691730499267578125e+01);
-INSERT INTO "leq_value" VALUES(10267,125,3.104145050048828125e+01);
-INSERT INTO "leq_value" VALUES(10267,160,3.24361190795898437491e+01);
-INSERT INTO "leq_value" VALUES(10267,200,3.56679191589355468758e+01);
-INSERT INTO "leq_value" VALUES(10267,250,4.17488517761230468758e+01);
-INSERT INTO "leq_value" VALUES(10267,315,3.97942886352539062491e+01);
-INSERT INTO "leq_value" VALUES(10267,400,4.41304244995117187508e+01);
-INSERT INTO "leq_value" VALUES(10267,500,4.23316192626953125e+01);
-INSERT INTO "leq_value" VALUES(10267,630,4.10238723754882812517e+01);
-INSERT INTO "leq_value" VALUES(10267,800,4.46025314331054687508e+01);
-INSERT INTO "leq_value" VALUES(10267,1000,4.16553497314453125e+01);
-INSERT INTO "leq_value" VALUES(10267,1250,42.5850715637207);
-INSERT INTO "leq_value" VALUES(10267,1600,4.09269218444824218767e+01);
-INSERT INTO "leq_value" VALUES(10267,2000,3.84031219482421875e+01);
-INSERT INTO "leq_value" VALUES(10267,2500,3.67748603820800781241e+01);
-INSERT INTO "leq_value" VALUES(10267,3150,3.59996528625488281254e+01);
-INSERT INTO "leq_value" VALUES(10267,4000,3.59581489562988281254e+01);
-INSERT INTO "leq_value" VALUES(10267,5000,3.56093521118164062504e+01);
-INSERT INTO "leq_value" VALUES(10267,6300,3.55092620849609375e+01);
-INSERT INTO "leq_value" VALUES(10267,8000,2.88896312713623046883e+01);
-INSERT INTO "leq_value" VALUES(10267,10000,1.84450709819793701171e+00);
-INSERT INTO "leq_value" VALUES(10267,12500,-2.65399128198623657226e-01);
-INSERT INTO "leq_value" VALUES(10267,16000,-3.02413320541381835937e+00);
-INSERT INTO "leq_value" VALUES(10268,100,2.5496633529663085937e+01);
-INSERT INTO "leq_value" VALUES(10268,125,3.07549018859863281254e+01);
-INSERT INTO "leq_value" VALUES(10268,160,3.555080413818359375e+01);
-INSERT INTO "leq_value" VALUES(10268,200,4.08115806579589843758e+01);
-INSERT INTO "leq_value" VALUES(10268,250,3.77022476196289062504e+01);
-INSERT INTO "leq_value" VALUES(10268,315,3.98440322875976562491e+01);
-INSERT INTO "leq_value" VALUES(10268,400,4.87988128662109375008e+01);
-INSERT INTO "leq_value" VALUES(10268,500,4.7253055572509765625e+01);
-INSERT INTO "leq_value" VALUES(10268,630,4.628139495849609375e+01);
-INSERT INTO "leq_value" VALUES(10268,800,4.36271743774414062517e+01);
-INSERT INTO "leq_value" VALUES(10268,1000,4.26106185913085937482e+01);
-INSERT INTO "leq_value" VALUES(10268,1250,4.21867027282714843758e+01);
-INSERT INTO "leq_value" VALUES(10268,1600,4.09015579223632812482e+01);
-INSERT INTO "leq_value" VALUES(10268,2000,3.9189483642578125e+01);
-INSERT INTO "leq_value" VALUES(10268,2500,3.7741184234619140625e+01);
-INSERT INTO "leq_value" VALUES(10268,3150,3.60904769897460937495e+01);
-INSERT INTO "leq_value" VALUES(10268,4000,3.57484893798828124995e+01);
-INSERT INTO "leq_value" VALUES(10268,5000,3.51477355957031250004e+01);
-INSERT INTO "leq_value" VALUES(10268,6300,3.4912738800048828125e+01);
-INSERT INTO "leq_value" VALUES(10268,8000,2.861861419677734375e+01);
-INSERT INTO "leq_value" VALUES(10268,10000,4.61727857589721679687e+00);
-INSERT INTO "leq_value" VALUES(10268,12500,0.39594766497612);
-INSERT INTO "leq_value" VALUES(10268,16000,-6.49441576004028320312e+00);
-INSERT INTO "leq_value" VALUES(10269,100,2.5169923782348632812e+01);
-INSERT INTO "leq_value" VALUES(10269,125,3.01330680847167968754e+01);
-INSERT INTO "leq_value" VALUES(10269,160,3.3649501800537109375e+01);
-INSERT INTO "leq_value" VALUES(10269,200,3.55365905761718749991e+01);
-INSERT INTO "leq_value" VALUES(10269,250,3.81057395935058593758e+01);
-INSERT INTO "leq_value" VALUES(10269,315,3.8361541748046875e+01);
-INSERT INTO "leq_value" VALUES(10269,400,3.71749954223632812495e+01);
-INSERT INTO "leq_value" VALUES(10269,500,4.094600677490234375e+01);
-INSERT INTO "leq_value" VALUES(10269,630,4.09971313476562500017e+01);
-INSERT INTO "leq_value" VALUES(10269,800,4.24801940917968749982e+01);
-INSERT INTO "leq_value" VALUES(10269,1000,3.9908111572265625e+01);
-INSERT INTO "leq_value" VALUES(10269,1250,4.04163475036621093732e+01);
-INSERT INTO "leq_value" VALUES(10269,1600,3.84207191467285156258e+01);
-INSERT INTO "leq_value" VALUES(10269,2000,3.63113059997558593758e+01);
-INSERT INTO "leq_value" VALUES(10269,2500,3.59187850952148437491e+01);
-INSERT INTO "leq_value" VALUES(10269,3150,3.55696983337402343754e+01);
-INSERT INTO "leq_value" VALUES(10269,4000,3.51866798400878906245e+01);
-INSERT INTO "leq_value" VALUES(10269,5000,3.48443069458007812508e+01);
-INSERT INTO "leq_value" VALUES(10269,6300,3.43689651489257812504e+01);
-INSERT INTO "leq_value" VALUES(10269,8000,2.83544063568115234375e+01);
-INSERT INTO "leq_value" VALUES(10269,10000,2.81473088264465332031e+00);
-INSERT INTO "leq_value" VALUES(10269,12500,-1.0735555887222290039e+00);
-INSERT INTO "leq_value" VALUES(10269,16000,-7.27820110321044921875e+00);
-INSERT INTO "leq_value" VALUES(10270,100,3.01284065246582031258e+01);
-INSERT INTO "leq_value" VALUES(10270,125,2.674327850341796875e+01);
-INSERT INTO "leq_value" VALUES(10270,160,3.14109115600585937495e+01);
-INSERT INTO "leq_value" VALUES(10270,200,3.5729389190673828125e+01);
-INSERT INTO "leq_value" VALUES(10270,250,3.62131843566894531241e+01);
-INSERT INTO "leq_value" VALUES(10270,315,3.72606964111328125004e+01);
-INSERT INTO "leq_value" VALUES(10270,400,3.59779205322265625008e+01);
-INSERT INTO "leq_value" VALUES(10270,500,3.76874389648437500008e+01);
-INSERT INTO "leq_value" VALUES(10270,630,3.9586212158203125e+01);
-INSERT INTO "leq_value" VALUES(10270,800,4.34732971191406249991e+01);
-INSERT INTO "leq_value" VALUES(10270,1000,4.07136840820312499982e+01);
-INSERT INTO "leq_value" VALUES(10270,1250,4.0292873382568359375e+01);
-INSERT INTO "leq_value" VALUES(10270,1600,3.879046630859375e+01);
-INSERT INTO "leq_value" VALUES(10270,2000,3.67965354919433593758e+01);
-INSERT INTO "leq_value" VALUES(10270,2500,3.568408966064453125e+01);
-INSERT INTO "leq_value" VALUES(10270,3150,3.495929718017578125e+01);
-INSERT INTO "leq_value" VALUES(10270,4000,3.4893779754638671875e+01);
-INSERT INTO "leq_value" VALUES(10270,5000,3.4386005401611328125e+01);
-INSERT INTO "leq_value" VALUES(10270,6300,3.41072120666503906258e+01);
-INSERT INTO "leq_value" VALUES(10270,8000,2.79721107482910156258e+01);
-INSERT INTO "leq_value" VALUES(10270,10000,2.14321017265319824218e+00);
-INSERT INTO "leq_value" VALUES(10270,12500,-3.85416448116302490234e-01);
-INSERT INTO "leq_value" VALUES(10270,16000,-2.44226908683776855468e+00);
-INSERT INTO "leq_value" VALUES(10271,100,3.0950429916381835937e+01);
-INSERT INTO "leq_value" VALUES(10271,125,3.72222824096679687504e+01);
-INSERT INTO "leq_value" VALUES(10271,160,3.892325592041015625e+01);
-INSERT INTO "leq_value" VALUES(10271,200,3.64945907592773437504e+01);
-INSERT INTO "leq_value" VALUES(10271,250,3.70171508789062499991e+01);
-INSERT INTO "leq_value" VALUES(10271,315,3.6580982208251953125e+01);
-INSERT INTO "leq_value" VALUES(10271,400,35.63427734375);
-INSERT INTO "leq_value" VALUES(10271,500,3.848194122314453125e+01);
-INSERT INTO "leq_value" VALUES(10271,630,3.91298255920410156241e+01);
-INSERT INTO "leq_value" VALUES(10271,800,4.26467361450195312508e+01);
-INSERT INTO "leq_value" VALUES(10271,1000,4.043731689453125e+01);
-INSERT INTO "leq_value" VALUES(10271,1250,4.05431480407714843732e+01);
-INSERT INTO "leq_value" VALUES(10271,1600,3.89020690917968749991e+01);
-INSERT INTO "leq_value" VALUES(10271,2000,3.68420372009277343741e+01);
-INSERT INTO "leq_value" VALUES(10271,2500,3.56496429443359375e+01);
-INSERT INTO "leq_value" VALUES(10271,3150,3.46843299865722656241e+01);
-INSERT INTO "leq_value" VALUES(10271,4000,3.50580520629882812504e+01);
-INSERT INTO "leq_value" VALUES(10271,5000,34.5334587097168);
-INSERT INTO "leq_value" VALUES(10271,6300,3.41063270568847656241e+01);
-INSERT INTO "leq_value" VALUES(10271,8000,2.82992763519287109375e+01);
-INSERT INTO "leq_value" VALUES(10271,10000,-2.79615491628646850585e-01);
-INSERT INTO "leq_value" VALUES(10271,12500,-3.32235622406005859375e+00);
-INSERT INTO "leq_value" VALUES(10271,16000,-8.67081928253173828125e+00);
-INSERT INTO "leq_value" VALUES(10272,100,2.390087127685546875e+01);
-INSERT INTO "leq_value" VALUES(10272,125,2.9280796051025390625e+01);
-INSERT INTO "leq_value" VALUES(10272,160,2.93447780609130859375e+01);
-INSERT INTO "leq_value" VALUES(10272,200,3.37346992492675781241e+01);
-INSERT INTO "leq_value" VALUES(10272,250,3.64154510498046874995e+01);
-INSERT INTO "leq_value" VALUES(10272,315,3.67245826721191406241e+01);
-INSERT INTO "leq_value" VALUES(10272,400,3.72349395751953125008e+01);
-INSERT INTO "leq_value" VALUES(10272,500,3.970122528076171875e+01);
-INSERT INTO "leq_value" VALUES(10272,630,3.8920162200927734375e+01);
-INSERT INTO "leq_value" VALUES(10272,800,4.26934661865234375008e+01);
-INSERT INTO "leq_value" VALUES(10272,1000,4.05656967163085937491e+01);
-INSERT INTO "leq_value" VALUES(10272,1250,4.01200218200683593732e+01);
-INSERT INTO "leq_value" VALUES(10272,1600,3.901993560791015625e+01);
-INSERT INTO "leq_value" VALUES(10272,2000,3.73006515502929687495e+01);
-INSERT INTO "leq_value" VALUES(10272,2500,3.57185668945312500004e+01);
-INSERT INTO "leq_value" VALUES(10272,3150,3.55069618225097656245e+01);
-INSERT INTO "leq_value" VALUES(10272,4000,3.53273162841796874991e+01);
-INSERT INTO "leq_value" VALUES(10272,5000,3.46354522705078125008e+01);
-INSERT INTO "leq_value" VALUES(10272,6300,34.2458381652832);
-INSERT INTO "leq_value" VALUES(10272,8000,2.81546840667724609366e+01);
-INSERT INTO "leq_value" VALUES(10272,10000,4.44312751293182373046e-01);
-INSERT INTO "leq_value" VALUES(10272,12500,-2.56032729148864746093e+00);
-INSERT INTO "leq_value" VALUES(10272,16000,-7.4373416900634765625e+00);
-INSERT INTO "leq_value" VALUES(10273,100,2.67385025024414062504e+01);
-INSERT INTO "leq_value" VALUES(10273,125,2.8021480560302734375e+01);
-INSERT INTO "leq_value" VALUES(10273,160,3.25022201538085937495e+01);
-INSERT INTO "leq_value" VALUES(10273,200,3.4415798187255859375e+01);
-INSERT INTO "leq_value" VALUES(10273,250,3.59363784790039062508e+01);
-INSERT INTO "leq_value" VALUES(10273,315,3.69465980529785156241e+01);
-INSERT INTO "leq_value" VALUES(10273,400,3.54984207153320312504e+01);
-INSERT INTO "leq_value" VALUES(10273,500,3.79529113769531250004e+01);
-INSERT INTO "leq_value" VALUES(10273,630,3.9932338714599609375e+01);
-INSERT INTO "leq_value" VALUES(10273,800,4.33831443786621093758e+01);
-INSERT INTO "leq_value" VALUES(10273,1000,3.97523155212402343758e+01);
-INSERT INTO "leq_value" VALUES(10273,1250,4.11323814392089843767e+01);
-INSERT INTO "leq_value" VALUES(10273,1600,3.9721843719482421875e+01);
-INSERT INTO "leq_value" VALUES(10273,2000,3.855251312255859375e+01);
-INSERT INTO "leq_value" VALUES(10273,2500,36.0961799621582);
-INSERT INTO "leq_value" VALUES(10273,3150,3.62280120849609375008e+01);
-INSERT INTO "leq_value" VALUES(10273,4000,3.61150360107421875e+01);
-INSERT INTO "leq_value" VALUES(10273,5000,3.5433635711669921875e+01);
-INSERT INTO "leq_value" VALUES(10273,6300,3.5108280181884765625e+01);
-INSERT INTO "leq_value" VALUES(10273,8000,2.84689369201660156258e+01);
-INSERT INTO "leq_value" VALUES(10273,10000,1.50334048271179199218e+00);
-INSERT INTO "leq_value" VALUES(10273,12500,-1.43992888927459716796e+00);
-INSERT INTO "leq_value" VALUES(10273,16000,-4.58146381378173828125e+00);
-INSERT INTO "leq_value" VALUES(10274,100,29.760009765625);
-INSERT INTO "leq_value" VALUES(10274,125,3.21374816894531250004e+01);
-INSERT INTO "leq_value" VALUES(10274,160,3.625995635986328125e+01);
-INSERT INTO "leq_value" VALUES(10274,200,3.69266433715820312504e+01);
-INSERT INTO "leq_value" VALUES(10274,250,3.482227325439453125e+01);
-INSERT INTO "leq_value" VALUES(10274,315,36.5438117980957);
-INSERT INTO "leq_value" VALUES(10274,400,3.66484603881835937491e+01);
-INSERT INTO "leq_value" VALUES(10274,500,3.80627098083496093758e+01);
-INSERT INTO "leq_value" VALUES(10274,630,4.00279464721679687508e+01);
-INSERT INTO "leq_value" VALUES(10274,800,4.39659957885742187517e+01);
-INSERT INTO "leq_value" VALUES(10274,1000,4.00180854797363281258e+01);
-INSERT INTO "leq_value" VALUES(10274,1250,4.04235076904296875e+01);
-INSERT INTO "leq_value" VALUES(10274,1600,3.92651023864746093758e+01);
-INSERT INTO "leq_value" VALUES(10274,2000,37.1247444152832);
-INSERT INTO "leq_value" VALUES(10274,2500,3.55300064086914062504e+01);
-INSERT INTO "leq_value" VALUES(10274,3150,3.57544441223144531254e+01);
-INSERT INTO "leq_value" VALUES(10274,4000,3.61153335571289062504e+01);
-INSERT INTO "leq_value" VALUES(10274,5000,3.47313995361328125004e+01);
-INSERT INTO "leq_value" VALUES(10274,6300,3.450412750244140625e+01);
-INSERT INTO "leq_value" VALUES(10274,8000,2.82047977447509765633e+01);
-INSERT INTO "leq_value" VALUES(10274,10000,1.60062408447265625e+00);
-INSERT INTO "leq_value" VALUES(10274,12500,-1.49764323234558105468e+00);
-INSERT INTO "leq_value" VALUES(10274,16000,-5.94361782073974609375e+00);
-INSERT INTO "leq_value" VALUES(10275,100,2.91737422943115234366e+01);
-INSERT INTO "leq_value" VALUES(10275,125,3.1549358367919921875e+01);
-INSERT INTO "leq_value" VALUES(10275,160,3.59017410278320312508e+01);
-INSERT INTO "leq_value" VALUES(10275,200,3.8836620330810546875e+01);
-INSERT INTO "leq_value" VALUES(10275,250,4.02905960083007812482e+01);
-INSERT INTO "leq_value" VALUES(10275,315,4.05578651428222656258e+01);
-INSERT INTO "leq_value" VALUES(10275,400,4.30427703857421874991e+01);
-INSERT INTO "leq_value" VALUES(10275,500,4.42152137756347656232e+01);
-INSERT INTO "leq_value" VALUES(10275,630,43.4320182800293);
-INSERT INTO "leq_value" VALUES(10275,800,4.99774436950683593767e+01);
-INSERT INTO "leq_value" VALUES(10275,1000,45.13232421875);
-INSERT INTO "leq_value" VALUES(10275,1250,4.36790542602539062517e+01);
-INSERT INTO "leq_value" VALUES(10275,1600,4.19503746032714843741e+01);
-INSERT INTO "leq_value" VALUES(10275,2000,3.90636444091796875e+01);
-INSERT INTO "leq_value" VALUES(10275,2500,3.75303153991699218745e+01);
-INSERT INTO "leq_value" VALUES(10275,3150,3.77614517211914062504e+01);
-INSERT INTO "leq_value" VALUES(10275,4000,3.70315475463867187504e+01);
-INSERT INTO "leq_value" VALUES(10275,5000,3.54977264404296875008e+01);
-INSERT INTO "leq_value" VALUES(10275,6300,34.9684944152832);
-INSERT INTO "leq_value" VALUES(10275,8000,2.83662700653076171875e+01);
-INSERT INTO "leq_value" VALUES(10275,10000,5.54618740081787109375e+00);
-INSERT INTO "leq_value" VALUES(10275,12500,4.46144437789917);
-INSERT INTO "leq_value" VALUES(10275,16000,3.41058278083801269531e+00);
-INSERT INTO "leq_value" VALUES(10276,100,3.28568878173828125008e+01);
-INSERT INTO "leq_value" VALUES(10276,125,3.216732025146484375e+01);
-INSERT INTO "leq_value" VALUES(10276,160,3.73335227966308593741e+01);
-INSERT INTO "leq_value" VALUES(10276,200,4.0628204345703125e+01);
-INSERT INTO "leq_value" VALUES(10276,250,4.02519149780273437482e+01);
-INSERT INTO "leq_value" VALUES(10276,315,4.28909568786621093767e+01);
-INSERT INTO "leq_value" VALUES(10276,400,4.41774291992187499982e+01);
-INSERT INTO "leq_value" VALUES(10276,500,4.75746803283691406267e+01);
-INSERT INTO "leq_value" VALUES(10276,630,4.62734527587890624982e+01);
-INSERT INTO "leq_value" VALUES(10276,800,5.22599258422851562508e+01);
-INSERT INTO "leq_value" VALUES(10276,1000,4.871990203857421875e+01);
-INSERT INTO "leq_value" VALUES(10276,1250,4.74392356872558593758e+01);
-INSERT INTO "leq_value" VALUES(10276,1600,4.49878082275390624991e+01);
-INSERT INTO "leq_value" VALUES(10276,2000,4.29709701538085937517e+01);
-INSERT INTO "leq_value" VALUES(10276,2500,4.08838882446289062508e+01);
-INSERT INTO "leq_value" VALUES(10276,3150,4.11611976623535156258e+01);
-INSERT INTO "leq_value" VALUES(10276,4000,3.93709259033203125e+01);
-INSERT INTO "leq_value" VALUES(10276,5000,3.62676124572753906245e+01);
-INSERT INTO "leq_value" VALUES(10276,6300,3.59181823730468750008e+01);
-INSERT INTO "leq_value" VALUES(10276,8000,2.91832561492919921875e+01);
-INSERT INTO "leq_value" VALUES(10276,10000,3.85727286338806152343e+00);
-INSERT INTO "leq_value" VALUES(10276,12500,1.57075846195220947265e+00);
-INSERT INTO "leq_value" VALUES(10276,16000,-1.20310246944427490234e+00);
-INSERT INTO "leq_value" VALUES(10277,100,3.28711166381835937508e+01);
-INSERT INTO "leq_value" VALUES(10277,125,3.20829887390136718754e+01);
-INSERT INTO "leq_value" VALUES(10277,160,3.78658370971679687495e+01);
-INSERT INTO "leq_value" VALUES(10277,200,37.9947509765625);
-INSERT INTO "leq_value" VALUES(10277,250,3.889403533935546875e+01);
-INSERT INTO "leq_value" VALUES(10277,315,4.16905441284179687508e+01);
-INSERT INTO "leq_value" VALUES(10277,400,4.52037544250488281232e+01);
-INSERT INTO "leq_value" VALUES(10277,500,4.72903861999511718758e+01);
-INSERT INTO "leq_value" VALUES(10277,630,4.828571319580078125e+01);
-INSERT INTO "leq_value" VALUES(10277,800,5.15943565368652343758e+01);
-INSERT INTO "leq_value" VALUES(10277,1000,4.83098106384277343767e+01);
-INSERT INTO "leq_value" VALUES(10277,1250,4.86847000122070312517e+01);
-INSERT INTO "leq_value" VALUES(10277,1600,4.90683517456054687491e+01);
-INSERT INTO "leq_value" VALUES(10277,2000,47.744384765625);
-INSERT INTO "leq_value" VALUES(10277,2500,4.341159820556640625e+01);
-INSERT INTO "leq_value" VALUES(10277,3150,4.08573417663574218767e+01);
-INSERT INTO "leq_value" VALUES(10277,4000,3.96284027099609375e+01);
-INSERT INTO "leq_value" VALUES(10277,5000,3.72125778198242187491e+01);
-INSERT INTO "leq_value" VALUES(10277,6300,3.59822425842285156241e+01);
-INSERT INTO "leq_value" VALUES(10277,8000,2.89448833465576171875e+01);
-INSERT INTO "leq_value" VALUES(10277,10000,1.46414613723754882812e+00);
-INSERT INTO "leq_value" VALUES(10277,12500,-6.44063234329223632812e-01);
-INSERT INTO "leq_value" VALUES(10277,16000,-2.90831756591796875e+00);
-INSERT INTO "leq_value" VALUES(10278,100,3.67345542907714843754e+01);
-INSERT INTO "leq_value" VALUES(10278,125,3.8984012603759765625e+01);
-INSERT INTO "leq_value" VALUES(10278,160,4.03246803283691406232e+01);
-INSERT INTO "leq_value" VALUES(10278,200,4.11312713623046875008e+01);
-INSERT INTO "leq_value" VALUES(10278,250,3.9385101318359375e+01);
-INSERT INTO "leq_value" VALUES(10278,315,4.17755584716796875017e+01);
-INSERT INTO "leq_value" VALUES(10278,400,4.53674240112304687482e+01);
-INSERT INTO "leq_value" VALUES(10278,500,4.54757003784179687517e+01);
-INSERT INTO "leq_value" VALUES(10278,630,4.69113693237304687491e+01);
-INSERT INTO "leq_value" VALUES(10278,800,5.05989151000976562517e+01);
-INSERT INTO "leq_value" VALUES(10278,1000,4.93019752502441406267e+01);
-INSERT INTO "leq_value" VALUES(10278,1250,5.06397895812988281267e+01);
-INSERT INTO "leq_value" VALUES(10278,1600,4.97168579101562500008e+01);
-INSERT INTO "leq_value" VALUES(10278,2000,4.65676231384277343732e+01);
-INSERT INTO "leq_value" VALUES(10278,2500,4.55439796447753906258e+01);
-INSERT INTO "leq_value" VALUES(10278,3150,4.31496925354003906232e+01);
-INSERT INTO "leq_value" VALUES(10278,4000,4.2318096160888671875e+01);
-INSERT INTO "leq_value" VALUES(10278,5000,41.0702018737793);
-INSERT INTO "leq_value" VALUES(10278,6300,3.9399021148681640625e+01);
-INSERT INTO "leq_value" VALUES(10278,8000,3.36817321777343749991e+01);
-INSERT INTO "leq_value" VALUES(10278,10000,8.1319580078125);
-INSERT INTO "leq_value" VALUES(10278,12500,4.3966350555419921875e+00);
-INSERT INTO "leq_value" VALUES(10278,16000,1.80369603633880615234e+00);
 COMMIT;
@@ -0,0 +1,83 @@
+/*
+ * This file is part of the NoiseCapture application and OnoMap system.
+ *
+ * The 'OnoMaP' system is led by Lab-STICC and Ifsttar and generates noise maps via
+ * citizen-contributed noise data.
+ *
+ * This application is co-funded by the ENERGIC-OD Project (European Network for
+ * Redistributing Geospatial Information to user Communities - Open Data). ENERGIC-OD
+ * (http://www.energic-od.eu/) is partially funded under the ICT Policy Support Programme (ICT
+ * PSP) as part of the Competitiveness and Innovation Framework Programme by the European
+ * Community. The application work is also supported by the French geographic portal GEOPAL of the
+ * Pays de la Loire region (http://www.geopal.org).
+ *
+ * Copyright (C) IFSTTAR - LAE and Lab-STICC – CNRS UMR 6285 Equipe DECIDE Vannes
+ *
+ * NoiseCapture is a free software; you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation; either version 3 of
+ * the License, or(at your option) any later version. NoiseCapture is distributed in the hope that
+ * it will be useful,but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for
+ * more details.You should have received a copy of the GNU General Public License along with this
+ * program; if not, write to the Free Software Foundation,Inc., 51 Franklin Street, Fifth Floor,
+ * Boston, MA 02110-1301  USA or see For more information,  write to Ifsttar,
+ * 14-20 Boulevard Newton Cite Descartes, Champs sur Marne F-77447 Marne la Vallee Cedex 2 FRANCE
+ *  or write to scientific.computing@ifsttar.fr
+ */
+
+package org.orbisgis.sos;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Third octave levels of ten seconds of 16 bits PCM audio
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MINUTES)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SOSSignalProcessingBenchmark {
+    private final int samplingRate = 44100;
+    private byte[] pcm;
+    private SOSSignalProcessing signalProcessing;
+
+    @Setup
+    public void setup() {
+        short[] signal = SOSSignalProcessing.makePinkNoise(samplingRate * 10, (short)2500, 0);
+        ByteBuffer buffer = ByteBuffer.allocate(signal.length * 2).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asShortBuffer().put(signal);
+        pcm = buffer.array();
+        signalProcessing = new SOSSignalProcessing(samplingRate, ThirdOctaveBandsFiltering.FREQUENCY_BANDS.REDUCED);
+    }
+
+    @Benchmark
+    public List<double[]> processAudio() throws IOException {
+        return signalProcessing.processAudio(16, samplingRate, new ByteArrayInputStream(pcm),
+                AcousticIndicators.TIMEPERIOD_SLOW, AcousticIndicators.REF_SOUND_PRESSURE, ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @Benchmark
+    public List<double[]> processAudioStream() throws IOException {
+        signalProcessing.resetStream();
+        return signalProcessing.processAudioStream(16, samplingRate, new ByteArrayInputStream(pcm),
+                AcousticIndicators.TIMEPERIOD_SLOW, AcousticIndicators.REF_SOUND_PRESSURE, ByteOrder.LITTLE_ENDIAN);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * This file is part of the NoiseCapture application and OnoMap system.
+ *
+ * The 'OnoMaP' system is led by Lab-STICC and Ifsttar and generates noise maps via
+ * citizen-contributed noise data.
+ *
+ * This application is co-funded by the ENERGIC-OD Project (European Network for
+ * Redistributing Geospatial Information to user Communities - Open Data). ENERGIC-OD
+ * (http://www.energic-od.eu/) is partially funded under the ICT Policy Support Programme (ICT
+ * PSP) as part of the Competitiveness and Innovation Framework Programme by the European
+ * Community. The application work is also supported by the French geographic portal GEOPAL of the
+ * Pays de la Loire region (http://www.geopal.org).
+ *
+ * Copyright (C) IFSTTAR - LAE and Lab-STICC – CNRS UMR 6285 Equipe DECIDE Vannes
+ *
+ * NoiseCapture is a free software; you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation; either version 3 of
+ * the License, or(at your option) any later version. NoiseCapture is distributed in the hope that
+ * it will be useful,but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for
+ * more details.You should have received a copy of the GNU General Public License along with this
+ * program; if not, write to the Free Software Foundation,Inc., 51 Franklin Street, Fifth Floor,
+ * Boston, MA 02110-1301  USA or see For more information,  write to Ifsttar,
+ * 14-20 Boulevard Newton Cite Descartes, Champs sur Marne F-77447 Marne la Vallee Cedex 2 FRANCE
+ *  or write to scientific.computing@ifsttar.fr
+ */
+
+package org.orbisgis.sos;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One second of audio pushed into a window by blocks of the size read from AudioRecord
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WindowBenchmark {
+    // Minimal AudioRecord buffer sizes of common devices at 44.1 kHz, in samples
+    @Param({"1024", "3584", "8192"})
+    public int chunkSize;
+
+    @Param({"0.125", "1"})
+    public double windowTime;
+
+    private final int samplingRate = 44100;
+    private short[] signal;
+    private Window window;
+
+    @Setup
+    public void setup() {
+        signal = SOSSignalProcessing.makePinkNoise(samplingRate, (short)2500, 0);
+        window = new Window(FFTSignalProcessing.WINDOW_TYPE.TUKEY, samplingRate,
+                ThirdOctaveBandsFiltering.STANDARD_FREQUENCIES_REDUCED, windowTime, true,
+                FFTSignalProcessing.DB_FS_REFERENCE, false);
+    }
+
+    @Benchmark
+    public FFTSignalProcessing.ProcessingResult pushSample() {
+        FFTSignalProcessing.ProcessingResult last = null;
+        int lastWindowIndex = window.getWindowIndex();
+        for(int chunkStart = 0; chunkStart < signal.length; chunkStart += chunkSize) {
+            int chunkLength = Math.min(chunkSize, signal.length - chunkStart);
+            int cursor = 0;
+            while(cursor < chunkLength) {
+                cursor += window.pushSample(signal, chunkStart + cursor, chunkLength - cursor);
+                if(window.getWindowIndex() != lastWindowIndex) {
+                    lastWindowIndex = window.getWindowIndex();
+                    last = window.getLastWindowMean();
+                    window.cleanWindows();
+                }
+            }
+        }
+        return last;
+    }
+}
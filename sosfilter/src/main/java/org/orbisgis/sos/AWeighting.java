@@ -27,18 +27,41 @@
 
 package org.orbisgis.sos;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Created by G. Guillaume on 03/06/2015.
  * A-weighting of a time signal
  * This module applies an A-weighting filter according to the standard IEC 61672 "Electroacoustics - sound level meters" (2013)
+ * The filter coefficients of other sampling rates than 44100 Hz are computed with the bilinear transform for the
+ * low frequency poles and with a magnitude matched filter for the 12.2 kHz poles, so the response stays close to the
+ * analog filter up to the Nyquist frequency.
  * @see <a href="http://siggigue.github.io/pyfilterbank/splweighting.html">http://siggigue.github.io/pyfilterbank/splweighting.html</a>
  * @see <a href="http://www.mathworks.com/matlabcentral/fileexchange/69-octave/content//octave/adsgn.m">http://www.mathworks.com/matlabcentral/fileexchange/69-octave/content//octave/adsgn.m</a>
  */
 public class AWeighting {
 
+    /**
+     * Sampling rate of {@link #denominator} and {@link #numerator}
+     */
+    public static final int DEFAULT_SAMPLING_RATE = 44100;
+
+    // Poles frequencies of the analog A-weighting filter [Hz] (IEC 61672-1 annex E)
+    private static final double F1 = 20.598997;
+    private static final double F2 = 107.65265;
+    private static final double F3 = 737.86223;
+    private static final double F4 = 12194.217;
+    // Normalisation gain at 1 kHz [dB]
+    private static final double A1000 = 1.9997;
+
+    // Designed coefficients {numerator, denominator} by sampling rate
+    private static final Map<Integer, double[][]> COEFFICIENTS_CACHE = new HashMap<Integer, double[][]>();
+
     /**
      * Denominator coefficients of the A-weighting filter determined by means of a bilinear transform that converts
-     * second-order section analog weights to second-order section digital weights.
+     * second-order section analog weights to second-order section digital weights. Sampling rate is 44100 Hz.
      */
     public final static double[] denominator = new double[]{ 1.0,
                                                             -4.0195761811158306,
@@ -50,7 +73,7 @@ public class AWeighting {
 
     /**
      * Numerator coefficients of the A-weighting filter determined by means of a bilinear transform that converts
-     * second-order section analog weights to second-order section digital weights.
+     * second-order section analog weights to second-order section digital weights. Sampling rate is 44100 Hz.
      */
     public final static double[] numerator = new double[]{ 0.25574112520425768,
                                                           -0.51148225040851569,
@@ -60,37 +83,131 @@ public class AWeighting {
                                                           -0.51148225040851569,
                                                            0.25574112520425768};
 
+    private final int samplingRate;
+    private final double[] b;
+    private final double[] a;
+    // Filter delays, kept between calls
+    private final double[] delays = new double[Math.max(denominator.length, numerator.length) - 1];
+
     /**
-     * A-weighting of the raw time signal
-     * Second order section filtering
-     * @param inputSignal Raw time signal
-     * @return A-weighted time signal
+     * A-weighting filter of a signal sampled at 44100 Hz
      */
-    public static double[] aWeightingSignal(double[] inputSignal) {
+    public AWeighting() {
+        this(DEFAULT_SAMPLING_RATE);
+    }
+
+    /**
+     * @param samplingRate Sampling rate of the signal [Hz]
+     */
+    public AWeighting(int samplingRate) {
+        if(samplingRate <= 0) {
+            throw new IllegalArgumentException("Illegal sampling rate: " + samplingRate + "Hz");
+        }
+        this.samplingRate = samplingRate;
+        double[][] coefficients = getCoefficients(samplingRate);
+        this.b = coefficients[0];
+        this.a = coefficients[1];
+    }
 
-        int signalLength = inputSignal.length;
-        int order = Math.max(denominator.length, numerator.length);
-        double[] weightedSignal = new double[signalLength];
-        // Filter delays
-        double[][] z = new double[order-1][signalLength];
-
-        for (int idT = 0; idT < signalLength; idT++){
-            // Avoid iteration idT=0 exception (z[0][idT-1]=0)
-            weightedSignal[idT] = numerator[0]*inputSignal[idT] + (idT == 0 ? 0 : z[0][idT-1]);
-            // Avoid iteration idT=0 exception (z[1][idT-1]=0)
-            z[0][idT] = numerator[1]*inputSignal[idT] + (idT == 0 ? 0 : z[1][idT-1]) - denominator[1]*inputSignal[idT];
-            for (int k = 0; k<order-2; k++){
-                // Avoid iteration idT=0 exception (z[k+1][idT-1]=0)
-                z[k][idT] = numerator[k+1]*inputSignal[idT] + (idT ==0 ? 0 : z[k+1][idT-1]) - denominator[k+1]*weightedSignal[idT];
+    public int getSamplingRate() {
+        return samplingRate;
+    }
+
+    /**
+     * @param samplingRate Sampling rate [Hz]
+     * @return Filter coefficients {numerator, denominator}, computed on the first call for this sampling rate
+     */
+    public static double[][] getCoefficients(int samplingRate) {
+        if(samplingRate == DEFAULT_SAMPLING_RATE) {
+            return new double[][] {numerator, denominator};
+        }
+        synchronized (COEFFICIENTS_CACHE) {
+            double[][] coefficients = COEFFICIENTS_CACHE.get(samplingRate);
+            if(coefficients == null) {
+                coefficients = designFilter(samplingRate);
+                COEFFICIENTS_CACHE.put(samplingRate, coefficients);
             }
-            z[order-2][idT] = numerator[order-1]*inputSignal[idT] - denominator[order-1]*weightedSignal[idT];
+            return coefficients;
         }
-        return weightedSignal;
     }
 
+    /**
+     * Digital A-weighting filter of the analog filter
+     * H(s) = k s^4 / ((s + w1)^2 (s + w2) (s + w3) (s + w4)^2)
+     * The high-pass part s^4 / ((s + w1)^2 (s + w2) (s + w3)) is converted with the bilinear transform, the 4 zeros
+     * at s = 0 go to z = 1. Its poles are far below the Nyquist frequency, so the frequency warping only matters
+     * at high frequencies.
+     * The low-pass part (w4 / (s + w4))^2 is not converted with the bilinear transform as its zeros at infinity would
+     * go to z = -1 and cancel the response near the Nyquist frequency, w4 being above the Nyquist frequency for
+     * sampling rates lower than 24.4 kHz. Each w4 / (s + w4) is replaced by a one-pole one-zero filter
+     * g (1 - q z^-1) / (1 - p z^-1) with the same magnitude at 0 Hz, at the quarter of the sampling rate
+     * and at the Nyquist frequency. The magnitude at these two frequencies also compensates the frequency warping
+     * of the bilinear transform on the high-pass part.
+     * @param samplingRate Sampling rate [Hz]
+     * @return Filter coefficients {numerator, denominator}
+     */
+    static double[][] designFilter(int samplingRate) {
+        final double k = 2. * samplingRate;
+        double[] b = new double[] {Math.pow(10, A1000 / 20)};
+        double[] a = new double[] {1};
+        for(double poleFrequency : new double[] {F1, F1, F2, F3}) {
+            final double w = 2 * Math.PI * poleFrequency;
+            b = multiplyPolynomial(b, k / (k + w), -k / (k + w));
+            a = multiplyPolynomial(a, 1, -(k - w) / (k + w));
+        }
+        // Squared magnitude of each low-pass section at the Nyquist frequency and at the quarter of the sampling rate
+        // The bilinear transform maps the analog frequency fs / pi to fs / 4 and the infinite frequency to fs / 2
+        final double nyquistEnergy = Math.sqrt(getHighPassEnergy(samplingRate / 2.))
+                / (1 + Math.pow(samplingRate / (2 * F4), 2));
+        final double quarterEnergy = Math.sqrt(getHighPassEnergy(samplingRate / 4.)
+                / getHighPassEnergy(samplingRate / Math.PI)) / (1 + Math.pow(samplingRate / (4 * F4), 2));
+        // The pole is the root inside the unit circle of c p^2 - (1 - nyquistEnergy) p + c = 0
+        final double c = (1 + nyquistEnergy) / 2 - quarterEnergy;
+        final double pole = 2 * c / (1 - nyquistEnergy + Math.sqrt(Math.pow(1 - nyquistEnergy, 2) - 4 * c * c));
+        final double nyquistGain = Math.sqrt(nyquistEnergy);
+        for(int i = 0; i < 2; i++) {
+            b = multiplyPolynomial(b, ((1 - pole) + nyquistGain * (1 + pole)) / 2,
+                    ((1 - pole) - nyquistGain * (1 + pole)) / 2);
+            a = multiplyPolynomial(a, 1, -pole);
+        }
+        return new double[][] {b, a};
+    }
 
+    /**
+     * @param frequency Frequency [Hz]
+     * @return Squared magnitude of the analog high-pass part s^4 / ((s + w1)^2 (s + w2) (s + w3))
+     */
+    private static double getHighPassEnergy(double frequency) {
+        double energy = 1;
+        for(double poleFrequency : new double[] {F1, F1, F2, F3}) {
+            energy *= frequency * frequency / (frequency * frequency + poleFrequency * poleFrequency);
+        }
+        return energy;
+    }
 
+    /**
+     * @return Coefficients of polynomial * (c0 + c1 z^-1)
+     */
+    private static double[] multiplyPolynomial(double[] polynomial, double c0, double c1) {
+        double[] result = new double[polynomial.length + 1];
+        for(int i = 0; i < polynomial.length; i++) {
+            result[i] += polynomial[i] * c0;
+            result[i + 1] += polynomial[i] * c1;
+        }
+        return result;
+    }
 
+    /**
+     * A-weighting of the raw time signal
+     * Second order section filtering
+     * @param inputSignal Raw time signal
+     * @return A-weighted time signal
+     */
+    public static double[] aWeightingSignal(double[] inputSignal) {
+        double[] weightedSignal = Arrays.copyOf(inputSignal, inputSignal.length);
+        new AWeighting().filter(weightedSignal);
+        return weightedSignal;
+    }
 
     /**
      * A-weighting of the raw time signal
@@ -99,24 +216,77 @@ public class AWeighting {
      * @return A-weighted time signal
      */
     public static float[] aWeightingSignal(float[] inputSignal) {
+        float[] weightedSignal = Arrays.copyOf(inputSignal, inputSignal.length);
+        new AWeighting().filter(weightedSignal);
+        return weightedSignal;
+    }
+
+    /**
+     * Clear the filter delays. The next filtered sample is processed as the first sample of a signal.
+     */
+    public void reset() {
+        Arrays.fill(delays, 0);
+    }
 
-        int signalLength = inputSignal.length;
-        int order = Math.max(denominator.length, numerator.length);
-        float[] weightedSignal = new float[signalLength];
-        // Filter delays
-        float[][] z = new float[order-1][signalLength];
-
-        for (int idT = 0; idT < signalLength; idT++){
-            // Avoid iteration idT=0 exception (z[0][idT-1]=0)
-            weightedSignal[idT] = (float)(numerator[0]*inputSignal[idT] + (idT == 0 ? 0 : z[0][idT-1]));
-            // Avoid iteration idT=0 exception (z[1][idT-1]=0)
-            z[0][idT] = (float)(numerator[1]*inputSignal[idT] + (idT == 0 ? 0 : z[1][idT-1]) - denominator[1]*inputSignal[idT]);
-            for (int k = 0; k<order-2; k++){
-                // Avoid iteration idT=0 exception (z[k+1][idT-1]=0)
-                z[k][idT] = (float)(numerator[k+1]*inputSignal[idT] + (idT ==0 ? 0 : z[k+1][idT-1]) - denominator[k+1]*weightedSignal[idT]);
+    /**
+     * In place A-weighting of the raw time signal. The filter state is kept between calls, so
+     * consecutive parts of a signal can be filtered without transient at each part.
+     * @param signal Raw time signal, replaced by the A-weighted time signal
+     */
+    public void filter(double[] signal) {
+        filter(signal, 0, signal.length);
+    }
+
+    /**
+     * In place A-weighting of a part of the raw time signal.
+     * @param signal Raw time signal, replaced by the A-weighted time signal
+     * @param from Index of the first sample to filter
+     * @param to Index of the last sample to filter, exclusive
+     */
+    public void filter(double[] signal, int from, int to) {
+        final double[] numerator = b;
+        final double[] denominator = a;
+        final double[] z = delays;
+        final int last = z.length - 1;
+        for (int idT = from; idT < to; idT++){
+            final double input = signal[idT];
+            final double output = numerator[0]*input + z[0];
+            for (int k = 0; k<last; k++){
+                z[k] = numerator[k+1]*input + z[k+1] - denominator[k+1]*output;
             }
-            z[order-2][idT] = (float)(numerator[order-1]*inputSignal[idT] - denominator[order-1]*weightedSignal[idT]);
+            z[last] = numerator[last+1]*input - denominator[last+1]*output;
+            signal[idT] = output;
+        }
+    }
+
+    /**
+     * In place A-weighting of the raw time signal. The filter state is kept between calls, so
+     * consecutive parts of a signal can be filtered without transient at each part.
+     * @param signal Raw time signal, replaced by the A-weighted time signal
+     */
+    public void filter(float[] signal) {
+        filter(signal, 0, signal.length);
+    }
+
+    /**
+     * In place A-weighting of a part of the raw time signal. Delays are rounded to float precision.
+     * @param signal Raw time signal, replaced by the A-weighted time signal
+     * @param from Index of the first sample to filter
+     * @param to Index of the last sample to filter, exclusive
+     */
+    public void filter(float[] signal, int from, int to) {
+        final double[] numerator = b;
+        final double[] denominator = a;
+        final double[] z = delays;
+        final int last = z.length - 1;
+        for (int idT = from; idT < to; idT++){
+            final float input = signal[idT];
+            final float output = (float)(numerator[0]*input + z[0]);
+            for (int k = 0; k<last; k++){
+                z[k] = (float)(numerator[k+1]*input + z[k+1] - denominator[k+1]*output);
+            }
+            z[last] = (float)(numerator[last+1]*input - denominator[last+1]*output);
+            signal[idT] = output;
         }
-        return weightedSignal;
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -27,6 +27,7 @@
 
 package org.orbisgis.sos;
 
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -67,7 +68,7 @@ public class AcousticIndicators {
     }
 
     public static double todBspl(double rms, double refSoundPressure ) {
-        return 20 * Math.log10(rms / refSoundPressure);
+        return 20 * DecibelConversion.log10(rms / refSoundPressure);
     }
 
     /**
@@ -100,9 +101,11 @@ public class AcousticIndicators {
         double[] leqT = new double[nbSubSamples];
         int idStartForSub = 0;
         for (int idSub = 0; idSub < nbSubSamples; idSub++) {
-            double[] subSample = new double[subSamplesLength];
-            System.arraycopy(inputSignal, idStartForSub, subSample, 0, subSamplesLength);
-            leqT[idSub] = getLeq(subSample, refSoundPressure);
+            double sampleSum = 0;
+            for (int i = idStartForSub; i < idStartForSub + subSamplesLength; i++) {
+                sampleSum += inputSignal[i] * inputSignal[i];
+            }
+            leqT[idSub] = todBspl(Math.sqrt(sampleSum / subSamplesLength), refSoundPressure);
             idStartForSub += subSamplesLength;
         }
         return leqT;
@@ -130,6 +133,52 @@ public class AcousticIndicators {
         }
         return energy_correction;
     }
+    /**
+     * Compute the Tukey window coefficients, same values as {@link #tukeyWindow(float[], double)}
+     * @param coefficients Output array of window coefficients, its length is the window length
+     * @param tukey_alpha Tukey alpha parameter
+     * @return Energy correction
+     */
+    public static double tukeyWindowCoefficients(double[] coefficients, double tukey_alpha) {
+        double energy_correction = 0;
+        int index_begin_flat = (int)((tukey_alpha / 2) * coefficients.length);
+        int index_end_flat = coefficients.length - index_begin_flat;
+        double window_value;
+        // Begin Hann part
+        for(int i=0; i < index_begin_flat; i++) {
+            window_value = (0.5 * (1 + Math.cos(2 * Math.PI / tukey_alpha * ((i / (float)coefficients.length) - tukey_alpha / 2))));
+            energy_correction += window_value * window_value;
+            coefficients[i] = window_value;
+        }
+        // Flat part
+        energy_correction += index_end_flat - index_begin_flat;
+        Arrays.fill(coefficients, index_begin_flat, index_end_flat, 1);
+        // End Hann part
+        for(int i=index_end_flat; i < coefficients.length; i++) {
+            window_value = (0.5 * (1 + Math.cos(2 * Math.PI / tukey_alpha * ((i / (float)coefficients.length) - 1 + tukey_alpha / 2))));
+            energy_correction += window_value * window_value;
+            coefficients[i] = window_value;
+        }
+        return energy_correction;
+    }
+
+    /**
+     * Compute the Hanning window coefficients, same values as {@link #hannWindow(float[])}
+     * @param coefficients Output array of window coefficients, its length is the window length
+     * @return Energy correction
+     */
+    public static double hannWindowCoefficients(double[] coefficients) {
+        double energyCorrection = 0;
+        // First sample is not weighted by hannWindow
+        coefficients[0] = 1;
+        for (int n = 1; n < coefficients.length; n++) {
+            double coeff = 0.5 * (1 - Math.cos((2 * Math.PI * n) / (coefficients.length - 1)));
+            coefficients[n] = coeff;
+            energyCorrection += coeff * coeff;
+        }
+        return energyCorrection;
+    }
+
     /**
      * Apply a Hanning window to a signal
      * @param signal time signal
@@ -232,6 +281,184 @@ public class AcousticIndicators {
         return Float.NaN;
     }
 
+    /**
+     * Indicators over the last levels of a sliding time period (ex: LAeq,1min and LAFmax with fast leq).
+     * Adding a level is done in constant time, the memory is bounded by the period length.
+     * Percentiles are approximated with a histogram of the levels in the period.
+     */
+    public final static class SlidingLevelTracker {
+        private static final double DEFAULT_CLASS_STEP = 0.1;
+        // Levels outside this range are counted in the first or last class of the histogram
+        private static final double MIN_LEVEL = -30;
+        private static final double MAX_LEVEL = 200;
+        // Levels of the period, circular buffer
+        private final double[] levels;
+        private int levelCursor = 0;
+        private int levelCount = 0;
+        private long addedLevels = 0;
+        private double energySum = 0;
+        // Monotonic queues of level index (in addedLevels) for the maximum and minimum of the period
+        private final long[] maxQueue;
+        private int maxHead = 0;
+        private int maxSize = 0;
+        private final long[] minQueue;
+        private int minHead = 0;
+        private int minSize = 0;
+        // Histogram of the levels in the period
+        private final double classStep;
+        private final int minClass;
+        private final int[] levelClass;
+
+        /**
+         * @param levelPeriod Time period of each added level [s]
+         * @param slidingPeriod Time period of the indicators [s]
+         */
+        public SlidingLevelTracker(double levelPeriod, double slidingPeriod) {
+            this((int)Math.round(slidingPeriod / levelPeriod), DEFAULT_CLASS_STEP);
+        }
+
+        /**
+         * @param windowLength Number of levels in the period
+         * @param classStep Histogram resolution for the percentiles [dB]
+         */
+        public SlidingLevelTracker(int windowLength, double classStep) {
+            if(windowLength <= 0) {
+                throw new IllegalArgumentException("Sliding period must contain at least one level");
+            }
+            levels = new double[windowLength];
+            maxQueue = new long[windowLength];
+            minQueue = new long[windowLength];
+            this.classStep = classStep;
+            minClass = (int)(MIN_LEVEL / classStep);
+            levelClass = new int[(int)(MAX_LEVEL / classStep) - minClass + 1];
+        }
+
+        private int getClass(double level) {
+            return Math.max(0, Math.min(levelClass.length - 1, (int)(level / classStep) - minClass));
+        }
+
+        /**
+         * Add the next level, the oldest level leave the period if the period is complete
+         * @param level Level [dB]
+         */
+        public void addLevel(double level) {
+            final long levelIndex = addedLevels++;
+            if(levelCount == levels.length) {
+                double oldLevel = levels[levelCursor];
+                levelClass[getClass(oldLevel)]--;
+                energySum -= DecibelConversion.dBToEnergy(oldLevel);
+            } else {
+                levelCount++;
+            }
+            levels[levelCursor] = level;
+            energySum += DecibelConversion.dBToEnergy(level);
+            levelCursor++;
+            if(levelCursor == levels.length) {
+                levelCursor = 0;
+                // Remove the rounding errors of the running sum once per period
+                energySum = 0;
+                for(double periodLevel : levels) {
+                    energySum += DecibelConversion.dBToEnergy(periodLevel);
+                }
+            }
+            levelClass[getClass(level)]++;
+            final long oldestIndex = addedLevels - levelCount;
+            // Update maximum queue
+            if(maxSize > 0 && maxQueue[maxHead] < oldestIndex) {
+                maxHead = (maxHead + 1) % maxQueue.length;
+                maxSize--;
+            }
+            while(maxSize > 0 && getLevel(maxQueue[(maxHead + maxSize - 1) % maxQueue.length]) <= level) {
+                maxSize--;
+            }
+            maxQueue[(maxHead + maxSize++) % maxQueue.length] = levelIndex;
+            // Update minimum queue
+            if(minSize > 0 && minQueue[minHead] < oldestIndex) {
+                minHead = (minHead + 1) % minQueue.length;
+                minSize--;
+            }
+            while(minSize > 0 && getLevel(minQueue[(minHead + minSize - 1) % minQueue.length]) >= level) {
+                minSize--;
+            }
+            minQueue[(minHead + minSize++) % minQueue.length] = levelIndex;
+        }
+
+        private double getLevel(long levelIndex) {
+            return levels[(int)(levelIndex % levels.length)];
+        }
+
+        /**
+         * Remove all levels
+         */
+        public void clear() {
+            levelCursor = 0;
+            levelCount = 0;
+            addedLevels = 0;
+            energySum = 0;
+            maxHead = 0;
+            maxSize = 0;
+            minHead = 0;
+            minSize = 0;
+            Arrays.fill(levelClass, 0);
+        }
+
+        /**
+         * @return Number of levels in the period
+         */
+        public int getLevelCount() {
+            return levelCount;
+        }
+
+        /**
+         * @return True if the levels cover the whole period
+         */
+        public boolean isPeriodComplete() {
+            return levelCount == levels.length;
+        }
+
+        /**
+         * @return Equivalent level of the period [dB] or NaN if there is no level
+         */
+        public double getLeq() {
+            return levelCount > 0 ? DecibelConversion.energyTodB(Math.max(0, energySum) / levelCount) : Double.NaN;
+        }
+
+        /**
+         * @return Maximum level of the period [dB] or NaN if there is no level
+         */
+        public double getMax() {
+            return maxSize > 0 ? getLevel(maxQueue[maxHead]) : Double.NaN;
+        }
+
+        /**
+         * @return Minimum level of the period [dB] or NaN if there is no level
+         */
+        public double getMin() {
+            return minSize > 0 ? getLevel(minQueue[minHead]) : Double.NaN;
+        }
+
+        /**
+         * Approximate level exceeded during a percentage of the period, with the histogram resolution
+         * @param percentage Percentage of time (ex: 90 for LA90)
+         * @return Level [dB] or NaN if there is no level
+         */
+        public double getExceededLevel(double percentage) {
+            if(levelCount == 0) {
+                return Double.NaN;
+            }
+            // Rank of the level in the ascending order
+            int rank = Math.max(1, (int)Math.ceil((100 - percentage) / 100 * levelCount));
+            int count = 0;
+            for(int idClass = 0; idClass < levelClass.length; idClass++) {
+                count += levelClass[idClass];
+                if(count >= rank) {
+                    return (idClass + minClass) * classStep;
+                }
+            }
+            return (levelClass.length - 1 + minClass) * classStep;
+        }
+    }
+
     public final static class SplStatistics {
         public final double min;
         public final double max;
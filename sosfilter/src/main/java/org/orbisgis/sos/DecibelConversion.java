@@ -0,0 +1,123 @@
+/*
+ * This file is part of the NoiseCapture application and OnoMap system.
+ *
+ * The 'OnoMaP' system is led by Lab-STICC and Ifsttar and generates noise maps via
+ * citizen-contributed noise data.
+ *
+ * This application is co-funded by the ENERGIC-OD Project (European Network for
+ * Redistributing Geospatial Information to user Communities - Open Data). ENERGIC-OD
+ * (http://www.energic-od.eu/) is partially funded under the ICT Policy Support Programme (ICT
+ * PSP) as part of the Competitiveness and Innovation Framework Programme by the European
+ * Community. The application work is also supported by the French geographic portal GEOPAL of the
+ * Pays de la Loire region (http://www.geopal.org).
+ *
+ * Copyright (C) IFSTTAR - LAE and Lab-STICC – CNRS UMR 6285 Equipe DECIDE Vannes
+ *
+ * NoiseCapture is a free software; you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation; either version 3 of
+ * the License, or(at your option) any later version. NoiseCapture is distributed in the hope that
+ * it will be useful,but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for
+ * more details.You should have received a copy of the GNU General Public License along with this
+ * program; if not, write to the Free Software Foundation,Inc., 51 Franklin Street, Fifth Floor,
+ * Boston, MA 02110-1301  USA or see For more information,  write to Ifsttar,
+ * 14-20 Boulevard Newton Cite Descartes, Champs sur Marne F-77447 Marne la Vallee Cedex 2 FRANCE
+ *  or write to scientific.computing@ifsttar.fr
+ */
+
+package org.orbisgis.sos;
+
+/**
+ * Fast conversions between decibels and linear values, for loops over spectrum bins or levels.
+ * Powers of 2 of the fractional part and base 2 logarithms of the mantissa are interpolated in
+ * tables, the exponent is handled exactly. The error is lower than 1e-4 dB.
+ * The strict mode use {@link Math#pow(double, double)} and {@link Math#log10(double)} instead.
+ */
+public final class DecibelConversion {
+    private static final int TABLE_BITS = 8;
+    private static final int TABLE_SIZE = 1 << TABLE_BITS;
+    private static final double LOG2_10 = Math.log(10) / Math.log(2);
+    private static final double LOG10_2 = Math.log10(2);
+    private static final int MANTISSA_BITS = 52;
+    private static final int FRACTION_BITS = MANTISSA_BITS - TABLE_BITS;
+    private static final long FRACTION_MASK = (1L << FRACTION_BITS) - 1;
+    private static final double FRACTION_SCALE = 1. / (1L << FRACTION_BITS);
+    // 2^(i / TABLE_SIZE), one more value for the interpolation
+    private static final double[] POW2_TABLE = new double[TABLE_SIZE + 1];
+    // log2(1 + i / TABLE_SIZE)
+    private static final double[] LOG2_TABLE = new double[TABLE_SIZE + 1];
+    private static boolean strict = false;
+
+    static {
+        for(int i = 0; i <= TABLE_SIZE; i++) {
+            POW2_TABLE[i] = Math.pow(2, i / (double) TABLE_SIZE);
+            LOG2_TABLE[i] = Math.log(1 + i / (double) TABLE_SIZE) / Math.log(2);
+        }
+    }
+
+    private DecibelConversion() {
+    }
+
+    /**
+     * @param strict True to use the exact Math functions, the setting is global and should be set
+     *               before processing.
+     */
+    public static void setStrict(boolean strict) {
+        DecibelConversion.strict = strict;
+    }
+
+    public static boolean isStrict() {
+        return strict;
+    }
+
+    /**
+     * @param exponent Exponent
+     * @return 10^exponent
+     */
+    public static double pow10(double exponent) {
+        final double y = exponent * LOG2_10;
+        if(strict || !(y > -1022 && y < 1023)) {
+            // Also NaN, infinity and subnormal results
+            return Math.pow(10, exponent);
+        }
+        final double floor = Math.floor(y);
+        final double position = (y - floor) * TABLE_SIZE;
+        final int index = (int) position;
+        final double fraction = position - index;
+        final double mantissa = POW2_TABLE[index] + fraction * (POW2_TABLE[index + 1] - POW2_TABLE[index]);
+        return mantissa * Double.longBitsToDouble(((long) floor + 1023) << MANTISSA_BITS);
+    }
+
+    /**
+     * @param value Value
+     * @return log10(value)
+     */
+    public static double log10(double value) {
+        if(strict || !(value >= Double.MIN_NORMAL && value <= Double.MAX_VALUE)) {
+            // Also NaN, infinity, zero, negative and subnormal values
+            return Math.log10(value);
+        }
+        final long bits = Double.doubleToRawLongBits(value);
+        final int exponent = (int) (bits >>> MANTISSA_BITS) - 1023;
+        final int index = (int) ((bits >>> FRACTION_BITS) & (TABLE_SIZE - 1));
+        final double fraction = (bits & FRACTION_MASK) * FRACTION_SCALE;
+        final double log2 = LOG2_TABLE[index] + fraction * (LOG2_TABLE[index + 1] - LOG2_TABLE[index]);
+        return (exponent + log2) * LOG10_2;
+    }
+
+    /**
+     * @param level Level [dB]
+     * @return Energy 10^(level/10)
+     */
+    public static double dBToEnergy(double level) {
+        return pow10(level / 10);
+    }
+
+    /**
+     * @param energy Energy
+     * @return Level 10*log10(energy) [dB]
+     */
+    public static double energyTodB(double energy) {
+        return 10 * log10(energy);
+    }
+}
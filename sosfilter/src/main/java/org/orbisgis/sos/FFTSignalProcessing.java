@@ -38,7 +38,10 @@ public class FFTSignalProcessing {
 
     public enum WINDOW_TYPE { RECTANGULAR, HANN, TUKEY }
     public final int samplingRate;
-    private short[] sampleBuffer;
+    // Circular buffer of the last samples, float in order to keep pre-filtered samples unrounded
+    private final float[] sampleBuffer;
+    // Index of the oldest sample in sampleBuffer, also the index of the next added sample
+    private int sampleBufferCursor = 0;
     double[] standardFrequencies;
     double tukeyAlpha = 0.2;
     private final int windowSize;
@@ -47,23 +50,37 @@ public class FFTSignalProcessing {
     public static final double DB_FS_REFERENCE = - (20 * Math.log10(RMS_REFERENCE_90DB)) + 90;
     private final double refSoundPressure;
     private long sampleAdded = 0;
+    // Reusable processing buffers
+    private final float[] fftBuffer;
+    private final float[] squareAbsoluteFFT;
+    // Window coefficients cache
+    private double[] windowCoefficients;
+    private WINDOW_TYPE windowCoefficientsType;
+    private double windowCoefficientsTukeyAlpha;
+    private double windowEnergyCorrection;
+    private final ThirdOctaveBandMap bandMap;
+    private final AWeighting aWeightingFilter;
+    // computeSpl buffers, may be called by another thread than processSample
+    private float[] splBuffer;
+    private final AWeighting splAWeightingFilter;
+    private ProcessingTimings processingTimings = null;
 
     public FFTSignalProcessing(int samplingRate, double[] standardFrequencies, int windowSize) {
-        this.windowSize = windowSize;
-        this.standardFrequencies = standardFrequencies;
-        this.samplingRate = samplingRate;
-        this.sampleBuffer = new short[windowSize];
-        this.floatFFT_1D = new FloatFFT_1D(windowSize);
-        this.refSoundPressure = 1 / Math.pow(10, DB_FS_REFERENCE / 20);
+        this(samplingRate, standardFrequencies, windowSize, DB_FS_REFERENCE);
     }
 
     public FFTSignalProcessing(int samplingRate, double[] standardFrequencies, int windowSize, double dbFsReference) {
         this.windowSize = windowSize;
         this.standardFrequencies = standardFrequencies;
         this.samplingRate = samplingRate;
-        this.sampleBuffer = new short[windowSize];
+        this.aWeightingFilter = new AWeighting(samplingRate);
+        this.splAWeightingFilter = new AWeighting(samplingRate);
+        this.sampleBuffer = new float[windowSize];
         this.floatFFT_1D = new FloatFFT_1D(windowSize);
         this.refSoundPressure = 1 / Math.pow(10, dbFsReference / 20);
+        this.fftBuffer = new float[windowSize];
+        this.squareAbsoluteFFT = new float[windowSize / 2];
+        this.bandMap = new ThirdOctaveBandMap(samplingRate, windowSize, standardFrequencies);
     }
 
 
@@ -93,6 +110,13 @@ public class FFTSignalProcessing {
         return windowSize;
     }
 
+    /**
+     * @return Precomputed link between FFT cells and third-octave bands
+     */
+    public ThirdOctaveBandMap getBandMap() {
+        return bandMap;
+    }
+
     /**
      * @return Computed frequencies
      */
@@ -101,10 +125,18 @@ public class FFTSignalProcessing {
     }
 
     /**
-     * @return Internal sample buffer where length depends on minimal frequency.
+     * @return Copy of the sample buffer, from the oldest sample to the newest sample. Samples added
+     * as float are rounded and clipped to the 16 bits range.
      */
     public short[] getSampleBuffer() {
-        return sampleBuffer;
+        float[] unrolled = new float[sampleBuffer.length];
+        unrollSampleBuffer(unrolled);
+        short[] samples = new short[sampleBuffer.length];
+        for(int i = 0; i < samples.length; i++) {
+            samples[i] = (short) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE,
+                    Math.round(unrolled[i])));
+        }
+        return samples;
     }
 
     /**
@@ -113,25 +145,85 @@ public class FFTSignalProcessing {
      * @param sample audio sample
      */
     public void addSample(short[] sample) {
-        if(sample.length < sampleBuffer.length) {
-            // Move previous samples backward
-            System.arraycopy(sampleBuffer, sample.length, sampleBuffer, 0, sampleBuffer.length - sample.length);
-            System.arraycopy(sample, 0, sampleBuffer, sampleBuffer.length - sample.length, sample.length);
-            sampleAdded+=sample.length;
+        addSample(sample, 0, sample.length);
+    }
+
+    /**
+     * Add a part of an audio sample to the buffer. Previous samples are not moved.
+     * @param sample audio sample
+     * @param from Index of the first sample to add
+     * @param length Number of samples to add
+     */
+    public void addSample(short[] sample, int from, int length) {
+        if(length < sampleBuffer.length) {
+            // Write after the newest sample, overwriting the oldest samples
+            final int firstPart = Math.min(length, sampleBuffer.length - sampleBufferCursor);
+            for(int i = 0; i < firstPart; i++) {
+                sampleBuffer[sampleBufferCursor + i] = sample[from + i];
+            }
+            for(int i = firstPart; i < length; i++) {
+                sampleBuffer[i - firstPart] = sample[from + i];
+            }
+            sampleBufferCursor = (sampleBufferCursor + length) % sampleBuffer.length;
+            sampleAdded+=length;
         } else {
             // Take last samples
-            System.arraycopy(sample, Math.max(0, sample.length - sampleBuffer.length), sampleBuffer, 0,
+            final int offset = from + length - sampleBuffer.length;
+            for(int i = 0; i < sampleBuffer.length; i++) {
+                sampleBuffer[i] = sample[offset + i];
+            }
+            sampleBufferCursor = 0;
+            sampleAdded+=sampleBuffer.length;
+        }
+    }
+
+    /**
+     * Add a part of a pre-filtered audio signal to the buffer, in the 16 bits samples scale.
+     * Previous samples are not moved.
+     * @param sample audio signal
+     * @param from Index of the first sample to add
+     * @param length Number of samples to add
+     */
+    public void addSample(float[] sample, int from, int length) {
+        if(length < sampleBuffer.length) {
+            // Write after the newest sample, overwriting the oldest samples
+            final int firstPart = Math.min(length, sampleBuffer.length - sampleBufferCursor);
+            System.arraycopy(sample, from, sampleBuffer, sampleBufferCursor, firstPart);
+            System.arraycopy(sample, from + firstPart, sampleBuffer, 0, length - firstPart);
+            sampleBufferCursor = (sampleBufferCursor + length) % sampleBuffer.length;
+            sampleAdded+=length;
+        } else {
+            // Take last samples
+            System.arraycopy(sample, from + length - sampleBuffer.length, sampleBuffer, 0,
                     sampleBuffer.length);
+            sampleBufferCursor = 0;
             sampleAdded+=sampleBuffer.length;
         }
     }
 
+    /**
+     * Copy the sample buffer into the target array, from the oldest sample to the newest sample
+     * @param target Array of sample buffer length
+     */
+    private void unrollSampleBuffer(float[] target) {
+        final int firstPart = sampleBuffer.length - sampleBufferCursor;
+        System.arraycopy(sampleBuffer, sampleBufferCursor, target, 0, firstPart);
+        System.arraycopy(sampleBuffer, 0, target, firstPart, sampleBufferCursor);
+    }
+
     public double computeRms() {
-        return AcousticIndicators.computeRms(sampleBuffer);
+        // Samples order does not matter here, squares are computed in double to stay exact for
+        // 16 bits samples
+        double sampleSum = 0;
+        for (float sample : sampleBuffer) {
+            final double value = sample;
+            sampleSum += value * value;
+        }
+        return Math.sqrt(sampleSum / sampleBuffer.length);
     }
 
     public double computeGlobalLeq() {
-        return AcousticIndicators.getLeq(sampleBuffer, refSoundPressure);
+        return todBspl(computeRms());
     }
 
     public double todBspl(double rms) {
@@ -140,11 +232,13 @@ public class FFTSignalProcessing {
 
     public double computeSpl(boolean aWeighting) {
         if(aWeighting) {
-            float[] signal = new float[sampleBuffer.length];
-            for(int i=0; i < signal.length; i++) {
-                signal[i] = sampleBuffer[i];
+            if(splBuffer == null) {
+                splBuffer = new float[sampleBuffer.length];
             }
-            signal = AWeighting.aWeightingSignal(signal);
+            final float[] signal = splBuffer;
+            unrollSampleBuffer(signal);
+            splAWeightingFilter.reset();
+            splAWeightingFilter.filter(signal);
             return AcousticIndicators.todBspl(AcousticIndicators.computeRms(signal),
                     refSoundPressure);
         } else {
@@ -157,25 +251,47 @@ public class FFTSignalProcessing {
      * @return List of double array of equivalent sound pressure level per third octave bands
      */
     public ProcessingResult processSample(WINDOW_TYPE window, boolean aWeighting, boolean outputThinFrequency) {
-        float[] signal = new float[sampleBuffer.length];
-        for(int i=0; i < signal.length; i++) {
-            signal[i] = sampleBuffer[i];
-        }
+        ProcessingResult result = new ProcessingResult();
+        processSample(window, aWeighting, outputThinFrequency, result);
+        return result;
+    }
+
+    /**
+     * Calculation of the equivalent sound pressure level per third octave bands.
+     * This method reuse internal buffers and the arrays of the provided result, no memory is
+     * allocated if the result has already been fed by this instance.
+     * @param result Result object to feed. Its arrays are allocated if missing or with a wrong length.
+     */
+    public void processSample(WINDOW_TYPE window, boolean aWeighting, boolean outputThinFrequency,
+                              ProcessingResult result) {
+        final ProcessingTimings timings = processingTimings;
+        long stageStart = timings != null ? System.nanoTime() : 0;
+        final float[] signal = fftBuffer;
+        unrollSampleBuffer(signal);
         double energyCorrection = signal.length;
-        switch (window) {
-            case HANN:
-                energyCorrection = AcousticIndicators.hannWindow(signal);
-                break;
-            case TUKEY:
-                energyCorrection = AcousticIndicators.tukeyWindow(signal, tukeyAlpha);
+        if(window != WINDOW_TYPE.RECTANGULAR) {
+            final double[] coefficients = getWindowCoefficients(window);
+            for(int i=0; i < signal.length; i++) {
+                signal[i] *= coefficients[i];
+            }
+            energyCorrection = windowEnergyCorrection;
         }
         energyCorrection = 1.0 / Math.sqrt(energyCorrection / signal.length);
+        if(timings != null) {
+            stageStart = recordStage(timings, ProcessingTimings.STAGE.WINDOWING, stageStart);
+        }
         if(aWeighting) {
-            signal = AWeighting.aWeightingSignal(signal);
+            aWeightingFilter.reset();
+            aWeightingFilter.filter(signal);
+            if(timings != null) {
+                stageStart = recordStage(timings, ProcessingTimings.STAGE.A_WEIGHTING, stageStart);
+            }
         }
         floatFFT_1D.realForward(signal);
+        if(timings != null) {
+            stageStart = recordStage(timings, ProcessingTimings.STAGE.FFT, stageStart);
+        }
         final double freqByCell = samplingRate / (double)windowSize;
-        float[] squareAbsoluteFFT = new float[signal.length / 2];
         //a[offa+2*k] = Re[k], 0<=k<n/2
         double sumRMS = 0;
         for(int k = 0; k < squareAbsoluteFFT.length; k++) {
@@ -186,20 +302,70 @@ public class FFTSignalProcessing {
         }
         //rmsFft = Math.sqrt((rmsFft / 2) / (fftResult.length * fftResult.length));
         // Compute A weighted third octave bands
-        float[] splLevels = thirdOctaveProcessing(squareAbsoluteFFT, false, energyCorrection);
+        if(result.dBaLevels == null || result.dBaLevels.length != standardFrequencies.length) {
+            result.dBaLevels = new float[standardFrequencies.length];
+        }
+        thirdOctaveProcessing(squareAbsoluteFFT, false, energyCorrection, result.dBaLevels);
         // Limit spectrum output by specified frequencies and convert to dBspl
-        float[] spectrumSplLevels = null;
         if(outputThinFrequency) {
-            spectrumSplLevels = new float[(int) (Math.min(samplingRate / 2, standardFrequencies[standardFrequencies.length - 1]) /
-                    freqByCell)];
+            final int spectrumLength = (int) (Math.min(samplingRate / 2,
+                    standardFrequencies[standardFrequencies.length - 1]) / freqByCell);
+            if(result.fftResult == null || result.fftResult.length != spectrumLength) {
+                result.fftResult = new float[spectrumLength];
+            }
+            final float[] spectrumSplLevels = result.fftResult;
             for (int i = 0; i < spectrumSplLevels.length; i++) {
                 spectrumSplLevels[i] = (float) todBspl(squareAbsoluteFFTToRMS(squareAbsoluteFFT[i
                         ], squareAbsoluteFFT.length) * energyCorrection);
             }
+        } else {
+            result.fftResult = null;
+        }
+        result.id = sampleAdded;
+        result.globaldBaValue = (float)todBspl(squareAbsoluteFFTToRMS(sumRMS, squareAbsoluteFFT.length)
+                        * energyCorrection);
+        if(timings != null) {
+            recordStage(timings, ProcessingTimings.STAGE.BAND_AGGREGATION, stageStart);
+        }
+    }
+
+    private static long recordStage(ProcessingTimings timings, ProcessingTimings.STAGE stage, long stageStart) {
+        long now = System.nanoTime();
+        timings.record(stage, now - stageStart);
+        return now;
+    }
+
+    /**
+     * @param processingTimings Record the duration of each stage of
+     * {@link #processSample(WINDOW_TYPE, boolean, boolean, ProcessingResult)}, null to disable
+     */
+    public void setProcessingTimings(ProcessingTimings processingTimings) {
+        this.processingTimings = processingTimings;
+    }
+
+    public ProcessingTimings getProcessingTimings() {
+        return processingTimings;
+    }
+
+    /**
+     * @param window Window type, not rectangular
+     * @return Cached window coefficients, built on the first call for this window type
+     */
+    private double[] getWindowCoefficients(WINDOW_TYPE window) {
+        if(windowCoefficients == null || windowCoefficientsType != window ||
+                (window == WINDOW_TYPE.TUKEY && Double.compare(windowCoefficientsTukeyAlpha, tukeyAlpha) != 0)) {
+            if(windowCoefficients == null) {
+                windowCoefficients = new double[windowSize];
+            }
+            if(window == WINDOW_TYPE.HANN) {
+                windowEnergyCorrection = AcousticIndicators.hannWindowCoefficients(windowCoefficients);
+            } else {
+                windowEnergyCorrection = AcousticIndicators.tukeyWindowCoefficients(windowCoefficients, tukeyAlpha);
+            }
+            windowCoefficientsType = window;
+            windowCoefficientsTukeyAlpha = tukeyAlpha;
         }
-        return new ProcessingResult(sampleAdded, spectrumSplLevels, splLevels,
-                (float)todBspl(squareAbsoluteFFTToRMS(sumRMS, squareAbsoluteFFT.length)
-                        * energyCorrection));
+        return windowCoefficients;
     }
 
     private double squareAbsoluteFFTToRMS(double squareAbsoluteFFT, int sampleSize) {
@@ -217,34 +383,94 @@ public class FFTSignalProcessing {
      * @return Third octave bands
      */
     public float[] thirdOctaveProcessing(float[] squareAbsoluteFFT, boolean thirdOctaveAWeighting, double energyCorrection) {
-        final double freqByCell = samplingRate / (double)windowSize;
         float[] splLevels = new float[standardFrequencies.length];
-        int thirdOctaveId = 0;
-        int refFreq = Arrays.binarySearch(standardFrequencies, 1000);
-        for(double fNominal : standardFrequencies) {
-            // Compute lower and upper value of third-octave
-            // NF-EN 61260
-            // base 10
-            double fCenter = Math.pow(10, (Arrays.binarySearch(standardFrequencies, fNominal) - refFreq)/10.) * 1000;
-            final double fLower = fCenter * Math.pow(10, -1. / 20.);
-            final double fUpper = fCenter * Math.pow(10, 1. / 20.);
+        thirdOctaveProcessing(squareAbsoluteFFT, thirdOctaveAWeighting, energyCorrection, splLevels);
+        return splLevels;
+    }
+
+    /**
+     * Third-octave recombination method
+     * @param squareAbsoluteFFT Narrow frequency array
+     * @param thirdOctaveAWeighting True to apply a A weighting on bands
+     * @param splLevels Output third octave bands, length must be the number of standard frequencies
+     */
+    public void thirdOctaveProcessing(float[] squareAbsoluteFFT, boolean thirdOctaveAWeighting,
+                                      double energyCorrection, float[] splLevels) {
+        final int[] cellLower = bandMap.cellLower;
+        final int[] cellUpper = bandMap.cellUpper;
+        final int lastCell = squareAbsoluteFFT.length - 1;
+        for(int thirdOctaveId = 0; thirdOctaveId < cellLower.length; thirdOctaveId++) {
             double sumVal = 0;
-            int cellLower = (int)(Math.ceil(fLower / freqByCell));
-            int cellUpper = Math.min(squareAbsoluteFFT.length - 1, (int) (Math.floor(fUpper / freqByCell)));
-            for(int idCell = cellLower; idCell <= cellUpper; idCell++) {
+            final int upper = Math.min(lastCell, cellUpper[thirdOctaveId]);
+            for(int idCell = cellLower[thirdOctaveId]; idCell <= upper; idCell++) {
                 sumVal += squareAbsoluteFFT[idCell];
             }
             sumVal = todBspl(squareAbsoluteFFTToRMS(sumVal, squareAbsoluteFFT.length) * energyCorrection);
             if(thirdOctaveAWeighting) {
                 // Apply A weighting
-                int freqIndex = Arrays.binarySearch(
-                        ThirdOctaveFrequencies.STANDARD_FREQUENCIES, fNominal);
-                sumVal = (float) (sumVal + ThirdOctaveFrequencies.A_WEIGHTING[freqIndex]);
+                sumVal = (float) (sumVal + bandMap.getAWeighting(thirdOctaveId));
             }
             splLevels[thirdOctaveId] = (float) sumVal;
-            thirdOctaveId++;
         }
-        return splLevels;
+    }
+
+    /**
+     * Link between FFT cells and third-octave bands. Depends only on the sampling rate, the window
+     * size and the frequency bands, so it is computed once.
+     */
+    public static final class ThirdOctaveBandMap {
+        // First FFT cell of each band
+        final int[] cellLower;
+        // Last FFT cell (inclusive) of each band, not bounded by the FFT length
+        final int[] cellUpper;
+        // A weighting of each band, NaN if the band is not a standard frequency
+        final double[] aWeighting;
+
+        public ThirdOctaveBandMap(int samplingRate, int windowSize, double[] standardFrequencies) {
+            final double freqByCell = samplingRate / (double)windowSize;
+            cellLower = new int[standardFrequencies.length];
+            cellUpper = new int[standardFrequencies.length];
+            aWeighting = new double[standardFrequencies.length];
+            int thirdOctaveId = 0;
+            int refFreq = Arrays.binarySearch(standardFrequencies, 1000);
+            for(double fNominal : standardFrequencies) {
+                // Compute lower and upper value of third-octave
+                // NF-EN 61260
+                // base 10
+                double fCenter = Math.pow(10, (Arrays.binarySearch(standardFrequencies, fNominal) - refFreq)/10.) * 1000;
+                final double fLower = fCenter * Math.pow(10, -1. / 20.);
+                final double fUpper = fCenter * Math.pow(10, 1. / 20.);
+                cellLower[thirdOctaveId] = (int)(Math.ceil(fLower / freqByCell));
+                cellUpper[thirdOctaveId] = (int) (Math.floor(fUpper / freqByCell));
+                int freqIndex = Arrays.binarySearch(ThirdOctaveFrequencies.STANDARD_FREQUENCIES, fNominal);
+                aWeighting[thirdOctaveId] = freqIndex >= 0 ? ThirdOctaveFrequencies.A_WEIGHTING[freqIndex] : Double.NaN;
+                thirdOctaveId++;
+            }
+        }
+
+        /**
+         * @param thirdOctaveId Band index
+         * @return First FFT cell of the band
+         */
+        public int getCellLower(int thirdOctaveId) {
+            return cellLower[thirdOctaveId];
+        }
+
+        /**
+         * @param thirdOctaveId Band index
+         * @return Last FFT cell (inclusive) of the band
+         */
+        public int getCellUpper(int thirdOctaveId) {
+            return cellUpper[thirdOctaveId];
+        }
+
+        /**
+         * @param thirdOctaveId Band index
+         * @return A weighting (dB) of the band
+         */
+        public double getAWeighting(int thirdOctaveId) {
+            return aWeighting[thirdOctaveId];
+        }
     }
 
     /**
@@ -257,6 +483,12 @@ public class FFTSignalProcessing {
         float globaldBaValue;
         long id;
 
+        /**
+         * Empty result, to be fed by {@link FFTSignalProcessing#processSample(WINDOW_TYPE, boolean, boolean, ProcessingResult)}
+         */
+        public ProcessingResult() {
+        }
+
         ProcessingResult(long id, float[] fftResult, float[] dBaLevels, float globaldBaValue) {
             this.fftResult = fftResult;
             this.dBaLevels = dBaLevels;
@@ -285,32 +517,32 @@ public class FFTSignalProcessing {
                     for(ProcessingResult merge : toMerge) {
                         if(merge != null) {
                             for (int i = 0; i < fftResult.length; i++) {
-                                fftResult[i] += Math.pow(10, merge.fftResult[i] / 10.);
+                                fftResult[i] += DecibelConversion.dBToEnergy(merge.fftResult[i]);
                             }
                         }
                     }
                     for(int i = 0; i < fftResult.length; i++) {
-                        fftResult[i] = (float)(10. * Math.log10(fftResult[i] / windowCount));
+                        fftResult[i] = (float)DecibelConversion.energyTodB(fftResult[i] / windowCount);
                     }
                 }
                 this.dBaLevels = new float[toMerge[toMerge.length - 1].dBaLevels.length];
                 for(ProcessingResult merge : toMerge) {
                     if(merge != null) {
                         for (int i = 0; i < dBaLevels.length; i++) {
-                            dBaLevels[i] += Math.pow(10, merge.dBaLevels[i] / 10.);
+                            dBaLevels[i] += DecibelConversion.dBToEnergy(merge.dBaLevels[i]);
                         }
                     }
                 }
                 for(int i = 0; i < dBaLevels.length; i++) {
-                    dBaLevels[i] = (float)(10. * Math.log10(dBaLevels[i] / windowCount));
+                    dBaLevels[i] = (float)DecibelConversion.energyTodB(dBaLevels[i] / windowCount);
                 }
                 double sum = 0;
                 for(ProcessingResult merge : toMerge) {
                     if(merge != null) {
-                        sum += Math.pow(10, merge.getGlobaldBaValue() / 10.);
+                        sum += DecibelConversion.dBToEnergy(merge.getGlobaldBaValue());
                     }
                 }
-                this.globaldBaValue = (float)(10. * Math.log10(sum / windowCount));
+                this.globaldBaValue = (float)DecibelConversion.energyTodB(sum / windowCount);
             }
         }
 
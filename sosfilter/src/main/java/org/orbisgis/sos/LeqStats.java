@@ -27,13 +27,15 @@
 
 package org.orbisgis.sos;
 
-import org.apache.commons.math3.stat.descriptive.rank.Percentile;
-
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.TreeMap;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Compute descriptive statistics on leq
@@ -43,17 +45,35 @@ public class LeqStats {
     private int rmsSumCount = 0;
     private double leqMin = Double.MAX_VALUE;
     private double leqMax = Double.MIN_VALUE;
-    // Sorted map of leq classes
-    private Map<Integer, AtomicInteger> leqClass = new TreeMap<>();
     private static final double DEFAULT_CLASS_STEP = 0.1;
+    private static final int SERIALIZATION_VERSION = 1;
+    // Range of the histogram, levels outside this range are counted in the first or last class
+    public static final double DEFAULT_MIN_LEQ = -30;
+    public static final double DEFAULT_MAX_LEQ = 200;
     private double classStep = DEFAULT_CLASS_STEP;
+    // Class index of the first histogram element
+    private int minClass;
+    // Number of leq in each class
+    private int[] leqClass;
 
 
     public LeqStats() {
+        this(DEFAULT_CLASS_STEP);
     }
 
     public LeqStats(double classStep) {
+        this(classStep, DEFAULT_MIN_LEQ, DEFAULT_MAX_LEQ);
+    }
+
+    /**
+     * @param classStep Histogram resolution [dB]
+     * @param minLeq Lowest level of the histogram [dB]
+     * @param maxLeq Highest level of the histogram [dB]
+     */
+    public LeqStats(double classStep, double minLeq, double maxLeq) {
         this.classStep = classStep;
+        minClass = (int)(minLeq / classStep);
+        leqClass = new int[(int)(maxLeq / classStep) - minClass + 1];
     }
 
     public LeqStats(LeqStats copyFrom) {
@@ -62,56 +82,74 @@ public class LeqStats {
         rmsSum = copyFrom.rmsSum;
         classStep = copyFrom.classStep;
         rmsSumCount = copyFrom.rmsSumCount;
-        leqClass = new TreeMap<>(copyFrom.leqClass);
+        minClass = copyFrom.minClass;
+        leqClass = copyFrom.leqClass.clone();
     }
 
     public void addLeq(double leq) {
         leqMin = Math.min(leqMin, leq);
         leqMax = Math.max(leqMax, leq);
-        rmsSum += Math.pow(10., leq / 10.);
-        int key = (int)(leq / classStep);
-        AtomicInteger leqCounter = leqClass.get(key);
-        if(leqCounter == null) {
-            leqCounter = new AtomicInteger(0);
-            leqClass.put(key, leqCounter);
-        }
-        leqCounter.addAndGet(1);
+        rmsSum += DecibelConversion.dBToEnergy(leq);
+        // Clamp the class before the offset, the cast of infinite levels saturates
+        long key = Math.max(minClass, Math.min(minClass + leqClass.length - 1, (long)(leq / classStep)));
+        leqClass[(int)(key - minClass)]++;
         rmsSumCount++;
     }
 
     /**
-     * Compute Leq stats using specified range.double[][] classRanges = ;
-     * @param laOccurrencesRanges Min-Max range ex: new double[][]{{Double.MIN_VALUE, 45}, {45, 55}, {55, 65}, {65, 75},{75, Double.MAX_VALUE}}
-     * @return LeqOccurrences instance
+     * @param idClass Histogram index
+     * @return Level of the class
      */
-    public LeqOccurrences computeLeqOccurrences(double[][] laOccurrencesRanges) {
-        // Compute invert sum of class occurrences
-        List<Double> classList = new ArrayList<>(leqClass.size());
-        List<Integer> classValue = new ArrayList<>(leqClass.size());
-        long sum = 0;
-        double[] values = new double[rmsSumCount];
-        int valCounter = 0;
-        for(Map.Entry<Integer, AtomicInteger> entry : leqClass.entrySet()) {
-            double leq = entry.getKey() * classStep;
-            classList.add(leq);
-            classValue.add(0, entry.getValue().get());
-            sum += entry.getValue().get();
-            for(int classValCount = 0; classValCount < entry.getValue().get(); classValCount++) {
-                values[valCounter++] = leq;
+    private double getClassLeq(int idClass) {
+        return (idClass + minClass) * classStep;
+    }
+
+    /**
+     * @param rank Rank of the leq in the sorted leq values, starting from 1
+     * @return Class level of the leq
+     */
+    private double getLeqAtRank(int rank) {
+        int count = 0;
+        for(int idClass = 0; idClass < leqClass.length; idClass++) {
+            count += leqClass[idClass];
+            if(count >= rank) {
+                return getClassLeq(idClass);
             }
         }
-        List<Double> sumClassValuePerc = new ArrayList<>(classValue.size());
-        double invSum = 0.;
-        for(int classVal : classValue) {
-            invSum += classVal / (double)sum;
-            sumClassValuePerc.add(0, invSum);
+        return getClassLeq(leqClass.length - 1);
+    }
+
+    /**
+     * Percentile with the same estimation than the default commons-math Percentile
+     * @param p Percentile (0-100]
+     * @return Estimated value
+     */
+    private double getPercentile(double p) {
+        if(rmsSumCount == 0) {
+            return Double.NaN;
+        }
+        double position = p * (rmsSumCount + 1) / 100;
+        double floorPosition = Math.floor(position);
+        if(position < 1) {
+            return getLeqAtRank(1);
+        } else if(position >= rmsSumCount) {
+            return getLeqAtRank(rmsSumCount);
         }
-        Percentile percentile = new Percentile();
-        percentile.setData(values);
+        double lower = getLeqAtRank((int)floorPosition);
+        double upper = getLeqAtRank((int)floorPosition + 1);
+        return lower + (position - floorPosition) * (upper - lower);
+    }
+
+    /**
+     * Compute Leq stats using specified range.
+     * @param laOccurrencesRanges Min-Max range ex: new double[][]{{Double.MIN_VALUE, 45}, {45, 55}, {55, 65}, {65, 75},{75, Double.MAX_VALUE}}
+     * @return LeqOccurrences instance
+     */
+    public LeqOccurrences computeLeqOccurrences(double[][] laOccurrencesRanges) {
         // Fetch level at each lae
-        double la10 = percentile.evaluate(100 - 10);
-        double la50 = percentile.evaluate(50);
-        double la90 = percentile.evaluate(100 - 90);
+        double la10 = getPercentile(100 - 10);
+        double la50 = getPercentile(50);
+        double la90 = getPercentile(100 - 90);
 
         // Sum percentage between provided laOccurrancesRanges
         List<Double> laOccurrencesRangesValue = new ArrayList<>();
@@ -119,17 +157,18 @@ public class LeqStats {
             for(double[] range : laOccurrencesRanges) {
                 double min = range[0];
                 double max = range[1];
-                double sumClass = 0;
-                for(int idClass = 0; idClass < sumClassValuePerc.size(); idClass++) {
-                    if(classList.get(idClass) >= min) {
-                        if(classList.get(idClass) < max) {
-                            sumClass += classValue.get(sumClassValuePerc.size() - 1 - idClass) / (double)sum;
+                long sumClass = 0;
+                for(int idClass = 0; idClass < leqClass.length; idClass++) {
+                    double classLeq = getClassLeq(idClass);
+                    if(classLeq >= min) {
+                        if(classLeq < max) {
+                            sumClass += leqClass[idClass];
                         } else {
                             break;
                         }
                     }
                 }
-                laOccurrencesRangesValue.add(sumClass);
+                laOccurrencesRangesValue.add(rmsSumCount > 0 ? sumClass / (double)rmsSumCount : 0);
             }
         }
 
@@ -146,12 +185,142 @@ public class LeqStats {
 
     public double getLeqMean() {
         if(rmsSumCount > 0) {
-            return 10 * Math.log10(rmsSum / rmsSumCount);
+            return DecibelConversion.energyTodB(rmsSum / rmsSumCount);
         } else {
             return 0;
         }
     }
 
+    /**
+     * @return Number of leq added
+     */
+    public int getLeqCount() {
+        return rmsSumCount;
+    }
+
+    /**
+     * Add the leq of another instance. The result is the same as adding all the leq into this instance.
+     * @param other Statistics with the same class step and range
+     */
+    public void merge(LeqStats other) {
+        if(Double.compare(classStep, other.classStep) != 0 || minClass != other.minClass ||
+                leqClass.length != other.leqClass.length) {
+            throw new IllegalArgumentException("Cannot merge statistics with different histogram classes");
+        }
+        if(other.rmsSumCount == 0) {
+            return;
+        }
+        leqMin = Math.min(leqMin, other.leqMin);
+        leqMax = Math.max(leqMax, other.leqMax);
+        rmsSum += other.rmsSum;
+        rmsSumCount += other.rmsSumCount;
+        for(int idClass = 0; idClass < leqClass.length; idClass++) {
+            leqClass[idClass] += other.leqClass[idClass];
+        }
+    }
+
+    /**
+     * Write the statistics. Only the non-empty part of the histogram is written, with variable length counts.
+     * @param out Output
+     * @throws IOException
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        int firstClass = 0;
+        while(firstClass < leqClass.length && leqClass[firstClass] == 0) {
+            firstClass++;
+        }
+        int lastClass = leqClass.length - 1;
+        while(lastClass >= firstClass && leqClass[lastClass] == 0) {
+            lastClass--;
+        }
+        out.writeByte(SERIALIZATION_VERSION);
+        out.writeDouble(classStep);
+        out.writeInt(minClass);
+        out.writeInt(leqClass.length);
+        out.writeDouble(rmsSum);
+        out.writeInt(rmsSumCount);
+        out.writeDouble(leqMin);
+        out.writeDouble(leqMax);
+        out.writeInt(firstClass);
+        out.writeInt(lastClass - firstClass + 1);
+        for(int idClass = firstClass; idClass <= lastClass; idClass++) {
+            writeVarInt(out, leqClass[idClass]);
+        }
+    }
+
+    /**
+     * Read statistics written by {@link #writeTo(DataOutput)}
+     * @param in Input
+     * @return New instance
+     * @throws IOException
+     */
+    public static LeqStats readFrom(DataInput in) throws IOException {
+        int version = in.readUnsignedByte();
+        if(version != SERIALIZATION_VERSION) {
+            throw new IOException("Unsupported LeqStats version " + version);
+        }
+        LeqStats leqStats = new LeqStats();
+        leqStats.classStep = in.readDouble();
+        leqStats.minClass = in.readInt();
+        leqStats.leqClass = new int[in.readInt()];
+        leqStats.rmsSum = in.readDouble();
+        leqStats.rmsSumCount = in.readInt();
+        leqStats.leqMin = in.readDouble();
+        leqStats.leqMax = in.readDouble();
+        int firstClass = in.readInt();
+        int classCount = in.readInt();
+        if(firstClass < 0 || classCount < 0 || firstClass + classCount > leqStats.leqClass.length) {
+            throw new IOException("Invalid LeqStats histogram range");
+        }
+        for(int idClass = firstClass; idClass < firstClass + classCount; idClass++) {
+            leqStats.leqClass[idClass] = readVarInt(in);
+        }
+        return leqStats;
+    }
+
+    /**
+     * @return Statistics serialized with {@link #writeTo(DataOutput)}
+     */
+    public byte[] toByteArray() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try {
+            writeTo(new DataOutputStream(outputStream));
+        } catch (IOException ex) {
+            // Not thrown by ByteArrayOutputStream
+            throw new IllegalStateException(ex);
+        }
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * @param data Statistics serialized with {@link #toByteArray()}
+     * @return New instance
+     * @throws IOException
+     */
+    public static LeqStats fromByteArray(byte[] data) throws IOException {
+        return readFrom(new DataInputStream(new ByteArrayInputStream(data)));
+    }
+
+    private static void writeVarInt(DataOutput out, int value) throws IOException {
+        while((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        for(int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Invalid variable length integer");
+    }
+
     public static class LeqOccurrences {
         private final double la10;
         private final double la50;
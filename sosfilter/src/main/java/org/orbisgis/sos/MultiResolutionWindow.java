@@ -0,0 +1,343 @@
+/*
+ * This file is part of the NoiseCapture application and OnoMap system.
+ *
+ * The 'OnoMaP' system is led by Lab-STICC and Ifsttar and generates noise maps via
+ * citizen-contributed noise data.
+ *
+ * This application is co-funded by the ENERGIC-OD Project (European Network for
+ * Redistributing Geospatial Information to user Communities - Open Data). ENERGIC-OD
+ * (http://www.energic-od.eu/) is partially funded under the ICT Policy Support Programme (ICT
+ * PSP) as part of the Competitiveness and Innovation Framework Programme by the European
+ * Community. The application work is also supported by the French geographic portal GEOPAL of the
+ * Pays de la Loire region (http://www.geopal.org).
+ *
+ * Copyright (C) IFSTTAR - LAE and Lab-STICC – CNRS UMR 6285 Equipe DECIDE Vannes
+ *
+ * NoiseCapture is a free software; you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation; either version 3 of
+ * the License, or(at your option) any later version. NoiseCapture is distributed in the hope that
+ * it will be useful,but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for
+ * more details.You should have received a copy of the GNU General Public License along with this
+ * program; if not, write to the Free Software Foundation,Inc., 51 Franklin Street, Fifth Floor,
+ * Boston, MA 02110-1301  USA or see For more information,  write to Ifsttar,
+ * 14-20 Boulevard Newton Cite Descartes, Champs sur Marne F-77447 Marne la Vallee Cedex 2 FRANCE
+ *  or write to scientific.computing@ifsttar.fr
+ */
+
+package org.orbisgis.sos;
+
+import java.util.Arrays;
+
+/**
+ * Compute fast and slow periods levels from the same audio stream.
+ * By default the slow period levels are the energetic average of the fast period spectra, so only
+ * one FFT is done for both periods. The exact mode compute the slow period with its own FFT
+ * in order to keep the frequency resolution of the slow window.
+ * The A-weighting is applied on the continuous audio stream, before the windows, so there is no
+ * filter transient at the beginning of each window.
+ */
+public class MultiResolutionWindow {
+    private final Window fastWindow;
+    // Only in exact mode
+    private final Window slowWindow;
+    private final boolean exactSlowWindow;
+    private boolean fastWindowEnabled = true;
+    private boolean aWeighting;
+    private final AWeighting aWeightingFilter;
+    private ProcessingTimings processingTimings = null;
+    private double[] weightingBuffer = new double[0];
+    private float[] weightedSamples = new float[0];
+    // Number of fast windows in a slow window
+    private final int fastWindowCount;
+    // Slow period energy accumulators
+    private final double[] slowLevelsEnergy;
+    private double[] slowSpectrumEnergy;
+    private double slowGlobalEnergy;
+    private int slowAccumulatedWindows = 0;
+    // Energy of the last fast windows, for the moving slow leq
+    private final double[] lastFastGlobalEnergy;
+    private int lastFastGlobalCursor = 0;
+    private int lastFastGlobalCount = 0;
+    // Results
+    private int fastWindowIndex = 0;
+    private int slowWindowIndex = 0;
+    private int lastFastWindowIndex = 0;
+    private int lastSlowWindowIndex = 0;
+    private FFTSignalProcessing.ProcessingResult lastFastResult;
+    private FFTSignalProcessing.ProcessingResult lastSlowResult;
+
+    /**
+     * @param fastWindowType Fast window type, also used for the slow period if not in exact mode
+     * @param slowWindowType Slow window type, only used in exact mode
+     * @param samplingRate Sampling rate
+     * @param standardFrequencies Third octave center frequencies
+     * @param fastWindowTime Fast period (s) ex: {@link AcousticIndicators#TIMEPERIOD_FAST}
+     * @param slowWindowTime Slow period (s) ex: {@link AcousticIndicators#TIMEPERIOD_SLOW}
+     * @param aWeighting Apply A weighting
+     * @param dbFsReference dB FS reference
+     * @param exactSlowWindow True to compute the slow period with its own FFT
+     */
+    public MultiResolutionWindow(FFTSignalProcessing.WINDOW_TYPE fastWindowType,
+                                 FFTSignalProcessing.WINDOW_TYPE slowWindowType, int samplingRate,
+                                 double[] standardFrequencies, double fastWindowTime,
+                                 double slowWindowTime, boolean aWeighting, double dbFsReference,
+                                 boolean exactSlowWindow) {
+        this.exactSlowWindow = exactSlowWindow;
+        this.aWeighting = aWeighting;
+        this.aWeightingFilter = new AWeighting(samplingRate);
+        this.fastWindow = new Window(fastWindowType, samplingRate, standardFrequencies, fastWindowTime,
+                false, dbFsReference, true);
+        if(exactSlowWindow) {
+            this.slowWindow = new Window(slowWindowType, samplingRate, standardFrequencies,
+                    slowWindowTime, false, dbFsReference, false);
+        } else {
+            this.slowWindow = null;
+        }
+        this.fastWindowCount = Math.max(1, (int)Math.round(slowWindowTime / fastWindowTime));
+        this.slowLevelsEnergy = new double[standardFrequencies.length];
+        this.lastFastGlobalEnergy = new double[fastWindowCount];
+    }
+
+    /**
+     * @return True if the slow period is computed with its own FFT
+     */
+    public boolean isExactSlowWindow() {
+        return exactSlowWindow;
+    }
+
+    /**
+     * @param fastWindowEnabled False to skip the fast window processing. Only available in exact
+     *                          mode, the fast window is always processed otherwise.
+     */
+    public void setFastWindowEnabled(boolean fastWindowEnabled) {
+        this.fastWindowEnabled = fastWindowEnabled;
+    }
+
+    public boolean isFastWindowEnabled() {
+        return fastWindowEnabled || !exactSlowWindow;
+    }
+
+    public void setaWeighting(boolean aWeighting) {
+        if(aWeighting && !this.aWeighting) {
+            aWeightingFilter.reset();
+        }
+        this.aWeighting = aWeighting;
+    }
+
+    public boolean isAWeighting() {
+        return aWeighting;
+    }
+
+    /**
+     * @param processingTimings Record the duration of the A-weighting and of the FFT processing stages
+     *                          of the fast and slow windows, null to disable
+     */
+    public void setProcessingTimings(ProcessingTimings processingTimings) {
+        this.processingTimings = processingTimings;
+        fastWindow.setProcessingTimings(processingTimings);
+        if(slowWindow != null) {
+            slowWindow.setProcessingTimings(processingTimings);
+        }
+    }
+
+    public FFTSignalProcessing.WINDOW_TYPE getFastWindowType() {
+        return fastWindow.getWindowType();
+    }
+
+    /**
+     * @return Slow window type, the fast window type if not in exact mode
+     */
+    public FFTSignalProcessing.WINDOW_TYPE getSlowWindowType() {
+        return slowWindow != null ? slowWindow.getWindowType() : fastWindow.getWindowType();
+    }
+
+    public double getFastWindowTime() {
+        return fastWindow.getWindowTime();
+    }
+
+    /**
+     * @return Slow period (s). Not in exact mode this is the duration of the aggregated fast windows.
+     */
+    public double getSlowWindowTime() {
+        return slowWindow != null ? slowWindow.getWindowTime() : fastWindow.getWindowTime() * fastWindowCount;
+    }
+
+    /**
+     * @return Fast result index, incremented each time a fast result is available
+     */
+    public int getFastWindowIndex() {
+        return fastWindowIndex;
+    }
+
+    /**
+     * @return Slow result index, incremented each time a slow result is available
+     */
+    public int getSlowWindowIndex() {
+        return slowWindowIndex;
+    }
+
+    /**
+     * @return Last fast period result, null if not available
+     */
+    public FFTSignalProcessing.ProcessingResult getLastFastResult() {
+        return lastFastResult;
+    }
+
+    /**
+     * @return Last slow period result, null if not available
+     */
+    public FFTSignalProcessing.ProcessingResult getLastSlowResult() {
+        return lastSlowResult;
+    }
+
+    /**
+     * @return Equivalent level of the last slow period, computed from the last fast windows
+     * (or the last pushed samples in exact mode)
+     */
+    public double computeSlowLeq() {
+        if(slowWindow != null) {
+            return slowWindow.computeWindowLeq();
+        }
+        if(lastFastGlobalCount == 0) {
+            return 0;
+        }
+        double sum = 0;
+        for(int i = 0; i < lastFastGlobalCount; i++) {
+            sum += lastFastGlobalEnergy[i];
+        }
+        return DecibelConversion.energyTodB(sum / lastFastGlobalCount);
+    }
+
+    /**
+     * Push samples up to the end of the next window. The caller has to read the results when
+     * {@link #getFastWindowIndex()} or {@link #getSlowWindowIndex()} change, then push the
+     * remaining samples.
+     * @param buffer Audio signal
+     * @param from Index of the first sample to push
+     * @param length Number of samples available from the index
+     * @return Number of pushed samples, may be less than length
+     */
+    public int pushSample(short[] buffer, int from, int length) {
+        final boolean processFast = isFastWindowEnabled();
+        int toPush = length;
+        if(processFast) {
+            toPush = Math.min(toPush, fastWindow.getMaximalBufferSize());
+        }
+        if(slowWindow != null) {
+            toPush = Math.min(toPush, slowWindow.getMaximalBufferSize());
+        }
+        // The weighted signal is kept in float, rounding it to 16 bits would add noise and clipping
+        float[] weighted = null;
+        if(aWeighting) {
+            final ProcessingTimings timings = processingTimings;
+            final long start = timings != null ? System.nanoTime() : 0;
+            weighted = weightSamples(buffer, from, toPush);
+            if(timings != null) {
+                timings.record(ProcessingTimings.STAGE.A_WEIGHTING, System.nanoTime() - start);
+            }
+        }
+        if(slowWindow != null) {
+            if(weighted != null) {
+                slowWindow.pushSample(weighted, 0, toPush);
+            } else {
+                slowWindow.pushSample(buffer, from, toPush);
+            }
+            if(slowWindow.getWindowIndex() != lastSlowWindowIndex) {
+                lastSlowWindowIndex = slowWindow.getWindowIndex();
+                lastSlowResult = slowWindow.getLastWindowMean();
+                slowWindow.cleanWindows();
+                slowWindowIndex++;
+            }
+        }
+        if(processFast) {
+            if(weighted != null) {
+                fastWindow.pushSample(weighted, 0, toPush);
+            } else {
+                fastWindow.pushSample(buffer, from, toPush);
+            }
+            if(fastWindow.getWindowIndex() != lastFastWindowIndex) {
+                lastFastWindowIndex = fastWindow.getWindowIndex();
+                lastFastResult = fastWindow.getLastWindowMean();
+                fastWindow.cleanWindows();
+                fastWindowIndex++;
+                onFastResult(lastFastResult);
+            }
+        }
+        return toPush;
+    }
+
+    /**
+     * A-weighting of the samples, the filter state is kept for the next samples
+     * @return Weighted samples, from index 0
+     */
+    private float[] weightSamples(short[] buffer, int from, int length) {
+        if(weightingBuffer.length < length) {
+            weightingBuffer = new double[length];
+            weightedSamples = new float[length];
+        }
+        for(int i = 0; i < length; i++) {
+            weightingBuffer[i] = buffer[from + i];
+        }
+        // Filter delays are kept in double, the low frequency poles are too close to 1 for float
+        aWeightingFilter.filter(weightingBuffer, 0, length);
+        for(int i = 0; i < length; i++) {
+            weightedSamples[i] = (float) weightingBuffer[i];
+        }
+        return weightedSamples;
+    }
+
+    /**
+     * Accumulate the fast result energy
+     */
+    private void onFastResult(FFTSignalProcessing.ProcessingResult result) {
+        final double globalEnergy = DecibelConversion.dBToEnergy(result.getGlobaldBaValue());
+        lastFastGlobalEnergy[lastFastGlobalCursor] = globalEnergy;
+        lastFastGlobalCursor = (lastFastGlobalCursor + 1) % lastFastGlobalEnergy.length;
+        lastFastGlobalCount = Math.min(lastFastGlobalCount + 1, lastFastGlobalEnergy.length);
+        if(exactSlowWindow) {
+            return;
+        }
+        final float[] levels = result.getdBaLevels();
+        for(int i = 0; i < slowLevelsEnergy.length; i++) {
+            slowLevelsEnergy[i] += DecibelConversion.dBToEnergy(levels[i]);
+        }
+        final float[] spectrum = result.getFftResult();
+        if(spectrum != null) {
+            if(slowSpectrumEnergy == null) {
+                slowSpectrumEnergy = new double[spectrum.length];
+            }
+            for(int i = 0; i < slowSpectrumEnergy.length; i++) {
+                slowSpectrumEnergy[i] += DecibelConversion.dBToEnergy(spectrum[i]);
+            }
+        }
+        slowGlobalEnergy += globalEnergy;
+        slowAccumulatedWindows++;
+        if(slowAccumulatedWindows == fastWindowCount) {
+            float[] slowLevels = new float[slowLevelsEnergy.length];
+            for(int i = 0; i < slowLevels.length; i++) {
+                slowLevels[i] = (float)DecibelConversion.energyTodB(slowLevelsEnergy[i] / fastWindowCount);
+            }
+            float[] slowSpectrum = null;
+            if(slowSpectrumEnergy != null) {
+                slowSpectrum = new float[slowSpectrumEnergy.length];
+                for(int i = 0; i < slowSpectrum.length; i++) {
+                    slowSpectrum[i] = (float)DecibelConversion.energyTodB(slowSpectrumEnergy[i] / fastWindowCount);
+                }
+            }
+            lastSlowResult = new FFTSignalProcessing.ProcessingResult(result.getId(), slowSpectrum,
+                    slowLevels, (float)DecibelConversion.energyTodB(slowGlobalEnergy / fastWindowCount));
+            slowWindowIndex++;
+            clearSlowAccumulators();
+        }
+    }
+
+    private void clearSlowAccumulators() {
+        Arrays.fill(slowLevelsEnergy, 0);
+        if(slowSpectrumEnergy != null) {
+            Arrays.fill(slowSpectrumEnergy, 0);
+        }
+        slowGlobalEnergy = 0;
+        slowAccumulatedWindows = 0;
+    }
+}
@@ -0,0 +1,321 @@
+/*
+ * This file is part of the NoiseCapture application and OnoMap system.
+ *
+ * The 'OnoMaP' system is led by Lab-STICC and Ifsttar and generates noise maps via
+ * citizen-contributed noise data.
+ *
+ * This application is co-funded by the ENERGIC-OD Project (European Network for
+ * Redistributing Geospatial Information to user Communities - Open Data). ENERGIC-OD
+ * (http://www.energic-od.eu/) is partially funded under the ICT Policy Support Programme (ICT
+ * PSP) as part of the Competitiveness and Innovation Framework Programme by the European
+ * Community. The application work is also supported by the French geographic portal GEOPAL of the
+ * Pays de la Loire region (http://www.geopal.org).
+ *
+ * Copyright (C) IFSTTAR - LAE and Lab-STICC – CNRS UMR 6285 Equipe DECIDE Vannes
+ *
+ * NoiseCapture is a free software; you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation; either version 3 of
+ * the License, or(at your option) any later version. NoiseCapture is distributed in the hope that
+ * it will be useful,but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for
+ * more details.You should have received a copy of the GNU General Public License along with this
+ * program; if not, write to the Free Software Foundation,Inc., 51 Franklin Street, Fifth Floor,
+ * Boston, MA 02110-1301  USA or see For more information,  write to Ifsttar,
+ * 14-20 Boulevard Newton Cite Descartes, Champs sur Marne F-77447 Marne la Vallee Cedex 2 FRANCE
+ *  or write to scientific.computing@ifsttar.fr
+ */
+
+package org.orbisgis.sos;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Offline third octave analysis of 16 bits PCM files.
+ * The file is memory mapped and split into segments processed in parallel with the causal streaming
+ * mode of {@link SOSSignalProcessing}. Each segment starts with a warm-up on the previous samples in
+ * order to settle the filters states.
+ */
+public class OfflineAudioAnalysis {
+    public static final double DEFAULT_SEGMENT_DURATION = 60;
+    public static final double DEFAULT_WARMUP_DURATION = 2;
+    private static final int BLOCK_SIZE = 4096;
+    // Warm-up start is aligned on this number of samples, so the decimation of the lower
+    // octaves keeps the same samples as the continuous stream
+    private static final long WARMUP_ALIGNMENT = 1024;
+    private static final int WAVE_FORMAT_PCM = 1;
+    private static final int WAVE_FORMAT_EXTENSIBLE = 0xFFFE;
+
+    private final ThirdOctaveBandsFiltering.FREQUENCY_BANDS frequencyBands;
+    private boolean aWeighting = true;
+    private double leqPeriod = AcousticIndicators.TIMEPERIOD_SLOW;
+    private double segmentDuration = DEFAULT_SEGMENT_DURATION;
+    private double warmupDuration = DEFAULT_WARMUP_DURATION;
+    private double refSoundPressure = 1;
+
+    public OfflineAudioAnalysis(ThirdOctaveBandsFiltering.FREQUENCY_BANDS frequencyBands) {
+        this.frequencyBands = frequencyBands;
+    }
+
+    public boolean isAWeighting() {
+        return aWeighting;
+    }
+
+    public void setAWeighting(boolean aWeighting) {
+        this.aWeighting = aWeighting;
+    }
+
+    public double getLeqPeriod() {
+        return leqPeriod;
+    }
+
+    /**
+     * @param leqPeriod time period over which the equivalent sound pressure level is computed over [s]
+     */
+    public void setLeqPeriod(double leqPeriod) {
+        this.leqPeriod = leqPeriod;
+    }
+
+    public double getSegmentDuration() {
+        return segmentDuration;
+    }
+
+    /**
+     * @param segmentDuration Duration [s] of the file parts processed by each task
+     */
+    public void setSegmentDuration(double segmentDuration) {
+        this.segmentDuration = segmentDuration;
+    }
+
+    public double getWarmupDuration() {
+        return warmupDuration;
+    }
+
+    /**
+     * @param warmupDuration Duration [s] of the signal processed before each segment in order to settle filters
+     */
+    public void setWarmupDuration(double warmupDuration) {
+        this.warmupDuration = warmupDuration;
+    }
+
+    public double getRefSoundPressure() {
+        return refSoundPressure;
+    }
+
+    public void setRefSoundPressure(double refSoundPressure) {
+        this.refSoundPressure = refSoundPressure;
+    }
+
+    /**
+     * Process a WAV file, 16 bits PCM. Only the first channel is processed.
+     * @param file WAV file
+     * @param pool Pool of processing threads
+     * @return Equivalent sound pressure levels [period][frequency band]. An incomplete last period is not returned
+     * @throws IOException
+     */
+    public double[][] processWav(File file, ForkJoinPool pool) throws IOException {
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+        try {
+            FileChannel channel = randomAccessFile.getChannel();
+            ByteBuffer header = ByteBuffer.allocate(12).order(ByteOrder.LITTLE_ENDIAN);
+            readFully(channel, header, 0);
+            if(header.getInt(0) != 0x46464952 || header.getInt(8) != 0x45564157) {
+                throw new IOException("Not a RIFF WAVE file");
+            }
+            long position = 12;
+            int channels = 0;
+            int samplingRate = 0;
+            ByteBuffer chunkHeader = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+            while (position + 8 <= channel.size()) {
+                chunkHeader.clear();
+                readFully(channel, chunkHeader, position);
+                int chunkId = chunkHeader.getInt(0);
+                long chunkSize = chunkHeader.getInt(4) & 0xFFFFFFFFL;
+                position += 8;
+                if (chunkId == 0x20746d66) {
+                    // fmt chunk
+                    ByteBuffer format = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN);
+                    readFully(channel, format, position);
+                    int audioFormat = format.getShort(0) & 0xFFFF;
+                    channels = format.getShort(2);
+                    samplingRate = format.getInt(4);
+                    int bitsPerSample = format.getShort(14);
+                    if ((audioFormat != WAVE_FORMAT_PCM && audioFormat != WAVE_FORMAT_EXTENSIBLE) || bitsPerSample != 16) {
+                        throw new IOException("Unsupported WAV format, expected 16 bits PCM");
+                    }
+                } else if (chunkId == 0x61746164) {
+                    // data chunk
+                    if (channels == 0) {
+                        throw new IOException("WAV data chunk before fmt chunk");
+                    }
+                    // Size may not be set if the file has been written as a stream
+                    long dataLength = Math.min(chunkSize, channel.size() - position);
+                    if(chunkSize == 0) {
+                        dataLength = channel.size() - position;
+                    }
+                    return process(channel, position, dataLength, samplingRate, channels,
+                            ByteOrder.LITTLE_ENDIAN, pool);
+                }
+                // Chunks are word aligned
+                position += chunkSize + (chunkSize % 2);
+            }
+            throw new IOException("No data chunk in WAV file");
+        } finally {
+            randomAccessFile.close();
+        }
+    }
+
+    /**
+     * Process a raw mono 16 bits PCM file
+     * @param file PCM file
+     * @param samplingRate Sampling rate [Hz]
+     * @param byteOrder Samples byte order
+     * @param pool Pool of processing threads
+     * @return Equivalent sound pressure levels [period][frequency band]. An incomplete last period is not returned
+     * @throws IOException
+     */
+    public double[][] processRawPcm(File file, int samplingRate, ByteOrder byteOrder, ForkJoinPool pool) throws IOException {
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+        try {
+            FileChannel channel = randomAccessFile.getChannel();
+            return process(channel, 0, channel.size(), samplingRate, 1, byteOrder, pool);
+        } finally {
+            randomAccessFile.close();
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if(read < 0) {
+                throw new IOException("Unexpected end of file");
+            }
+        }
+    }
+
+    private double[][] process(FileChannel channel, long dataOffset, long dataLength, int samplingRate,
+                               int channels, ByteOrder byteOrder, ForkJoinPool pool) throws IOException {
+        final int frameSize = 2 * channels;
+        final int periodLength = (int)(leqPeriod * samplingRate);
+        final long sampleCount = dataLength / frameSize;
+        final int periodCount = (int)(sampleCount / periodLength);
+        final int periodsPerSegment = Math.max(1, (int)Math.round(segmentDuration / leqPeriod));
+        final int segmentCount = (periodCount + periodsPerSegment - 1) / periodsPerSegment;
+        double[][] leqs = new double[periodCount][];
+        if(periodCount > 0) {
+            SegmentTask task = new SegmentTask(this, channel, dataOffset, samplingRate, channels, byteOrder,
+                    periodLength, periodsPerSegment, leqs, 0, segmentCount);
+            pool.invoke(task);
+            if(task.getError() != null) {
+                throw task.getError();
+            }
+        }
+        return leqs;
+    }
+
+    /**
+     * Process a range of segments, split the range until there is only one segment
+     */
+    private static final class SegmentTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final OfflineAudioAnalysis analysis;
+        private final FileChannel channel;
+        private final long dataOffset;
+        private final int samplingRate;
+        private final int channels;
+        private final ByteOrder byteOrder;
+        private final int periodLength;
+        private final int periodsPerSegment;
+        private final double[][] leqs;
+        private final int firstSegment;
+        private final int lastSegment;
+        private IOException error;
+
+        SegmentTask(OfflineAudioAnalysis analysis, FileChannel channel, long dataOffset, int samplingRate,
+                    int channels, ByteOrder byteOrder, int periodLength, int periodsPerSegment,
+                    double[][] leqs, int firstSegment, int lastSegment) {
+            this.analysis = analysis;
+            this.channel = channel;
+            this.dataOffset = dataOffset;
+            this.samplingRate = samplingRate;
+            this.channels = channels;
+            this.byteOrder = byteOrder;
+            this.periodLength = periodLength;
+            this.periodsPerSegment = periodsPerSegment;
+            this.leqs = leqs;
+            this.firstSegment = firstSegment;
+            this.lastSegment = lastSegment;
+        }
+
+        IOException getError() {
+            return error;
+        }
+
+        @Override
+        protected void compute() {
+            if(lastSegment - firstSegment > 1) {
+                int middle = (firstSegment + lastSegment) >>> 1;
+                SegmentTask left = new SegmentTask(analysis, channel, dataOffset, samplingRate, channels,
+                        byteOrder, periodLength, periodsPerSegment, leqs, firstSegment, middle);
+                SegmentTask right = new SegmentTask(analysis, channel, dataOffset, samplingRate, channels,
+                        byteOrder, periodLength, periodsPerSegment, leqs, middle, lastSegment);
+                invokeAll(left, right);
+                error = left.getError() != null ? left.getError() : right.getError();
+            } else {
+                try {
+                    processSegment(firstSegment);
+                } catch (IOException ex) {
+                    error = ex;
+                }
+            }
+        }
+
+        private void processSegment(int segment) throws IOException {
+            final int firstPeriod = segment * periodsPerSegment;
+            final int lastPeriod = Math.min(leqs.length, firstPeriod + periodsPerSegment);
+            final long segmentStart = (long)firstPeriod * periodLength;
+            final long warmupStart = Math.max(0, segmentStart - (long)(analysis.warmupDuration * samplingRate))
+                    / WARMUP_ALIGNMENT * WARMUP_ALIGNMENT;
+            final long segmentEnd = (long)lastPeriod * periodLength;
+            final int frameSize = 2 * channels;
+            MappedByteBuffer mappedBuffer = channel.map(FileChannel.MapMode.READ_ONLY,
+                    dataOffset + warmupStart * frameSize, (segmentEnd - warmupStart) * frameSize);
+            mappedBuffer.order(byteOrder);
+            SOSSignalProcessing signalProcessing = new SOSSignalProcessing(samplingRate, analysis.frequencyBands);
+            signalProcessing.setAweighting(analysis.aWeighting);
+            double[] block = new double[BLOCK_SIZE];
+            long sampleIndex = warmupStart;
+            int period = firstPeriod;
+            while (sampleIndex < segmentEnd) {
+                // Stop the block at the end of warm-up or at the end of the period
+                long blockEnd;
+                if(sampleIndex < segmentStart) {
+                    blockEnd = segmentStart;
+                } else {
+                    blockEnd = segmentStart + (long)(period - firstPeriod + 1) * periodLength;
+                }
+                int length = (int)Math.min(BLOCK_SIZE, blockEnd - sampleIndex);
+                int bytePosition = (int)((sampleIndex - warmupStart) * frameSize);
+                for(int i = 0; i < length; i++) {
+                    block[i] = mappedBuffer.getShort(bytePosition + i * frameSize);
+                }
+                signalProcessing.addStreamSample(block, 0, length);
+                sampleIndex += length;
+                if(sampleIndex == segmentStart) {
+                    // End of warm-up
+                    signalProcessing.clearStreamLeq();
+                } else if(sampleIndex == blockEnd) {
+                    leqs[period++] = signalProcessing.computeStreamLeq(analysis.refSoundPressure);
+                    signalProcessing.clearStreamLeq();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * This file is part of the NoiseCapture application and OnoMap system.
+ *
+ * The 'OnoMaP' system is led by Lab-STICC and Ifsttar and generates noise maps via
+ * citizen-contributed noise data.
+ *
+ * This application is co-funded by the ENERGIC-OD Project (European Network for
+ * Redistributing Geospatial Information to user Communities - Open Data). ENERGIC-OD
+ * (http://www.energic-od.eu/) is partially funded under the ICT Policy Support Programme (ICT
+ * PSP) as part of the Competitiveness and Innovation Framework Programme by the European
+ * Community. The application work is also supported by the French geographic portal GEOPAL of the
+ * Pays de la Loire region (http://www.geopal.org).
+ *
+ * Copyright (C) IFSTTAR - LAE and Lab-STICC – CNRS UMR 6285 Equipe DECIDE Vannes
+ *
+ * NoiseCapture is a free software; you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation; either version 3 of
+ * the License, or(at your option) any later version. NoiseCapture is distributed in the hope that
+ * it will be useful,but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for
+ * more details.You should have received a copy of the GNU General Public License along with this
+ * program; if not, write to the Free Software Foundation,Inc., 51 Franklin Street, Fifth Floor,
+ * Boston, MA 02110-1301  USA or see For more information,  write to Ifsttar,
+ * 14-20 Boulevard Newton Cite Descartes, Champs sur Marne F-77447 Marne la Vallee Cedex 2 FRANCE
+ *  or write to scientific.computing@ifsttar.fr
+ */
+
+package org.orbisgis.sos;
+
+/**
+ * Duration of each stage of the FFT processing, see
+ * {@link FFTSignalProcessing#setProcessingTimings(ProcessingTimings)}
+ */
+public class ProcessingTimings {
+    public enum STAGE {A_WEIGHTING, WINDOWING, FFT, BAND_AGGREGATION}
+
+    private final TimingHistogram[] stages = new TimingHistogram[STAGE.values().length];
+
+    public ProcessingTimings() {
+        for(int i = 0; i < stages.length; i++) {
+            stages[i] = new TimingHistogram();
+        }
+    }
+
+    /**
+     * @param stage Processing stage
+     * @param nanos Duration [ns]
+     */
+    public void record(STAGE stage, long nanos) {
+        stages[stage.ordinal()].record(nanos);
+    }
+
+    /**
+     * @param stage Processing stage
+     * @return Histogram of the stage, updated by the processing thread
+     */
+    public TimingHistogram getStage(STAGE stage) {
+        return stages[stage.ordinal()];
+    }
+
+    public void clear() {
+        for(TimingHistogram stage : stages) {
+            stage.clear();
+        }
+    }
+}
@@ -46,20 +46,31 @@ import java.util.Random;
  */
 public class SOSSignalProcessing {
 
+    public static final int MIN_SAMPLING_RATE = 8000;
     public final int samplingRate;
     private double[] sampleBuffer;
     private ThirdOctaveBandsFiltering.FREQUENCY_BANDS frequencyBands;
     double[] standardFrequencies;
     boolean Aweighting = true;
+    // Causal streaming mode, filter states are kept between calls
+    private final AWeighting streamAWeighting;
+    private ThirdOctaveBandsFiltering.MultirateFilterBank streamFilterBank;
+    private double[] streamBuffer = new double[0];
 
+    /**
+     * @param samplingRate Sampling rate [Hz], the filters coefficients are computed for other rates than 44100 Hz
+     * @param frequencyBands Frequency bands, only the bands below the Nyquist frequency are computed
+     */
     public SOSSignalProcessing(int samplingRate, ThirdOctaveBandsFiltering.FREQUENCY_BANDS frequencyBands) {
         this.frequencyBands = frequencyBands;
-        if (samplingRate != 44100) {
-            throw new IllegalArgumentException("Illegal sampling rate: expected 44100Hz, got " + samplingRate + "Hz");
+        if (samplingRate < MIN_SAMPLING_RATE) {
+            throw new IllegalArgumentException("Illegal sampling rate: expected at least " + MIN_SAMPLING_RATE +
+                    "Hz, got " + samplingRate + "Hz");
         }
         this.samplingRate = samplingRate;
+        this.streamAWeighting = new AWeighting(samplingRate);
         this.sampleBuffer = new double[(int) (samplingRate * ThirdOctaveBandsFiltering.getSampleBufferDuration(frequencyBands))];
-        this.standardFrequencies = ThirdOctaveBandsFiltering.getStandardFrequencies(frequencyBands);
+        this.standardFrequencies = ThirdOctaveBandsFiltering.getStandardFrequencies(frequencyBands, samplingRate);
         Arrays.fill(sampleBuffer, 0);
     }
 
@@ -97,10 +108,71 @@ public class SOSSignalProcessing {
      * @param sample audio sample
      */
     public void addSample(double[] sample) {
-        double[] newBuffer = new double[sampleBuffer.length];
-        System.arraycopy(sampleBuffer, sample.length, newBuffer, 0 , sampleBuffer.length - sample.length);
-        System.arraycopy(sample, 0 , newBuffer, sampleBuffer.length - sample.length ,sample.length);
-        sampleBuffer = newBuffer;
+        // In place shift of the previous samples
+        System.arraycopy(sampleBuffer, sample.length, sampleBuffer, 0 , sampleBuffer.length - sample.length);
+        System.arraycopy(sample, 0 , sampleBuffer, sampleBuffer.length - sample.length ,sample.length);
+    }
+
+    private ThirdOctaveBandsFiltering.MultirateFilterBank getStreamFilterBank() {
+        if(streamFilterBank == null) {
+            streamFilterBank = new ThirdOctaveBandsFiltering(samplingRate, frequencyBands).createMultirateFilterBank();
+        }
+        return streamFilterBank;
+    }
+
+    /**
+     * Causal streaming mode. A-weighting and third octave bands filtering of the samples, each sample
+     * is filtered only once as the filter states are kept between calls. The energy of each band is
+     * accumulated until {@link #clearStreamLeq()}.
+     * @param samples time signal
+     * @param from First sample index, inclusive
+     * @param to Last sample index, exclusive
+     */
+    public void addStreamSample(double[] samples, int from, int to) {
+        ThirdOctaveBandsFiltering.MultirateFilterBank filterBank = getStreamFilterBank();
+        if(isAweighting()) {
+            int length = to - from;
+            if(streamBuffer.length < length) {
+                streamBuffer = new double[length];
+            }
+            System.arraycopy(samples, from, streamBuffer, 0, length);
+            streamAWeighting.filter(streamBuffer, 0, length);
+            filterBank.filter(streamBuffer, 0, length);
+        } else {
+            filterBank.filter(samples, from, to);
+        }
+    }
+
+    /**
+     * @return Number of samples pushed with {@link #addStreamSample(double[], int, int)} since the last
+     * call to {@link #clearStreamLeq()}
+     */
+    public long getStreamSampleCount() {
+        return getStreamFilterBank().getSampleCount();
+    }
+
+    /**
+     * Calculation of the equivalent sound pressure level per third octave bands of the samples pushed
+     * since the last call to {@link #clearStreamLeq()}
+     * @return double array of equivalent sound pressure level per third octave bands
+     */
+    public double[] computeStreamLeq(double refSoundPressure) {
+        return getStreamFilterBank().getLeq(refSoundPressure);
+    }
+
+    /**
+     * Start a new equivalent sound pressure level period, filter states are kept
+     */
+    public void clearStreamLeq() {
+        getStreamFilterBank().clearEnergy();
+    }
+
+    /**
+     * Reset filter states of the streaming mode
+     */
+    public void resetStream() {
+        streamAWeighting.reset();
+        getStreamFilterBank().reset();
     }
 
 
@@ -112,12 +184,28 @@ public class SOSSignalProcessing {
      * nominal center frequency
      */
     public static double[][] filterSignal(boolean Aweigthing, double[] signal, int samplingRate, ThirdOctaveBandsFiltering.FREQUENCY_BANDS frequencyBands) {
+        if(Aweigthing) {
+            return filterSignal(new AWeighting(samplingRate), Arrays.copyOf(signal, signal.length), samplingRate, frequencyBands);
+        } else {
+            return filterSignal(null, signal, samplingRate, frequencyBands);
+        }
+    }
+
+    /**
+     * A-weigthing and third octave bands filtering of the time signal
+     * @param aWeighting A-weighting filter, its state is kept for the next call. Null to skip A-weighting
+     * @param signal time signal, A-weighted in place if aWeighting is not null
+     * @param samplingRate
+     * @return double array of shape [frequency x time] A-weighted and third octave bands filtered time signals for each
+     * nominal center frequency
+     */
+    public static double[][] filterSignal(AWeighting aWeighting, double[] signal, int samplingRate, ThirdOctaveBandsFiltering.FREQUENCY_BANDS frequencyBands) {
 
         /**
          * Apply the A-weighting filter to the input signal
          */
-        if(Aweigthing) {
-            signal = AWeighting.aWeightingSignal(signal);
+        if(aWeighting != null) {
+            aWeighting.filter(signal);
         }
 
         /**
@@ -147,27 +235,30 @@ public class SOSSignalProcessing {
     }
 
     public static short[] loadShortStream(InputStream inputStream, ByteOrder byteOrder) throws IOException {
-        short[] fullArray = new short[0];
+        short[] fullArray = new short[4096];
+        int length = 0;
         byte[] buffer = new byte[4096];
+        int bufferLength = 0;
         int read;
         // Read input signal up to buffer.length
-        while ((read = inputStream.read(buffer)) != -1) {
-            // Convert bytes into double values. Samples array size is 8 times inferior than buffer size
-            if (read < buffer.length) {
-                buffer = Arrays.copyOfRange(buffer, 0, read);
+        while ((read = inputStream.read(buffer, bufferLength, buffer.length - bufferLength)) != -1) {
+            bufferLength += read;
+            int sampleCount = bufferLength / 2;
+            if(length + sampleCount > fullArray.length) {
+                // Grow geometrically in order to copy each sample a constant number of times
+                fullArray = Arrays.copyOf(fullArray, Math.max(fullArray.length * 2, length + sampleCount));
             }
-            short[] signal = SOSSignalProcessing.convertBytesToShort(buffer, buffer.length, byteOrder);
-            short[] nextFullArray = new short[fullArray.length + signal.length];
-            if(fullArray.length > 0) {
-                System.arraycopy(fullArray, 0, nextFullArray, 0, fullArray.length);
+            ByteBuffer.wrap(buffer, 0, sampleCount * 2).order(byteOrder).asShortBuffer().get(fullArray, length, sampleCount);
+            length += sampleCount;
+            // Keep the odd byte for the next read
+            if(bufferLength % 2 != 0) {
+                buffer[0] = buffer[bufferLength - 1];
             }
-            System.arraycopy(signal, 0, nextFullArray, fullArray.length, signal.length);
-            fullArray = nextFullArray;
+            bufferLength %= 2;
         }
-        return fullArray;
+        return Arrays.copyOf(fullArray, length);
     }
 
-
     public static short[] convertBytesToShort(byte[] buffer, int length, ByteOrder byteOrder) {
         ShortBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, length).order(byteOrder).asShortBuffer();
         short[] samplesShort = new short[byteBuffer.capacity()];
@@ -217,6 +308,55 @@ public class SOSSignalProcessing {
         return allLeq;
     }
 
+    /**
+     * Process applied to the audio stream using the causal streaming mode. The signal is filtered only
+     * once, so the processing time is linear with the stream length and the memory usage is constant.
+     * Filter states are not reset before processing, call {@link #resetStream()} to process a new stream.
+     * @param encoding encoding, bits per sample. Only 16 bits signed PCM is supported
+     * @param rate sampling [Hz]
+     * @param inputStream input audio stream
+     * @param leqPeriod time period over which the equivalent sound pressure level is computed over [s] {@link AcousticIndicators#TIMEPERIOD_FAST} or {@link AcousticIndicators#TIMEPERIOD_SLOW}
+     * @return list of double array of equivalent sound pressure levels, an incomplete last period is not returned
+     * @throws IOException
+     * @throws IllegalArgumentException if the encoding is not 16 bits
+     */
+    public List<double[]> processAudioStream(int encoding, final int rate, InputStream inputStream, double leqPeriod, double refSoundPressure, ByteOrder byteOrder) throws IOException {
+        if(encoding != 16) {
+            throw new IllegalArgumentException("Unsupported encoding " + encoding + " bits, only 16 bits PCM is supported");
+        }
+        List<double[]> allLeq = new ArrayList<double[]>();
+        final int periodLength = (int)(leqPeriod * rate);
+        byte[] buffer = new byte[4096];
+        double[] samples = new double[buffer.length / 2];
+        // Bytes of an incomplete sample from the previous read
+        int bufferOffset = 0;
+        int read;
+        clearStreamLeq();
+        while ((read = inputStream.read(buffer, bufferOffset, buffer.length - bufferOffset)) != -1) {
+            int byteLength = bufferOffset + read;
+            int sampleLength = byteLength / 2;
+            ShortBuffer shortBuffer = ByteBuffer.wrap(buffer, 0, sampleLength * 2).order(byteOrder).asShortBuffer();
+            for(int i = 0; i < sampleLength; i++) {
+                samples[i] = shortBuffer.get(i);
+            }
+            bufferOffset = byteLength - sampleLength * 2;
+            if(bufferOffset > 0) {
+                buffer[0] = buffer[byteLength - 1];
+            }
+            int cursor = 0;
+            while(cursor < sampleLength) {
+                int length = (int)Math.min(sampleLength - cursor, periodLength - getStreamSampleCount());
+                addStreamSample(samples, cursor, cursor + length);
+                cursor += length;
+                if(getStreamSampleCount() == periodLength) {
+                    allLeq.add(computeStreamLeq(refSoundPressure));
+                    clearStreamLeq();
+                }
+            }
+        }
+        return allLeq;
+    }
+
     /**
      * Calculation of the equivalent sound pressure level per third octave bands
      * @return List of double array of equivalent sound pressure level per third octave bands
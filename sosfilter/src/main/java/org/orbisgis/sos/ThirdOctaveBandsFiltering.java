@@ -50,6 +50,20 @@ public class ThirdOctaveBandsFiltering {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ThirdOctaveBandsFiltering.class);
     private List<FiltersParameters> filterParameters;
+    // Number of bands filtered at the same time by the interleaved filtering.
+    // sosFilteringInterleaved is unrolled by hand for 4 lanes, it does not support any other value.
+    private static final int FILTER_LANES = 4;
+    private boolean interleavedFiltering = true;
+    // Sampling rate of the provided filter coefficients files
+    private static final int CSV_SAMPLING_RATE = 44100;
+    // Order of the Butterworth band-pass filters computed for other sampling rates
+    private static final int FILTER_ORDER = 4;
+    // Bands with an exact center frequency above this ratio of the Nyquist frequency are not filtered
+    private static final double MAX_CENTER_FREQUENCY_RATIO = 0.95;
+    // The upper edge of the band-pass filters is limited to this ratio of the Nyquist frequency
+    private static final double MAX_EDGE_FREQUENCY_RATIO = 0.995;
+    // Filters parameters by sampling rate and frequency bands
+    private static final Map<String, List<FiltersParameters>> FILTERS_CACHE = new HashMap<String, List<FiltersParameters>>();
 
     /**
      * Standard center frequencies of third octave bands
@@ -62,24 +76,26 @@ public class ThirdOctaveBandsFiltering {
 
     /**
      * Third octave bands filtering constructor
+     * The filters coefficients are loaded from the provided files for 44100 Hz, and computed for the other
+     * sampling rates. Only the bands below the Nyquist frequency are filtered, see
+     * {@link #getStandardFrequencies(FREQUENCY_BANDS, int)}.
      */
     public ThirdOctaveBandsFiltering(int samplingRate, FREQUENCY_BANDS frequency_bands) {
+        if(samplingRate <= 0) {
+            throw new IllegalArgumentException("Illegal sampling rate: " + samplingRate + "Hz");
+        }
         this.samplingRate = samplingRate;
-        this.standardFrequencies = getStandardFrequencies(frequency_bands);
-        String csvFileName;
+        this.standardFrequencies = getStandardFrequencies(frequency_bands, samplingRate);
         if (frequency_bands == FREQUENCY_BANDS.FULL) {
             // Third octave bands filtering over the full standards frequency bands (i.e. [16Hz-20kHz]) requires a
             // 5-seconds duration input signal
             this.expectedSampleLength = samplingRate * 5;
-            csvFileName = "Third_oct_filters_coefts_44100Hz_16Hz-20kHz";
         } else {
             // Third octave bands filtering over the full standards frequency bands (i.e. [100Hz-20kHz]) requires a
             // 1-second duration input signal
             this.expectedSampleLength = samplingRate;
-            csvFileName = "Third_oct_filters_coefts_44100Hz_100Hz-20kHz.csv";
         }
-        filterParameters = new ArrayList<FiltersParameters>(standardFrequencies.length);
-        getFiltersParameters(ThirdOctaveBandsFiltering.class.getResourceAsStream(csvFileName));
+        filterParameters = getFiltersParameters(samplingRate, frequency_bands);
     }
 
     public static double[] getStandardFrequencies(FREQUENCY_BANDS frequency_bands) {
@@ -90,6 +106,30 @@ public class ThirdOctaveBandsFiltering {
         }
     }
 
+    /**
+     * @param frequency_bands Frequency bands
+     * @param samplingRate Sampling rate [Hz]
+     * @return Standard frequencies of the bands that can be filtered at this sampling rate
+     */
+    public static double[] getStandardFrequencies(FREQUENCY_BANDS frequency_bands, int samplingRate) {
+        double[] frequencies = getStandardFrequencies(frequency_bands);
+        final double maxCenterFrequency = MAX_CENTER_FREQUENCY_RATIO * samplingRate / 2;
+        int bandCount = 0;
+        while(bandCount < frequencies.length && getExactCenterFrequency(frequencies[bandCount]) < maxCenterFrequency) {
+            bandCount++;
+        }
+        return bandCount == frequencies.length ? frequencies : Arrays.copyOf(frequencies, bandCount);
+    }
+
+    /**
+     * @param nominalFrequency Nominal center frequency of a third octave band [Hz]
+     * @return Exact base 2 center frequency of the band [Hz]
+     */
+    public static double getExactCenterFrequency(double nominalFrequency) {
+        long bandIndex = Math.round(3 * Math.log(nominalFrequency / 1000) / Math.log(2));
+        return 1000 * Math.pow(2, bandIndex / 3.);
+    }
+
     public static double getSampleBufferDuration(FREQUENCY_BANDS frequency_bands) {
         if (frequency_bands == FREQUENCY_BANDS.FULL) {
             return 5.;
@@ -116,11 +156,124 @@ public class ThirdOctaveBandsFiltering {
     }
 
 
+    /**
+     * @param samplingRate Sampling rate [Hz]
+     * @param frequency_bands Frequency bands
+     * @return Filters parameters of each band, loaded or computed on the first call for this sampling rate
+     */
+    private static List<FiltersParameters> getFiltersParameters(int samplingRate, FREQUENCY_BANDS frequency_bands) {
+        String key = samplingRate + "_" + frequency_bands.name();
+        synchronized (FILTERS_CACHE) {
+            List<FiltersParameters> parameters = FILTERS_CACHE.get(key);
+            if(parameters == null) {
+                InputStream csvFile = null;
+                if(samplingRate == CSV_SAMPLING_RATE) {
+                    String csvFileName;
+                    if (frequency_bands == FREQUENCY_BANDS.FULL) {
+                        csvFileName = "Third_oct_filters_coefts_44100Hz_16Hz-20kHz.csv";
+                    } else {
+                        csvFileName = "Third_oct_filters_coefts_44100Hz_100Hz-20kHz.csv";
+                    }
+                    csvFile = ThirdOctaveBandsFiltering.class.getResourceAsStream(csvFileName);
+                }
+                if(csvFile != null) {
+                    parameters = loadFiltersParameters(csvFile);
+                } else {
+                    double[] frequencies = getStandardFrequencies(frequency_bands, samplingRate);
+                    parameters = new ArrayList<FiltersParameters>(frequencies.length);
+                    for(double frequency : frequencies) {
+                        parameters.add(designFilter(frequency, samplingRate));
+                    }
+                }
+                parameters = Collections.unmodifiableList(parameters);
+                FILTERS_CACHE.put(key, parameters);
+            }
+            return parameters;
+        }
+    }
+
+    /**
+     * Butterworth band-pass filter of a third octave band, the band edges are at 2^(+-1/6) of the exact center
+     * frequency. The bilinear transform is done with frequency pre-warping of the band edges.
+     * @param nominalFrequency Nominal center frequency of the band [Hz]
+     * @param samplingRate Sampling rate [Hz]
+     * @return Second order sections of the filter
+     */
+    public static FiltersParameters designFilter(double nominalFrequency, int samplingRate) {
+        final double centerFrequency = getExactCenterFrequency(nominalFrequency);
+        final double lowFrequency = centerFrequency * Math.pow(2, -1. / 6);
+        final double highFrequency = Math.min(centerFrequency * Math.pow(2, 1. / 6),
+                MAX_EDGE_FREQUENCY_RATIO * samplingRate / 2);
+        // Pre-warped analog band edges
+        final double k = 2. * samplingRate;
+        final double w1 = k * Math.tan(Math.PI * lowFrequency / samplingRate);
+        final double w2 = k * Math.tan(Math.PI * highFrequency / samplingRate);
+        final double w0Square = w1 * w2;
+        final double bandwidth = w2 - w1;
+        // Digital angular frequency of the analog center frequency
+        final double omega0 = 2 * Math.atan(Math.sqrt(w0Square) / k);
+        // Each pole of the low-pass prototype gives two poles of the band-pass filter, keep the positive
+        // imaginary part of each conjugate pair
+        double[][] poles = new double[FILTER_ORDER][];
+        int poleCount = 0;
+        for(int idPole = 0; idPole < FILTER_ORDER; idPole++) {
+            final double angle = Math.PI * (2 * idPole + FILTER_ORDER + 1) / (2 * FILTER_ORDER);
+            // a = p * bandwidth / 2
+            final double aRe = Math.cos(angle) * bandwidth / 2;
+            final double aIm = Math.sin(angle) * bandwidth / 2;
+            // d = sqrt(a^2 - w0^2)
+            final double[] d = complexSqrt(aRe * aRe - aIm * aIm - w0Square, 2 * aRe * aIm);
+            for(int sign = -1; sign <= 1; sign += 2) {
+                final double sRe = aRe + sign * d[0];
+                final double sIm = aIm + sign * d[1];
+                if(sIm > 0) {
+                    // Bilinear transform z = (k + s) / (k - s)
+                    final double denominator = (k - sRe) * (k - sRe) + sIm * sIm;
+                    poles[poleCount++] = new double[] {((k + sRe) * (k - sRe) - sIm * sIm) / denominator,
+                            2 * k * sIm / denominator};
+                }
+            }
+        }
+        // Upper half of the poles with the zeros at z = -1, lower half with the zeros at z = 1
+        Arrays.sort(poles, new Comparator<double[]>() {
+            @Override
+            public int compare(double[] o1, double[] o2) {
+                return Double.compare(Math.atan2(o2[1], o2[0]), Math.atan2(o1[1], o1[0]));
+            }
+        });
+        FiltersParameters filtersParameters = new FiltersParameters(nominalFrequency);
+        final double cosOmega = Math.cos(omega0);
+        final double sinOmega = Math.sin(omega0);
+        final double cos2Omega = Math.cos(2 * omega0);
+        final double sin2Omega = Math.sin(2 * omega0);
+        for(int idStage = 0; idStage < poles.length; idStage++) {
+            final double a1 = -2 * poles[idStage][0];
+            final double a2 = poles[idStage][0] * poles[idStage][0] + poles[idStage][1] * poles[idStage][1];
+            final double zeroSign = idStage < poles.length / 2 ? 1 : -1;
+            // Unit gain of each stage at the center frequency
+            final double denominatorRe = 1 + a1 * cosOmega + a2 * cos2Omega;
+            final double denominatorIm = - a1 * sinOmega - a2 * sin2Omega;
+            final double gain = Math.sqrt(denominatorRe * denominatorRe + denominatorIm * denominatorIm) /
+                    (2 + 2 * zeroSign * cosOmega);
+            filtersParameters.stages.add(new StageParameters(new double[] {gain, 2 * zeroSign * gain, gain, a1, a2}));
+        }
+        return filtersParameters;
+    }
+
+    /**
+     * @return Principal square root of the complex number re + i im, {re, im}
+     */
+    private static double[] complexSqrt(double re, double im) {
+        final double modulus = Math.hypot(re, im);
+        return new double[] {Math.sqrt((modulus + re) / 2), Math.copySign(Math.sqrt((modulus - re) / 2), im)};
+    }
+
     /**
      * Load the .csv file containing the third octave bands filters parameters
      * @param csvFile input stream of the parameters file
      */
-    private void getFiltersParameters(InputStream csvFile) {
+    private static List<FiltersParameters> loadFiltersParameters(InputStream csvFile) {
+        List<FiltersParameters> filterParameters = new ArrayList<FiltersParameters>();
         BufferedReader inputStream = new BufferedReader(new InputStreamReader(csvFile));
         try {
             String line;
@@ -154,6 +307,7 @@ public class ThirdOctaveBandsFiltering {
                 // Ignore error
             }
         }
+        return filterParameters;
     }
 
     /**
@@ -243,34 +397,152 @@ public class ThirdOctaveBandsFiltering {
         int signalLength = signal.length;
         int nbFreqs = standardFrequencies.length;
         double [][] filteredSignals = new double[nbFreqs][signalLength];
-        for (int idf = 0; idf < nbFreqs; idf++){
+        int idf = 0;
+        if(interleavedFiltering) {
+            double[] reversedSignal = reverse2dArray(signal);
+            double[] laneSignals = new double[signalLength * FILTER_LANES];
+            while (idf + FILTER_LANES <= nbFreqs && applyInterleavedSosFilter(reversedSignal,
+                    laneSignals, idf, filteredSignals)) {
+                idf += FILTER_LANES;
+            }
+        }
+        for (; idf < nbFreqs; idf++){
             filteredSignals[idf] = applySosFilter(signal, idf);
         }
         return filteredSignals;
     }
 
-//
-//    public double[][] thirdOctaveFiltering(double[] signal){
-//        int nbFreqs = standardFrequencies.length;
-//        double [][] filteredSignals = new double[nbFreqs][];
-//        double[] decimateSignal;
-//        filteredSignals[(nbFreqs - 1)] = applySosFilter(signal, nbFreqs - 1);
-//        filteredSignals[(nbFreqs - 1) - 1] = applySosFilter(signal, nbFreqs - 2);
-//        filteredSignals[(nbFreqs - 1) - 2] = applySosFilter(signal, nbFreqs - 3);
-//        for (int idf = 3; idf < nbFreqs; idf+=3){
-//            filteredSignals[(nbFreqs - 1) - idf] = applySosFilter(signal, nbFreqs - 4);
-//            filteredSignals[(nbFreqs - 1) - idf - 1] = applySosFilter(signal, nbFreqs - 5);
-//            filteredSignals[(nbFreqs - 1) - idf - 2] = applySosFilter(signal, nbFreqs - 6);
-//            // Decimation signal by two factor
-//            decimateSignal = new double[signal.length / 2];
-//            for(int i = 0; i < decimateSignal.length; i++) {
-//                decimateSignal[i] = (signal[i * 2] + signal[i * 2 + 1]) / 2;
-//            }
-//            signal = decimateSignal;
-//        }
-//        return filteredSignals;
-//    }
+    /**
+     * @param interleavedFiltering True to filter four bands at the same time in
+     *                             {@link #thirdOctaveFiltering(double[])}, false to filter one band at a time.
+     *                             Both give the same results.
+     */
+    public void setInterleavedFiltering(boolean interleavedFiltering) {
+        this.interleavedFiltering = interleavedFiltering;
+    }
+
+    public boolean isInterleavedFiltering() {
+        return interleavedFiltering;
+    }
+
+    /**
+     * Filter coefficients of {@link #FILTER_LANES} consecutive bands, in the order
+     * [stage][b0, b1, b2, a1, a2][lane]
+     * @param firstBand First band index
+     * @return Coefficients or null if the bands does not have the same number of stages
+     */
+    private double[] getInterleavedCoefficients(int firstBand) {
+        int stageCount = filterParameters.get(firstBand).stages.size();
+        for(int lane = 1; lane < FILTER_LANES; lane++) {
+            if(filterParameters.get(firstBand + lane).stages.size() != stageCount) {
+                return null;
+            }
+        }
+        double[] coefficients = new double[stageCount * 5 * FILTER_LANES];
+        for(int lane = 0; lane < FILTER_LANES; lane++) {
+            List<StageParameters> stages = filterParameters.get(firstBand + lane).stages;
+            for(int idStage = 0; idStage < stageCount; idStage++) {
+                for(int idCoefficient = 0; idCoefficient < 5; idCoefficient++) {
+                    coefficients[(idStage * 5 + idCoefficient) * FILTER_LANES + lane] =
+                            stages.get(idStage).coefficients[idCoefficient];
+                }
+            }
+        }
+        return coefficients;
+    }
+
+    /**
+     * Same as {@link #applySosFilter(double[], int)} for {@link #FILTER_LANES} consecutive bands
+     * @param reversedSignal Reversed raw time input signal
+     * @param laneSignals Work array of length signal length * {@link #FILTER_LANES}
+     * @param firstBand First band index
+     * @param filteredSignals Output filtered signals
+     * @return False if the bands cannot be filtered together
+     */
+    private boolean applyInterleavedSosFilter(double[] reversedSignal, double[] laneSignals, int firstBand,
+                                              double[][] filteredSignals) {
+        double[] coefficients = getInterleavedCoefficients(firstBand);
+        if(coefficients == null) {
+            return false;
+        }
+        final int length = reversedSignal.length;
+        double[] states = new double[coefficients.length / 5 * 2 * FILTER_LANES];
+        // Backward filtering
+        for(int idT = 0; idT < length; idT++) {
+            final double value = reversedSignal[idT];
+            final int offset = idT * FILTER_LANES;
+            for(int lane = 0; lane < FILTER_LANES; lane++) {
+                laneSignals[offset + lane] = value;
+            }
+        }
+        sosFilteringInterleaved(laneSignals, length, coefficients, states);
+        // Forward filtering
+        for(int idT = 0; idT < length / 2; idT++) {
+            final int offset = idT * FILTER_LANES;
+            final int reversedOffset = (length - 1 - idT) * FILTER_LANES;
+            for(int lane = 0; lane < FILTER_LANES; lane++) {
+                double tmp = laneSignals[offset + lane];
+                laneSignals[offset + lane] = laneSignals[reversedOffset + lane];
+                laneSignals[reversedOffset + lane] = tmp;
+            }
+        }
+        sosFilteringInterleaved(laneSignals, length, coefficients, states);
+        for(int lane = 0; lane < FILTER_LANES; lane++) {
+            double[] filteredSignal = filteredSignals[firstBand + lane];
+            for(int idT = 0; idT < length; idT++) {
+                filteredSignal[idT] = laneSignals[idT * FILTER_LANES + lane];
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Second-order recursive linear filtering of {@link #FILTER_LANES} independent signals.
+     * The kernel is unrolled for exactly 4 lanes, see {@link #FILTER_LANES}.
+     * The recursions of the lanes are independent, so the processor can compute them in parallel.
+     * Operations are done in the same order than {@link #sosFiltering(double[], FiltersParameters, double[][])}.
+     * @param laneSignals Interleaved signals [time][lane]
+     * @param length Signal length
+     * @param coefficients Interleaved coefficients [stage][b0, b1, b2, a1, a2][lane]
+     * @param states Interleaved states [stage][w1, w2][lane]
+     */
+    private static void sosFilteringInterleaved(final double[] laneSignals, final int length,
+                                                final double[] coefficients, final double[] states) {
+        final int stageCount = coefficients.length / (5 * FILTER_LANES);
+        for(int idStage = 0; idStage < stageCount; idStage++) {
+            final int c = idStage * 5 * FILTER_LANES;
+            final double b0l0 = coefficients[c], b0l1 = coefficients[c + 1], b0l2 = coefficients[c + 2], b0l3 = coefficients[c + 3];
+            final double b1l0 = coefficients[c + 4], b1l1 = coefficients[c + 5], b1l2 = coefficients[c + 6], b1l3 = coefficients[c + 7];
+            final double b2l0 = coefficients[c + 8], b2l1 = coefficients[c + 9], b2l2 = coefficients[c + 10], b2l3 = coefficients[c + 11];
+            final double a1l0 = coefficients[c + 12], a1l1 = coefficients[c + 13], a1l2 = coefficients[c + 14], a1l3 = coefficients[c + 15];
+            final double a2l0 = coefficients[c + 16], a2l1 = coefficients[c + 17], a2l2 = coefficients[c + 18], a2l3 = coefficients[c + 19];
+            final int s = idStage * 2 * FILTER_LANES;
+            double w1l0 = states[s], w1l1 = states[s + 1], w1l2 = states[s + 2], w1l3 = states[s + 3];
+            double w2l0 = states[s + 4], w2l1 = states[s + 5], w2l2 = states[s + 6], w2l3 = states[s + 7];
+            for (int idT = 0; idT < length; ++idT){
+                final int i = idT * FILTER_LANES;
+                final double w0l0 = laneSignals[i] - a1l0*w1l0 - a2l0*w2l0;
+                final double w0l1 = laneSignals[i + 1] - a1l1*w1l1 - a2l1*w2l1;
+                final double w0l2 = laneSignals[i + 2] - a1l2*w1l2 - a2l2*w2l2;
+                final double w0l3 = laneSignals[i + 3] - a1l3*w1l3 - a2l3*w2l3;
+                laneSignals[i] = b0l0*w0l0 + b1l0*w1l0 + b2l0*w2l0;
+                laneSignals[i + 1] = b0l1*w0l1 + b1l1*w1l1 + b2l1*w2l1;
+                laneSignals[i + 2] = b0l2*w0l2 + b1l2*w1l2 + b2l2*w2l2;
+                laneSignals[i + 3] = b0l3*w0l3 + b1l3*w1l3 + b2l3*w2l3;
+                w2l0 = w1l0; w2l1 = w1l1; w2l2 = w1l2; w2l3 = w1l3;
+                w1l0 = w0l0; w1l1 = w0l1; w1l2 = w0l2; w1l3 = w0l3;
+            }
+            states[s] = w1l0; states[s + 1] = w1l1; states[s + 2] = w1l2; states[s + 3] = w1l3;
+            states[s + 4] = w2l0; states[s + 5] = w2l1; states[s + 6] = w2l2; states[s + 7] = w2l3;
+        }
+    }
 
+    /**
+     * @return New multirate filter bank using the filters of this instance
+     */
+    public MultirateFilterBank createMultirateFilterBank() {
+        return new MultirateFilterBank(filterParameters);
+    }
 
     /**
      * Cascade stage parameters
@@ -296,4 +568,261 @@ public class ThirdOctaveBandsFiltering {
             this.frequency = frequency;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Streaming third octave filter bank.
+     * The two highest octaves are filtered at the input sampling rate. Each lower octave is filtered
+     * after a decimation by 2 of the previous octave signal, using the filter of the band that has the
+     * same normalised frequency at the input sampling rate. The low frequency bands are then computed
+     * on very few samples.
+     * The filters are applied twice forward, so the magnitude response is the same as the
+     * backward and forward filtering of {@link #thirdOctaveFiltering(double[])}, but the filter
+     * states are kept between calls.
+     * The energy of each band is accumulated until {@link #clearEnergy()}.
+     */
+    public static class MultirateFilterBank {
+        // Half-band low pass filter (windowed sinc, Blackman) used before decimation
+        private static final int DECIMATION_FILTER_ORDER = 30;
+        private static final double[] DECIMATION_FILTER = makeDecimationFilter(DECIMATION_FILTER_ORDER);
+        // Number of octaves filtered at the input sampling rate
+        private static final int FULL_RATE_OCTAVES = 2;
+
+        private final int bandCount;
+        // Decimation level of each band (signal sampling rate is samplingRate / 2^level)
+        private final int[] bandLevel;
+        // Filter stages of each band
+        private final double[][] bandCoefficients;
+        // Filter states of each band [stage * 2 + {w1, w2}], stages are applied twice
+        private final double[][] bandStates;
+        private final double[] bandEnergy;
+        // Number of samples accumulated in energy for each decimation level
+        private final long[] levelSampleCount;
+        private final Decimator[] decimators;
+        private double[][] levelSignals;
+        private final int[] levelLength;
+        private double[] workBuffer = new double[0];
+
+        public MultirateFilterBank(List<FiltersParameters> filterParameters) {
+            bandCount = filterParameters.size();
+            bandLevel = new int[bandCount];
+            bandCoefficients = new double[bandCount][];
+            bandStates = new double[bandCount][];
+            bandEnergy = new double[bandCount];
+            final int firstFullRateBand = Math.max(0, bandCount - FULL_RATE_OCTAVES * 3);
+            int maxLevel = 0;
+            for(int idBand = 0; idBand < bandCount; idBand++) {
+                int level = 0;
+                if(idBand < firstFullRateBand) {
+                    level = (firstFullRateBand - idBand + 2) / 3;
+                }
+                maxLevel = Math.max(maxLevel, level);
+                bandLevel[idBand] = level;
+                // The filter of the band one octave above has the same normalised frequency
+                // on a signal decimated by 2
+                List<StageParameters> stages = filterParameters.get(idBand + 3 * level).stages;
+                double[] coefficients = new double[stages.size() * 5];
+                for(int idStage = 0; idStage < stages.size(); idStage++) {
+                    System.arraycopy(stages.get(idStage).coefficients, 0, coefficients, idStage * 5, 5);
+                }
+                bandCoefficients[idBand] = coefficients;
+                bandStates[idBand] = new double[stages.size() * 2 * 2];
+            }
+            levelSampleCount = new long[maxLevel + 1];
+            decimators = new Decimator[maxLevel];
+            for(int i = 0; i < decimators.length; i++) {
+                decimators[i] = new Decimator();
+            }
+            levelSignals = new double[maxLevel + 1][0];
+            levelLength = new int[maxLevel + 1];
+        }
+
+        private static double[] makeDecimationFilter(int order) {
+            double[] coefficients = new double[order + 1];
+            double sum = 0;
+            for(int n = 0; n <= order; n++) {
+                int offset = n - order / 2;
+                double sinc;
+                if(offset == 0) {
+                    sinc = 1;
+                } else if(offset % 2 == 0) {
+                    // Half-band filter, one coefficient out of two is zero
+                    sinc = 0;
+                } else {
+                    double x = offset / 2.;
+                    sinc = Math.sin(Math.PI * x) / (Math.PI * x);
+                }
+                double blackman = 0.42 - 0.5 * Math.cos(2 * Math.PI * n / order) + 0.08 * Math.cos(4 * Math.PI * n / order);
+                coefficients[n] = sinc * blackman;
+                sum += coefficients[n];
+            }
+            for(int n = 0; n <= order; n++) {
+                coefficients[n] /= sum;
+            }
+            return coefficients;
+        }
+
+        /**
+         * @return Number of frequency bands
+         */
+        public int getBandCount() {
+            return bandCount;
+        }
+
+        /**
+         * @param idBand Band index
+         * @return Decimation factor of the signal filtered by this band
+         */
+        public int getDecimationFactor(int idBand) {
+            return 1 << bandLevel[idBand];
+        }
+
+        /**
+         * Reset filter states and accumulated energy
+         */
+        public void reset() {
+            for(double[] states : bandStates) {
+                Arrays.fill(states, 0);
+            }
+            for(Decimator decimator : decimators) {
+                decimator.reset();
+            }
+            clearEnergy();
+        }
+
+        /**
+         * Clear accumulated energy, filter states are kept
+         */
+        public void clearEnergy() {
+            Arrays.fill(bandEnergy, 0);
+            Arrays.fill(levelSampleCount, 0);
+        }
+
+        /**
+         * @return Number of input samples accumulated since the last call to {@link #clearEnergy()}
+         */
+        public long getSampleCount() {
+            return levelSampleCount[0];
+        }
+
+        /**
+         * Filter the signal and accumulate the energy of each band
+         * @param signal Time signal
+         * @param from First sample index, inclusive
+         * @param to Last sample index, exclusive
+         */
+        public void filter(double[] signal, int from, int to) {
+            int length = to - from;
+            if(levelSignals[0].length < length) {
+                for(int level = 0; level < levelSignals.length; level++) {
+                    // Decimation output length is at most ceil(length / 2^level)
+                    levelSignals[level] = new double[level == 0 ? length : (length >> level) + 1];
+                }
+                workBuffer = new double[length];
+            }
+            System.arraycopy(signal, from, levelSignals[0], 0, length);
+            levelLength[0] = length;
+            for(int level = 1; level < levelSignals.length; level++) {
+                levelLength[level] = decimators[level - 1].decimate(levelSignals[level - 1],
+                        levelLength[level - 1], levelSignals[level]);
+            }
+            for(int level = 0; level < levelSignals.length; level++) {
+                levelSampleCount[level] += levelLength[level];
+            }
+            for(int idBand = 0; idBand < bandCount; idBand++) {
+                int level = bandLevel[idBand];
+                int bandLength = levelLength[level];
+                System.arraycopy(levelSignals[level], 0, workBuffer, 0, bandLength);
+                sosFilter(workBuffer, bandLength, bandCoefficients[idBand], bandStates[idBand]);
+                double energy = 0;
+                for(int i = 0; i < bandLength; i++) {
+                    energy += workBuffer[i] * workBuffer[i];
+                }
+                bandEnergy[idBand] += energy;
+            }
+        }
+
+        private static void sosFilter(double[] signal, int length, double[] coefficients, double[] states) {
+            final int stageCount = coefficients.length / 5;
+            for(int idStage = 0; idStage < stageCount * 2; idStage++) {
+                final int offset = (idStage % stageCount) * 5;
+                final double b0 = coefficients[offset];
+                final double b1 = coefficients[offset + 1];
+                final double b2 = coefficients[offset + 2];
+                final double a1 = coefficients[offset + 3];
+                final double a2 = coefficients[offset + 4];
+                double w1 = states[idStage * 2];
+                double w2 = states[idStage * 2 + 1];
+                for (int idT = 0; idT < length; ++idT){
+                    final double w0 = signal[idT] - a1*w1 - a2*w2;
+                    signal[idT] = b0*w0 + b1*w1 + b2*w2;
+                    w2 = w1;
+                    w1 = w0;
+                }
+                states[idStage * 2] = w1;
+                states[idStage * 2 + 1] = w2;
+            }
+        }
+
+        /**
+         * @param idBand Band index
+         * @return Mean square value of the filtered signal since the last call to {@link #clearEnergy()}
+         */
+        public double getMeanSquare(int idBand) {
+            long sampleCount = levelSampleCount[bandLevel[idBand]];
+            return sampleCount > 0 ? bandEnergy[idBand] / sampleCount : 0;
+        }
+
+        /**
+         * @param refSoundPressure Reference sound pressure
+         * @return Equivalent sound pressure level of each band since the last call to {@link #clearEnergy()}
+         */
+        public double[] getLeq(double refSoundPressure) {
+            double[] leq = new double[bandCount];
+            for(int idBand = 0; idBand < bandCount; idBand++) {
+                leq[idBand] = AcousticIndicators.todBspl(Math.sqrt(getMeanSquare(idBand)), refSoundPressure);
+            }
+            return leq;
+        }
+
+        /**
+         * Low pass filter and decimation by 2 of a continuous signal
+         */
+        private static final class Decimator {
+            private final double[] history = new double[DECIMATION_FILTER.length];
+            private int historyCursor = 0;
+            // True if the next input sample is kept by the decimation
+            private boolean keepNext = true;
+
+            void reset() {
+                Arrays.fill(history, 0);
+                historyCursor = 0;
+                keepNext = true;
+            }
+
+            /**
+             * @return Number of output samples
+             */
+            int decimate(double[] input, int length, double[] output) {
+                int outputLength = 0;
+                final int filterLength = DECIMATION_FILTER.length;
+                for(int i = 0; i < length; i++) {
+                    history[historyCursor] = input[i];
+                    historyCursor = (historyCursor + 1) % filterLength;
+                    if(keepNext) {
+                        double sum = 0;
+                        // historyCursor is the oldest sample
+                        for(int k = 0; k < filterLength; k++) {
+                            final double coefficient = DECIMATION_FILTER[k];
+                            if(coefficient != 0) {
+                                sum += coefficient * history[(historyCursor + k) % filterLength];
+                            }
+                        }
+                        output[outputLength++] = sum;
+                    }
+                    keepNext = !keepNext;
+                }
+                return outputLength;
+            }
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * This file is part of the NoiseCapture application and OnoMap system.
+ *
+ * The 'OnoMaP' system is led by Lab-STICC and Ifsttar and generates noise maps via
+ * citizen-contributed noise data.
+ *
+ * This application is co-funded by the ENERGIC-OD Project (European Network for
+ * Redistributing Geospatial Information to user Communities - Open Data). ENERGIC-OD
+ * (http://www.energic-od.eu/) is partially funded under the ICT Policy Support Programme (ICT
+ * PSP) as part of the Competitiveness and Innovation Framework Programme by the European
+ * Community. The application work is also supported by the French geographic portal GEOPAL of the
+ * Pays de la Loire region (http://www.geopal.org).
+ *
+ * Copyright (C) IFSTTAR - LAE and Lab-STICC – CNRS UMR 6285 Equipe DECIDE Vannes
+ *
+ * NoiseCapture is a free software; you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation; either version 3 of
+ * the License, or(at your option) any later version. NoiseCapture is distributed in the hope that
+ * it will be useful,but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for
+ * more details.You should have received a copy of the GNU General Public License along with this
+ * program; if not, write to the Free Software Foundation,Inc., 51 Franklin Street, Fifth Floor,
+ * Boston, MA 02110-1301  USA or see For more information,  write to Ifsttar,
+ * 14-20 Boulevard Newton Cite Descartes, Champs sur Marne F-77447 Marne la Vallee Cedex 2 FRANCE
+ *  or write to scientific.computing@ifsttar.fr
+ */
+
+package org.orbisgis.sos;
+
+import java.util.Arrays;
+
+/**
+ * Exponential time weighting of the squared signal (IEC 61672 Fast, Slow and Impulse).
+ * The running mean square of each band is kept in one state value, plus a decaying peak hold for the
+ * Impulse weighting. The maximum of each band is tracked until {@link #clearMax()}.
+ */
+public class TimeWeighting {
+    public enum TIME_WEIGHTING {
+        FAST(0.125, 0.125),
+        SLOW(1, 1),
+        // Impulse detector holds the 35 ms mean square and decays with a 1.5 s time constant
+        IMPULSE(0.035, 1.5);
+
+        public final double riseTimeConstant;
+        public final double decayTimeConstant;
+
+        TIME_WEIGHTING(double riseTimeConstant, double decayTimeConstant) {
+            this.riseTimeConstant = riseTimeConstant;
+            this.decayTimeConstant = decayTimeConstant;
+        }
+    }
+
+    private final TIME_WEIGHTING timeWeighting;
+    private final double riseCoefficient;
+    private final double decayCoefficient;
+    private final double[] meanSquare;
+    // Peak hold of the mean square with the decay time constant, only if different than the rise time constant
+    private final double[] heldMeanSquare;
+    private final double[] maxMeanSquare;
+
+    /**
+     * @param timeWeighting Time constants
+     * @param samplingRate Sampling rate of the filtered signal
+     * @param bandCount Number of independent signals
+     */
+    public TimeWeighting(TIME_WEIGHTING timeWeighting, int samplingRate, int bandCount) {
+        this.timeWeighting = timeWeighting;
+        this.riseCoefficient = 1 - Math.exp(-1 / (timeWeighting.riseTimeConstant * samplingRate));
+        this.decayCoefficient = 1 - Math.exp(-1 / (timeWeighting.decayTimeConstant * samplingRate));
+        this.meanSquare = new double[bandCount];
+        this.heldMeanSquare = Double.compare(riseCoefficient, decayCoefficient) != 0 ? new double[bandCount] : null;
+        this.maxMeanSquare = new double[bandCount];
+    }
+
+    public TIME_WEIGHTING getTimeWeighting() {
+        return timeWeighting;
+    }
+
+    public int getBandCount() {
+        return meanSquare.length;
+    }
+
+    /**
+     * Integrate the squared signal of a band
+     * @param band Band index
+     * @param signal Time signal
+     * @param from First sample index, inclusive
+     * @param to Last sample index, exclusive
+     */
+    public void filter(int band, double[] signal, int from, int to) {
+        double state = meanSquare[band];
+        double max = maxMeanSquare[band];
+        final double rise = riseCoefficient;
+        if(heldMeanSquare == null) {
+            for(int i = from; i < to; i++) {
+                state += rise * (signal[i] * signal[i] - state);
+                if(state > max) {
+                    max = state;
+                }
+            }
+        } else {
+            final double decay = decayCoefficient;
+            double held = heldMeanSquare[band];
+            for(int i = from; i < to; i++) {
+                state += rise * (signal[i] * signal[i] - state);
+                if(state > held) {
+                    held = state;
+                } else {
+                    held += decay * (state - held);
+                }
+                if(held > max) {
+                    max = held;
+                }
+            }
+            heldMeanSquare[band] = held;
+        }
+        meanSquare[band] = state;
+        maxMeanSquare[band] = max;
+    }
+
+    /**
+     * @param band Band index
+     * @return Time weighted mean square of the last filtered sample
+     */
+    public double getMeanSquare(int band) {
+        return heldMeanSquare == null ? meanSquare[band] : heldMeanSquare[band];
+    }
+
+    /**
+     * @param band Band index
+     * @return Maximum time weighted mean square since the last call to {@link #clearMax()}
+     */
+    public double getMaxMeanSquare(int band) {
+        return maxMeanSquare[band];
+    }
+
+    /**
+     * Restart the maximum tracking from the current value
+     */
+    public void clearMax() {
+        System.arraycopy(heldMeanSquare == null ? meanSquare : heldMeanSquare, 0, maxMeanSquare, 0, meanSquare.length);
+    }
+
+    /**
+     * Reset the states to a silent signal
+     */
+    public void reset() {
+        Arrays.fill(meanSquare, 0);
+        if(heldMeanSquare != null) {
+            Arrays.fill(heldMeanSquare, 0);
+        }
+        Arrays.fill(maxMeanSquare, 0);
+    }
+}
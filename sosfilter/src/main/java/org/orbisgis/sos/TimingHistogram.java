@@ -0,0 +1,127 @@
+/*
+ * This file is part of the NoiseCapture application and OnoMap system.
+ *
+ * The 'OnoMaP' system is led by Lab-STICC and Ifsttar and generates noise maps via
+ * citizen-contributed noise data.
+ *
+ * This application is co-funded by the ENERGIC-OD Project (European Network for
+ * Redistributing Geospatial Information to user Communities - Open Data). ENERGIC-OD
+ * (http://www.energic-od.eu/) is partially funded under the ICT Policy Support Programme (ICT
+ * PSP) as part of the Competitiveness and Innovation Framework Programme by the European
+ * Community. The application work is also supported by the French geographic portal GEOPAL of the
+ * Pays de la Loire region (http://www.geopal.org).
+ *
+ * Copyright (C) IFSTTAR - LAE and Lab-STICC – CNRS UMR 6285 Equipe DECIDE Vannes
+ *
+ * NoiseCapture is a free software; you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation; either version 3 of
+ * the License, or(at your option) any later version. NoiseCapture is distributed in the hope that
+ * it will be useful,but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for
+ * more details.You should have received a copy of the GNU General Public License along with this
+ * program; if not, write to the Free Software Foundation,Inc., 51 Franklin Street, Fifth Floor,
+ * Boston, MA 02110-1301  USA or see For more information,  write to Ifsttar,
+ * 14-20 Boulevard Newton Cite Descartes, Champs sur Marne F-77447 Marne la Vallee Cedex 2 FRANCE
+ *  or write to scientific.computing@ifsttar.fr
+ */
+
+package org.orbisgis.sos;
+
+import java.util.Arrays;
+
+/**
+ * Histogram of durations with power of 2 buckets, in nanoseconds.
+ * Percentiles are interpolated inside the bucket, the error is lower than a factor 2.
+ */
+public class TimingHistogram {
+    private static final int BUCKET_COUNT = 64;
+    // Bucket i contains durations in [2^(i-1), 2^i[ ns, bucket 0 contains 0
+    private final long[] buckets = new long[BUCKET_COUNT];
+    private long count = 0;
+    private long totalNanos = 0;
+    private long maxNanos = 0;
+
+    /**
+     * @param nanos Duration [ns]
+     */
+    public synchronized void record(long nanos) {
+        nanos = Math.max(0, nanos);
+        // nanos is positive so the index is lower than 64
+        buckets[Long.SIZE - Long.numberOfLeadingZeros(nanos)]++;
+        count++;
+        totalNanos += nanos;
+        maxNanos = Math.max(maxNanos, nanos);
+    }
+
+    /**
+     * @return Copy of this histogram, consistent if the histogram is recorded by another thread
+     */
+    public synchronized TimingHistogram copy() {
+        TimingHistogram copy = new TimingHistogram();
+        System.arraycopy(buckets, 0, copy.buckets, 0, BUCKET_COUNT);
+        copy.count = count;
+        copy.totalNanos = totalNanos;
+        copy.maxNanos = maxNanos;
+        return copy;
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(buckets, 0);
+        count = 0;
+        totalNanos = 0;
+        maxNanos = 0;
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    /**
+     * @return Sum of the recorded durations [ns]
+     */
+    public synchronized long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public synchronized long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * @return Mean duration [ns], 0 if empty
+     */
+    public synchronized double getMeanNanos() {
+        return count > 0 ? totalNanos / (double) count : 0;
+    }
+
+    /**
+     * @param percentile Percentile (0-100]
+     * @return Approximate duration [ns] of the percentile, 0 if empty
+     */
+    public synchronized double getPercentileNanos(double percentile) {
+        if(count == 0) {
+            return 0;
+        }
+        final double rank = percentile / 100 * count;
+        long cumulated = 0;
+        for(int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            if(buckets[bucket] > 0 && cumulated + buckets[bucket] >= rank) {
+                if(bucket == 0) {
+                    return 0;
+                }
+                double lower = Math.pow(2, bucket - 1);
+                double upper = Math.min(maxNanos, Math.pow(2, bucket));
+                double position = (rank - cumulated) / buckets[bucket];
+                return Math.min(upper, lower + position * (upper - lower));
+            }
+            cumulated += buckets[bucket];
+        }
+        return maxNanos;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format(java.util.Locale.ROOT, "n=%d mean=%.3fms p95=%.3fms max=%.3fms", count,
+                getMeanNanos() / 1e6, getPercentileNanos(95) / 1e6, maxNanos / 1e6);
+    }
+}
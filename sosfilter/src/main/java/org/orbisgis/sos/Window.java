@@ -44,7 +44,19 @@ public class Window {
     private boolean aWeighting;
     private boolean outputThinFrequency;
     private double overlap = 0;
-    private FFTSignalProcessing.ProcessingResult[] windowResults;
+    // Last result when windows are not overlapped
+    private FFTSignalProcessing.ProcessingResult lastResult;
+    // Overlapped windows results in linear energy, circular buffer [window][value]
+    private final OverlapEnergy overlapEnergy;
+    // Exponential time weighting of the (A-weighted) signal
+    private TimeWeighting timeWeighting;
+    private final AWeighting timeWeightingFilter;
+    private double[] timeWeightingBuffer = new double[0];
+    // Number of samples between two time weighted levels
+    private int timeWeightingOutputLength;
+    private int samplesBeforeTimeWeightingOutput;
+    private float[] timeWeightedLevels = new float[0];
+    private int timeWeightedLevelCount = 0;
 
     public Window(FFTSignalProcessing.WINDOW_TYPE window, int samplingRate, double[] standardFrequencies,
                   double windowTime, boolean aWeighting,
@@ -73,8 +85,10 @@ public class Window {
                 (int)(samplingRate * windowTime), dbFsReference);
         this.window = window;
         this.aWeighting = aWeighting;
+        this.timeWeightingFilter = new AWeighting(samplingRate);
         this.windowSize = (int)(samplingRate * windowTime);
-        this.windowResults = new FFTSignalProcessing.ProcessingResult[(int)(Math.round(1 / (1 - overlap)))];
+        int windowCount = (int)(Math.round(1 / (1 - overlap)));
+        this.overlapEnergy = windowCount > 1 ? new OverlapEnergy(windowCount) : null;
         this.outputThinFrequency = outputThinFrequency;
     }
 
@@ -82,10 +96,121 @@ public class Window {
         return outputThinFrequency;
     }
 
+    /**
+     * @param processingTimings Record the duration of the FFT processing stages, null to disable
+     */
+    public void setProcessingTimings(ProcessingTimings processingTimings) {
+        signalProcessing.setProcessingTimings(processingTimings);
+    }
+
     public void setaWeighting(boolean aWeighting) {
+        if(aWeighting && !this.aWeighting) {
+            timeWeightingFilter.reset();
+        }
         this.aWeighting = aWeighting;
     }
 
+    /**
+     * Compute the exponential time weighted level of each pushed sample, after the A-weighting if enabled.
+     * @param timeWeighting Time weighting, null to disable
+     * @param outputPeriod Time period between two levels returned by {@link #fetchTimeWeightedLevels()} [s]
+     */
+    public void setTimeWeighting(TimeWeighting.TIME_WEIGHTING timeWeighting, double outputPeriod) {
+        if(timeWeighting == null) {
+            this.timeWeighting = null;
+        } else {
+            this.timeWeighting = new TimeWeighting(timeWeighting, signalProcessing.samplingRate, 1);
+            timeWeightingFilter.reset();
+            timeWeightingOutputLength = Math.max(1, (int)(outputPeriod * signalProcessing.samplingRate));
+            samplesBeforeTimeWeightingOutput = timeWeightingOutputLength;
+            timeWeightedLevels = new float[Math.max(16, (int)Math.ceil(getWindowTime() / outputPeriod))];
+        }
+        timeWeightedLevelCount = 0;
+    }
+
+    /**
+     * @return Time weighting or null if disabled
+     */
+    public TimeWeighting.TIME_WEIGHTING getTimeWeighting() {
+        return timeWeighting != null ? timeWeighting.getTimeWeighting() : null;
+    }
+
+    /**
+     * @return Time weighted levels [dB] computed since the last call, at the output period of
+     * {@link #setTimeWeighting(TimeWeighting.TIME_WEIGHTING, double)}
+     */
+    public float[] fetchTimeWeightedLevels() {
+        float[] levels = Arrays.copyOf(timeWeightedLevels, timeWeightedLevelCount);
+        timeWeightedLevelCount = 0;
+        return levels;
+    }
+
+    /**
+     * @return Time weighted level [dB] of the last pushed sample
+     */
+    public double getTimeWeightedLevel() {
+        return timeWeighting != null ? signalProcessing.todBspl(Math.sqrt(timeWeighting.getMeanSquare(0))) : Double.NaN;
+    }
+
+    /**
+     * @return Maximum time weighted level [dB] (ex: LAFmax) since the last call to {@link #clearTimeWeightedMax()}
+     */
+    public double getTimeWeightedMaxLevel() {
+        return timeWeighting != null ? signalProcessing.todBspl(Math.sqrt(timeWeighting.getMaxMeanSquare(0))) : Double.NaN;
+    }
+
+    public void clearTimeWeightedMax() {
+        if(timeWeighting != null) {
+            timeWeighting.clearMax();
+        }
+    }
+
+    private void pushTimeWeighting(short[] buffer, int from, int length) {
+        if(timeWeightingBuffer.length < length) {
+            timeWeightingBuffer = new double[length];
+        }
+        final double[] signal = timeWeightingBuffer;
+        for(int i = 0; i < length; i++) {
+            signal[i] = buffer[from + i];
+        }
+        filterTimeWeighting(length);
+    }
+
+    private void pushTimeWeighting(float[] buffer, int from, int length) {
+        if(timeWeightingBuffer.length < length) {
+            timeWeightingBuffer = new double[length];
+        }
+        final double[] signal = timeWeightingBuffer;
+        for(int i = 0; i < length; i++) {
+            signal[i] = buffer[from + i];
+        }
+        filterTimeWeighting(length);
+    }
+
+    /**
+     * Feed the time weighting with the first samples of timeWeightingBuffer
+     */
+    private void filterTimeWeighting(int length) {
+        final double[] signal = timeWeightingBuffer;
+        if(aWeighting) {
+            timeWeightingFilter.filter(signal, 0, length);
+        }
+        int cursor = 0;
+        while(cursor < length) {
+            int chunk = Math.min(length - cursor, samplesBeforeTimeWeightingOutput);
+            timeWeighting.filter(0, signal, cursor, cursor + chunk);
+            cursor += chunk;
+            samplesBeforeTimeWeightingOutput -= chunk;
+            if(samplesBeforeTimeWeightingOutput == 0) {
+                samplesBeforeTimeWeightingOutput = timeWeightingOutputLength;
+                if(timeWeightedLevelCount == timeWeightedLevels.length) {
+                    timeWeightedLevels = Arrays.copyOf(timeWeightedLevels, timeWeightedLevels.length * 2);
+                }
+                timeWeightedLevels[timeWeightedLevelCount++] = (float)getTimeWeightedLevel();
+            }
+        }
+    }
+
     public FFTSignalProcessing.WINDOW_TYPE getWindowType() {
         return window;
     }
@@ -106,30 +231,32 @@ public class Window {
      */
     private void processSample() {
         lastProcessedSpectrum = pushedSamples;
-        FFTSignalProcessing.ProcessingResult result = signalProcessing.processSample(window,
-                aWeighting, true);
-        // Move result by 1 backward
-        if(windowResults.length > 1) {
-            System.arraycopy(windowResults, 1, windowResults, 0, windowResults.length - 1);
+        if(overlapEnergy == null) {
+            lastResult = signalProcessing.processSample(window, aWeighting, true);
+        } else {
+            signalProcessing.processSample(window, aWeighting, true, overlapEnergy.processingResult);
+            overlapEnergy.push(overlapEnergy.processingResult);
         }
-        windowResults[windowResults.length - 1] = result;
     }
 
     /**
      * Remove stored windows
      */
     public void cleanWindows() {
-        Arrays.fill(windowResults, null);
+        lastResult = null;
+        if(overlapEnergy != null) {
+            overlapEnergy.clear();
+        }
     }
 
     /**
      * @return The sum of overlaps windows, null if not available
      */
     public FFTSignalProcessing.ProcessingResult getLastWindowMean() {
-        if(windowResults.length > 1) {
-            return new FFTSignalProcessing.ProcessingResult(1, windowResults);
+        if(overlapEnergy != null) {
+            return overlapEnergy.getSum();
         } else {
-            return windowResults[0];
+            return lastResult;
         }
     }
 
@@ -137,12 +264,11 @@ public class Window {
      * @return False if a window mean is available
      */
     public boolean isCacheEmpty() {
-        for(FFTSignalProcessing.ProcessingResult windowCache : windowResults) {
-            if(windowCache != null) {
-                return false;
-            }
+        if(overlapEnergy != null) {
+            return overlapEnergy.validCount == 0;
+        } else {
+            return lastResult == null;
         }
-        return true;
     }
 
     /**
@@ -169,10 +295,178 @@ public class Window {
      * @return The last result, null if the pushed samples was not enough to get a leq.
      */
     public void pushSample(short[] buffer) {
+        if(timeWeighting != null) {
+            pushTimeWeighting(buffer, 0, buffer.length);
+        }
         signalProcessing.addSample(buffer);
         pushedSamples += buffer.length;
         if(pushedSamples - lastProcessedSpectrum >= (int)(windowSize * (1 - overlap))) {
             processSample();
         }
     }
+
+    /**
+     * Push samples up to the end of the current window. The caller has to read the window result
+     * when {@link #getWindowIndex()} changes, then push the remaining samples.
+     * @param buffer Audio signal
+     * @param from Index of the first sample to push
+     * @param length Number of samples available from the index
+     * @return Number of pushed samples, may be less than length
+     */
+    public int pushSample(short[] buffer, int from, int length) {
+        final int toPush = Math.min(length, getMaximalBufferSize());
+        if(timeWeighting != null) {
+            pushTimeWeighting(buffer, from, toPush);
+        }
+        signalProcessing.addSample(buffer, from, toPush);
+        pushedSamples += toPush;
+        if(pushedSamples - lastProcessedSpectrum >= (int)(windowSize * (1 - overlap))) {
+            processSample();
+        }
+        return toPush;
+    }
+
+    /**
+     * Push pre-filtered samples (in the 16 bits samples scale) up to the end of the current window.
+     * @see #pushSample(short[], int, int)
+     * @param buffer Audio signal
+     * @param from Index of the first sample to push
+     * @param length Number of samples available from the index
+     * @return Number of pushed samples, may be less than length
+     */
+    public int pushSample(float[] buffer, int from, int length) {
+        final int toPush = Math.min(length, getMaximalBufferSize());
+        if(timeWeighting != null) {
+            pushTimeWeighting(buffer, from, toPush);
+        }
+        signalProcessing.addSample(buffer, from, toPush);
+        pushedSamples += toPush;
+        if(pushedSamples - lastProcessedSpectrum >= (int)(windowSize * (1 - overlap))) {
+            processSample();
+        }
+        return toPush;
+    }
+
+    /**
+     * Running sum of the last overlapped windows results, in linear energy. A window entering or
+     * leaving the sum costs one operation per value, levels are converted to dB on output only.
+     */
+    private static final class OverlapEnergy {
+        // Reused by processSample
+        final FFTSignalProcessing.ProcessingResult processingResult = new FFTSignalProcessing.ProcessingResult();
+        private final double[][] spectrumEnergy;
+        private final double[][] bandEnergy;
+        private final double[] globalEnergy;
+        private final boolean[] valid;
+        private double[] spectrumEnergySum = new double[0];
+        private double[] bandEnergySum = new double[0];
+        private double globalEnergySum = 0;
+        private boolean hasSpectrum = false;
+        private long lastId = 0;
+        int validCount = 0;
+        // Next slot to write
+        private int cursor = 0;
+
+        OverlapEnergy(int windowCount) {
+            spectrumEnergy = new double[windowCount][0];
+            bandEnergy = new double[windowCount][0];
+            globalEnergy = new double[windowCount];
+            valid = new boolean[windowCount];
+        }
+
+        private static double[] toEnergy(float[] levels, double[] energy) {
+            if(energy.length != levels.length) {
+                energy = new double[levels.length];
+            }
+            for(int i = 0; i < levels.length; i++) {
+                energy[i] = DecibelConversion.dBToEnergy(levels[i]);
+            }
+            return energy;
+        }
+
+        void push(FFTSignalProcessing.ProcessingResult result) {
+            final int slot = cursor;
+            if(valid[slot]) {
+                // Remove the oldest window from the sum
+                subtract(spectrumEnergySum, spectrumEnergy[slot]);
+                subtract(bandEnergySum, bandEnergy[slot]);
+                globalEnergySum -= globalEnergy[slot];
+                validCount--;
+            }
+            hasSpectrum = result.fftResult != null;
+            if(hasSpectrum) {
+                spectrumEnergy[slot] = toEnergy(result.fftResult, spectrumEnergy[slot]);
+            }
+            bandEnergy[slot] = toEnergy(result.dBaLevels, bandEnergy[slot]);
+            globalEnergy[slot] = DecibelConversion.dBToEnergy(result.globaldBaValue);
+            valid[slot] = true;
+            validCount++;
+            lastId = result.id;
+            cursor = (cursor + 1) % valid.length;
+            if(cursor == 0) {
+                // Remove the rounding errors of the subtractions once per turn
+                recomputeSum();
+            } else {
+                spectrumEnergySum = add(spectrumEnergySum, hasSpectrum ? spectrumEnergy[slot] : null);
+                bandEnergySum = add(bandEnergySum, bandEnergy[slot]);
+                globalEnergySum += globalEnergy[slot];
+            }
+        }
+
+        private static void subtract(double[] sum, double[] energy) {
+            for(int i = 0; i < Math.min(sum.length, energy.length); i++) {
+                sum[i] -= energy[i];
+            }
+        }
+
+        private static double[] add(double[] sum, double[] energy) {
+            if(energy == null) {
+                return sum;
+            }
+            if(sum.length != energy.length) {
+                sum = new double[energy.length];
+            }
+            for(int i = 0; i < energy.length; i++) {
+                sum[i] += energy[i];
+            }
+            return sum;
+        }
+
+        private void recomputeSum() {
+            Arrays.fill(spectrumEnergySum, 0);
+            Arrays.fill(bandEnergySum, 0);
+            globalEnergySum = 0;
+            for(int slot = 0; slot < valid.length; slot++) {
+                if(valid[slot]) {
+                    spectrumEnergySum = add(spectrumEnergySum, hasSpectrum ? spectrumEnergy[slot] : null);
+                    bandEnergySum = add(bandEnergySum, bandEnergy[slot]);
+                    globalEnergySum += globalEnergy[slot];
+                }
+            }
+        }
+
+        void clear() {
+            Arrays.fill(valid, false);
+            validCount = 0;
+            Arrays.fill(spectrumEnergySum, 0);
+            Arrays.fill(bandEnergySum, 0);
+            globalEnergySum = 0;
+        }
+
+        private static float[] todB(double[] energy) {
+            float[] levels = new float[energy.length];
+            for(int i = 0; i < energy.length; i++) {
+                levels[i] = (float)DecibelConversion.energyTodB(Math.max(0, energy[i]));
+            }
+            return levels;
+        }
+
+        FFTSignalProcessing.ProcessingResult getSum() {
+            if(validCount == 0) {
+                return new FFTSignalProcessing.ProcessingResult();
+            }
+            return new FFTSignalProcessing.ProcessingResult(lastId, hasSpectrum ? todB(spectrumEnergySum) : null,
+                    todB(bandEnergySum), (float)DecibelConversion.energyTodB(Math.max(0, globalEnergySum)));
+        }
+    }
 }
@@ -34,6 +34,7 @@ import javax.sound.sampled.UnsupportedAudioFileException;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Scanner;
 
@@ -55,6 +56,67 @@ public class AWeightingTest {
         Assert.assertEquals(numerator.length, denominator.length);
     }
 
+    /**
+     * @return Magnitude of the filter frequency response [dB]
+     */
+    private static double getResponse(double[] numerator, double[] denominator, int samplingRate, double frequency) {
+        final double w = 2 * Math.PI * frequency / samplingRate;
+        double numRe = 0, numIm = 0, denRe = 0, denIm = 0;
+        for(int i = 0; i < numerator.length; i++) {
+            numRe += numerator[i] * Math.cos(w * i);
+            numIm -= numerator[i] * Math.sin(w * i);
+        }
+        for(int i = 0; i < denominator.length; i++) {
+            denRe += denominator[i] * Math.cos(w * i);
+            denIm -= denominator[i] * Math.sin(w * i);
+        }
+        return 10 * Math.log10((numRe * numRe + numIm * numIm) / (denRe * denRe + denIm * denIm));
+    }
+
+    /**
+     * The computed filter at 44100 Hz must have the response of the provided coefficients at low frequencies,
+     * where the provided coefficients are not attenuated by the bilinear transform
+     */
+    @Test
+    public void testDesignFilter() {
+        double[][] coefficients = AWeighting.designFilter(44100);
+        Assert.assertEquals(AWeighting.numerator.length, coefficients[0].length);
+        Assert.assertEquals(AWeighting.denominator.length, coefficients[1].length);
+        for(double frequency : new double[] {20, 100, 500, 1000}) {
+            Assert.assertEquals(getResponse(AWeighting.numerator, AWeighting.denominator, 44100, frequency),
+                    getResponse(coefficients[0], coefficients[1], 44100, frequency), 0.05);
+        }
+    }
+
+    private static double getWeightedLevel(int samplingRate, double frequency) {
+        double[] signal = new double[samplingRate * 2];
+        for(int i = 0; i < signal.length; i++) {
+            signal[i] = Math.sin(2 * Math.PI * frequency * i / samplingRate);
+        }
+        new AWeighting(samplingRate).filter(signal);
+        // Skip filter transient
+        double[] steadySignal = Arrays.copyOfRange(signal, samplingRate, signal.length);
+        return AcousticIndicators.todBspl(AcousticIndicators.computeRms(steadySignal), 1 / Math.sqrt(2));
+    }
+
+    /**
+     * A-weighting of tones at other sampling rates, compared to the IEC 61672 values
+     */
+    @Test
+    public void testSamplingRates() {
+        for(int samplingRate : new int[] {8000, 16000, 22050, 48000}) {
+            Assert.assertEquals(0, getWeightedLevel(samplingRate, 1000), 0.2);
+            Assert.assertEquals(-19.1, getWeightedLevel(samplingRate, 100), 0.1);
+            Assert.assertEquals(1.2, getWeightedLevel(samplingRate, 2000), 0.1);
+        }
+        // Highest third-octave bands kept at each sampling rate, IEC 61672-1 class 1 tolerance
+        Assert.assertEquals(1.2, getWeightedLevel(8000, 3150), 1.0);
+        Assert.assertEquals(-0.1, getWeightedLevel(16000, 6300), 1.5);
+        Assert.assertEquals(-1.1, getWeightedLevel(22050, 8000), 1.5);
+        Assert.assertEquals(-2.5, getWeightedLevel(22050, 10000), 2.0);
+        Assert.assertEquals(-9.3, getWeightedLevel(48000, 20000), 4.0);
+    }
+
     /**
      * Unit test on A-weighting a 1-second pink noise
      * @throws IOException
@@ -111,7 +173,41 @@ public class AWeightingTest {
 
     }
 
+    /**
+     * Filtering consecutive parts of a signal with the same filter must give the same result than
+     * filtering the whole signal
+     */
+    @Test
+    public void testStreamingAWeighting() {
+        short[] signal = SOSSignalProcessing.makePinkNoise(44100, (short)2500, 1);
+        double[] expectedSignal = AWeighting.aWeightingSignal(SOSSignalProcessing.convertShortToDouble(signal));
+        float[] floatSignal = new float[signal.length];
+        for(int i = 0; i < signal.length; i++) {
+            floatSignal[i] = signal[i];
+        }
+        float[] expectedFloatSignal = AWeighting.aWeightingSignal(floatSignal);
+
+        double[] streamSignal = SOSSignalProcessing.convertShortToDouble(signal);
+        AWeighting aWeighting = new AWeighting();
+        AWeighting floatAWeighting = new AWeighting();
+        int[] parts = new int[] {1, 220, 5512, 4410, 11025};
+        int cursor = 0;
+        int idPart = 0;
+        while(cursor < signal.length) {
+            int end = Math.min(signal.length, cursor + parts[idPart++ % parts.length]);
+            aWeighting.filter(streamSignal, cursor, end);
+            floatAWeighting.filter(floatSignal, cursor, end);
+            cursor = end;
+        }
+        Assert.assertArrayEquals(expectedSignal, streamSignal, 0);
+        Assert.assertArrayEquals(expectedFloatSignal, floatSignal, 0);
 
+        // Reset filter must restart from zero state
+        double[] firstPart = SOSSignalProcessing.convertShortToDouble(Arrays.copyOfRange(signal, 0, 4410));
+        aWeighting.reset();
+        aWeighting.filter(firstPart);
+        Assert.assertArrayEquals(Arrays.copyOfRange(expectedSignal, 0, 4410), firstPart, 0);
+    }
 
 
 //    @Test
@@ -27,14 +27,22 @@
 
 package org.orbisgis.sos;
 
+import org.apache.commons.math3.stat.descriptive.rank.Percentile;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Created by G. Guillaume on 26/06/15.
@@ -117,6 +125,142 @@ public class CoreSignalProcessingTest {
         assertEquals(0, classRangesValues.get(3), 0.01);  // [65-75)
         assertEquals(0, classRangesValues.get(4), 0.01);    // > 75
     }
+
+    @Test
+    public void testLeqStatsOutOfRange() {
+        // Levels above the histogram range must be counted in the highest class
+        LeqStats leqStats = new LeqStats();
+        for(int i = 0; i < 7; i++) {
+            leqStats.addLeq(40);
+        }
+        leqStats.addLeq(250);
+        leqStats.addLeq(1e10);
+        leqStats.addLeq(Double.POSITIVE_INFINITY);
+        double[][] classRanges = new double[][]{{Double.MIN_VALUE, 45}, {45, 75}, {75, Double.MAX_VALUE}};
+        LeqStats.LeqOccurrences leqOccurrences = leqStats.computeLeqOccurrences(classRanges);
+        assertEquals(LeqStats.DEFAULT_MAX_LEQ, leqOccurrences.getLa10(), 0.01);
+        assertEquals(40, leqOccurrences.getLa50(), 0.01);
+        assertEquals(40, leqOccurrences.getLa90(), 0.01);
+        List<Double> classRangesValues = leqOccurrences.getUserDefinedOccurrences();
+        assertEquals(0.7, classRangesValues.get(0), 0.01);  // < 45
+        assertEquals(0, classRangesValues.get(1), 0.01);    // [45-75)
+        assertEquals(0.3, classRangesValues.get(2), 0.01);  // > 75
+    }
+
+    @Test
+    public void testLeqStatsPercentile() {
+        // Histogram percentiles must be the same than the percentiles of the classes values
+        LeqStats leqStats = new LeqStats();
+        Random random = new Random(0);
+        double[] values = new double[3600];
+        for(int i = 0; i < values.length; i++) {
+            double leq = 40 + random.nextGaussian() * 8;
+            leqStats.addLeq(leq);
+            values[i] = ((int)(leq / 0.1)) * 0.1;
+        }
+        Percentile percentile = new Percentile();
+        percentile.setData(values);
+        LeqStats.LeqOccurrences leqOccurrences = leqStats.computeLeqOccurrences(null);
+        assertEquals(percentile.evaluate(90), leqOccurrences.getLa10(), 1e-9);
+        assertEquals(percentile.evaluate(50), leqOccurrences.getLa50(), 1e-9);
+        assertEquals(percentile.evaluate(10), leqOccurrences.getLa90(), 1e-9);
+    }
+
+    @Test
+    public void testLeqStatsMerge() throws IOException {
+        LeqStats leqStats = new LeqStats();
+        LeqStats[] parts = new LeqStats[] {new LeqStats(), new LeqStats(), new LeqStats()};
+        Random random = new Random(0);
+        for(int i = 0; i < 3600; i++) {
+            double leq = 55 + random.nextGaussian() * 10;
+            leqStats.addLeq(leq);
+            parts[i % parts.length].addLeq(leq);
+        }
+        LeqStats merged = new LeqStats();
+        for(LeqStats part : parts) {
+            // Merge the serialized partial statistics
+            merged.merge(LeqStats.fromByteArray(part.toByteArray()));
+        }
+        assertEquals(leqStats.getLeqCount(), merged.getLeqCount());
+        assertEquals(leqStats.getLeqMin(), merged.getLeqMin(), 0);
+        assertEquals(leqStats.getLeqMax(), merged.getLeqMax(), 0);
+        assertEquals(leqStats.getLeqMean(), merged.getLeqMean(), 1e-9);
+        double[][] classRanges = new double[][]{{Double.MIN_VALUE, 45}, {45, 55}, {55, 65}, {65, 75},{75, Double.MAX_VALUE}};
+        LeqStats.LeqOccurrences expected = leqStats.computeLeqOccurrences(classRanges);
+        LeqStats.LeqOccurrences got = merged.computeLeqOccurrences(classRanges);
+        assertEquals(expected.getLa10(), got.getLa10(), 0);
+        assertEquals(expected.getLa50(), got.getLa50(), 0);
+        assertEquals(expected.getLa90(), got.getLa90(), 0);
+        assertEquals(expected.getUserDefinedOccurrences(), got.getUserDefinedOccurrences());
+    }
+
+    @Test
+    public void testSlidingLevelTracker() {
+        final int windowLength = 50;
+        AcousticIndicators.SlidingLevelTracker tracker =
+                new AcousticIndicators.SlidingLevelTracker(AcousticIndicators.TIMEPERIOD_FAST, windowLength * AcousticIndicators.TIMEPERIOD_FAST);
+        Random random = new Random(0);
+        double[] levels = new double[windowLength * 10 + 7];
+        for(int i = 0; i < levels.length; i++) {
+            levels[i] = 60 + random.nextGaussian() * 10;
+            tracker.addLevel(levels[i]);
+            // Compare with the statistics computed on the whole period
+            int first = Math.max(0, i - windowLength + 1);
+            LeqStats leqStats = new LeqStats();
+            double max = Double.NEGATIVE_INFINITY;
+            double min = Double.POSITIVE_INFINITY;
+            for(int j = first; j <= i; j++) {
+                leqStats.addLeq(levels[j]);
+                max = Math.max(max, levels[j]);
+                min = Math.min(min, levels[j]);
+            }
+            assertEquals(i - first + 1, tracker.getLevelCount());
+            assertEquals(leqStats.getLeqMean(), tracker.getLeq(), 1e-9);
+            assertEquals(max, tracker.getMax(), 0);
+            assertEquals(min, tracker.getMin(), 0);
+            // Nearest rank percentiles of the levels rounded to the histogram classes
+            double[] sortedClasses = new double[i - first + 1];
+            for(int j = first; j <= i; j++) {
+                sortedClasses[j - first] = ((int)(levels[j] / 0.1)) * 0.1;
+            }
+            Arrays.sort(sortedClasses);
+            for(double percentage : new double[] {10, 50, 90}) {
+                int rank = Math.max(1, (int)Math.ceil((100 - percentage) / 100 * sortedClasses.length));
+                assertEquals(sortedClasses[rank - 1], tracker.getExceededLevel(percentage), 1e-9);
+            }
+        }
+        tracker.clear();
+        assertEquals(0, tracker.getLevelCount());
+        tracker.addLevel(42);
+        assertEquals(42, tracker.getLeq(), 1e-4);
+        assertEquals(42, tracker.getMax(), 0);
+        assertEquals(42, tracker.getExceededLevel(90), 0.1);
+    }
+
+    @Test
+    public void testDecibelConversion() {
+        Random random = new Random(0);
+        double maxError = 0;
+        for(int i = 0; i < 100000; i++) {
+            double level = -200 + random.nextDouble() * 400;
+            double energy = DecibelConversion.dBToEnergy(level);
+            assertEquals(1, energy / Math.pow(10, level / 10), 1e-5);
+            maxError = Math.max(maxError, Math.abs(level - 10 * Math.log10(energy)));
+            maxError = Math.max(maxError, Math.abs(level - DecibelConversion.energyTodB(Math.pow(10, level / 10))));
+        }
+        assertEquals(0, maxError, 1e-4);
+        assertEquals(Double.NEGATIVE_INFINITY, DecibelConversion.energyTodB(0), 0);
+        assertTrue(Double.isNaN(DecibelConversion.energyTodB(-1)));
+        assertEquals(0, DecibelConversion.dBToEnergy(Double.NEGATIVE_INFINITY), 0);
+        DecibelConversion.setStrict(true);
+        try {
+            assertEquals(Math.log10(1234.5), DecibelConversion.log10(1234.5), 0);
+            assertEquals(Math.pow(10, 5.4321), DecibelConversion.pow10(5.4321), 0);
+        } finally {
+            DecibelConversion.setStrict(false);
+        }
+    }
+
     public void testProcessAudioOneSecond() throws Exception {
 
         /*
@@ -155,4 +299,53 @@ public class CoreSignalProcessingTest {
         assertEquals(24, leqf.length);
         Assert.assertArrayEquals(leqARef, leqf, 0.01);
     }
+
+    /**
+     * The causal streaming mode must give the same levels than the one second buffer processing,
+     * once the filters are settled
+     */
+    @Test
+    public void testProcessAudioStream() throws Exception {
+        final int rate = 44100;
+        short[] signal = SOSSignalProcessing.makePinkNoise(rate * 4, (short)2500, 1);
+        ByteBuffer byteBuffer = ByteBuffer.allocate(signal.length * 2).order(ByteOrder.BIG_ENDIAN);
+        byteBuffer.asShortBuffer().put(signal);
+        ThirdOctaveBandsFiltering.FREQUENCY_BANDS frequencyBands = ThirdOctaveBandsFiltering.FREQUENCY_BANDS.REDUCED;
+
+        SOSSignalProcessing signalProcessing = new SOSSignalProcessing(rate, frequencyBands);
+        List<double[]> expectedLeqs = signalProcessing.processAudio(16, rate,
+                new ByteArrayInputStream(byteBuffer.array()), AcousticIndicators.TIMEPERIOD_SLOW,
+                REF_SOUND_PRESSURE, ByteOrder.BIG_ENDIAN);
+
+        // Odd read length in order to split samples between two reads
+        InputStream inputStream = new FilterInputStream(new ByteArrayInputStream(byteBuffer.array())) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return super.read(b, off, Math.min(len, 1001));
+            }
+        };
+        List<double[]> leqs = signalProcessing.processAudioStream(16, rate, inputStream,
+                AcousticIndicators.TIMEPERIOD_SLOW, REF_SOUND_PRESSURE, ByteOrder.BIG_ENDIAN);
+        assertEquals(expectedLeqs.size(), leqs.size());
+        double[] expectedLeq = expectedLeqs.get(3);
+        double[] leq = leqs.get(3);
+        for(int idFreq = 0; idFreq < leq.length; idFreq++) {
+            // The one second buffer processing has edge effects on the low frequency bands
+            assertEquals(expectedLeq[idFreq], leq[idFreq], signalProcessing.getStandardFrequencies()[idFreq] < 500 ? 1 : 0.2);
+        }
+
+        // Fast period
+        signalProcessing.resetStream();
+        leqs = signalProcessing.processAudioStream(16, rate, new ByteArrayInputStream(byteBuffer.array()),
+                AcousticIndicators.TIMEPERIOD_FAST, REF_SOUND_PRESSURE, ByteOrder.BIG_ENDIAN);
+        assertEquals(32, leqs.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testProcessAudioStreamUnsupportedEncoding() throws Exception {
+        SOSSignalProcessing signalProcessing = new SOSSignalProcessing(44100,
+                ThirdOctaveBandsFiltering.FREQUENCY_BANDS.REDUCED);
+        signalProcessing.processAudioStream(8, 44100, new ByteArrayInputStream(new byte[4096]),
+                AcousticIndicators.TIMEPERIOD_FAST, REF_SOUND_PRESSURE, ByteOrder.BIG_ENDIAN);
+    }
 }
\ No newline at end of file
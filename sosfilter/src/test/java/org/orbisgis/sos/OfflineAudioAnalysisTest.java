@@ -0,0 +1,116 @@
+/*
+ * This file is part of the NoiseCapture application and OnoMap system.
+ *
+ * The 'OnoMaP' system is led by Lab-STICC and Ifsttar and generates noise maps via
+ * citizen-contributed noise data.
+ *
+ * This application is co-funded by the ENERGIC-OD Project (European Network for
+ * Redistributing Geospatial Information to user Communities - Open Data). ENERGIC-OD
+ * (http://www.energic-od.eu/) is partially funded under the ICT Policy Support Programme (ICT
+ * PSP) as part of the Competitiveness and Innovation Framework Programme by the European
+ * Community. The application work is also supported by the French geographic portal GEOPAL of the
+ * Pays de la Loire region (http://www.geopal.org).
+ *
+ * Copyright (C) IFSTTAR - LAE and Lab-STICC – CNRS UMR 6285 Equipe DECIDE Vannes
+ *
+ * NoiseCapture is a free software; you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation; either version 3 of
+ * the License, or(at your option) any later version. NoiseCapture is distributed in the hope that
+ * it will be useful,but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for
+ * more details.You should have received a copy of the GNU General Public License along with this
+ * program; if not, write to the Free Software Foundation,Inc., 51 Franklin Street, Fifth Floor,
+ * Boston, MA 02110-1301  USA or see For more information,  write to Ifsttar,
+ * 14-20 Boulevard Newton Cite Descartes, Champs sur Marne F-77447 Marne la Vallee Cedex 2 FRANCE
+ *  or write to scientific.computing@ifsttar.fr
+ */
+
+package org.orbisgis.sos;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Unit tests of the parallel analysis of audio files
+ */
+public class OfflineAudioAnalysisTest {
+    private static final int SAMPLING_RATE = 44100;
+
+    private static byte[] toBytes(short[] signal, ByteOrder byteOrder) {
+        ByteBuffer buffer = ByteBuffer.allocate(signal.length * 2).order(byteOrder);
+        buffer.asShortBuffer().put(signal);
+        return buffer.array();
+    }
+
+    private static File writeFile(byte[] header, byte[] data) throws IOException {
+        File file = File.createTempFile("offline", ".wav");
+        file.deleteOnExit();
+        FileOutputStream outputStream = new FileOutputStream(file);
+        try {
+            outputStream.write(header);
+            outputStream.write(data);
+        } finally {
+            outputStream.close();
+        }
+        return file;
+    }
+
+    private static byte[] makeWavHeader(int dataLength) {
+        ByteBuffer header = ByteBuffer.allocate(44).order(ByteOrder.LITTLE_ENDIAN);
+        header.put("RIFF".getBytes()).putInt(36 + dataLength).put("WAVE".getBytes());
+        header.put("fmt ".getBytes()).putInt(16).putShort((short) 1).putShort((short) 1);
+        header.putInt(SAMPLING_RATE).putInt(SAMPLING_RATE * 2).putShort((short) 2).putShort((short) 16);
+        header.put("data".getBytes()).putInt(dataLength);
+        return header.array();
+    }
+
+    @Test
+    public void testSegmentsEqualsStream() throws IOException {
+        // 12.5 seconds, the last incomplete second is not analysed
+        short[] signal = SOSSignalProcessing.makePinkNoise(SAMPLING_RATE * 25 / 2, (short) 2500, 0);
+        byte[] data = toBytes(signal, ByteOrder.LITTLE_ENDIAN);
+        SOSSignalProcessing signalProcessing = new SOSSignalProcessing(SAMPLING_RATE,
+                ThirdOctaveBandsFiltering.FREQUENCY_BANDS.REDUCED);
+        List<double[]> expected = signalProcessing.processAudioStream(16, SAMPLING_RATE,
+                new ByteArrayInputStream(data), AcousticIndicators.TIMEPERIOD_SLOW, 1, ByteOrder.LITTLE_ENDIAN);
+        OfflineAudioAnalysis analysis = new OfflineAudioAnalysis(ThirdOctaveBandsFiltering.FREQUENCY_BANDS.REDUCED);
+        analysis.setSegmentDuration(3);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            double[][] wavLeqs = analysis.processWav(writeFile(makeWavHeader(data.length), data), pool);
+            assertEquals(expected.size(), wavLeqs.length);
+            assertEquals(12, wavLeqs.length);
+            for (int idPeriod = 0; idPeriod < wavLeqs.length; idPeriod++) {
+                assertArrayEquals(expected.get(idPeriod), wavLeqs[idPeriod], 0.01);
+            }
+            byte[] bigEndianData = toBytes(signal, ByteOrder.BIG_ENDIAN);
+            double[][] rawLeqs = analysis.processRawPcm(writeFile(new byte[0], bigEndianData), SAMPLING_RATE,
+                    ByteOrder.BIG_ENDIAN, pool);
+            assertEquals(wavLeqs.length, rawLeqs.length);
+            for (int idPeriod = 0; idPeriod < rawLeqs.length; idPeriod++) {
+                assertArrayEquals(wavLeqs[idPeriod], rawLeqs[idPeriod], 1e-9);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testLoadShortStream() throws IOException {
+        short[] signal = SOSSignalProcessing.makeWhiteNoise(10001, (short) 2500, 1);
+        short[] loaded = SOSSignalProcessing.loadShortStream(
+                new ByteArrayInputStream(toBytes(signal, ByteOrder.BIG_ENDIAN)), ByteOrder.BIG_ENDIAN);
+        assertArrayEquals(signal, loaded);
+    }
+}
@@ -145,6 +145,92 @@ public class TestJTransforms {
                 processingResult.getGlobaldBaValue(), 0.01);
 
     }
+    /**
+     * Reused buffers and result must give the exact same values than a new processing instance
+     */
+    @Test
+    public void testProcessingReuseResult() throws IOException {
+        final int sampleRate = 44100;
+        final int windowSize = (int)(AcousticIndicators.TIMEPERIOD_FAST * sampleRate);
+        InputStream inputStream = TestJTransforms.class.getResourceAsStream("speak_44100Hz_16bitsPCM_10s.raw");
+        short[] signal = SOSSignalProcessing.loadShortStream(inputStream, ByteOrder.LITTLE_ENDIAN);
+        inputStream.close();
+        FFTSignalProcessing reusedProcessing =
+                new FFTSignalProcessing(sampleRate, STANDARD_FREQUENCIES_UNITTEST, windowSize);
+        FFTSignalProcessing.ProcessingResult reusedResult = new FFTSignalProcessing.ProcessingResult();
+        int frame = 0;
+        for(int cursor = 0; cursor + windowSize <= signal.length; cursor += windowSize) {
+            short[] samples = Arrays.copyOfRange(signal, cursor, cursor + windowSize);
+            FFTSignalProcessing.WINDOW_TYPE windowType = FFTSignalProcessing.WINDOW_TYPE.values()[
+                    frame % FFTSignalProcessing.WINDOW_TYPE.values().length];
+            boolean aWeighting = (frame / FFTSignalProcessing.WINDOW_TYPE.values().length) % 2 == 0;
+            reusedProcessing.addSample(samples);
+            reusedProcessing.processSample(windowType, aWeighting, true, reusedResult);
+            FFTSignalProcessing newProcessing =
+                    new FFTSignalProcessing(sampleRate, STANDARD_FREQUENCIES_UNITTEST, windowSize);
+            newProcessing.addSample(samples);
+            FFTSignalProcessing.ProcessingResult expected = newProcessing.processSample(windowType, aWeighting, true);
+            Assert.assertArrayEquals(expected.getdBaLevels(), reusedResult.getdBaLevels(), 0);
+            Assert.assertArrayEquals(expected.getFftResult(), reusedResult.getFftResult(), 0);
+            assertEquals(expected.getGlobaldBaValue(), reusedResult.getGlobaldBaValue(), 0);
+            frame++;
+        }
+    }
+
+    @Test
+    public void testBandMap() {
+        final int sampleRate = 44100;
+        final int windowSize = sampleRate;
+        FFTSignalProcessing fftSignalProcessing =
+                new FFTSignalProcessing(sampleRate, ThirdOctaveBandsFiltering.STANDARD_FREQUENCIES_REDUCED, windowSize);
+        FFTSignalProcessing.ThirdOctaveBandMap bandMap = fftSignalProcessing.getBandMap();
+        // One cell is 1 Hz wide
+        int idFreq = Arrays.binarySearch(ThirdOctaveBandsFiltering.STANDARD_FREQUENCIES_REDUCED, 1000);
+        assertEquals(892, bandMap.getCellLower(idFreq));
+        assertEquals(1122, bandMap.getCellUpper(idFreq));
+        assertEquals(0, bandMap.getAWeighting(idFreq), 0);
+        // Bands are contiguous
+        for(int idBand = 1; idBand < ThirdOctaveBandsFiltering.STANDARD_FREQUENCIES_REDUCED.length; idBand++) {
+            assertEquals(bandMap.getCellUpper(idBand - 1) + 1, bandMap.getCellLower(idBand));
+        }
+    }
+
+    /**
+     * Samples added by parts in the circular buffer must give the same result than the last window
+     * added at once
+     */
+    @Test
+    public void testCircularSampleBuffer() throws IOException {
+        final int sampleRate = 44100;
+        final int windowSize = (int)(AcousticIndicators.TIMEPERIOD_FAST * sampleRate);
+        InputStream inputStream = TestJTransforms.class.getResourceAsStream("speak_44100Hz_16bitsPCM_10s.raw");
+        short[] signal = SOSSignalProcessing.loadShortStream(inputStream, ByteOrder.LITTLE_ENDIAN);
+        inputStream.close();
+        FFTSignalProcessing partsProcessing =
+                new FFTSignalProcessing(sampleRate, STANDARD_FREQUENCIES_UNITTEST, windowSize);
+        int[] parts = new int[] {1764, 3528, 1, 441, 8000, 15};
+        int cursor = 0;
+        int idPart = 0;
+        while(cursor < sampleRate * 2) {
+            int length = parts[idPart++ % parts.length];
+            partsProcessing.addSample(signal, cursor, length);
+            cursor += length;
+        }
+        short[] lastWindow = Arrays.copyOfRange(signal, cursor - windowSize, cursor);
+        Assert.assertArrayEquals(lastWindow, partsProcessing.getSampleBuffer());
+        FFTSignalProcessing windowProcessing =
+                new FFTSignalProcessing(sampleRate, STANDARD_FREQUENCIES_UNITTEST, windowSize);
+        windowProcessing.addSample(lastWindow);
+        for(FFTSignalProcessing.WINDOW_TYPE windowType : FFTSignalProcessing.WINDOW_TYPE.values()) {
+            FFTSignalProcessing.ProcessingResult expected = windowProcessing.processSample(windowType, true, true);
+            FFTSignalProcessing.ProcessingResult got = partsProcessing.processSample(windowType, true, true);
+            Assert.assertArrayEquals(expected.getdBaLevels(), got.getdBaLevels(), 0);
+            Assert.assertArrayEquals(expected.getFftResult(), got.getFftResult(), 0);
+        }
+        assertEquals(windowProcessing.computeSpl(true), partsProcessing.computeSpl(true), 0);
+        assertEquals(windowProcessing.computeGlobalLeq(), partsProcessing.computeGlobalLeq(), 0);
+    }
+
     @Test
     public void testRecorder() throws IOException {
         int rate = 44100;
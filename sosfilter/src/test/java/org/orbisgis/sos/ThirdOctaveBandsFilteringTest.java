@@ -37,10 +37,12 @@ import java.io.File;
 import java.io.FilenameFilter;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Scanner;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 
 /**
@@ -359,4 +361,133 @@ public class ThirdOctaveBandsFilteringTest {
         }
         assertEquals(0, standardDeviation.evaluate(dArray), 0.25);
     }
+
+    /**
+     * The multirate filter bank must give the same band levels than the full rate filtering, and
+     * the same result when the signal is pushed in several parts
+     */
+    @Test
+    public void testMultirateFilterBank() {
+        int samplingRate = 44100;
+        ThirdOctaveBandsFiltering thirdOctaveBandsFiltering = new ThirdOctaveBandsFiltering(samplingRate,
+                ThirdOctaveBandsFiltering.FREQUENCY_BANDS.REDUCED);
+        double[] signal = SOSSignalProcessing.convertShortToDouble(SOSSignalProcessing.makePinkNoise(samplingRate * 5, (short)2500, 1));
+        double[][] expectedFilteredSignal = thirdOctaveBandsFiltering.thirdOctaveFiltering(signal);
+
+        ThirdOctaveBandsFiltering.MultirateFilterBank filterBank = thirdOctaveBandsFiltering.createMultirateFilterBank();
+        assertEquals(expectedFilteredSignal.length, filterBank.getBandCount());
+        assertEquals(1, filterBank.getDecimationFactor(filterBank.getBandCount() - 1));
+        assertEquals(64, filterBank.getDecimationFactor(0));
+        filterBank.filter(signal, 0, signal.length);
+        assertEquals(signal.length, filterBank.getSampleCount());
+        double[] leq = filterBank.getLeq(REF_SOUND_PRESSURE);
+        for (int idf = 0; idf < leq.length; idf++) {
+            assertEquals(AcousticIndicators.getLeq(expectedFilteredSignal[idf], REF_SOUND_PRESSURE), leq[idf], 0.5);
+        }
+
+        // Streaming
+        filterBank.reset();
+        int[] parts = new int[] {1, 4410, 7, 5512, 1023};
+        int cursor = 0;
+        int idPart = 0;
+        while(cursor < signal.length) {
+            int end = Math.min(signal.length, cursor + parts[idPart++ % parts.length]);
+            filterBank.filter(signal, cursor, end);
+            cursor = end;
+        }
+        Assert.assertArrayEquals(leq, filterBank.getLeq(REF_SOUND_PRESSURE), 1e-9);
+    }
+
+    /**
+     * Interleaved filtering of several bands must give exactly the same result than the filtering of
+     * one band at a time
+     */
+    @Test
+    public void testInterleavedFiltering() {
+        int samplingRate = 44100;
+        ThirdOctaveBandsFiltering thirdOctaveBandsFiltering = new ThirdOctaveBandsFiltering(samplingRate,
+                ThirdOctaveBandsFiltering.FREQUENCY_BANDS.REDUCED);
+        // Odd length, for the reversal of interleaved signals
+        double[] signal = SOSSignalProcessing.convertShortToDouble(SOSSignalProcessing.makePinkNoise(samplingRate / 10 + 1, (short)2500, 1));
+        thirdOctaveBandsFiltering.setInterleavedFiltering(false);
+        double[][] expectedFilteredSignal = thirdOctaveBandsFiltering.thirdOctaveFiltering(signal);
+        thirdOctaveBandsFiltering.setInterleavedFiltering(true);
+        double[][] actualFilteredSignal = thirdOctaveBandsFiltering.thirdOctaveFiltering(signal);
+        assertEquals(expectedFilteredSignal.length, actualFilteredSignal.length);
+        for (int idf = 0; idf < expectedFilteredSignal.length; idf++) {
+            Assert.assertArrayEquals(expectedFilteredSignal[idf], actualFilteredSignal[idf], 0);
+        }
+    }
+
+    private static double getMagnitude(ThirdOctaveBandsFiltering.FiltersParameters filter, double frequency,
+                                       int samplingRate) {
+        final double omega = 2 * Math.PI * frequency / samplingRate;
+        double magnitude = 1;
+        for(ThirdOctaveBandsFiltering.StageParameters stage : filter.stages) {
+            double[] c = stage.coefficients;
+            double numRe = c[0] + c[1] * Math.cos(omega) + c[2] * Math.cos(2 * omega);
+            double numIm = - c[1] * Math.sin(omega) - c[2] * Math.sin(2 * omega);
+            double denRe = 1 + c[3] * Math.cos(omega) + c[4] * Math.cos(2 * omega);
+            double denIm = - c[3] * Math.sin(omega) - c[4] * Math.sin(2 * omega);
+            magnitude *= Math.hypot(numRe, numIm) / Math.hypot(denRe, denIm);
+        }
+        return 20 * Math.log10(magnitude);
+    }
+
+    /**
+     * The computed filters must have the same response than the provided 44100 Hz coefficients
+     */
+    @Test
+    public void testDesignFilter() {
+        int samplingRate = 44100;
+        List<ThirdOctaveBandsFiltering.FiltersParameters> expectedFilters = new ThirdOctaveBandsFiltering(samplingRate,
+                ThirdOctaveBandsFiltering.FREQUENCY_BANDS.REDUCED).getFilterParameters();
+        assertEquals(ThirdOctaveBandsFiltering.STANDARD_FREQUENCIES_REDUCED.length, expectedFilters.size());
+        for(ThirdOctaveBandsFiltering.FiltersParameters expectedFilter : expectedFilters) {
+            ThirdOctaveBandsFiltering.FiltersParameters filter =
+                    ThirdOctaveBandsFiltering.designFilter(expectedFilter.frequency, samplingRate);
+            assertEquals(expectedFilter.stages.size(), filter.stages.size());
+            // The upper edge of the last band is above the Nyquist frequency
+            double tolerance = expectedFilter.frequency * Math.pow(2, 1. / 6) < samplingRate / 2 ? 0.05 : 0.3;
+            for(int i = -12; i <= 12; i++) {
+                double frequency = expectedFilter.frequency * Math.pow(2, i / 24.);
+                double expected = getMagnitude(expectedFilter, frequency, samplingRate);
+                if(frequency < samplingRate / 2 && expected > -10) {
+                    assertEquals(expectedFilter.frequency + " Hz", expected, getMagnitude(filter, frequency, samplingRate), tolerance);
+                }
+            }
+        }
+    }
+
+    /**
+     * Streaming filtering of a 1 kHz tone at other sampling rates than the provided coefficients
+     */
+    @Test
+    public void testSamplingRates() {
+        int[] samplingRates = new int[] {8000, 16000, 22050, 48000};
+        int[] expectedBandCount = new int[] {16, 19, 21, 24};
+        for(int idRate = 0; idRate < samplingRates.length; idRate++) {
+            int samplingRate = samplingRates[idRate];
+            SOSSignalProcessing signalProcessing = new SOSSignalProcessing(samplingRate,
+                    ThirdOctaveBandsFiltering.FREQUENCY_BANDS.REDUCED);
+            signalProcessing.setAweighting(false);
+            double[] frequencies = signalProcessing.getStandardFrequencies();
+            assertEquals(expectedBandCount[idRate], frequencies.length);
+            double[] signal = new double[samplingRate * 2];
+            for(int i = 0; i < signal.length; i++) {
+                signal[i] = 2500 * Math.sin(2 * Math.PI * 1000 * i / samplingRate);
+            }
+            // Skip filters transient
+            signalProcessing.addStreamSample(signal, 0, samplingRate);
+            signalProcessing.clearStreamLeq();
+            signalProcessing.addStreamSample(signal, samplingRate, signal.length);
+            double[] leq = signalProcessing.computeStreamLeq(REF_SOUND_PRESSURE);
+            assertEquals(frequencies.length, leq.length);
+            double expectedLevel = AcousticIndicators.todBspl(2500 / Math.sqrt(2), REF_SOUND_PRESSURE);
+            int idBand = Arrays.binarySearch(frequencies, 1000);
+            assertEquals(expectedLevel, leq[idBand], 0.1);
+            assertTrue(leq[idBand - 2] < expectedLevel - 20);
+            assertTrue(leq[idBand + 2] < expectedLevel - 20);
+        }
+    }
 }
\ No newline at end of file
@@ -126,6 +126,243 @@ public class WindowTest {
         return fullSampleResult.getdBaLevels();
     }
 
+    /**
+     * Push large buffers by index must give the same results than pushing sub-arrays
+     */
+    @Test
+    public void testPushSampleRange() throws IOException {
+        final int sampleRate = 44100;
+        InputStream inputStream = WindowTest.class.getResourceAsStream("speak_44100Hz_16bitsPCM_10s.raw");
+        short[] signal = SOSSignalProcessing.loadShortStream(inputStream, ByteOrder.LITTLE_ENDIAN);
+        inputStream.close();
+        Window copyWindow = new Window(FFTSignalProcessing.WINDOW_TYPE.TUKEY, sampleRate,
+                STANDARD_FREQUENCIES_UNITTEST, AcousticIndicators.TIMEPERIOD_FAST, true,
+                FFTSignalProcessing.DB_FS_REFERENCE, false, 0.5);
+        Window rangeWindow = new Window(FFTSignalProcessing.WINDOW_TYPE.TUKEY, sampleRate,
+                STANDARD_FREQUENCIES_UNITTEST, AcousticIndicators.TIMEPERIOD_FAST, true,
+                FFTSignalProcessing.DB_FS_REFERENCE, false, 0.5);
+        // Larger than a window
+        final int bufferSize = 10000;
+        List<FFTSignalProcessing.ProcessingResult> copyResults = new ArrayList<>();
+        List<FFTSignalProcessing.ProcessingResult> rangeResults = new ArrayList<>();
+        int copyLastIndex = 0;
+        int rangeLastIndex = 0;
+        for(int idBuffer = 0; idBuffer + bufferSize <= signal.length; idBuffer += bufferSize) {
+            int cursor = 0;
+            while(cursor < bufferSize) {
+                int sampleLen = Math.min(copyWindow.getMaximalBufferSize(), bufferSize - cursor);
+                copyWindow.pushSample(Arrays.copyOfRange(signal, idBuffer + cursor, idBuffer + cursor + sampleLen));
+                cursor += sampleLen;
+                if(copyWindow.getWindowIndex() != copyLastIndex) {
+                    copyLastIndex = copyWindow.getWindowIndex();
+                    copyResults.add(copyWindow.getLastWindowMean());
+                }
+            }
+            cursor = 0;
+            while(cursor < bufferSize) {
+                cursor += rangeWindow.pushSample(signal, idBuffer + cursor, bufferSize - cursor);
+                if(rangeWindow.getWindowIndex() != rangeLastIndex) {
+                    rangeLastIndex = rangeWindow.getWindowIndex();
+                    rangeResults.add(rangeWindow.getLastWindowMean());
+                }
+            }
+        }
+        assertEquals(copyResults.size(), rangeResults.size());
+        assertTrue(copyResults.size() > 0);
+        for(int idResult = 0; idResult < copyResults.size(); idResult++) {
+            assertArrayEquals(copyResults.get(idResult).getdBaLevels(), rangeResults.get(idResult).getdBaLevels(), 0);
+            assertEquals(copyResults.get(idResult).getId(), rangeResults.get(idResult).getId());
+        }
+    }
+
+    private List<FFTSignalProcessing.ProcessingResult> pushMultiResolution(MultiResolutionWindow window,
+                                                                          short[] signal, int bufferSize) {
+        List<FFTSignalProcessing.ProcessingResult> slowResults = new ArrayList<>();
+        int fastIndex = 0;
+        int slowIndex = 0;
+        int cursor = 0;
+        while(cursor < signal.length) {
+            cursor += window.pushSample(signal, cursor, Math.min(bufferSize, signal.length - cursor));
+            if(window.getFastWindowIndex() != fastIndex) {
+                fastIndex = window.getFastWindowIndex();
+                assertNotNull(window.getLastFastResult());
+            }
+            if(window.getSlowWindowIndex() != slowIndex) {
+                slowIndex = window.getSlowWindowIndex();
+                slowResults.add(window.getLastSlowResult());
+            }
+        }
+        return slowResults;
+    }
+
+    /**
+     * Slow levels computed from the fast spectra must be close to the slow levels of a 1s FFT
+     */
+    @Test
+    public void testMultiResolutionWindow() throws IOException {
+        final int sampleRate = 44100;
+        InputStream inputStream = WindowTest.class.getResourceAsStream("whitenoise_44100Hz_16bitPCM_10s.raw");
+        short[] signal = SOSSignalProcessing.loadShortStream(inputStream, ByteOrder.LITTLE_ENDIAN);
+        inputStream.close();
+        MultiResolutionWindow sharedWindow = new MultiResolutionWindow(FFTSignalProcessing.WINDOW_TYPE.TUKEY,
+                FFTSignalProcessing.WINDOW_TYPE.TUKEY, sampleRate, STANDARD_FREQUENCIES_UNITTEST,
+                AcousticIndicators.TIMEPERIOD_FAST, AcousticIndicators.TIMEPERIOD_SLOW, true,
+                FFTSignalProcessing.DB_FS_REFERENCE, false);
+        MultiResolutionWindow exactWindow = new MultiResolutionWindow(FFTSignalProcessing.WINDOW_TYPE.TUKEY,
+                FFTSignalProcessing.WINDOW_TYPE.TUKEY, sampleRate, STANDARD_FREQUENCIES_UNITTEST,
+                AcousticIndicators.TIMEPERIOD_FAST, AcousticIndicators.TIMEPERIOD_SLOW, true,
+                FFTSignalProcessing.DB_FS_REFERENCE, true);
+        List<FFTSignalProcessing.ProcessingResult> sharedResults = pushMultiResolution(sharedWindow, signal, 3528);
+        List<FFTSignalProcessing.ProcessingResult> exactResults = pushMultiResolution(exactWindow, signal, 3528);
+        assertEquals(signal.length / sampleRate, exactResults.size());
+        assertEquals(exactResults.size(), sharedResults.size());
+        for(int idResult = 0; idResult < exactResults.size(); idResult++) {
+            FFTSignalProcessing.ProcessingResult shared = sharedResults.get(idResult);
+            FFTSignalProcessing.ProcessingResult exact = exactResults.get(idResult);
+            assertEquals(exact.getGlobaldBaValue(), shared.getGlobaldBaValue(), 0.2);
+            for(int idFreq = 0; idFreq < STANDARD_FREQUENCIES_UNITTEST.length; idFreq++) {
+                assertEquals(exact.getdBaLevels()[idFreq], shared.getdBaLevels()[idFreq], 2);
+            }
+        }
+        assertEquals(exactWindow.computeSlowLeq(), sharedWindow.computeSlowLeq(), 0.3);
+    }
+
+    /**
+     * The streamed A-weighting must not clip a full scale tone amplified by the weighting
+     */
+    @Test
+    public void testMultiResolutionWindowAWeightingFullScale() {
+        final int sampleRate = 44100;
+        // A-weighting gain is positive at 2.5 kHz
+        short[] loud = new short[sampleRate * 3];
+        short[] quiet = new short[loud.length];
+        for(int i = 0; i < loud.length; i++) {
+            double value = Math.sin(2 * Math.PI * 2500 * i / sampleRate);
+            loud[i] = (short)(32000 * value);
+            quiet[i] = (short)(3200 * value);
+        }
+        List<FFTSignalProcessing.ProcessingResult> loudResults = pushMultiResolution(
+                new MultiResolutionWindow(FFTSignalProcessing.WINDOW_TYPE.TUKEY,
+                FFTSignalProcessing.WINDOW_TYPE.TUKEY, sampleRate, STANDARD_FREQUENCIES_UNITTEST,
+                AcousticIndicators.TIMEPERIOD_FAST, AcousticIndicators.TIMEPERIOD_SLOW, true,
+                FFTSignalProcessing.DB_FS_REFERENCE, false), loud, 4096);
+        List<FFTSignalProcessing.ProcessingResult> quietResults = pushMultiResolution(
+                new MultiResolutionWindow(FFTSignalProcessing.WINDOW_TYPE.TUKEY,
+                FFTSignalProcessing.WINDOW_TYPE.TUKEY, sampleRate, STANDARD_FREQUENCIES_UNITTEST,
+                AcousticIndicators.TIMEPERIOD_FAST, AcousticIndicators.TIMEPERIOD_SLOW, true,
+                FFTSignalProcessing.DB_FS_REFERENCE, false), quiet, 4096);
+        assertEquals(quietResults.size(), loudResults.size());
+        for(int idResult = 0; idResult < loudResults.size(); idResult++) {
+            assertEquals(quietResults.get(idResult).getGlobaldBaValue() + 20,
+                    loudResults.get(idResult).getGlobaldBaValue(), 0.01);
+        }
+    }
+
+    /**
+     * The running sum of overlapped windows must give the same result than merging the window results
+     */
+    @Test
+    public void testOverlapSum() throws IOException {
+        final int sampleRate = 44100;
+        final double overlap = 0.75;
+        InputStream inputStream = WindowTest.class.getResourceAsStream("speak_44100Hz_16bitsPCM_10s.raw");
+        short[] signal = SOSSignalProcessing.loadShortStream(inputStream, ByteOrder.LITTLE_ENDIAN);
+        Window window = new Window(FFTSignalProcessing.WINDOW_TYPE.HANN, sampleRate,
+                STANDARD_FREQUENCIES_UNITTEST, AcousticIndicators.TIMEPERIOD_FAST, false,
+                FFTSignalProcessing.DB_FS_REFERENCE, true, overlap);
+        final int windowSize = (int)(sampleRate * AcousticIndicators.TIMEPERIOD_FAST);
+        final int hop = (int)(windowSize * (1 - overlap));
+        FFTSignalProcessing reference = new FFTSignalProcessing(sampleRate, STANDARD_FREQUENCIES_UNITTEST,
+                windowSize, FFTSignalProcessing.DB_FS_REFERENCE);
+        FFTSignalProcessing.ProcessingResult[] lastResults = new FFTSignalProcessing.ProcessingResult[4];
+        int cursor = 0;
+        int checkedWindows = 0;
+        while (cursor < signal.length) {
+            int pushed = window.pushSample(signal, cursor, signal.length - cursor);
+            reference.addSample(signal, cursor, pushed);
+            cursor += pushed;
+            if(cursor % hop == 0) {
+                System.arraycopy(lastResults, 1, lastResults, 0, lastResults.length - 1);
+                lastResults[lastResults.length - 1] = reference.processSample(FFTSignalProcessing.WINDOW_TYPE.HANN, false, true);
+                FFTSignalProcessing.ProcessingResult expected = new FFTSignalProcessing.ProcessingResult(1, lastResults);
+                FFTSignalProcessing.ProcessingResult got = window.getLastWindowMean();
+                assertEquals(expected.getGlobaldBaValue(), got.getGlobaldBaValue(), 1e-3);
+                assertArrayEquals(expected.getdBaLevels(), got.getdBaLevels(), 1e-3f);
+                assertArrayEquals(expected.getFftResult(), got.getFftResult(), 1e-3f);
+                checkedWindows++;
+                if(checkedWindows == 10) {
+                    // Restart the overlapping
+                    window.cleanWindows();
+                    Arrays.fill(lastResults, null);
+                    assertTrue(window.isCacheEmpty());
+                }
+            }
+        }
+        assertEquals(signal.length / hop, checkedWindows);
+    }
+
+    @Test
+    public void testProcessingTimings() {
+        final int sampleRate = 44100;
+        short[] signal = new short[sampleRate * 2];
+        for(int i = 0; i < signal.length; i++) {
+            signal[i] = (short)(2500 * Math.sin(2 * Math.PI * 1000 * i / sampleRate));
+        }
+        MultiResolutionWindow window = new MultiResolutionWindow(FFTSignalProcessing.WINDOW_TYPE.TUKEY,
+                FFTSignalProcessing.WINDOW_TYPE.TUKEY, sampleRate, STANDARD_FREQUENCIES_UNITTEST,
+                AcousticIndicators.TIMEPERIOD_FAST, AcousticIndicators.TIMEPERIOD_SLOW, true,
+                FFTSignalProcessing.DB_FS_REFERENCE, false);
+        ProcessingTimings timings = new ProcessingTimings();
+        window.setProcessingTimings(timings);
+        int cursor = 0;
+        while (cursor < signal.length) {
+            cursor += window.pushSample(signal, cursor, signal.length - cursor);
+        }
+        // One FFT per fast window
+        assertEquals(window.getFastWindowIndex(), timings.getStage(ProcessingTimings.STAGE.FFT).getCount());
+        assertEquals(window.getFastWindowIndex(), timings.getStage(ProcessingTimings.STAGE.WINDOWING).getCount());
+        assertEquals(window.getFastWindowIndex(), timings.getStage(ProcessingTimings.STAGE.BAND_AGGREGATION).getCount());
+        assertTrue(timings.getStage(ProcessingTimings.STAGE.A_WEIGHTING).getCount() > 0);
+        TimingHistogram fft = timings.getStage(ProcessingTimings.STAGE.FFT).copy();
+        assertTrue(fft.getPercentileNanos(50) <= fft.getPercentileNanos(95));
+        assertTrue(fft.getPercentileNanos(100) <= fft.getMaxNanos());
+        assertTrue(fft.getMeanNanos() <= fft.getMaxNanos());
+        timings.clear();
+        assertEquals(0, timings.getStage(ProcessingTimings.STAGE.FFT).getCount());
+    }
+
+    @Test
+    public void testTimeWeighting() {
+        final int sampleRate = 44100;
+        // 1 kHz tone of 6 s then 1 s of silence
+        short[] signal = new short[sampleRate * 7];
+        for(int i = 0; i < sampleRate * 6; i++) {
+            signal[i] = (short)(2500 * Math.sin(2 * Math.PI * 1000 * i / sampleRate));
+        }
+        double toneLevel = 20 * Math.log10(2500 / Math.sqrt(2));
+        double[] decayRates = new double[TimeWeighting.TIME_WEIGHTING.values().length];
+        for(TimeWeighting.TIME_WEIGHTING timeWeighting : TimeWeighting.TIME_WEIGHTING.values()) {
+            Window window = new Window(FFTSignalProcessing.WINDOW_TYPE.RECTANGULAR, sampleRate,
+                    ThirdOctaveBandsFiltering.getStandardFrequencies(ThirdOctaveBandsFiltering.FREQUENCY_BANDS.REDUCED),
+                    AcousticIndicators.TIMEPERIOD_SLOW, false, 0, false);
+            window.setTimeWeighting(timeWeighting, AcousticIndicators.TIMEPERIOD_FAST);
+            int cursor = 0;
+            while (cursor < signal.length) {
+                cursor += window.pushSample(signal, cursor, Math.min(signal.length - cursor, 4096));
+            }
+            float[] levels = window.fetchTimeWeightedLevels();
+            assertEquals(56, levels.length);
+            assertEquals(0, window.fetchTimeWeightedLevels().length);
+            // Steady level at the end of the tone
+            assertEquals(toneLevel, levels[47], 0.1);
+            assertEquals(toneLevel, window.getTimeWeightedMaxLevel(), 0.1);
+            // Exponential decay rate in dB/s during the silence
+            decayRates[timeWeighting.ordinal()] = (levels[51] - levels[55]) / 0.5;
+            assertEquals(10 * Math.log10(Math.E) / timeWeighting.decayTimeConstant,
+                    decayRates[timeWeighting.ordinal()], 0.1);
+        }
+    }
+
     @Test
     public void testVoice1() throws IOException {
         final int sampleRate = 44100;